@@ -1,25 +1,41 @@
 package com.PickOne.domain.messaging.controller;
 
+import com.PickOne.domain.messaging.dto.AckBatchRequestDto;
+import com.PickOne.domain.messaging.dto.ActivityRequestDto;
+import com.PickOne.domain.messaging.dto.ConversationDto;
 import com.PickOne.domain.messaging.dto.MessageDto;
+import com.PickOne.domain.messaging.dto.MessageSearchDto;
+import com.PickOne.domain.messaging.dto.MessageSliceDto;
+import com.PickOne.domain.messaging.dto.MessageSyncDto;
+import com.PickOne.domain.messaging.dto.ReadWatermarkDto;
+import com.PickOne.domain.messaging.dto.SendMessageRequestDto;
+import com.PickOne.domain.messaging.dto.SyncRequestDto;
+import com.PickOne.domain.messaging.model.domain.Conversation;
 import com.PickOne.domain.messaging.model.domain.Message;
+import com.PickOne.domain.messaging.model.domain.MessageStatus;
+import com.PickOne.domain.messaging.service.ActivityService;
+import com.PickOne.domain.messaging.service.MessageAckBatcher;
+import com.PickOne.domain.messaging.service.MessageSearchService;
 import com.PickOne.domain.messaging.service.MessagingService;
+import com.PickOne.domain.messaging.service.PresenceService;
 import com.PickOne.global.exception.BaseResponse;
+import com.PickOne.global.exception.BusinessException;
+import com.PickOne.global.exception.ErrorCode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.web.PageableDefault;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.annotation.SendToUser;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import java.security.Principal;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @RestController
@@ -28,37 +44,89 @@ import java.util.stream.Collectors;
 @Tag(name = "메시징 API", description = "실시간 메시징 관련 API")
 public class MessageController {
 
+    private static final String CLIENT_MESSAGE_ID_HEADER = "X-Client-Message-Id";
+    private static final int MAX_CONVERSATION_PAGE_SIZE = 100;
+    private static final int MAX_RECENT_CONVERSATIONS = 100;
+    private static final int MAX_PRESENCE_QUERY_SIZE = 200;
+    private static final int MAX_SEARCH_PAGE_SIZE = 50;
+    private static final int MAX_SEARCH_QUERY_LENGTH = 100;
+    private static final int MAX_ACK_BATCH_SIZE = 500;
+
     private final MessagingService messagingService;
+    private final PresenceService presenceService;
+    private final ActivityService activityService;
+    private final MessageSearchService messageSearchService;
+    private final MessageAckBatcher messageAckBatcher;
 
     /**
      * 메시지 전송을 위한 REST 엔드포인트
+     * X-Client-Message-Id 헤더를 붙이면 같은 ID로 재시도해도 한 번만 전송됨
      */
-    @Operation(summary = "메시지 전송", description = "특정 사용자에게 메시지를 전송합니다.")
+    @Operation(summary = "메시지 전송", description = "특정 사용자에게 메시지를 전송합니다. 재시도 시 같은 X-Client-Message-Id를 보내면 처음 전송된 메시지를 돌려받습니다.")
     @PostMapping("/send/{recipientId}")
     public ResponseEntity<BaseResponse<MessageDto>> sendMessage(
             @PathVariable Long recipientId,
-            @RequestBody String content) {
+            @RequestBody String content,
+            @RequestHeader(value = CLIENT_MESSAGE_ID_HEADER, required = false) String clientMessageId) {
 
         Long currentUserId = getCurrentUserId();
-        Message message = messagingService.sendMessage(currentUserId, recipientId, content);
+        Message message = messagingService.sendMessage(currentUserId, recipientId, content, clientMessageId);
 
         return BaseResponse.success(MessageDto.fromDomain(message));
     }
 
     /**
      * 다른 사용자와의 대화를 조회하는 REST 엔드포인트
+     * before 커서 이전의 메시지를 최신순으로 반환
      */
-    @Operation(summary = "대화 내용 조회", description = "특정 사용자와의 대화 내용을 조회합니다.")
+    @Operation(summary = "대화 내용 조회", description = "특정 사용자와의 대화 내용을 커서 이전부터 최신순으로 조회합니다.")
     @GetMapping("/conversation/{userId}")
-    public ResponseEntity<BaseResponse<Page<MessageDto>>> getConversation(
+    public ResponseEntity<BaseResponse<MessageSliceDto>> getConversation(
             @PathVariable Long userId,
-            @PageableDefault(size = 20, sort = "sentAt", direction = Sort.Direction.DESC) Pageable pageable) {
+            @RequestParam(required = false) String before,
+            @RequestParam(defaultValue = "20") int size) {
 
         Long currentUserId = getCurrentUserId();
-        Page<Message> conversation = messagingService.getConversation(currentUserId, userId, pageable);
+        int pageSize = Math.max(1, Math.min(size, MAX_CONVERSATION_PAGE_SIZE));
+        Slice<Message> conversation = messagingService.getConversation(currentUserId, userId, before, pageSize);
 
-        Page<MessageDto> messageDtos = conversation.map(MessageDto::fromDomain);
-        return BaseResponse.success(messageDtos);
+        return BaseResponse.success(MessageSliceDto.fromDomain(conversation));
+    }
+
+    /**
+     * 특정 순번 이후의 대화 내용을 조회하는 REST 엔드포인트
+     * 재연결한 클라이언트가 마지막으로 받은 순번을 전달해 누락된 메시지만 오래된 순으로 받음
+     */
+    @Operation(summary = "대화 동기화", description = "특정 사용자와의 대화에서 지정한 순번 이후의 메시지를 오래된 순으로 조회합니다.")
+    @GetMapping("/conversation/{userId}/since")
+    public ResponseEntity<BaseResponse<MessageSyncDto>> getConversationSince(
+            @PathVariable Long userId,
+            @RequestParam long after,
+            @RequestParam(defaultValue = "50") int size) {
+
+        Long currentUserId = getCurrentUserId();
+        return BaseResponse.success(syncConversation(currentUserId, userId, after, size));
+    }
+
+    /**
+     * 주고받은 메시지를 검색하는 REST 엔드포인트
+     * 관련도 순으로 반환하며, nextCursor로 다음 결과를 이어서 조회
+     */
+    @Operation(summary = "메시지 검색", description = "내가 주고받은 메시지를 검색어로 찾아 관련도 순으로 조회합니다.")
+    @GetMapping("/search")
+    public ResponseEntity<BaseResponse<MessageSearchDto>> searchMessages(
+            @RequestParam String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        if (q.isBlank() || q.length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        Long currentUserId = getCurrentUserId();
+        int pageSize = Math.max(1, Math.min(size, MAX_SEARCH_PAGE_SIZE));
+        return BaseResponse.success(MessageSearchDto.fromDomain(
+                messageSearchService.search(currentUserId, q, cursor, pageSize)));
     }
 
     /**
@@ -73,6 +141,21 @@ public class MessageController {
         return BaseResponse.success(MessageDto.fromDomain(message));
     }
 
+    /**
+     * 대화의 특정 메시지까지 받은 메시지를 모두 읽음으로 표시하는 REST 엔드포인트
+     */
+    @Operation(summary = "대화 읽음 표시", description = "특정 사용자와의 대화에서 지정한 메시지까지 받은 메시지를 모두 읽음 상태로 표시합니다.")
+    @PostMapping("/conversation/{userId}/read")
+    public ResponseEntity<BaseResponse<Long>> markConversationRead(
+            @PathVariable Long userId,
+            @RequestParam String upTo) {
+
+        Long currentUserId = getCurrentUserId();
+        long readCount = messagingService.markConversationRead(currentUserId, userId, upTo);
+
+        return BaseResponse.success(readCount);
+    }
+
     /**
      * 읽지 않은 메시지를 조회하는 REST 엔드포인트
      */
@@ -104,42 +187,125 @@ public class MessageController {
     /**
      * 최근 대화 목록을 조회하는 REST 엔드포인트
      */
-    @Operation(summary = "최근 대화 목록 조회", description = "최근 대화 목록을 조회합니다.")
+    @Operation(summary = "최근 대화 목록 조회", description = "상대방별 마지막 메시지와 읽지 않은 메시지 수를 포함한 최근 대화 목록을 조회합니다.")
     @GetMapping("/recent")
-    public ResponseEntity<BaseResponse<List<MessageDto>>> getRecentConversations() {
+    public ResponseEntity<BaseResponse<List<ConversationDto>>> getRecentConversations(
+            @RequestParam(defaultValue = "20") int size) {
         Long currentUserId = getCurrentUserId();
-        List<Message> recentConversations = messagingService.getRecentConversations(currentUserId);
+        int limit = Math.max(1, Math.min(size, MAX_RECENT_CONVERSATIONS));
+        List<Conversation> recentConversations = messagingService.getRecentConversations(currentUserId, limit);
 
-        List<MessageDto> messageDtos = recentConversations.stream()
-                .map(MessageDto::fromDomain)
+        List<ConversationDto> conversationDtos = recentConversations.stream()
+                .map(ConversationDto::fromDomain)
                 .collect(Collectors.toList());
 
-        return BaseResponse.success(messageDtos);
+        return BaseResponse.success(conversationDtos);
+    }
+
+    /**
+     * 여러 사용자의 접속 여부를 한 번에 조회하는 REST 엔드포인트
+     */
+    @Operation(summary = "접속 상태 조회", description = "여러 사용자의 접속 여부를 한 번에 조회합니다.")
+    @GetMapping("/presence")
+    public ResponseEntity<BaseResponse<Map<Long, Boolean>>> getOnlineStatus(@RequestParam List<Long> userIds) {
+        if (userIds.size() > MAX_PRESENCE_QUERY_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        return BaseResponse.success(presenceService.getOnlineStatus(userIds));
     }
 
     /**
      * 메시지 전송을 위한 WebSocket 엔드포인트
+     * clientMessageId가 있으면 재연결 후 다시 보낸 요청은 한 번만 전송됨
      */
     @MessageMapping("/message.send")
-    public void handleSendMessage(@Payload MessageDto messageDto, Principal principal) {
+    public void handleSendMessage(@Payload SendMessageRequestDto sendMessageRequestDto, Principal principal) {
         Long senderId = Long.valueOf(principal.getName());
-        messagingService.sendMessage(senderId, messageDto.recipientId(), messageDto.content());
+        messagingService.sendMessage(senderId, sendMessageRequestDto.recipientId(), sendMessageRequestDto.content(),
+                sendMessageRequestDto.clientMessageId());
+    }
+
+    /**
+     * 입력 중, 대화 보는 중 같은 일시적 활동을 상대에게 알리는 WebSocket 엔드포인트
+     * 저장하지 않으며, 같은 대화의 반복 이벤트는 서버에서 합쳐진다
+     */
+    @MessageMapping("/message.activity")
+    public void handleActivity(@Payload ActivityRequestDto activityRequestDto, Principal principal) {
+        Long userId = Long.valueOf(principal.getName());
+        activityService.publish(userId, activityRequestDto.peerId(), activityRequestDto.type(),
+                activityRequestDto.active());
     }
 
     /**
      * 메시지를 전달됨으로 표시하는 WebSocket 엔드포인트
+     * 다른 확인과 함께 모아 반영되며, 발신자는 /user/queue/receipts로 묶인 확인을 받음
      */
     @MessageMapping("/message.delivered")
-    public void handleMessageDelivered(@Payload String messageId) {
-        messagingService.markMessageDelivered(messageId);
+    public void handleMessageDelivered(@Payload String messageId, Principal principal) {
+        messageAckBatcher.submit(Long.valueOf(principal.getName()), MessageStatus.DELIVERED, List.of(messageId));
     }
 
     /**
      * 메시지를 읽음으로 표시하는 WebSocket 엔드포인트
+     * 다른 확인과 함께 모아 반영되며, 발신자는 /user/queue/receipts로 묶인 확인을 받음
      */
     @MessageMapping("/message.read")
-    public void handleMessageRead(@Payload String messageId) {
-        messagingService.markMessageRead(messageId);
+    public void handleMessageRead(@Payload String messageId, Principal principal) {
+        messageAckBatcher.submit(Long.valueOf(principal.getName()), MessageStatus.READ, List.of(messageId));
+    }
+
+    /**
+     * 여러 메시지를 한 번에 전달됨으로 표시하는 WebSocket 엔드포인트
+     */
+    @MessageMapping("/message.delivered.batch")
+    public void handleMessagesDelivered(@Payload AckBatchRequestDto ackBatchRequestDto, Principal principal) {
+        messageAckBatcher.submit(Long.valueOf(principal.getName()), MessageStatus.DELIVERED,
+                validAckIds(ackBatchRequestDto));
+    }
+
+    /**
+     * 여러 메시지를 한 번에 읽음으로 표시하는 WebSocket 엔드포인트
+     * 대화 전체를 읽었으면 /message.read-up-to로 기준 메시지만 보내는 편이 더 가벼움
+     */
+    @MessageMapping("/message.read.batch")
+    public void handleMessagesRead(@Payload AckBatchRequestDto ackBatchRequestDto, Principal principal) {
+        messageAckBatcher.submit(Long.valueOf(principal.getName()), MessageStatus.READ,
+                validAckIds(ackBatchRequestDto));
+    }
+
+    /**
+     * 대화의 특정 메시지까지 읽음으로 표시하는 WebSocket 엔드포인트
+     */
+    @MessageMapping("/message.read-up-to")
+    public void handleConversationRead(@Payload ReadWatermarkDto readWatermarkDto, Principal principal) {
+        Long userId = Long.valueOf(principal.getName());
+        messagingService.markConversationRead(userId, readWatermarkDto.peerId(), readWatermarkDto.upToMessageId());
+    }
+
+    /**
+     * 특정 순번 이후의 메시지를 요청한 세션으로 돌려주는 WebSocket 엔드포인트
+     * 한 번에 정해진 크기까지만 보내며, hasMore가 true면 클라이언트가 lastSequence로 다시 요청함
+     */
+    @MessageMapping("/message.sync")
+    @SendToUser(destinations = "/queue/sync", broadcast = false)
+    public MessageSyncDto handleSync(@Payload SyncRequestDto syncRequestDto, Principal principal) {
+        Long userId = Long.valueOf(principal.getName());
+        int size = syncRequestDto.size() != null ? syncRequestDto.size() : MAX_CONVERSATION_PAGE_SIZE;
+        return syncConversation(userId, syncRequestDto.peerId(), syncRequestDto.afterSequence(), size);
+    }
+
+    private static List<String> validAckIds(AckBatchRequestDto ackBatchRequestDto) {
+        List<String> messageIds = ackBatchRequestDto.messageIds();
+        if (messageIds == null || messageIds.size() > MAX_ACK_BATCH_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        return messageIds;
+    }
+
+    private MessageSyncDto syncConversation(Long userId, Long peerId, long afterSequence, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_CONVERSATION_PAGE_SIZE));
+        Slice<Message> messages = messagingService.getMessagesSince(userId, peerId, afterSequence, pageSize);
+        return MessageSyncDto.fromDomain(messages, afterSequence);
     }
 
     /**
@@ -0,0 +1,151 @@
+package com.PickOne.domain.messaging.controller;
+
+import com.PickOne.domain.messaging.dto.RoomCreateRequestDto;
+import com.PickOne.domain.messaging.dto.RoomDto;
+import com.PickOne.domain.messaging.dto.RoomMembersRequestDto;
+import com.PickOne.domain.messaging.dto.RoomMessageDto;
+import com.PickOne.domain.messaging.dto.RoomMessageRequestDto;
+import com.PickOne.domain.messaging.dto.RoomMessageSliceDto;
+import com.PickOne.domain.messaging.model.domain.RoomMessage;
+import com.PickOne.domain.messaging.service.RoomService;
+import com.PickOne.global.exception.BaseResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ResponseEntity;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.security.Principal;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/rooms")
+@RequiredArgsConstructor
+@Tag(name = "채팅방 API", description = "여러 멤버가 함께 대화하는 밴드 채팅방 API")
+public class RoomController {
+
+    private static final int MAX_ROOM_PAGE_SIZE = 100;
+    private static final int MAX_ROOM_LIST_SIZE = 100;
+
+    private final RoomService roomService;
+
+    /**
+     * 채팅방을 만드는 REST 엔드포인트
+     */
+    @Operation(summary = "채팅방 생성", description = "초대한 멤버와 함께 채팅방을 만듭니다. 요청자가 방장이 됩니다.")
+    @PostMapping
+    public ResponseEntity<BaseResponse<RoomDto>> createRoom(@RequestBody RoomCreateRequestDto request) {
+        Long currentUserId = getCurrentUserId();
+        return BaseResponse.success(RoomDto.fromDomain(
+                roomService.createRoom(currentUserId, request.name(), request.memberIds())));
+    }
+
+    /**
+     * 채팅방에 멤버를 추가하는 REST 엔드포인트
+     */
+    @Operation(summary = "채팅방 멤버 추가", description = "채팅방에 멤버를 추가합니다. 방 멤버만 요청할 수 있습니다.")
+    @PostMapping("/{roomId}/members")
+    public ResponseEntity<BaseResponse<RoomDto>> addMembers(
+            @PathVariable String roomId,
+            @RequestBody RoomMembersRequestDto request) {
+
+        Long currentUserId = getCurrentUserId();
+        return BaseResponse.success(RoomDto.fromDomain(
+                roomService.addMembers(currentUserId, roomId, request.memberIds())));
+    }
+
+    /**
+     * 내 채팅방 목록을 조회하는 REST 엔드포인트
+     * fanout이 READ인 방은 /topic/rooms/{roomId}를 구독해야 실시간 메시지를 받음
+     */
+    @Operation(summary = "채팅방 목록 조회", description = "내가 속한 채팅방을 최근 메시지 순으로, 읽지 않은 메시지 수와 함께 조회합니다.")
+    @GetMapping
+    public ResponseEntity<BaseResponse<List<RoomDto>>> getRooms(@RequestParam(defaultValue = "20") int size) {
+        Long currentUserId = getCurrentUserId();
+        int limit = Math.max(1, Math.min(size, MAX_ROOM_LIST_SIZE));
+        return BaseResponse.success(roomService.getRooms(currentUserId, limit).stream()
+                .map(RoomDto::fromDomain)
+                .toList());
+    }
+
+    /**
+     * 채팅방에 메시지를 전송하는 REST 엔드포인트
+     */
+    @Operation(summary = "채팅방 메시지 전송", description = "채팅방에 메시지를 전송합니다.")
+    @PostMapping("/{roomId}/messages")
+    public ResponseEntity<BaseResponse<RoomMessageDto>> sendMessage(
+            @PathVariable String roomId,
+            @RequestBody String content) {
+
+        Long currentUserId = getCurrentUserId();
+        return BaseResponse.success(RoomMessageDto.fromDomain(roomService.sendMessage(currentUserId, roomId, content)));
+    }
+
+    /**
+     * 채팅방 메시지를 순번 커서 이전부터 최신순으로 조회하는 REST 엔드포인트
+     */
+    @Operation(summary = "채팅방 메시지 조회", description = "채팅방 메시지를 before 순번 이전부터 최신순으로 조회합니다.")
+    @GetMapping("/{roomId}/messages")
+    public ResponseEntity<BaseResponse<RoomMessageSliceDto>> getMessages(
+            @PathVariable String roomId,
+            @RequestParam(required = false) Long before,
+            @RequestParam(defaultValue = "20") int size) {
+
+        Long currentUserId = getCurrentUserId();
+        int pageSize = Math.max(1, Math.min(size, MAX_ROOM_PAGE_SIZE));
+        Slice<RoomMessage> messages = roomService.getMessages(currentUserId, roomId, before, pageSize);
+        return BaseResponse.success(RoomMessageSliceDto.fromDomain(messages, before));
+    }
+
+    /**
+     * 특정 순번 이후의 채팅방 메시지를 조회하는 REST 엔드포인트
+     * 재연결한 클라이언트가 마지막으로 받은 순번을 전달해 누락된 메시지만 오래된 순으로 받음
+     */
+    @Operation(summary = "채팅방 동기화", description = "채팅방에서 지정한 순번 이후의 메시지를 오래된 순으로 조회합니다.")
+    @GetMapping("/{roomId}/messages/since")
+    public ResponseEntity<BaseResponse<RoomMessageSliceDto>> getMessagesSince(
+            @PathVariable String roomId,
+            @RequestParam long after,
+            @RequestParam(defaultValue = "50") int size) {
+
+        Long currentUserId = getCurrentUserId();
+        int pageSize = Math.max(1, Math.min(size, MAX_ROOM_PAGE_SIZE));
+        Slice<RoomMessage> messages = roomService.getMessagesSince(currentUserId, roomId, after, pageSize);
+        return BaseResponse.success(RoomMessageSliceDto.fromDomain(messages, after));
+    }
+
+    /**
+     * 채팅방을 특정 순번까지 읽음으로 표시하는 REST 엔드포인트
+     */
+    @Operation(summary = "채팅방 읽음 표시", description = "채팅방을 지정한 순번까지 읽음으로 표시하고 남은 읽지 않은 메시지 수를 반환합니다.")
+    @PostMapping("/{roomId}/read")
+    public ResponseEntity<BaseResponse<Long>> markRead(
+            @PathVariable String roomId,
+            @RequestParam long upTo) {
+
+        Long currentUserId = getCurrentUserId();
+        return BaseResponse.success(roomService.markRead(currentUserId, roomId, upTo));
+    }
+
+    /**
+     * 채팅방 메시지 전송을 위한 WebSocket 엔드포인트
+     */
+    @MessageMapping("/room.send")
+    public void handleSendMessage(@Payload RoomMessageRequestDto request, Principal principal) {
+        Long senderId = Long.valueOf(principal.getName());
+        roomService.sendMessage(senderId, request.roomId(), request.content());
+    }
+
+    /**
+     * 현재 인증된 사용자의 ID를 가져옴
+     */
+    private Long getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return Long.valueOf(authentication.getName());
+    }
+}
@@ -0,0 +1,11 @@
+package com.PickOne.domain.messaging.dto;
+
+import java.util.List;
+
+/**
+ * 여러 메시지의 수신·읽음 확인을 한 번에 보내는 WebSocket 요청 DTO
+ */
+public record AckBatchRequestDto(
+        List<String> messageIds
+) {
+}
@@ -0,0 +1,18 @@
+package com.PickOne.domain.messaging.dto;
+
+import com.PickOne.domain.messaging.model.domain.ActivityType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대화 상대의 일시적 활동 이벤트
+ * 저장되지 않으며, 유실되면 다음 이벤트나 클라이언트의 만료 처리로 정리된다
+ */
+public record ActivityEventDto(
+        Long recipientId,
+        Long userId,
+        ActivityType type,
+        boolean active,
+        LocalDateTime at
+) {
+}
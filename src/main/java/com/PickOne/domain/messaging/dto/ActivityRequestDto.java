@@ -0,0 +1,13 @@
+package com.PickOne.domain.messaging.dto;
+
+import com.PickOne.domain.messaging.model.domain.ActivityType;
+
+/**
+ * 입력 중, 대화 보는 중 같은 일시적 활동을 상대에게 알리는 요청 DTO
+ */
+public record ActivityRequestDto(
+        Long peerId,
+        ActivityType type,
+        boolean active
+) {
+}
@@ -0,0 +1,34 @@
+package com.PickOne.domain.messaging.dto;
+
+import com.PickOne.domain.messaging.model.domain.Conversation;
+import java.time.LocalDateTime;
+
+/**
+ * 대화 목록 항목 데이터 전송 객체 (DTO)
+ */
+public record ConversationDto(
+        String conversationId,
+        Long peerId,
+        String lastMessageId,
+        String lastMessagePreview,
+        Long lastSenderId,
+        String lastMessageStatus,
+        LocalDateTime lastMessageAt,
+        long unreadCount
+) {
+    /**
+     * 도메인 객체로부터 DTO 생성
+     */
+    public static ConversationDto fromDomain(Conversation conversation) {
+        return new ConversationDto(
+                conversation.getConversationId(),
+                conversation.getPeerId(),
+                conversation.getLastMessageId(),
+                conversation.getLastMessagePreview(),
+                conversation.getLastSenderId(),
+                conversation.getLastMessageStatus() != null ? conversation.getLastMessageStatus().name() : null,
+                conversation.getLastMessageAt(),
+                conversation.getUnreadCount()
+        );
+    }
+}
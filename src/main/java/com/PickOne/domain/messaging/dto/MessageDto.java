@@ -9,13 +9,15 @@ import java.time.LocalDateTime;
  */
 public record MessageDto(
         String id,
+        String conversationId,
         Long senderId,
         Long recipientId,
         String content,
         String status,
         LocalDateTime sentAt,
         LocalDateTime deliveredAt,
-        LocalDateTime readAt
+        LocalDateTime readAt,
+        Long sequence
 ) {
     /**
      * 도메인 객체로부터 DTO 생성
@@ -23,13 +25,15 @@ public record MessageDto(
     public static MessageDto fromDomain(Message message) {
         return new MessageDto(
                 message.getId(),
+                message.getConversationId(),
                 message.getSenderIdValue(),
                 message.getRecipientIdValue(),
                 message.getContentValue(),
                 message.getStatus().name(),
                 message.getSentAt(),
                 message.getDeliveredAt(),
-                message.getReadAt()
+                message.getReadAt(),
+                message.getSequence()
         );
     }
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.PickOne.domain.messaging.dto;
+
+import com.PickOne.domain.messaging.model.domain.MessageSearchResult;
+
+import java.util.List;
+
+/**
+ * 메시지 검색 결과 DTO
+ * nextCursor를 다음 요청의 cursor 파라미터로 전달하면 다음 순위의 결과를 이어서 조회할 수 있음
+ */
+public record MessageSearchDto(
+        List<MessageDto> messages,
+        String nextCursor,
+        boolean hasNext
+) {
+    /**
+     * 도메인 검색 결과로부터 DTO 생성
+     */
+    public static MessageSearchDto fromDomain(MessageSearchResult result) {
+        return new MessageSearchDto(
+                result.messages().stream().map(MessageDto::fromDomain).toList(),
+                result.hasNext() ? result.next().encode() : null,
+                result.hasNext()
+        );
+    }
+}
@@ -0,0 +1,33 @@
+package com.PickOne.domain.messaging.dto;
+
+import com.PickOne.domain.messaging.model.domain.Message;
+import com.PickOne.domain.messaging.model.domain.MessageCursor;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * 커서 기반 대화 조회 결과 DTO
+ * nextCursor를 다음 요청의 before 파라미터로 전달하면 이전 메시지를 이어서 조회할 수 있음
+ */
+public record MessageSliceDto(
+        List<MessageDto> messages,
+        String nextCursor,
+        boolean hasNext
+) {
+    /**
+     * 도메인 슬라이스로부터 DTO 생성
+     */
+    public static MessageSliceDto fromDomain(Slice<Message> slice) {
+        List<Message> content = slice.getContent();
+        String nextCursor = slice.hasNext() && !content.isEmpty()
+                ? MessageCursor.of(content.get(content.size() - 1)).encode()
+                : null;
+
+        return new MessageSliceDto(
+                content.stream().map(MessageDto::fromDomain).toList(),
+                nextCursor,
+                slice.hasNext()
+        );
+    }
+}
@@ -0,0 +1,33 @@
+package com.PickOne.domain.messaging.dto;
+
+import com.PickOne.domain.messaging.model.domain.Message;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * 순번 기반 대화 동기화 결과 DTO
+ * lastSequence를 다음 요청의 after 값으로 전달하면 이후 메시지를 이어서 받을 수 있음
+ */
+public record MessageSyncDto(
+        List<MessageDto> messages,
+        long lastSequence,
+        boolean hasMore
+) {
+    /**
+     * 도메인 슬라이스로부터 DTO 생성
+     * 새 메시지가 없으면 요청한 순번을 그대로 돌려준다
+     */
+    public static MessageSyncDto fromDomain(Slice<Message> slice, long afterSequence) {
+        List<Message> content = slice.getContent();
+        long lastSequence = content.isEmpty()
+                ? afterSequence
+                : content.get(content.size() - 1).getSequence();
+
+        return new MessageSyncDto(
+                content.stream().map(MessageDto::fromDomain).toList(),
+                lastSequence,
+                slice.hasNext()
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package com.PickOne.domain.messaging.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대화 상대의 접속 상태 변경 이벤트
+ */
+public record PresenceEventDto(
+        Long recipientId,
+        Long userId,
+        boolean online,
+        LocalDateTime changedAt
+) {
+}
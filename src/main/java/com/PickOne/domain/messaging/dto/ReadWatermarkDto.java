@@ -0,0 +1,10 @@
+package com.PickOne.domain.messaging.dto;
+
+/**
+ * 대화의 특정 메시지까지 모두 읽었음을 알리는 요청 DTO
+ */
+public record ReadWatermarkDto(
+        Long peerId,
+        String upToMessageId
+) {
+}
@@ -0,0 +1,21 @@
+package com.PickOne.domain.messaging.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 보낸 메시지의 수신·읽음 확인을 발신자에게 알리는 이벤트 DTO
+ * 짧은 시간 동안 모인 확인은 상대방과 상태별로 하나의 이벤트로 합쳐진다
+ *
+ * @param peerId        확인을 보낸 수신자 ID
+ * @param messageIds    확인된 메시지 ID (대화 단위 확인이면 비어 있음)
+ * @param upToMessageId 대화 단위 확인의 기준 메시지 ID (이 메시지까지 모두 확인됨)
+ */
+public record ReceiptEventDto(
+        Long peerId,
+        String status,
+        List<String> messageIds,
+        String upToMessageId,
+        LocalDateTime at
+) {
+}
@@ -0,0 +1,14 @@
+package com.PickOne.domain.messaging.dto;
+
+import java.util.List;
+
+/**
+ * 채팅방 생성 요청 DTO
+ *
+ * @param memberIds 방장을 제외한 초대 멤버 ID
+ */
+public record RoomCreateRequestDto(
+        String name,
+        List<Long> memberIds
+) {
+}
@@ -0,0 +1,45 @@
+package com.PickOne.domain.messaging.dto;
+
+import com.PickOne.domain.messaging.model.domain.Room;
+import com.PickOne.domain.messaging.model.domain.RoomSummary;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅방 목록 항목 데이터 전송 객체 (DTO)
+ *
+ * @param fanout WRITE면 /user/queue/rooms로 받고, READ면 /topic/rooms/{id}를 구독해야 실시간으로 받음
+ */
+public record RoomDto(
+        String id,
+        String name,
+        Long ownerId,
+        int memberCount,
+        String fanout,
+        long lastSequence,
+        String lastMessagePreview,
+        Long lastSenderId,
+        LocalDateTime lastMessageAt,
+        long lastReadSequence,
+        long unreadCount
+) {
+    /**
+     * 도메인 객체로부터 DTO 생성
+     */
+    public static RoomDto fromDomain(RoomSummary summary) {
+        Room room = summary.room();
+        return new RoomDto(
+                room.getId(),
+                room.getName(),
+                room.getOwnerId(),
+                room.getMemberCount(),
+                summary.fanout().name(),
+                room.getLastSequence(),
+                room.getLastMessagePreview(),
+                room.getLastSenderId(),
+                room.getLastMessageAt(),
+                summary.lastReadSequence(),
+                summary.unreadCount()
+        );
+    }
+}
@@ -0,0 +1,11 @@
+package com.PickOne.domain.messaging.dto;
+
+import java.util.List;
+
+/**
+ * 채팅방 멤버 추가 요청 DTO
+ */
+public record RoomMembersRequestDto(
+        List<Long> memberIds
+) {
+}
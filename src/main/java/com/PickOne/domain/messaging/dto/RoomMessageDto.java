@@ -0,0 +1,31 @@
+package com.PickOne.domain.messaging.dto;
+
+import com.PickOne.domain.messaging.model.domain.RoomMessage;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅방 메시지 데이터 전송 객체 (DTO)
+ */
+public record RoomMessageDto(
+        String id,
+        String roomId,
+        Long senderId,
+        String content,
+        LocalDateTime sentAt,
+        Long sequence
+) {
+    /**
+     * 도메인 객체로부터 DTO 생성
+     */
+    public static RoomMessageDto fromDomain(RoomMessage message) {
+        return new RoomMessageDto(
+                message.getId(),
+                message.getRoomId(),
+                message.getSenderId(),
+                message.getContentValue(),
+                message.getSentAt(),
+                message.getSequence()
+        );
+    }
+}
@@ -0,0 +1,10 @@
+package com.PickOne.domain.messaging.dto;
+
+/**
+ * WebSocket 채팅방 메시지 전송 요청 DTO
+ */
+public record RoomMessageRequestDto(
+        String roomId,
+        String content
+) {
+}
@@ -0,0 +1,34 @@
+package com.PickOne.domain.messaging.dto;
+
+import com.PickOne.domain.messaging.model.domain.RoomMessage;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * 순번 커서 기반 채팅방 메시지 조회 결과 DTO
+ * 최신순 조회에서는 nextSequence를 다음 요청의 before로, 동기화에서는 after로 전달하면 이어서 조회할 수 있음
+ */
+public record RoomMessageSliceDto(
+        List<RoomMessageDto> messages,
+        Long nextSequence,
+        boolean hasNext
+) {
+    /**
+     * 도메인 슬라이스로부터 DTO 생성
+     *
+     * @param fallbackSequence 메시지가 없을 때 돌려줄 순번 (요청한 커서)
+     */
+    public static RoomMessageSliceDto fromDomain(Slice<RoomMessage> slice, Long fallbackSequence) {
+        List<RoomMessage> content = slice.getContent();
+        Long nextSequence = content.isEmpty()
+                ? fallbackSequence
+                : content.get(content.size() - 1).getSequence();
+
+        return new RoomMessageSliceDto(
+                content.stream().map(RoomMessageDto::fromDomain).toList(),
+                nextSequence,
+                slice.hasNext()
+        );
+    }
+}
@@ -0,0 +1,13 @@
+package com.PickOne.domain.messaging.dto;
+
+/**
+ * WebSocket 메시지 전송 요청 DTO
+ *
+ * @param clientMessageId 재시도 시 중복 전송을 막기 위해 클라이언트가 만든 메시지 ID (선택)
+ */
+public record SendMessageRequestDto(
+        Long recipientId,
+        String content,
+        String clientMessageId
+) {
+}
@@ -0,0 +1,11 @@
+package com.PickOne.domain.messaging.dto;
+
+/**
+ * 재연결 후 마지막으로 받은 순번 이후의 메시지를 요청하는 DTO
+ */
+public record SyncRequestDto(
+        Long peerId,
+        long afterSequence,
+        Integer size
+) {
+}
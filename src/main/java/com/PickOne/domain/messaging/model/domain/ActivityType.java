@@ -0,0 +1,9 @@
+package com.PickOne.domain.messaging.model.domain;
+
+/**
+ * 대화 중 일시적 활동 종류
+ */
+public enum ActivityType {
+    TYPING,
+    VIEWING
+}
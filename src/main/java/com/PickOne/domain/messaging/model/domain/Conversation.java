@@ -0,0 +1,73 @@
+package com.PickOne.domain.messaging.model.domain;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 대화 목록(받은 편지함)의 한 항목
+ * 상대방, 마지막 메시지 미리보기, 읽지 않은 메시지 수를 유지한다
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@EqualsAndHashCode(of = {"ownerId", "peerId"})
+public class Conversation {
+
+    private static final int PREVIEW_LENGTH = 100;
+
+    private Long ownerId;
+    private Long peerId;
+    private String lastMessageId;
+    private String lastMessagePreview;
+    private Long lastSenderId;
+    private MessageStatus lastMessageStatus;
+    private LocalDateTime lastMessageAt;
+    private long unreadCount;
+
+    private Conversation(Long ownerId, Long peerId, String lastMessageId, String lastMessagePreview,
+                         Long lastSenderId, MessageStatus lastMessageStatus,
+                         LocalDateTime lastMessageAt, long unreadCount) {
+        this.ownerId = ownerId;
+        this.peerId = peerId;
+        this.lastMessageId = lastMessageId;
+        this.lastMessagePreview = lastMessagePreview;
+        this.lastSenderId = lastSenderId;
+        this.lastMessageStatus = lastMessageStatus;
+        this.lastMessageAt = lastMessageAt;
+        this.unreadCount = unreadCount;
+    }
+
+    /**
+     * 지속성에서 대화 항목을 재생성
+     */
+    public static Conversation from(Long ownerId, Long peerId, String lastMessageId, String lastMessagePreview,
+                                    Long lastSenderId, MessageStatus lastMessageStatus,
+                                    LocalDateTime lastMessageAt, long unreadCount) {
+        return new Conversation(ownerId, peerId, lastMessageId, lastMessagePreview,
+                lastSenderId, lastMessageStatus, lastMessageAt, unreadCount);
+    }
+
+    /**
+     * 대화 목록 항목의 식별자 (소유자:상대방)
+     */
+    public static String idOf(Long ownerId, Long peerId) {
+        return ownerId + ":" + peerId;
+    }
+
+    /**
+     * 메시지 본문으로부터 목록에 표시할 미리보기 생성
+     */
+    public static String previewOf(String content) {
+        if (content == null || content.length() <= PREVIEW_LENGTH) {
+            return content;
+        }
+        return content.substring(0, PREVIEW_LENGTH);
+    }
+
+    public String getConversationId() {
+        return Message.conversationIdOf(ownerId, peerId);
+    }
+}
@@ -24,10 +24,12 @@ public class Message {
     private LocalDateTime sentAt;
     private LocalDateTime deliveredAt;
     private LocalDateTime readAt;
+    private Long sequence;
 
     private Message(String id, SenderId senderId, RecipientId recipientId,
                     MessageContent content, MessageStatus status,
-                    LocalDateTime sentAt, LocalDateTime deliveredAt, LocalDateTime readAt) {
+                    LocalDateTime sentAt, LocalDateTime deliveredAt, LocalDateTime readAt,
+                    Long sequence) {
         this.id = id;
         this.senderId = senderId;
         this.recipientId = recipientId;
@@ -36,6 +38,7 @@ public class Message {
         this.sentAt = sentAt;
         this.deliveredAt = deliveredAt;
         this.readAt = readAt;
+        this.sequence = sequence;
     }
 
     /**
@@ -50,13 +53,14 @@ public class Message {
                 MessageStatus.SENT,
                 LocalDateTime.now(),
                 null,
+                null,
                 null
         );
     }
 
     public static Message from(String id, Long senderId, Long recipientId, String content,
                                MessageStatus status, LocalDateTime sentAt,
-                               LocalDateTime deliveredAt, LocalDateTime readAt) {
+                               LocalDateTime deliveredAt, LocalDateTime readAt, Long sequence) {
         return new Message(
                 id,
                 new SenderId(senderId),
@@ -65,7 +69,25 @@ public class Message {
                 status,
                 sentAt,
                 deliveredAt,
-                readAt
+                readAt,
+                sequence
+        );
+    }
+
+    /**
+     * 대화 내 순번을 부여한 메시지 반환
+     */
+    public Message withSequence(long sequence) {
+        return new Message(
+                this.id,
+                this.senderId,
+                this.recipientId,
+                this.content,
+                this.status,
+                this.sentAt,
+                this.deliveredAt,
+                this.readAt,
+                sequence
         );
     }
 
@@ -73,6 +95,13 @@ public class Message {
      * 메시지를 전송됨으로 표시
      */
     public Message markDelivered() {
+        return markDelivered(LocalDateTime.now());
+    }
+
+    /**
+     * 지정한 시각에 메시지를 전송됨으로 표시
+     */
+    public Message markDelivered(LocalDateTime deliveredAt) {
         if (this.status.ordinal() < MessageStatus.DELIVERED.ordinal()) {
             return new Message(
                     this.id,
@@ -81,8 +110,9 @@ public class Message {
                     this.content,
                     MessageStatus.DELIVERED,
                     this.sentAt,
-                    LocalDateTime.now(),
-                    this.readAt
+                    deliveredAt,
+                    this.readAt,
+                    this.sequence
             );
         }
         return this;
@@ -92,6 +122,13 @@ public class Message {
      * 메시지를 읽음으로 표시
      */
     public Message markRead() {
+        return markRead(LocalDateTime.now());
+    }
+
+    /**
+     * 지정한 시각에 메시지를 읽음으로 표시
+     */
+    public Message markRead(LocalDateTime readAt) {
         if (this.status.ordinal() < MessageStatus.READ.ordinal()) {
             return new Message(
                     this.id,
@@ -100,13 +137,25 @@ public class Message {
                     this.content,
                     MessageStatus.READ,
                     this.sentAt,
-                    this.deliveredAt != null ? this.deliveredAt : LocalDateTime.now(),
-                    LocalDateTime.now()
+                    this.deliveredAt != null ? this.deliveredAt : readAt,
+                    readAt,
+                    this.sequence
             );
         }
         return this;
     }
 
+    /**
+     * 두 사용자 간 대화를 식별하는 정규화된 대화 ID (작은 ID:큰 ID)
+     */
+    public static String conversationIdOf(Long userId1, Long userId2) {
+        return Math.min(userId1, userId2) + ":" + Math.max(userId1, userId2);
+    }
+
+    public String getConversationId() {
+        return conversationIdOf(getSenderIdValue(), getRecipientIdValue());
+    }
+
     public Long getSenderIdValue() {
         return this.senderId.getValue();
     }
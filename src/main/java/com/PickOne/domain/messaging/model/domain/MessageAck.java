@@ -0,0 +1,10 @@
+package com.PickOne.domain.messaging.model.domain;
+
+/**
+ * 수신자가 보낸 메시지 수신·읽음 확인
+ *
+ * @param userId 확인을 보낸 사용자 (메시지 수신자여야 반영됨)
+ * @param status 확인한 상태 (DELIVERED 또는 READ)
+ */
+public record MessageAck(String messageId, Long userId, MessageStatus status) {
+}
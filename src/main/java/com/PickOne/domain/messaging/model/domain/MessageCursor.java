@@ -0,0 +1,55 @@
+package com.PickOne.domain.messaging.model.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 대화 조회를 위한 키셋 커서 (sentAt, id)
+ * 클라이언트에는 불투명한 문자열로 전달된다
+ */
+public record MessageCursor(LocalDateTime sentAt, String id) {
+
+    private static final String DELIMITER = "|";
+
+    public MessageCursor {
+        if (sentAt == null || id == null || id.isBlank()) {
+            throw new IllegalArgumentException("커서에는 전송 시각과 메시지 ID가 필요합니다");
+        }
+    }
+
+    /**
+     * 메시지 위치로부터 커서 생성
+     */
+    public static MessageCursor of(Message message) {
+        return new MessageCursor(message.getSentAt(), message.getId());
+    }
+
+    /**
+     * 인코딩된 커서 문자열을 해석
+     */
+    public static MessageCursor decode(String encoded) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.indexOf(DELIMITER);
+            if (delimiterIndex < 0) {
+                throw new IllegalArgumentException("잘못된 커서 형식입니다");
+            }
+            return new MessageCursor(
+                    LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+                    raw.substring(delimiterIndex + 1)
+            );
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서 형식입니다", e);
+        }
+    }
+
+    /**
+     * 커서를 URL에 안전한 문자열로 인코딩
+     */
+    public String encode() {
+        String raw = sentAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,15 @@
+package com.PickOne.domain.messaging.model.domain;
+
+import java.util.List;
+
+/**
+ * 순위순으로 정렬된 검색 결과 한 페이지
+ *
+ * @param next 다음 페이지 커서 (마지막 페이지면 null)
+ */
+public record MessageSearchResult(List<Message> messages, SearchCursor next) {
+
+    public boolean hasNext() {
+        return next != null;
+    }
+}
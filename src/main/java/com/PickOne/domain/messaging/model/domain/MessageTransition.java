@@ -0,0 +1,12 @@
+package com.PickOne.domain.messaging.model.domain;
+
+/**
+ * 원자적으로 수행된 메시지 상태 전이 결과
+ * 전이 이전 상태를 함께 담아 카운터 등 파생 데이터를 정확히 갱신할 수 있게 한다
+ */
+public record MessageTransition(MessageStatus previousStatus, Message message) {
+
+    public boolean wasUnread() {
+        return previousStatus == MessageStatus.SENT;
+    }
+}
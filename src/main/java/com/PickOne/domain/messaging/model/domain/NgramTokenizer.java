@@ -0,0 +1,51 @@
+package com.PickOne.domain.messaging.model.domain;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 메시지 검색용 문자 n-gram 토크나이저
+ * 형태소 분석 없이도 한글 조사·어미가 붙은 단어를 찾을 수 있도록 단어마다 2-gram을 만든다
+ * 한 글자 단어는 그 글자 자체를 토큰으로 사용한다
+ */
+public final class NgramTokenizer {
+
+    /**
+     * 문서 하나에서 만드는 최대 토큰 수
+     */
+    public static final int MAX_GRAMS = 1024;
+
+    private static final Pattern WORD_DELIMITER = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private NgramTokenizer() {
+    }
+
+    /**
+     * 본문을 중복 없는 n-gram 집합으로 변환 (등장 순서 유지)
+     */
+    public static Set<String> tokenize(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (text == null) {
+            return grams;
+        }
+
+        // 전각·반각, 호환 자모 차이를 없애고 대소문자를 통일
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        for (String word : WORD_DELIMITER.split(normalized)) {
+            int[] codePoints = word.codePoints().toArray();
+            if (codePoints.length == 1) {
+                grams.add(word);
+            }
+            for (int i = 0; i + 1 < codePoints.length; i++) {
+                grams.add(new String(codePoints, i, 2));
+            }
+            if (grams.size() >= MAX_GRAMS) {
+                break;
+            }
+        }
+        return grams;
+    }
+}
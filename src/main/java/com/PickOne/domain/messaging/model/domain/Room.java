@@ -0,0 +1,95 @@
+package com.PickOne.domain.messaging.model.domain;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 여러 멤버가 함께 대화하는 밴드 채팅방
+ * 메시지 순번과 마지막 메시지 미리보기를 유지하며, 멤버별 읽음 위치는 RoomMember로 따로 관리한다
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@EqualsAndHashCode(of = "id")
+public class Room {
+
+    private static final int MAX_NAME_LENGTH = 50;
+
+    private String id;
+    private String name;
+    private Long ownerId;
+    private List<Long> memberIds;
+    private long lastSequence;
+    private String lastMessagePreview;
+    private Long lastSenderId;
+    private LocalDateTime lastMessageAt;
+    private LocalDateTime createdAt;
+
+    private Room(String id, String name, Long ownerId, List<Long> memberIds, long lastSequence,
+                 String lastMessagePreview, Long lastSenderId, LocalDateTime lastMessageAt,
+                 LocalDateTime createdAt) {
+        this.id = id;
+        this.name = name;
+        this.ownerId = ownerId;
+        this.memberIds = memberIds;
+        this.lastSequence = lastSequence;
+        this.lastMessagePreview = lastMessagePreview;
+        this.lastSenderId = lastSenderId;
+        this.lastMessageAt = lastMessageAt;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * 새 방 생성 (방장은 항상 멤버에 포함)
+     */
+    public static Room create(Long ownerId, String name, Collection<Long> memberIds) {
+        if (name == null || name.isBlank() || name.length() > MAX_NAME_LENGTH) {
+            throw new IllegalArgumentException("방 이름은 1자 이상 50자 이하여야 합니다");
+        }
+
+        Set<Long> members = new LinkedHashSet<>();
+        members.add(ownerId);
+        members.addAll(memberIds);
+
+        LocalDateTime now = LocalDateTime.now();
+        return new Room(UUID.randomUUID().toString(), name.trim(), ownerId, List.copyOf(members),
+                0L, null, null, now, now);
+    }
+
+    /**
+     * 지속성에서 방을 재생성
+     */
+    public static Room from(String id, String name, Long ownerId, List<Long> memberIds, long lastSequence,
+                            String lastMessagePreview, Long lastSenderId, LocalDateTime lastMessageAt,
+                            LocalDateTime createdAt) {
+        return new Room(id, name, ownerId, List.copyOf(memberIds), lastSequence,
+                lastMessagePreview, lastSenderId, lastMessageAt, createdAt);
+    }
+
+    /**
+     * 방 메시지 순번 발급에 사용하는 키 (1:1 대화 ID와 겹치지 않음)
+     */
+    public static String sequenceKeyOf(String roomId) {
+        return "room:" + roomId;
+    }
+
+    public boolean isMember(Long userId) {
+        return memberIds.contains(userId);
+    }
+
+    public int getMemberCount() {
+        return memberIds.size();
+    }
+
+    public RoomFanout fanout(int writeFanoutMaxMembers) {
+        return RoomFanout.of(getMemberCount(), writeFanoutMaxMembers);
+    }
+}
@@ -0,0 +1,21 @@
+package com.PickOne.domain.messaging.model.domain;
+
+/**
+ * 방 메시지의 실시간 전달 방식
+ * 어느 방식이든 메시지는 방마다 한 번만 저장되고, 읽지 않은 수는 조회 시 방 순번과 멤버 읽음 커서의 차로 계산한다
+ */
+public enum RoomFanout {
+    /** 작은 방: 메시지마다 멤버별 사용자 큐(/user/queue/rooms)로 전달 */
+    WRITE,
+    /** 큰 방: 방 토픽(/topic/rooms/{roomId})으로 한 번만 게시하고, 접속한 멤버가 토픽을 구독해 받음 */
+    READ;
+
+    /**
+     * 멤버 수에 따른 전달 방식 결정
+     *
+     * @param writeFanoutMaxMembers 멤버별로 전달하는 최대 멤버 수
+     */
+    public static RoomFanout of(int memberCount, int writeFanoutMaxMembers) {
+        return memberCount <= writeFanoutMaxMembers ? WRITE : READ;
+    }
+}
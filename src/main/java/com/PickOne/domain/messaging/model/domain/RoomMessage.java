@@ -0,0 +1,60 @@
+package com.PickOne.domain.messaging.model.domain;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 채팅방 메시지
+ * 멤버 수와 관계없이 방마다 한 번만 저장되며, 방 안의 순번으로 정렬된다
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@EqualsAndHashCode(of = "id")
+public class RoomMessage {
+
+    private String id;
+    private String roomId;
+    private Long senderId;
+    private MessageContent content;
+    private LocalDateTime sentAt;
+    private Long sequence;
+
+    private RoomMessage(String id, String roomId, Long senderId, MessageContent content,
+                        LocalDateTime sentAt, Long sequence) {
+        this.id = id;
+        this.roomId = roomId;
+        this.senderId = senderId;
+        this.content = content;
+        this.sentAt = sentAt;
+        this.sequence = sequence;
+    }
+
+    /**
+     * 방금 전송된 새 방 메시지를 생성
+     */
+    public static RoomMessage create(String roomId, Long senderId, String content) {
+        return new RoomMessage(UUID.randomUUID().toString(), roomId, senderId, new MessageContent(content),
+                LocalDateTime.now(), null);
+    }
+
+    public static RoomMessage from(String id, String roomId, Long senderId, String content,
+                                   LocalDateTime sentAt, Long sequence) {
+        return new RoomMessage(id, roomId, senderId, new MessageContent(content), sentAt, sequence);
+    }
+
+    /**
+     * 방 안의 순번을 부여한 메시지 반환
+     */
+    public RoomMessage withSequence(long sequence) {
+        return new RoomMessage(this.id, this.roomId, this.senderId, this.content, this.sentAt, sequence);
+    }
+
+    public String getContentValue() {
+        return content.getValue();
+    }
+}
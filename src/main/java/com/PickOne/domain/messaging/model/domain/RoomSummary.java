@@ -0,0 +1,15 @@
+package com.PickOne.domain.messaging.model.domain;
+
+/**
+ * 사용자 방 목록의 한 항목
+ * 읽지 않은 수는 방의 마지막 순번과 사용자의 읽음 커서 차이로 계산하므로 메시지마다 멤버별 카운터를 갱신하지 않는다
+ *
+ * @param lastReadSequence 사용자가 마지막으로 읽은 방 순번
+ * @param fanout           방의 현재 실시간 전달 방식
+ */
+public record RoomSummary(Room room, long lastReadSequence, RoomFanout fanout) {
+
+    public long unreadCount() {
+        return Math.max(0L, room.getLastSequence() - lastReadSequence);
+    }
+}
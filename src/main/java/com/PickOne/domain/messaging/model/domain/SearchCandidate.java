@@ -0,0 +1,11 @@
+package com.PickOne.domain.messaging.model.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색어의 모든 n-gram을 포함하는 메시지의 색인 정보
+ *
+ * @param gramCount 메시지 본문의 n-gram 수 (순위 계산 시 길이 보정에 사용)
+ */
+public record SearchCandidate(String messageId, LocalDateTime sentAt, int gramCount) {
+}
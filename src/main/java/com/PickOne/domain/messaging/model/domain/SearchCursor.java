@@ -0,0 +1,59 @@
+package com.PickOne.domain.messaging.model.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Comparator;
+
+/**
+ * 검색 결과의 순위 위치 (점수, 전송 시각, 메시지 ID)
+ * 정렬 순서가 곧 검색 결과 순서이며, 클라이언트에는 불투명한 커서 문자열로 전달된다
+ */
+public record SearchCursor(int score, LocalDateTime sentAt, String messageId) implements Comparable<SearchCursor> {
+
+    private static final String DELIMITER = "|";
+
+    private static final Comparator<SearchCursor> RANK_ORDER = Comparator
+            .comparingInt(SearchCursor::score).reversed()
+            .thenComparing(SearchCursor::sentAt, Comparator.reverseOrder())
+            .thenComparing(SearchCursor::messageId, Comparator.reverseOrder());
+
+    public SearchCursor {
+        if (sentAt == null || messageId == null || messageId.isBlank()) {
+            throw new IllegalArgumentException("커서에는 전송 시각과 메시지 ID가 필요합니다");
+        }
+    }
+
+    /**
+     * 인코딩된 커서 문자열을 해석
+     */
+    public static SearchCursor decode(String encoded) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER, 3);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("잘못된 커서 형식입니다");
+            }
+            return new SearchCursor(Integer.parseInt(parts[0]), LocalDateTime.parse(parts[1]), parts[2]);
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서 형식입니다", e);
+        }
+    }
+
+    /**
+     * 커서를 URL에 안전한 문자열로 인코딩
+     */
+    public String encode() {
+        String raw = score + DELIMITER + sentAt + DELIMITER + messageId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 점수가 높을수록, 같은 점수면 최신일수록 앞선다
+     */
+    @Override
+    public int compareTo(SearchCursor other) {
+        return RANK_ORDER.compare(this, other);
+    }
+}
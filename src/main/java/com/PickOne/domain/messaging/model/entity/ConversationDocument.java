@@ -0,0 +1,64 @@
+package com.PickOne.domain.messaging.model.entity;
+
+import com.PickOne.domain.messaging.model.domain.Conversation;
+import com.PickOne.domain.messaging.model.domain.MessageStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 대화 목록 저장을 위한 MongoDB 문서
+ * 메시지 전송과 상태 변경 시 점진적으로 갱신되는 읽기 모델
+ */
+@Document(collection = "conversations")
+@CompoundIndex(name = "owner_last_message_idx", def = "{'ownerId': 1, 'lastMessageAt': -1}")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConversationDocument {
+
+    /**
+     * 소유자:상대방 형식의 식별자
+     */
+    @Id
+    private String id;
+
+    private Long ownerId;
+
+    private Long peerId;
+
+    private String lastMessageId;
+
+    private String lastMessagePreview;
+
+    private Long lastSenderId;
+
+    private String lastMessageStatus;
+
+    private LocalDateTime lastMessageAt;
+
+    private long unreadCount;
+
+    /**
+     * 도메인 모델로 변환
+     */
+    public Conversation toDomain() {
+        return Conversation.from(
+                ownerId,
+                peerId,
+                lastMessageId,
+                lastMessagePreview,
+                lastSenderId,
+                lastMessageStatus != null ? MessageStatus.valueOf(lastMessageStatus) : null,
+                lastMessageAt,
+                unreadCount
+        );
+    }
+}
@@ -0,0 +1,25 @@
+package com.PickOne.domain.messaging.model.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * 대화별 마지막으로 발급한 메시지 순번
+ */
+@Document(collection = "conversation_sequences")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConversationSequenceDocument {
+
+    /**
+     * 대화 ID (작은 ID:큰 ID)
+     */
+    @Id
+    private String id;
+
+    private long value;
+}
@@ -0,0 +1,147 @@
+package com.PickOne.domain.messaging.model.entity;
+
+import com.PickOne.domain.messaging.model.domain.Message;
+import com.PickOne.domain.messaging.model.domain.MessageStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 대화의 메시지를 순번 구간(버킷)별로 묶어 저장하는 MongoDB 문서
+ * 버킷 번호는 (sequence - 1) / 버킷 크기이며, 메시지마다가 아니라 버킷마다 인덱스 항목이 생긴다
+ */
+@Document(collection = "message_buckets")
+@CompoundIndex(name = "conversation_bucket_idx", def = "{'conversationId': 1, 'bucket': -1}")
+@CompoundIndex(name = "participants_last_sent_at_idx", def = "{'participants': 1, 'lastSentAt': -1}")
+@CompoundIndex(name = "last_sent_at_count_idx", def = "{'lastSentAt': 1, 'count': 1}")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MessageBucketDocument {
+
+    private static final String BUCKET_DELIMITER = "@";
+    private static final String MESSAGE_DELIMITER = "-";
+
+    /**
+     * {conversationId}@{bucket}
+     */
+    @Id
+    private String id;
+
+    private String conversationId;
+
+    private long bucket;
+
+    /**
+     * 대화 참여자 ID (작은 ID, 큰 ID)
+     */
+    private List<Long> participants;
+
+    private LocalDateTime firstSentAt;
+
+    private LocalDateTime lastSentAt;
+
+    private int count;
+
+    /**
+     * 순번 오름차순으로 정렬된 메시지
+     */
+    private List<Entry> messages;
+
+    public static String bucketIdOf(String conversationId, long bucket) {
+        return conversationId + BUCKET_DELIMITER + bucket;
+    }
+
+    /**
+     * 버킷 저장 방식의 메시지 ID ({conversationId}-{sequence})
+     * ID만으로 버킷을 찾을 수 있어 메시지 ID 인덱스가 필요 없다
+     */
+    public static String messageIdOf(String conversationId, long sequence) {
+        return conversationId + MESSAGE_DELIMITER + sequence;
+    }
+
+    /**
+     * 메시지 ID에서 대화 ID와 순번 분리
+     *
+     * @return 버킷 저장 방식의 ID가 아니면 null
+     */
+    public static MessageKey parseMessageId(String messageId) {
+        int delimiterIndex = messageId.lastIndexOf(MESSAGE_DELIMITER);
+        if (delimiterIndex <= 0) {
+            return null;
+        }
+        try {
+            long sequence = Long.parseLong(messageId.substring(delimiterIndex + 1));
+            return new MessageKey(messageId.substring(0, delimiterIndex), sequence);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 버킷에 담긴 메시지 하나
+     * 대화 ID와 메시지 ID는 발신자·수신자·순번에서 다시 계산하므로 저장하지 않는다
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+
+        private long sequence;
+
+        private Long senderId;
+
+        private Long recipientId;
+
+        private String content;
+
+        private String status;
+
+        private LocalDateTime sentAt;
+
+        private LocalDateTime deliveredAt;
+
+        private LocalDateTime readAt;
+
+        public static Entry fromDomain(Message message) {
+            return Entry.builder()
+                    .sequence(message.getSequence())
+                    .senderId(message.getSenderIdValue())
+                    .recipientId(message.getRecipientIdValue())
+                    .content(message.getContentValue())
+                    .status(message.getStatus().name())
+                    .sentAt(message.getSentAt())
+                    .deliveredAt(message.getDeliveredAt())
+                    .readAt(message.getReadAt())
+                    .build();
+        }
+
+        public Message toDomain() {
+            return Message.from(
+                    messageIdOf(Message.conversationIdOf(senderId, recipientId), sequence),
+                    senderId,
+                    recipientId,
+                    content,
+                    MessageStatus.valueOf(status),
+                    sentAt,
+                    deliveredAt,
+                    readAt,
+                    sequence
+            );
+        }
+    }
+
+    /**
+     * 메시지 ID를 이루는 대화 ID와 순번
+     */
+    public record MessageKey(String conversationId, long sequence) {
+    }
+}
@@ -3,11 +3,13 @@ package com.PickOne.domain.messaging.model.entity;
 import com.PickOne.domain.messaging.model.domain.Message;
 
 import com.PickOne.domain.messaging.model.domain.MessageStatus;
+import com.PickOne.global.common.mongo.ContentCompression;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.index.Indexed;
 
@@ -16,24 +18,44 @@ import java.time.LocalDateTime;
 /**
  * 메시지 저장을 위한 MongoDB 문서
  */
-@Document(collection = "messages")
+@Document(collection = MessageDocument.COLLECTION)
+@CompoundIndex(name = "conversation_sent_at_idx", def = "{'conversationId': 1, 'sentAt': -1, '_id': -1}")
+@CompoundIndex(name = "conversation_sequence_idx", def = "{'conversationId': 1, 'sequence': 1}",
+        unique = true, partialFilter = "{ 'sequence': { $exists: true } }")
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class MessageDocument {
 
+    public static final String COLLECTION = "messages";
+
     @Id
     private String id;
 
+    private String conversationId;
+
     @Indexed
     private Long senderId;
 
     @Indexed
     private Long recipientId;
 
+    /**
+     * 평문 본문 (압축해 저장한 경우 null)
+     */
     private String content;
 
+    /**
+     * Deflate로 압축한 본문
+     */
+    private byte[] compressedContent;
+
+    /**
+     * 본문 인코딩 표시 (null이면 압축 도입 이전 또는 임계값 미만의 평문)
+     */
+    private String contentEncoding;
+
     private String status;
 
     private LocalDateTime sentAt;
@@ -42,19 +64,29 @@ public class MessageDocument {
 
     private LocalDateTime readAt;
 
+    /**
+     * 대화 내 순번 (순번 도입 이전 메시지는 null)
+     */
+    private Long sequence;
+
     /**
      * 도메인 모델을 문서로 변환
      */
     public static MessageDocument fromDomain(Message message) {
+        ContentCompression.EncodedContent encoded = ContentCompression.encode(message.getContentValue(), COLLECTION);
         return MessageDocument.builder()
                 .id(message.getId())
+                .conversationId(message.getConversationId())
                 .senderId(message.getSenderIdValue())
                 .recipientId(message.getRecipientIdValue())
-                .content(message.getContentValue())
+                .content(encoded.content())
+                .compressedContent(encoded.compressedContent())
+                .contentEncoding(encoded.encoding())
                 .status(message.getStatus().name())
                 .sentAt(message.getSentAt())
                 .deliveredAt(message.getDeliveredAt())
                 .readAt(message.getReadAt())
+                .sequence(message.getSequence())
                 .build();
     }
 
@@ -66,11 +98,12 @@ public class MessageDocument {
                 id,
                 senderId,
                 recipientId,
-                content,
+                ContentCompression.decode(content, compressedContent, contentEncoding),
                 MessageStatus.valueOf(status),
                 sentAt,
                 deliveredAt,
-                readAt
+                readAt,
+                sequence
         );
     }
 }
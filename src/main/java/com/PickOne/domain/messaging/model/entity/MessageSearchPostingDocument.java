@@ -0,0 +1,66 @@
+package com.PickOne.domain.messaging.model.entity;
+
+import com.PickOne.domain.messaging.model.domain.Message;
+import com.PickOne.domain.messaging.model.domain.SearchCandidate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 사용자별 메시지 검색 색인 문서
+ * 메시지 하나마다 발신자와 수신자 각각의 문서가 생기므로, 검색은 항상 한 사용자의 색인 범위 안에서만 수행된다
+ */
+@Document(collection = "message_search_postings")
+@CompoundIndex(name = "user_grams_sent_at_idx", def = "{'userId': 1, 'grams': 1, 'sentAt': -1}")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MessageSearchPostingDocument {
+
+    /**
+     * {userId}:{messageId}
+     */
+    @Id
+    private String id;
+
+    private Long userId;
+
+    private String messageId;
+
+    private String conversationId;
+
+    private LocalDateTime sentAt;
+
+    /**
+     * 본문의 중복 없는 n-gram
+     */
+    private List<String> grams;
+
+    private int gramCount;
+
+    public static MessageSearchPostingDocument of(Long userId, Message message, Set<String> grams) {
+        return MessageSearchPostingDocument.builder()
+                .id(userId + ":" + message.getId())
+                .userId(userId)
+                .messageId(message.getId())
+                .conversationId(message.getConversationId())
+                .sentAt(message.getSentAt())
+                .grams(new ArrayList<>(grams))
+                .gramCount(grams.size())
+                .build();
+    }
+
+    public SearchCandidate toCandidate() {
+        return new SearchCandidate(messageId, sentAt, gramCount);
+    }
+}
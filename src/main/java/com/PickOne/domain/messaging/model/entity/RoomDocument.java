@@ -0,0 +1,73 @@
+package com.PickOne.domain.messaging.model.entity;
+
+import com.PickOne.domain.messaging.model.domain.Room;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 채팅방 저장을 위한 MongoDB 문서
+ * 멤버 ID 배열의 멀티키 인덱스로 사용자의 방 목록을 최근 메시지 순으로 조회한다
+ */
+@Document(collection = "rooms")
+@CompoundIndex(name = "members_last_message_idx", def = "{'memberIds': 1, 'lastMessageAt': -1}")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomDocument {
+
+    @Id
+    private String id;
+
+    private String name;
+
+    private Long ownerId;
+
+    private List<Long> memberIds;
+
+    /**
+     * 마지막으로 저장된 메시지의 방 순번
+     */
+    private long lastSequence;
+
+    private String lastMessagePreview;
+
+    private Long lastSenderId;
+
+    private LocalDateTime lastMessageAt;
+
+    private LocalDateTime createdAt;
+
+    /**
+     * 도메인 모델을 문서로 변환
+     */
+    public static RoomDocument fromDomain(Room room) {
+        return RoomDocument.builder()
+                .id(room.getId())
+                .name(room.getName())
+                .ownerId(room.getOwnerId())
+                .memberIds(room.getMemberIds())
+                .lastSequence(room.getLastSequence())
+                .lastMessagePreview(room.getLastMessagePreview())
+                .lastSenderId(room.getLastSenderId())
+                .lastMessageAt(room.getLastMessageAt())
+                .createdAt(room.getCreatedAt())
+                .build();
+    }
+
+    /**
+     * 도메인 모델로 변환
+     */
+    public Room toDomain() {
+        return Room.from(id, name, ownerId, memberIds != null ? memberIds : List.of(), lastSequence,
+                lastMessagePreview, lastSenderId, lastMessageAt, createdAt);
+    }
+}
@@ -0,0 +1,43 @@
+package com.PickOne.domain.messaging.model.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅방 멤버별 읽음 커서 저장을 위한 MongoDB 문서
+ * 방:사용자 형식의 ID로만 조회하므로 별도 인덱스가 없다
+ */
+@Document(collection = "room_members")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomMemberDocument {
+
+    /**
+     * 방:사용자 형식의 식별자
+     */
+    @Id
+    private String id;
+
+    private String roomId;
+
+    private Long userId;
+
+    /**
+     * 마지막으로 읽은 방 순번 (앞으로만 이동)
+     */
+    private long lastReadSequence;
+
+    private LocalDateTime joinedAt;
+
+    public static String idOf(String roomId, Long userId) {
+        return roomId + ":" + userId;
+    }
+}
@@ -0,0 +1,85 @@
+package com.PickOne.domain.messaging.model.entity;
+
+import com.PickOne.domain.messaging.model.domain.RoomMessage;
+import com.PickOne.global.common.mongo.ContentCompression;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅방 메시지 저장을 위한 MongoDB 문서
+ * 멤버 수와 관계없이 메시지마다 문서 하나만 저장한다
+ */
+@Document(collection = RoomMessageDocument.COLLECTION)
+@CompoundIndex(name = "room_sequence_idx", def = "{'roomId': 1, 'sequence': -1}", unique = true)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomMessageDocument {
+
+    public static final String COLLECTION = "room_messages";
+
+    @Id
+    private String id;
+
+    private String roomId;
+
+    private Long senderId;
+
+    /**
+     * 평문 본문 (압축해 저장한 경우 null)
+     */
+    private String content;
+
+    /**
+     * Deflate로 압축한 본문
+     */
+    private byte[] compressedContent;
+
+    /**
+     * 본문 인코딩 표시 (null이면 임계값 미만의 평문)
+     */
+    private String contentEncoding;
+
+    private LocalDateTime sentAt;
+
+    private Long sequence;
+
+    /**
+     * 도메인 모델을 문서로 변환
+     */
+    public static RoomMessageDocument fromDomain(RoomMessage message) {
+        ContentCompression.EncodedContent encoded = ContentCompression.encode(message.getContentValue(), COLLECTION);
+        return RoomMessageDocument.builder()
+                .id(message.getId())
+                .roomId(message.getRoomId())
+                .senderId(message.getSenderId())
+                .content(encoded.content())
+                .compressedContent(encoded.compressedContent())
+                .contentEncoding(encoded.encoding())
+                .sentAt(message.getSentAt())
+                .sequence(message.getSequence())
+                .build();
+    }
+
+    /**
+     * 도메인 모델로 변환
+     */
+    public RoomMessage toDomain() {
+        return RoomMessage.from(
+                id,
+                roomId,
+                senderId,
+                ContentCompression.decode(content, compressedContent, contentEncoding),
+                sentAt,
+                sequence
+        );
+    }
+}
@@ -0,0 +1,513 @@
+package com.PickOne.domain.messaging.repository;
+
+import com.PickOne.domain.messaging.model.domain.Message;
+import com.PickOne.domain.messaging.model.domain.MessageCursor;
+import com.PickOne.domain.messaging.model.domain.MessageStatus;
+import com.PickOne.domain.messaging.model.domain.MessageTransition;
+import com.PickOne.domain.messaging.model.entity.MessageBucketDocument;
+import com.PickOne.domain.messaging.model.entity.MessageBucketDocument.Entry;
+import com.PickOne.domain.messaging.model.entity.MessageBucketDocument.MessageKey;
+import com.PickOne.domain.messaging.model.entity.MessageDocument;
+import com.PickOne.global.exception.BusinessException;
+import com.PickOne.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * 메시지를 대화별 순번 버킷 문서에 모아 저장하는 MessageRepository 구현
+ * app.messaging.storage-layout=bucketed일 때 사용되며, 쓰기는 $push로 버킷에 덧붙이고 기록 조회는 버킷 단위로 읽는다
+ * 보관 기간이 지난 버킷은 MessageBucketArchiver가 보관 컬렉션으로 옮기며, 조회는 두 컬렉션을 이어서 읽는다
+ * 문서 단위 메시지(messages 컬렉션)는 읽지 않으므로 새로 구성하는 배포에서만 사용하며,
+ * 기존 메시지가 남아 있으면 기록이 보이지 않게 되므로 기동을 거부한다
+ */
+@Component
+@ConditionalOnProperty(name = "app.messaging.storage-layout", havingValue = "bucketed")
+@Slf4j
+public class BucketedMessageRepository implements MessageRepository {
+
+    public static final String ARCHIVE_COLLECTION = "message_buckets_archive";
+
+    private static final String MESSAGES = "messages";
+    private static final String ACK_TOKEN = "ackToken";
+
+    private final MongoTemplate mongoTemplate;
+    private final int bucketSize;
+    private final String primaryCollection;
+
+    public BucketedMessageRepository(MongoTemplate mongoTemplate,
+                                     @Value("${app.messaging.bucket.size:100}") int bucketSize,
+                                     @Value("${app.messaging.bucket.allow-legacy-messages:false}") boolean allowLegacyMessages) {
+        this.mongoTemplate = mongoTemplate;
+        this.bucketSize = bucketSize;
+        this.primaryCollection = mongoTemplate.getCollectionName(MessageBucketDocument.class);
+
+        // 버킷 ID가 아닌 기존 메시지 ID는 조회되지 않으므로, 이전 없이 전환하면 기존 기록이 사라진 것처럼 보임
+        if (!allowLegacyMessages && mongoTemplate.exists(new Query(), MessageDocument.class)) {
+            throw new IllegalStateException("문서 단위로 저장된 메시지가 있어 버킷 저장 방식으로 전환할 수 없습니다. "
+                    + "메시지를 버킷으로 이전한 뒤 app.messaging.bucket.allow-legacy-messages=true로 기동하세요");
+        }
+    }
+
+    /**
+     * 버킷에는 순번이 필요하므로 이미 저장된 메시지는 같은 자리를 덮어쓰고, 없으면 덧붙인다
+     */
+    @Override
+    public Message save(Message message) {
+        MessageKey key = keyOf(message);
+        Entry entry = Entry.fromDomain(message);
+
+        Query existing = new Query(Criteria.where("_id").is(bucketIdOf(key))
+                .and(MESSAGES).elemMatch(Criteria.where("sequence").is(key.sequence())));
+        if (mongoTemplate.updateFirst(existing, new Update().set(MESSAGES + ".$", entry),
+                MessageBucketDocument.class, primaryCollection).getMatchedCount() > 0) {
+            return entry.toDomain();
+        }
+        return append(message, key, entry);
+    }
+
+    /**
+     * 버킷 문서에 바로 $push하므로 그룹 커밋 배치를 거치지 않는다
+     */
+    @Override
+    public CompletableFuture<Message> insert(Message message) {
+        MessageKey key = keyOf(message);
+        return CompletableFuture.completedFuture(append(message, key, Entry.fromDomain(message)));
+    }
+
+    @Override
+    public Optional<Message> findById(String id) {
+        MessageKey key = MessageBucketDocument.parseMessageId(id);
+        if (key == null) {
+            return Optional.empty();
+        }
+
+        Query query = new Query(Criteria.where("_id").is(bucketIdOf(key)));
+        query.fields().elemMatch(MESSAGES, Criteria.where("sequence").is(key.sequence()));
+
+        for (String collection : List.of(primaryCollection, ARCHIVE_COLLECTION)) {
+            Optional<Entry> entry = firstEntry(mongoTemplate.findOne(query, MessageBucketDocument.class, collection));
+            if (entry.isPresent()) {
+                return entry.map(Entry::toDomain);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 메시지가 속한 버킷을 한 번에 읽고 요청한 순번의 항목만 골라냄
+     */
+    @Override
+    public List<Message> findAllById(Collection<String> ids) {
+        Map<String, Set<Long>> sequencesByBucket = new HashMap<>();
+        for (String id : ids) {
+            MessageKey key = MessageBucketDocument.parseMessageId(id);
+            if (key != null) {
+                sequencesByBucket.computeIfAbsent(bucketIdOf(key), bucketId -> new HashSet<>()).add(key.sequence());
+            }
+        }
+        if (sequencesByBucket.isEmpty()) {
+            return List.of();
+        }
+
+        List<Message> messages = new ArrayList<>();
+        Query query = new Query(Criteria.where("_id").in(sequencesByBucket.keySet()));
+        for (String collection : List.of(primaryCollection, ARCHIVE_COLLECTION)) {
+            for (MessageBucketDocument bucket : mongoTemplate.find(query, MessageBucketDocument.class, collection)) {
+                Set<Long> sequences = sequencesByBucket.get(bucket.getId());
+                bucket.getMessages().stream()
+                        .filter(entry -> sequences.contains(entry.getSequence()))
+                        .map(Entry::toDomain)
+                        .forEach(messages::add);
+            }
+        }
+        return messages;
+    }
+
+    /**
+     * 현재 컬렉션에 먼저 bulkWrite하고, 모두 반영되지 않았으면 같은 조건부 갱신을 보관 컬렉션에도 적용
+     * 일부만 반영되었으면 이번 호출의 표시가 남은 항목을 다시 읽어 실제로 적용된 전이를 가려낸다
+     */
+    @Override
+    public List<MessageTransition> applyTransitions(List<MessageTransition> transitions) {
+        if (transitions.isEmpty()) {
+            return List.of();
+        }
+
+        // 전이가 하나뿐이면 수정 건수만으로 알 수 있으므로 표시를 남기지 않음
+        String ackToken = transitions.size() > 1 ? UUID.randomUUID().toString() : null;
+        long modified = 0;
+        List<String> touched = new ArrayList<>(2);
+        for (String collection : List.of(primaryCollection, ARCHIVE_COLLECTION)) {
+            BulkOperations bulk = mongoTemplate.bulkOps(
+                    BulkOperations.BulkMode.UNORDERED, MessageBucketDocument.class, collection);
+            for (MessageTransition transition : transitions) {
+                Message message = transition.message();
+                MessageKey key = keyOf(message);
+                Update update = new Update()
+                        .set(MESSAGES + ".$.status", message.getStatus().name())
+                        .set(MESSAGES + ".$.deliveredAt", message.getDeliveredAt())
+                        .set(MESSAGES + ".$.readAt", message.getReadAt());
+                if (ackToken != null) {
+                    update.set(MESSAGES + ".$." + ACK_TOKEN, ackToken);
+                }
+                bulk.updateOne(
+                        new Query(Criteria.where("_id").is(bucketIdOf(key)).and(MESSAGES).elemMatch(
+                                Criteria.where("sequence").is(key.sequence())
+                                        .and("status").is(transition.previousStatus().name()))),
+                        update
+                );
+            }
+            long collectionModified = bulk.execute().getModifiedCount();
+            if (collectionModified > 0) {
+                touched.add(collection);
+            }
+            modified += collectionModified;
+            if (modified >= transitions.size()) {
+                break;
+            }
+        }
+        if (modified == 0) {
+            return List.of();
+        }
+
+        List<MessageTransition> applied = transitions;
+        if (modified < transitions.size()) {
+            Set<String> appliedIds = findAckedIds(transitions, ackToken);
+            applied = transitions.stream()
+                    .filter(transition -> appliedIds.contains(transition.message().getId()))
+                    .toList();
+        }
+        clearAckToken(transitions, touched, ackToken);
+        return applied;
+    }
+
+    /**
+     * 적용 여부를 가려낸 뒤에는 표시가 필요 없으므로 버킷 항목에서 제거
+     */
+    private void clearAckToken(List<MessageTransition> transitions, List<String> collections, String ackToken) {
+        if (ackToken == null) {
+            return;
+        }
+        Set<String> bucketIds = transitions.stream()
+                .map(transition -> bucketIdOf(keyOf(transition.message())))
+                .collect(Collectors.toSet());
+        Query query = new Query(Criteria.where("_id").in(bucketIds)
+                .and(MESSAGES).elemMatch(Criteria.where(ACK_TOKEN).is(ackToken)));
+        Update update = new Update()
+                .unset(MESSAGES + ".$[acked]." + ACK_TOKEN)
+                .filterArray(Criteria.where("acked." + ACK_TOKEN).is(ackToken));
+        for (String collection : collections) {
+            mongoTemplate.updateMulti(query, update, MessageBucketDocument.class, collection);
+        }
+    }
+
+    private Set<String> findAckedIds(List<MessageTransition> transitions, String ackToken) {
+        Map<String, String> conversationByBucket = new HashMap<>();
+        transitions.forEach(transition -> {
+            MessageKey key = keyOf(transition.message());
+            conversationByBucket.put(bucketIdOf(key), key.conversationId());
+        });
+        Query query = new Query(Criteria.where("_id").in(conversationByBucket.keySet())
+                .and(MESSAGES).elemMatch(Criteria.where(ACK_TOKEN).is(ackToken)));
+        query.fields().include(MESSAGES + ".sequence", MESSAGES + "." + ACK_TOKEN);
+
+        Set<String> ackedIds = new HashSet<>();
+        for (String collection : List.of(primaryCollection, ARCHIVE_COLLECTION)) {
+            for (Document bucket : mongoTemplate.find(query, Document.class, collection)) {
+                String conversationId = conversationByBucket.get(bucket.getString("_id"));
+                for (Document entry : bucket.getList(MESSAGES, Document.class)) {
+                    if (ackToken.equals(entry.getString(ACK_TOKEN))) {
+                        long sequence = entry.get("sequence", Number.class).longValue();
+                        ackedIds.add(MessageBucketDocument.messageIdOf(conversationId, sequence));
+                    }
+                }
+            }
+        }
+        return ackedIds;
+    }
+
+    @Override
+    public Optional<MessageTransition> markDelivered(String messageId, LocalDateTime deliveredAt) {
+        MessageKey key = MessageBucketDocument.parseMessageId(messageId);
+        if (key == null) {
+            return Optional.empty();
+        }
+
+        Criteria element = Criteria.where("sequence").is(key.sequence())
+                .and("status").is(MessageStatus.SENT.name());
+        Update update = new Update()
+                .set(MESSAGES + ".$.status", MessageStatus.DELIVERED.name())
+                .set(MESSAGES + ".$.deliveredAt", deliveredAt);
+
+        return modifyEntry(key, element, update, true)
+                .map(entry -> new MessageTransition(MessageStatus.SENT, entry.toDomain()));
+    }
+
+    @Override
+    public Optional<MessageTransition> markRead(String messageId, LocalDateTime readAt) {
+        MessageKey key = MessageBucketDocument.parseMessageId(messageId);
+        if (key == null) {
+            return Optional.empty();
+        }
+
+        Criteria element = Criteria.where("sequence").is(key.sequence())
+                .and("status").in(MessageStatus.SENT.name(), MessageStatus.DELIVERED.name());
+        Update update = new Update()
+                .set(MESSAGES + ".$.status", MessageStatus.READ.name())
+                .set(MESSAGES + ".$.readAt", readAt);
+
+        // 이전 상태를 알아야 카운터를 정확히 갱신할 수 있으므로 변경 전 항목을 받음
+        Optional<Entry> previous = modifyEntry(key, element, update, false);
+        previous.filter(entry -> entry.getDeliveredAt() == null)
+                .ifPresent(entry -> fillDeliveredAt(key, readAt));
+
+        return previous
+                .map(Entry::toDomain)
+                .map(message -> new MessageTransition(message.getStatus(), message.markRead(readAt)));
+    }
+
+    /**
+     * 대상 버킷마다 arrayFilters로 한 번에 갱신하고, 변경 전 버킷에서 조건에 맞던 항목 수를 센다
+     */
+    @Override
+    public long markReadUpTo(String conversationId, Long recipientId, LocalDateTime upTo,
+                             MessageStatus fromStatus, LocalDateTime readAt) {
+        Criteria element = Criteria.where("recipientId").is(recipientId)
+                .and("status").is(fromStatus.name())
+                .and("sentAt").lte(upTo);
+        Predicate<Entry> matches = entry -> recipientId.equals(entry.getRecipientId())
+                && fromStatus.name().equals(entry.getStatus())
+                && !entry.getSentAt().isAfter(upTo);
+
+        Update update = new Update()
+                .set(MESSAGES + ".$[m].status", MessageStatus.READ.name())
+                .set(MESSAGES + ".$[m].readAt", readAt)
+                .filterArray(Criteria.where("m.recipientId").is(recipientId)
+                        .and("m.status").is(fromStatus.name())
+                        .and("m.sentAt").lte(upTo));
+        if (fromStatus == MessageStatus.SENT) {
+            update.set(MESSAGES + ".$[m].deliveredAt", readAt);
+        }
+
+        long modified = 0;
+        for (String collection : List.of(primaryCollection, ARCHIVE_COLLECTION)) {
+            Query candidates = new Query(Criteria.where("conversationId").is(conversationId)
+                    .and("firstSentAt").lte(upTo)
+                    .and(MESSAGES).elemMatch(element));
+            candidates.fields().include("_id");
+
+            for (MessageBucketDocument candidate : mongoTemplate.find(candidates, MessageBucketDocument.class, collection)) {
+                Query query = new Query(Criteria.where("_id").is(candidate.getId()));
+                MessageBucketDocument previous = mongoTemplate.findAndModify(
+                        query, update, FindAndModifyOptions.options().returnNew(false),
+                        MessageBucketDocument.class, collection);
+                if (previous != null) {
+                    modified += previous.getMessages().stream().filter(matches).count();
+                }
+            }
+        }
+        return modified;
+    }
+
+    @Override
+    public List<Message> findConversation(String conversationId, MessageCursor before, int limit) {
+        if (before == null) {
+            return scan(conversationId, Long.MAX_VALUE, Sort.Direction.DESC, entry -> true, limit);
+        }
+
+        MessageKey key = MessageBucketDocument.parseMessageId(before.id());
+        if (key == null) {
+            return scan(conversationId, Long.MAX_VALUE, Sort.Direction.DESC,
+                    entry -> entry.getSentAt().isBefore(before.sentAt()), limit);
+        }
+        return scan(conversationId, bucketOf(key.sequence()), Sort.Direction.DESC,
+                entry -> entry.getSequence() < key.sequence(), limit);
+    }
+
+    @Override
+    public List<Message> findConversationAfterSequence(String conversationId, long afterSequence, int limit) {
+        return scan(conversationId, bucketOf(afterSequence + 1), Sort.Direction.ASC,
+                entry -> entry.getSequence() > afterSequence, limit);
+    }
+
+    @Override
+    public List<Message> findUnreadMessagesForUser(Long userId) {
+        List<Message> unread = new ArrayList<>();
+        for (String collection : List.of(primaryCollection, ARCHIVE_COLLECTION)) {
+            mongoTemplate.aggregate(unreadAggregation(userId), collection, Entry.class)
+                    .getMappedResults()
+                    .forEach(entry -> unread.add(entry.toDomain()));
+        }
+        return unread;
+    }
+
+    @Override
+    public long countUnreadMessages(Long userId) {
+        long count = 0;
+        for (String collection : List.of(primaryCollection, ARCHIVE_COLLECTION)) {
+            Aggregation aggregation = Aggregation.newAggregation(
+                    unreadOperations(userId, Aggregation.count().as("count")));
+            Document result = mongoTemplate.aggregate(aggregation, collection, Document.class).getUniqueMappedResult();
+            if (result != null) {
+                count += ((Number) result.get("count")).longValue();
+            }
+        }
+        return count;
+    }
+
+    long bucketOf(long sequence) {
+        return Math.max(sequence - 1, 0) / bucketSize;
+    }
+
+    private Message append(Message message, MessageKey key, Entry entry) {
+        Query query = new Query(Criteria.where("_id").is(bucketIdOf(key)));
+        Update update = new Update()
+                .setOnInsert("conversationId", key.conversationId())
+                .setOnInsert("bucket", bucketOf(key.sequence()))
+                .setOnInsert("participants", List.of(
+                        Math.min(message.getSenderIdValue(), message.getRecipientIdValue()),
+                        Math.max(message.getSenderIdValue(), message.getRecipientIdValue())))
+                .min("firstSentAt", message.getSentAt())
+                .max("lastSentAt", message.getSentAt())
+                .inc("count", 1);
+        // 순번 할당과 저장 사이의 경합으로 순서가 뒤바뀌어도 버킷 안은 순번 순으로 유지
+        update.push(MESSAGES).sort(Sort.by(Sort.Direction.ASC, "sequence")).each(entry);
+
+        mongoTemplate.upsert(query, update, MessageBucketDocument.class, primaryCollection);
+        return entry.toDomain();
+    }
+
+    /**
+     * 버킷 안의 항목 하나를 위치 연산자로 갱신하고 해당 항목만 반환
+     * 보관 컬렉션으로 옮겨진 버킷도 갱신할 수 있도록 두 컬렉션을 차례로 시도한다
+     */
+    private Optional<Entry> modifyEntry(MessageKey key, Criteria element, Update update, boolean returnNew) {
+        Query query = new Query(Criteria.where("_id").is(bucketIdOf(key)).and(MESSAGES).elemMatch(element));
+        query.fields().elemMatch(MESSAGES, Criteria.where("sequence").is(key.sequence()));
+
+        for (String collection : List.of(primaryCollection, ARCHIVE_COLLECTION)) {
+            Optional<Entry> entry = firstEntry(mongoTemplate.findAndModify(
+                    query, update, FindAndModifyOptions.options().returnNew(returnNew),
+                    MessageBucketDocument.class, collection));
+            if (entry.isPresent()) {
+                return entry;
+            }
+        }
+        return Optional.empty();
+    }
+
+    private void fillDeliveredAt(MessageKey key, LocalDateTime deliveredAt) {
+        Query query = new Query(Criteria.where("_id").is(bucketIdOf(key))
+                .and(MESSAGES).elemMatch(Criteria.where("sequence").is(key.sequence()).and("deliveredAt").is(null)));
+        Update update = new Update().set(MESSAGES + ".$.deliveredAt", deliveredAt);
+
+        for (String collection : List.of(primaryCollection, ARCHIVE_COLLECTION)) {
+            if (mongoTemplate.updateFirst(query, update, MessageBucketDocument.class, collection).getMatchedCount() > 0) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 버킷을 경계부터 한 번에 여러 개씩 읽어 조건에 맞는 메시지를 limit개까지 모음
+     * 최신순이면 현재 컬렉션 다음 보관 컬렉션을, 오래된 순이면 그 반대 순서로 읽는다
+     */
+    private List<Message> scan(String conversationId, long boundary, Sort.Direction direction,
+                               Predicate<Entry> filter, int limit) {
+        boolean descending = direction == Sort.Direction.DESC;
+        List<String> collections = descending
+                ? List.of(primaryCollection, ARCHIVE_COLLECTION)
+                : List.of(ARCHIVE_COLLECTION, primaryCollection);
+        Comparator<Entry> order = descending
+                ? Comparator.comparingLong(Entry::getSequence).reversed()
+                : Comparator.comparingLong(Entry::getSequence);
+        int bucketsPerRead = limit / bucketSize + 2;
+
+        List<Message> messages = new ArrayList<>(limit);
+        for (String collection : collections) {
+            long bound = boundary;
+            while (messages.size() < limit) {
+                Criteria bucketRange = Criteria.where("conversationId").is(conversationId).and("bucket");
+                Query query = new Query(descending ? bucketRange.lte(bound) : bucketRange.gte(bound))
+                        .with(Sort.by(direction, "bucket"))
+                        .limit(bucketsPerRead);
+
+                List<MessageBucketDocument> buckets = mongoTemplate.find(query, MessageBucketDocument.class, collection);
+                for (MessageBucketDocument bucket : buckets) {
+                    bucket.getMessages().stream()
+                            .filter(filter)
+                            .sorted(order)
+                            .limit(limit - messages.size())
+                            .forEach(entry -> messages.add(entry.toDomain()));
+                }
+
+                if (buckets.size() < bucketsPerRead) {
+                    break;
+                }
+                long last = buckets.get(buckets.size() - 1).getBucket();
+                bound = descending ? last - 1 : last + 1;
+            }
+        }
+        return messages;
+    }
+
+    private Aggregation unreadAggregation(Long userId) {
+        return Aggregation.newAggregation(unreadOperations(userId, Aggregation.replaceRoot(MESSAGES)));
+    }
+
+    private List<AggregationOperation> unreadOperations(Long userId, AggregationOperation last) {
+        Criteria unread = Criteria.where("recipientId").is(userId).and("status").is(MessageStatus.SENT.name());
+        return List.of(
+                Aggregation.match(Criteria.where("participants").is(userId).and(MESSAGES).elemMatch(unread)),
+                Aggregation.unwind(MESSAGES),
+                Aggregation.match(Criteria.where(MESSAGES + ".recipientId").is(userId)
+                        .and(MESSAGES + ".status").is(MessageStatus.SENT.name())),
+                last
+        );
+    }
+
+    private String bucketIdOf(MessageKey key) {
+        return MessageBucketDocument.bucketIdOf(key.conversationId(), bucketOf(key.sequence()));
+    }
+
+    private static MessageKey keyOf(Message message) {
+        if (message.getSequence() == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        return new MessageKey(message.getConversationId(), message.getSequence());
+    }
+
+    private static Optional<Entry> firstEntry(MessageBucketDocument bucket) {
+        if (bucket == null || bucket.getMessages() == null || bucket.getMessages().isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(bucket.getMessages().get(0));
+    }
+}
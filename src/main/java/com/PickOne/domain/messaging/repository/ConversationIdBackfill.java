@@ -0,0 +1,46 @@
+package com.PickOne.domain.messaging.repository;
+
+import com.PickOne.domain.messaging.model.entity.MessageDocument;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.result.UpdateResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * conversationId 도입 이전에 저장된 메시지에 대화 ID를 채워 넣음
+ * 서버에서 파이프라인 업데이트 한 번으로 처리되며, 이미 채워진 문서는 건드리지 않음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ConversationIdBackfill {
+
+    private final MongoTemplate mongoTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        // Message.conversationIdOf와 동일한 "작은 ID:큰 ID" 형식
+        Document conversationId = new Document("$concat", List.of(
+                new Document("$toString", new Document("$min", List.of("$senderId", "$recipientId"))),
+                ":",
+                new Document("$toString", new Document("$max", List.of("$senderId", "$recipientId")))
+        ));
+
+        UpdateResult result = mongoTemplate.getCollection(mongoTemplate.getCollectionName(MessageDocument.class))
+                .updateMany(
+                        Filters.exists("conversationId", false),
+                        List.of(new Document("$set", new Document("conversationId", conversationId)))
+                );
+
+        if (result.getModifiedCount() > 0) {
+            log.info("{}개 메시지에 대화 ID를 채워 넣었습니다", result.getModifiedCount());
+        }
+    }
+}
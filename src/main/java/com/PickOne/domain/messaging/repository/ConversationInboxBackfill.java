@@ -0,0 +1,217 @@
+package com.PickOne.domain.messaging.repository;
+
+import com.PickOne.domain.messaging.model.domain.Conversation;
+import com.PickOne.domain.messaging.model.domain.MessageStatus;
+import com.PickOne.domain.messaging.model.entity.ConversationDocument;
+import com.PickOne.domain.messaging.model.entity.MessageDocument;
+import com.PickOne.global.common.config.SchedulingConfig;
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoWriteException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.UpdateManyModel;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonType;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 대화 목록 컬렉션 도입 이전의 메시지로 대화 목록 항목을 채워 넣음
+ * 사용자와 상대별 마지막 메시지와 읽지 않은 수를 서버에서 집계해 $merge로 넣고, 이미 있는 항목은 건드리지 않음
+ * 기동을 막지 않도록 배치 작업 스케줄러에서 실행하며, 완료 표시를 먼저 삽입으로 선점한 노드 하나만 작업한다
+ */
+@Component
+@Slf4j
+public class ConversationInboxBackfill {
+
+    static final String MIGRATION_COLLECTION = "migrations";
+    static final String MIGRATION_ID = "conversation-inbox-backfill";
+
+    private static final String STATUS_RUNNING = "RUNNING";
+    private static final String STATUS_COMPLETED = "COMPLETED";
+    private static final int PREVIEW_BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+    private final TaskExecutor batchJobExecutor;
+    private final Duration staleAfter;
+
+    public ConversationInboxBackfill(MongoTemplate mongoTemplate,
+                                     @Qualifier(SchedulingConfig.BATCH_JOB_SCHEDULER) TaskExecutor batchJobExecutor,
+                                     @Value("${app.messaging.inbox-backfill.stale-after-ms:3600000}") long staleAfterMs) {
+        this.mongoTemplate = mongoTemplate;
+        this.batchJobExecutor = batchJobExecutor;
+        this.staleAfter = Duration.ofMillis(staleAfterMs);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleBackfill() {
+        batchJobExecutor.execute(this::backfill);
+    }
+
+    void backfill() {
+        if (!claim()) {
+            return;
+        }
+
+        MongoCollection<Document> migrations = mongoTemplate.getCollection(MIGRATION_COLLECTION);
+        try {
+            String conversations = mongoTemplate.getCollectionName(ConversationDocument.class);
+            long before = mongoTemplate.getCollection(conversations).estimatedDocumentCount();
+
+            mongoTemplate.getCollection(mongoTemplate.getCollectionName(MessageDocument.class))
+                    .aggregate(pipeline(conversations))
+                    .allowDiskUse(true)
+                    .toCollection();
+            int decoded = fillCompressedPreviews(conversations);
+
+            migrations.updateOne(Filters.eq("_id", MIGRATION_ID), Updates.combine(
+                    Updates.set("status", STATUS_COMPLETED),
+                    Updates.set("completedAt", new Date())));
+
+            long added = mongoTemplate.getCollection(conversations).estimatedDocumentCount() - before;
+            if (added > 0) {
+                log.info("기존 메시지로 대화 목록 항목 {}개를 채워 넣었습니다 (압축 본문 미리보기 {}개)", added, decoded);
+            }
+        } catch (RuntimeException e) {
+            // 선점을 풀어 다음 기동에서 다시 시도 ($merge가 기존 항목을 유지하므로 다시 실행해도 안전)
+            migrations.deleteOne(Filters.and(Filters.eq("_id", MIGRATION_ID), Filters.eq("status", STATUS_RUNNING)));
+            log.error("대화 목록 채워 넣기에 실패했습니다: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 완료 표시를 삽입으로 선점하고, 이미 있으면 오래 멈춘 실행일 때만 넘겨받음
+     */
+    private boolean claim() {
+        MongoCollection<Document> migrations = mongoTemplate.getCollection(MIGRATION_COLLECTION);
+        Date now = new Date();
+        try {
+            migrations.insertOne(new Document("_id", MIGRATION_ID)
+                    .append("status", STATUS_RUNNING)
+                    .append("startedAt", now));
+            return true;
+        } catch (MongoWriteException e) {
+            if (e.getError().getCategory() != ErrorCategory.DUPLICATE_KEY) {
+                throw e;
+            }
+        }
+
+        // 작업하던 노드가 중단되어 RUNNING으로 남은 경우에만 다시 시작
+        return migrations.updateOne(
+                Filters.and(
+                        Filters.eq("_id", MIGRATION_ID),
+                        Filters.eq("status", STATUS_RUNNING),
+                        Filters.lt("startedAt", new Date(now.getTime() - staleAfter.toMillis()))),
+                Updates.set("startedAt", now)
+        ).getModifiedCount() > 0;
+    }
+
+    /**
+     * 집계에서는 압축된 본문을 풀 수 없으므로 미리보기를 비워 둔 항목을 원본 메시지를 복원해 채움
+     */
+    private int fillCompressedPreviews(String conversations) {
+        int decoded = 0;
+        List<String> messageIds = new ArrayList<>(PREVIEW_BATCH_SIZE);
+        try (MongoCursor<Document> cursor = mongoTemplate.getCollection(conversations)
+                .find(Filters.and(Filters.type("lastMessagePreview", BsonType.NULL), Filters.exists("lastMessageId")))
+                .projection(Projections.include("lastMessageId"))
+                .batchSize(PREVIEW_BATCH_SIZE)
+                .iterator()) {
+            while (cursor.hasNext()) {
+                messageIds.add(cursor.next().getString("lastMessageId"));
+                if (messageIds.size() >= PREVIEW_BATCH_SIZE) {
+                    decoded += writePreviews(conversations, messageIds);
+                    messageIds.clear();
+                }
+            }
+        }
+        if (!messageIds.isEmpty()) {
+            decoded += writePreviews(conversations, messageIds);
+        }
+        return decoded;
+    }
+
+    private int writePreviews(String conversations, List<String> messageIds) {
+        List<WriteModel<Document>> updates = mongoTemplate.find(
+                        new Query(Criteria.where("_id").in(messageIds)), MessageDocument.class)
+                .stream()
+                .map(document -> (WriteModel<Document>) new UpdateManyModel<Document>(
+                        Filters.and(
+                                Filters.eq("lastMessageId", document.getId()),
+                                Filters.type("lastMessagePreview", BsonType.NULL)),
+                        Updates.set("lastMessagePreview", Conversation.previewOf(document.toDomain().getContentValue()))))
+                .toList();
+
+        if (!updates.isEmpty()) {
+            mongoTemplate.getCollection(conversations).bulkWrite(updates);
+        }
+        return updates.size();
+    }
+
+    private List<Document> pipeline(String conversations) {
+        // 한 메시지를 발신자와 수신자 양쪽 항목으로 펼친 뒤 (소유자, 상대)별로 최신 메시지를 고름
+        Document peer = new Document("$cond", List.of(
+                new Document("$eq", List.of("$ownerId", "$senderId")), "$recipientId", "$senderId"));
+        Document unread = new Document("$cond", List.of(
+                new Document("$and", List.of(
+                        new Document("$eq", List.of("$recipientId", "$ownerId")),
+                        new Document("$ne", List.of("$status", MessageStatus.READ.name())))),
+                1, 0));
+        // 압축된 본문은 평문이 없으므로 null로 남겨 두고 fillCompressedPreviews에서 채움
+        Document preview = new Document("$cond", Arrays.asList(
+                new Document("$eq", List.of(new Document("$type", "$content"), "string")),
+                new Document("$substrCP", List.of("$content", 0, 100)),
+                null));
+
+        return List.of(
+                new Document("$sort", new Document("sentAt", -1)),
+                new Document("$project", new Document("senderId", 1)
+                        .append("recipientId", 1)
+                        .append("content", 1)
+                        .append("status", 1)
+                        .append("sentAt", 1)
+                        .append("ownerId", List.of("$senderId", "$recipientId"))),
+                new Document("$unwind", "$ownerId"),
+                new Document("$group", new Document("_id", new Document("ownerId", "$ownerId").append("peerId", peer))
+                        .append("lastMessageId", new Document("$first", new Document("$toString", "$_id")))
+                        .append("content", new Document("$first", "$content"))
+                        .append("lastSenderId", new Document("$first", "$senderId"))
+                        .append("lastMessageStatus", new Document("$first", "$status"))
+                        .append("lastMessageAt", new Document("$first", "$sentAt"))
+                        .append("unreadCount", new Document("$sum", unread))),
+                // Conversation.idOf와 동일한 "소유자:상대" 형식, 미리보기는 Conversation.previewOf와 같은 길이
+                new Document("$project", new Document("_id", new Document("$concat", List.of(
+                                new Document("$toString", "$_id.ownerId"), ":", new Document("$toString", "$_id.peerId"))))
+                        .append("ownerId", "$_id.ownerId")
+                        .append("peerId", "$_id.peerId")
+                        .append("lastMessageId", 1)
+                        .append("lastMessagePreview", preview)
+                        .append("lastSenderId", 1)
+                        .append("lastMessageStatus", 1)
+                        .append("lastMessageAt", 1)
+                        .append("unreadCount", new Document("$toLong", "$unreadCount"))),
+                new Document("$merge", new Document("into", conversations)
+                        .append("on", "_id")
+                        .append("whenMatched", "keepExisting")
+                        .append("whenNotMatched", "insert"))
+        );
+    }
+}
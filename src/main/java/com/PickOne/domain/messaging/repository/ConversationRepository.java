@@ -0,0 +1,33 @@
+package com.PickOne.domain.messaging.repository;
+
+import com.PickOne.domain.messaging.model.domain.Conversation;
+import com.PickOne.domain.messaging.model.domain.Message;
+
+import java.util.List;
+
+/**
+ * 사용자별 대화 목록 읽기 모델을 위한 리포지토리 인터페이스
+ */
+public interface ConversationRepository {
+
+    /**
+     * 새 메시지를 발신자와 수신자의 대화 목록에 반영
+     * 수신자 쪽 항목의 읽지 않은 메시지 수를 1 증가시킴
+     */
+    void recordMessage(Message message);
+
+    /**
+     * 마지막 메시지의 상태 변경을 양쪽 대화 목록에 반영
+     */
+    void updateLastMessageStatus(Message message);
+
+    /**
+     * 소유자의 대화 항목에서 읽지 않은 메시지 수를 감소 (0 미만으로 내려가지 않음)
+     */
+    void decreaseUnreadCount(Long ownerId, Long peerId, long count);
+
+    /**
+     * 사용자의 최근 대화 목록을 최신순으로 최대 limit개 찾기
+     */
+    List<Conversation> findRecentForUser(Long userId, int limit);
+}
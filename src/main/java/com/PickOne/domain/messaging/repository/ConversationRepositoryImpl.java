@@ -0,0 +1,118 @@
+package com.PickOne.domain.messaging.repository;
+
+import com.PickOne.domain.messaging.model.domain.Conversation;
+import com.PickOne.domain.messaging.model.domain.Message;
+import com.PickOne.domain.messaging.model.entity.ConversationDocument;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * MongoDB를 사용하는 ConversationRepository 구현
+ * 모든 갱신은 원자적 upsert/$inc로 처리되어 메시지를 다시 읽지 않음
+ * 마지막 메시지 필드는 lastMessageAt이 더 늦지 않은 경우에만 덮어써서, 늦게 도착한 이전 메시지가 미리보기를 되돌리지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class ConversationRepositoryImpl implements ConversationRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void recordMessage(Message message) {
+        Long senderId = message.getSenderIdValue();
+        Long recipientId = message.getRecipientIdValue();
+
+        // 발신자와 수신자 항목을 한 번의 bulkWrite로 갱신
+        // 항목을 먼저 만들어 두고 나서 조건부로 마지막 메시지를 바꿔야 하므로 순서대로 실행
+        mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, ConversationDocument.class)
+                .upsert(byId(senderId, recipientId), participantsUpdate(senderId, recipientId))
+                .upsert(byId(recipientId, senderId), participantsUpdate(recipientId, senderId)
+                        .inc("unreadCount", 1))
+                .updateOne(notNewerThan(senderId, recipientId, message), lastMessageUpdate(message))
+                .updateOne(notNewerThan(recipientId, senderId, message), lastMessageUpdate(message))
+                .execute();
+    }
+
+    @Override
+    public void updateLastMessageStatus(Message message) {
+        Query query = new Query(Criteria.where("_id").in(
+                        Conversation.idOf(message.getSenderIdValue(), message.getRecipientIdValue()),
+                        Conversation.idOf(message.getRecipientIdValue(), message.getSenderIdValue()))
+                .and("lastMessageId").is(message.getId()));
+
+        mongoTemplate.updateMulti(query, Update.update("lastMessageStatus", message.getStatus().name()),
+                ConversationDocument.class);
+    }
+
+    @Override
+    public void decreaseUnreadCount(Long ownerId, Long peerId, long count) {
+        if (count <= 0) {
+            return;
+        }
+
+        String id = Conversation.idOf(ownerId, peerId);
+
+        // 대부분은 첫 번째 조건부 감소로 끝나고, 남은 수보다 많이 읽은 경우에만 0으로 맞춤
+        long modified = mongoTemplate.updateFirst(
+                new Query(Criteria.where("_id").is(id).and("unreadCount").gte(count)),
+                new Update().inc("unreadCount", -count),
+                ConversationDocument.class
+        ).getModifiedCount();
+
+        if (modified == 0) {
+            mongoTemplate.updateFirst(
+                    new Query(Criteria.where("_id").is(id).and("unreadCount").gt(0)),
+                    Update.update("unreadCount", 0L),
+                    ConversationDocument.class
+            );
+        }
+    }
+
+    @Override
+    public List<Conversation> findRecentForUser(Long userId, int limit) {
+        Query query = new Query(Criteria.where("ownerId").is(userId))
+                .with(Sort.by(Sort.Direction.DESC, "lastMessageAt"))
+                .limit(limit);
+
+        return mongoTemplate.find(query, ConversationDocument.class)
+                .stream()
+                .map(ConversationDocument::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    private Query byId(Long ownerId, Long peerId) {
+        return new Query(Criteria.where("_id").is(Conversation.idOf(ownerId, peerId)));
+    }
+
+    private Query notNewerThan(Long ownerId, Long peerId, Message message) {
+        return new Query(Criteria.where("_id").is(Conversation.idOf(ownerId, peerId))
+                .orOperator(
+                        Criteria.where("lastMessageAt").exists(false),
+                        Criteria.where("lastMessageAt").lte(message.getSentAt())
+                ));
+    }
+
+    private Update participantsUpdate(Long ownerId, Long peerId) {
+        return new Update()
+                .setOnInsert("ownerId", ownerId)
+                .setOnInsert("peerId", peerId);
+    }
+
+    private Update lastMessageUpdate(Message message) {
+        return new Update()
+                .set("lastMessageId", message.getId())
+                .set("lastMessagePreview", Conversation.previewOf(message.getContentValue()))
+                .set("lastSenderId", message.getSenderIdValue())
+                .set("lastMessageStatus", message.getStatus().name())
+                .set("lastMessageAt", message.getSentAt());
+    }
+}
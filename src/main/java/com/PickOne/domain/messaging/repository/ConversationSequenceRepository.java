@@ -0,0 +1,12 @@
+package com.PickOne.domain.messaging.repository;
+
+/**
+ * 대화별 메시지 순번 발급을 위한 리포지토리 인터페이스
+ */
+public interface ConversationSequenceRepository {
+
+    /**
+     * 대화의 다음 순번을 원자적으로 발급 (1부터 시작)
+     */
+    long next(String conversationId);
+}
@@ -0,0 +1,36 @@
+package com.PickOne.domain.messaging.repository;
+
+import com.PickOne.domain.messaging.model.entity.ConversationSequenceDocument;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+/**
+ * MongoDB 카운터 문서를 사용하는 ConversationSequenceRepository 구현
+ * findAndModify upsert + $inc 한 번으로 발급하므로 노드가 여러 개여도 순번이 겹치지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class ConversationSequenceRepositoryImpl implements ConversationSequenceRepository {
+
+    private static final FindAndModifyOptions NEXT_OPTIONS = FindAndModifyOptions.options()
+            .upsert(true)
+            .returnNew(true);
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public long next(String conversationId) {
+        ConversationSequenceDocument counter = mongoTemplate.findAndModify(
+                new Query(Criteria.where("_id").is(conversationId)),
+                new Update().inc("value", 1),
+                NEXT_OPTIONS,
+                ConversationSequenceDocument.class
+        );
+        return counter.getValue();
+    }
+}
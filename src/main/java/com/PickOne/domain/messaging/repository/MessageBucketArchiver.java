@@ -0,0 +1,156 @@
+package com.PickOne.domain.messaging.repository;
+
+import com.PickOne.domain.messaging.model.entity.MessageBucketDocument;
+import com.PickOne.global.common.config.SchedulingConfig;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.DeleteOneModel;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.WriteModel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 마지막 메시지가 보관 기간보다 오래된 버킷을 보관 컬렉션으로 옮김
+ * 순번 버킷은 가득 찬 뒤에는 더 이상 메시지가 추가되지 않으므로, 가득 찬 버킷만 옮긴다
+ */
+@Component
+@ConditionalOnProperty(name = "app.messaging.storage-layout", havingValue = "bucketed")
+@Slf4j
+public class MessageBucketArchiver {
+
+    private static final String MESSAGES = "messages";
+    private static final int MAX_MOVE_ATTEMPTS = 3;
+
+    private final MongoTemplate mongoTemplate;
+    private final String primaryCollection;
+    private final int bucketSize;
+    private final int archiveAfterDays;
+    private final int batchSize;
+    private final Counter archived;
+
+    public MessageBucketArchiver(MongoTemplate mongoTemplate,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.messaging.bucket.size:100}") int bucketSize,
+                                 @Value("${app.messaging.bucket.archive-after-days:90}") int archiveAfterDays,
+                                 @Value("${app.messaging.bucket.archive-batch-size:500}") int batchSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.primaryCollection = mongoTemplate.getCollectionName(MessageBucketDocument.class);
+        this.bucketSize = bucketSize;
+        this.archiveAfterDays = archiveAfterDays;
+        this.batchSize = batchSize;
+        this.archived = meterRegistry.counter("messaging.bucket.archived");
+    }
+
+    /**
+     * 자동 인덱스 생성이 꺼져 있으므로 현재 컬렉션과 보관 컬렉션의 버킷 인덱스를 직접 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initIndexes() {
+        MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext =
+                mongoTemplate.getConverter().getMappingContext();
+        IndexResolver resolver = new MongoPersistentEntityIndexResolver(mappingContext);
+
+        for (String collection : List.of(primaryCollection, BucketedMessageRepository.ARCHIVE_COLLECTION)) {
+            IndexOperations indexOps = mongoTemplate.indexOps(collection);
+            resolver.resolveIndexFor(MessageBucketDocument.class).forEach(indexOps::ensureIndex);
+            log.info("{} 인덱스를 확인했습니다", collection);
+        }
+    }
+
+    @Scheduled(scheduler = SchedulingConfig.BATCH_JOB_SCHEDULER,
+            cron = "${app.messaging.bucket.archive-cron:0 30 4 * * *}")
+    public void archive() {
+        // 원본 문서를 드라이버로 바로 읽으므로 매핑 변환과 같은 방식으로 Date로 바꿔 비교
+        Date cutoff = Date.from(LocalDateTime.now().minusDays(archiveAfterDays)
+                .atZone(ZoneId.systemDefault()).toInstant());
+        long moved = 0;
+
+        // 옮기지 못하고 남은 버킷을 같은 실행에서 다시 고르지 않도록 _id 순서로 넘겨 가며 읽음
+        String lastId = null;
+        List<Document> batch;
+        do {
+            Bson filter = Filters.and(Filters.lt("lastSentAt", cutoff), Filters.gte("count", bucketSize));
+            if (lastId != null) {
+                filter = Filters.and(filter, Filters.gt("_id", lastId));
+            }
+            // 삭제 조건에 그대로 쓰도록 매핑을 거치지 않은 원본 문서로 읽음
+            batch = primary().find(filter).sort(Sorts.ascending("_id")).limit(batchSize).into(new ArrayList<>());
+            if (!batch.isEmpty()) {
+                moved += move(batch);
+                lastId = batch.get(batch.size() - 1).getString("_id");
+            }
+        } while (batch.size() == batchSize);
+
+        if (moved > 0) {
+            log.info("버킷 {}개를 보관 컬렉션으로 옮겼습니다", moved);
+        }
+    }
+
+    /**
+     * 보관 컬렉션에 먼저 덮어쓴 뒤, 읽은 뒤로 바뀌지 않은 버킷만 현재 컬렉션에서 삭제
+     * 복사와 삭제 사이에 상태 갱신이 들어온 버킷은 다시 읽어 옮기고, 끝내 옮기지 못하면 보관 사본을 지운다
+     */
+    private long move(List<Document> batch) {
+        long removed = 0;
+        List<Document> pending = batch;
+        for (int attempt = 0; attempt < MAX_MOVE_ATTEMPTS && !pending.isEmpty(); attempt++) {
+            archiveCollection().bulkWrite(pending.stream()
+                    .map(bucket -> (WriteModel<Document>) new ReplaceOneModel<>(
+                            Filters.eq("_id", bucket.get("_id")), bucket, new ReplaceOptions().upsert(true)))
+                    .toList());
+
+            // 버킷의 메시지 배열이 읽을 때와 같을 때만 삭제하여 그사이 반영된 갱신을 잃지 않음
+            removed += primary().bulkWrite(pending.stream()
+                            .map(bucket -> (WriteModel<Document>) new DeleteOneModel<Document>(Filters.and(
+                                    Filters.eq("_id", bucket.get("_id")),
+                                    Filters.eq(MESSAGES, bucket.get(MESSAGES)))))
+                            .toList(),
+                    new BulkWriteOptions().ordered(false)).getDeletedCount();
+
+            List<Object> ids = pending.stream().map(bucket -> bucket.get("_id")).toList();
+            pending = primary().find(Filters.in("_id", ids)).into(new ArrayList<>());
+        }
+
+        if (!pending.isEmpty()) {
+            // 현재 컬렉션에 남은 버킷이 최신이므로 오래된 보관 사본은 지우고 다음 실행에서 다시 옮김
+            archiveCollection().deleteMany(Filters.in("_id", pending.stream().map(bucket -> bucket.get("_id")).toList()));
+            log.warn("갱신이 계속되는 버킷 {}개는 다음 실행에서 옮깁니다", pending.size());
+        }
+        archived.increment(removed);
+        return removed;
+    }
+
+    private MongoCollection<Document> primary() {
+        return mongoTemplate.getCollection(primaryCollection);
+    }
+
+    private MongoCollection<Document> archiveCollection() {
+        return mongoTemplate.getCollection(BucketedMessageRepository.ARCHIVE_COLLECTION);
+    }
+}
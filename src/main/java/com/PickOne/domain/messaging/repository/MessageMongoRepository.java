@@ -1,34 +1,40 @@
 package com.PickOne.domain.messaging.repository;
 
 import com.PickOne.domain.messaging.model.entity.MessageDocument;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface MessageMongoRepository extends MongoRepository<MessageDocument, String> {
 
     /**
-     * 두 사용자 간의 모든 메시지 찾기
+     * 대화의 가장 최근 메시지 찾기 (첫 페이지)
      */
-    @Query("{ $or: [ { 'senderId': ?0, 'recipientId': ?1 }, { 'senderId': ?1, 'recipientId': ?0 } ] }")
-    Page<MessageDocument> findConversation(Long userId1, Long userId2, Pageable pageable);
+    List<MessageDocument> findByConversationId(String conversationId, Pageable pageable);
 
     /**
-     * 상태가 SENT(읽지 않음)인 사용자에게 전송된 메시지 찾기
+     * 커서(sentAt, id) 이전의 대화 메시지 찾기
+     * (conversationId, sentAt, _id) 복합 인덱스를 따라가므로 페이지 깊이와 무관하게 비용이 일정함
      */
-    List<MessageDocument> findByRecipientIdAndStatus(Long recipientId, String status);
+    @Query("{ 'conversationId': ?0, $or: [ { 'sentAt': { $lt: ?1 } }, { 'sentAt': ?1, '_id': { $lt: ?2 } } ] }")
+    List<MessageDocument> findConversationBefore(String conversationId, LocalDateTime sentAt, String id, Pageable pageable);
 
     /**
-     * 사용자의 최근 대화 찾기
+     * 대화에서 주어진 순번 이후의 메시지 찾기
+     * (conversationId, sequence) 인덱스 범위 조회
      */
-    @Query(value = "{ $or: [ { 'senderId': ?0 }, { 'recipientId': ?0 } ] }",
-            sort = "{ 'sentAt': -1 }")
-    List<MessageDocument> findRecentConversations(Long userId);
+    List<MessageDocument> findByConversationIdAndSequenceGreaterThan(String conversationId, Long sequence,
+                                                                     Pageable pageable);
+
+    /**
+     * 상태가 SENT(읽지 않음)인 사용자에게 전송된 메시지 찾기
+     */
+    List<MessageDocument> findByRecipientIdAndStatus(Long recipientId, String status);
 
     /**
      * 사용자의 읽지 않은 메시지 수 세기
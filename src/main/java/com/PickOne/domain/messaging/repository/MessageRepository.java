@@ -1,12 +1,16 @@
 package com.PickOne.domain.messaging.repository;
 
 import com.PickOne.domain.messaging.model.domain.Message;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import com.PickOne.domain.messaging.model.domain.MessageCursor;
+import com.PickOne.domain.messaging.model.domain.MessageStatus;
+import com.PickOne.domain.messaging.model.domain.MessageTransition;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Message 도메인 객체를 위한 리포지토리 인터페이스
@@ -19,25 +23,65 @@ public interface MessageRepository {
      */
     Message save(Message message);
 
+    /**
+     * 새 메시지를 다음 그룹 커밋 배치에 추가
+     * 반환된 future는 메시지가 포함된 배치가 저장되면 완료된다
+     */
+    CompletableFuture<Message> insert(Message message);
+
     /**
      * ID로 메시지 찾기
      */
     Optional<Message> findById(String id);
 
     /**
-     * 두 사용자 간의 대화에서 모든 메시지 찾기
+     * 여러 ID의 메시지를 한 번에 찾기 (없는 ID는 결과에서 빠짐)
      */
-    Page<Message> findConversation(Long userId1, Long userId2, Pageable pageable);
+    List<Message> findAllById(Collection<String> ids);
 
     /**
-     * 사용자의 읽지 않은 메시지 모두 찾기
+     * SENT 상태인 메시지만 DELIVERED로 원자적으로 전이
+     * 이미 전이된 메시지이거나 존재하지 않으면 빈 값 반환
      */
-    List<Message> findUnreadMessagesForUser(Long userId);
+    Optional<MessageTransition> markDelivered(String messageId, LocalDateTime deliveredAt);
+
+    /**
+     * 아직 읽지 않은 메시지만 READ로 원자적으로 전이
+     * 이미 읽은 메시지이거나 존재하지 않으면 빈 값 반환
+     */
+    Optional<MessageTransition> markRead(String messageId, LocalDateTime readAt);
+
+    /**
+     * 미리 계산한 상태 전이를 한 번의 bulkWrite로 반영
+     * 각 전이는 메시지가 아직 이전 상태일 때만 적용되므로, 그 사이 다른 요청이 먼저 전이한 메시지는 건너뛴다
+     *
+     * @return 이번 호출로 실제로 적용된 전이
+     */
+    List<MessageTransition> applyTransitions(List<MessageTransition> transitions);
 
     /**
-     * 사용자의 최근 대화 찾기
+     * 대화에서 수신자가 받은 upTo 시각 이전의 fromStatus 메시지를 한 번에 READ로 전이
+     *
+     * @return 전이된 메시지 수
      */
-    List<Message> findRecentConversations(Long userId);
+    long markReadUpTo(String conversationId, Long recipientId, LocalDateTime upTo,
+                      MessageStatus fromStatus, LocalDateTime readAt);
+
+    /**
+     * 대화에서 커서 이전의 메시지를 최신순으로 최대 limit개 찾기
+     * 커서가 null이면 가장 최근 메시지부터 조회
+     */
+    List<Message> findConversation(String conversationId, MessageCursor before, int limit);
+
+    /**
+     * 대화에서 afterSequence 이후의 메시지를 순번 오름차순으로 최대 limit개 찾기
+     */
+    List<Message> findConversationAfterSequence(String conversationId, long afterSequence, int limit);
+
+    /**
+     * 사용자의 읽지 않은 메시지 모두 찾기
+     */
+    List<Message> findUnreadMessagesForUser(Long userId);
 
     /**
      * 사용자의 읽지 않은 메시지 수 세기
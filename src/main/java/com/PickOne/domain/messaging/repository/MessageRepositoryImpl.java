@@ -1,25 +1,53 @@
 package com.PickOne.domain.messaging.repository;
 
 import com.PickOne.domain.messaging.model.domain.Message;
+import com.PickOne.domain.messaging.model.domain.MessageCursor;
 import com.PickOne.domain.messaging.model.domain.MessageStatus;
+import com.PickOne.domain.messaging.model.domain.MessageTransition;
 import com.PickOne.domain.messaging.model.entity.MessageDocument;
+import com.PickOne.global.common.mongo.MongoInsertBatcher;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
  * MongoDB를 사용하는 MessageRepository 구현
+ * 기본 저장 방식(app.messaging.storage-layout=document)이며, 메시지 하나가 문서 하나에 대응한다
  */
 @Component
+@ConditionalOnProperty(name = "app.messaging.storage-layout", havingValue = "document", matchIfMissing = true)
 @RequiredArgsConstructor
 public class MessageRepositoryImpl implements MessageRepository {
 
+    private static final Sort CONVERSATION_SORT = Sort.by(Sort.Direction.DESC, "sentAt", "id");
+    private static final Sort SEQUENCE_SORT = Sort.by(Sort.Direction.ASC, "sequence");
+    private static final String ACK_TOKEN = "ackToken";
+
     private final MessageMongoRepository messageMongoRepository;
+    private final MongoTemplate mongoTemplate;
+    private final MongoInsertBatcher<MessageDocument> messageInsertBatcher;
 
     @Override
     public Message save(Message message) {
@@ -28,6 +56,12 @@ public class MessageRepositoryImpl implements MessageRepository {
         return savedDocument.toDomain();
     }
 
+    @Override
+    public CompletableFuture<Message> insert(Message message) {
+        return messageInsertBatcher.insert(MessageDocument.fromDomain(message))
+                .thenApply(MessageDocument::toDomain);
+    }
+
     @Override
     public Optional<Message> findById(String id) {
         return messageMongoRepository.findById(id)
@@ -35,22 +69,153 @@ public class MessageRepositoryImpl implements MessageRepository {
     }
 
     @Override
-    public Page<Message> findConversation(Long userId1, Long userId2, Pageable pageable) {
-        return messageMongoRepository.findConversation(userId1, userId2, pageable)
-                .map(MessageDocument::toDomain);
+    public List<Message> findAllById(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return mongoTemplate.find(new Query(Criteria.where("_id").in(ids)), MessageDocument.class).stream()
+                .map(MessageDocument::toDomain)
+                .collect(Collectors.toList());
     }
 
     @Override
-    public List<Message> findUnreadMessagesForUser(Long userId) {
-        return messageMongoRepository.findByRecipientIdAndStatus(userId, MessageStatus.SENT.name())
+    public List<MessageTransition> applyTransitions(List<MessageTransition> transitions) {
+        if (transitions.isEmpty()) {
+            return List.of();
+        }
+
+        // 일부만 반영되었을 때 이번 호출이 바꾼 메시지를 가려내도록 호출마다 다른 표시를 함께 기록
+        // 전이가 하나뿐이면 수정 건수만으로 알 수 있으므로 표시를 남기지 않음
+        String ackToken = transitions.size() > 1 ? UUID.randomUUID().toString() : null;
+        List<String> ids = transitions.stream().map(transition -> transition.message().getId()).toList();
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, MessageDocument.class);
+        for (MessageTransition transition : transitions) {
+            Message message = transition.message();
+            Update update = new Update()
+                    .set("status", message.getStatus().name())
+                    .set("deliveredAt", message.getDeliveredAt())
+                    .set("readAt", message.getReadAt());
+            if (ackToken != null) {
+                update.set(ACK_TOKEN, ackToken);
+            }
+            bulk.updateOne(
+                    new Query(Criteria.where("_id").is(message.getId())
+                            .and("status").is(transition.previousStatus().name())),
+                    update
+            );
+        }
+
+        long modified = bulk.execute().getModifiedCount();
+        if (modified == 0) {
+            return List.of();
+        }
+
+        List<MessageTransition> applied = transitions;
+        if (modified < transitions.size()) {
+            Query tagged = new Query(Criteria.where("_id").in(ids).and(ACK_TOKEN).is(ackToken));
+            tagged.fields().include("_id");
+            Set<String> appliedIds = mongoTemplate.find(tagged, MessageDocument.class).stream()
+                    .map(MessageDocument::getId)
+                    .collect(Collectors.toSet());
+            applied = transitions.stream()
+                    .filter(transition -> appliedIds.contains(transition.message().getId()))
+                    .toList();
+        }
+        clearAckToken(ids, ackToken);
+        return applied;
+    }
+
+    /**
+     * 적용 여부를 가려낸 뒤에는 표시가 필요 없으므로 문서에서 제거
+     */
+    private void clearAckToken(List<String> ids, String ackToken) {
+        if (ackToken == null) {
+            return;
+        }
+        mongoTemplate.updateMulti(new Query(Criteria.where("_id").in(ids).and(ACK_TOKEN).is(ackToken)),
+                new Update().unset(ACK_TOKEN), MessageDocument.class);
+    }
+
+    @Override
+    public Optional<MessageTransition> markDelivered(String messageId, LocalDateTime deliveredAt) {
+        Query query = new Query(Criteria.where("_id").is(messageId)
+                .and("status").is(MessageStatus.SENT.name()));
+        Update update = new Update()
+                .set("status", MessageStatus.DELIVERED.name())
+                .set("deliveredAt", deliveredAt);
+
+        MessageDocument updated = mongoTemplate.findAndModify(
+                query, update, FindAndModifyOptions.options().returnNew(true), MessageDocument.class);
+
+        return Optional.ofNullable(updated)
+                .map(document -> new MessageTransition(MessageStatus.SENT, document.toDomain()));
+    }
+
+    @Override
+    public Optional<MessageTransition> markRead(String messageId, LocalDateTime readAt) {
+        Query query = new Query(Criteria.where("_id").is(messageId)
+                .and("status").in(MessageStatus.SENT.name(), MessageStatus.DELIVERED.name()));
+
+        // 파이프라인 업데이트 내부 값은 매핑 변환을 거치지 않으므로 Date로 직접 변환
+        Date readAtDate = Date.from(readAt.atZone(ZoneId.systemDefault()).toInstant());
+        AggregationUpdate update = AggregationUpdate.update()
+                .set("status").toValue(MessageStatus.READ.name())
+                .set("readAt").toValue(readAtDate)
+                .set("deliveredAt").toValueOf(ConditionalOperators.ifNull("deliveredAt").then(readAtDate));
+
+        // 이전 상태를 알아야 카운터를 정확히 갱신할 수 있으므로 변경 전 문서를 받음
+        MessageDocument previous = mongoTemplate.findAndModify(
+                query, update, FindAndModifyOptions.options().returnNew(false), MessageDocument.class);
+
+        return Optional.ofNullable(previous)
+                .map(MessageDocument::toDomain)
+                .map(message -> new MessageTransition(message.getStatus(), message.markRead(readAt)));
+    }
+
+    @Override
+    public long markReadUpTo(String conversationId, Long recipientId, LocalDateTime upTo,
+                             MessageStatus fromStatus, LocalDateTime readAt) {
+        Query query = new Query(Criteria.where("conversationId").is(conversationId)
+                .and("sentAt").lte(upTo)
+                .and("recipientId").is(recipientId)
+                .and("status").is(fromStatus.name()));
+
+        Update update = new Update()
+                .set("status", MessageStatus.READ.name())
+                .set("readAt", readAt);
+        if (fromStatus == MessageStatus.SENT) {
+            update.set("deliveredAt", readAt);
+        }
+
+        return mongoTemplate.updateMulti(query, update, MessageDocument.class).getModifiedCount();
+    }
+
+    @Override
+    public List<Message> findConversation(String conversationId, MessageCursor before, int limit) {
+        // 건수 조회 없이 limit만 적용하기 위해 첫 페이지 요청으로 고정
+        Pageable pageable = PageRequest.of(0, limit, CONVERSATION_SORT);
+
+        List<MessageDocument> documents = before == null
+                ? messageMongoRepository.findByConversationId(conversationId, pageable)
+                : messageMongoRepository.findConversationBefore(conversationId, before.sentAt(), before.id(), pageable);
+
+        return documents.stream()
+                .map(MessageDocument::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Message> findConversationAfterSequence(String conversationId, long afterSequence, int limit) {
+        return messageMongoRepository.findByConversationIdAndSequenceGreaterThan(
+                        conversationId, afterSequence, PageRequest.of(0, limit, SEQUENCE_SORT))
                 .stream()
                 .map(MessageDocument::toDomain)
                 .collect(Collectors.toList());
     }
 
     @Override
-    public List<Message> findRecentConversations(Long userId) {
-        return messageMongoRepository.findRecentConversations(userId)
+    public List<Message> findUnreadMessagesForUser(Long userId) {
+        return messageMongoRepository.findByRecipientIdAndStatus(userId, MessageStatus.SENT.name())
                 .stream()
                 .map(MessageDocument::toDomain)
                 .collect(Collectors.toList());
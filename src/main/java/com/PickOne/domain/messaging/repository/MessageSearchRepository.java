@@ -0,0 +1,31 @@
+package com.PickOne.domain.messaging.repository;
+
+import com.PickOne.domain.messaging.model.domain.Message;
+import com.PickOne.domain.messaging.model.domain.SearchCandidate;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 사용자별 메시지 검색 색인 리포지토리
+ */
+public interface MessageSearchRepository {
+
+    /**
+     * 메시지를 발신자와 수신자의 색인에 추가 (같은 메시지를 다시 색인하면 덮어씀)
+     */
+    void index(Message message, Set<String> grams);
+
+    /**
+     * 사용자 색인에서 n-gram을 포함하는 메시지 수를 최대 limit까지 세기
+     * 검색어의 n-gram 중 가장 드문 것을 고르는 데 사용한다
+     */
+    long countPostings(Long userId, String gram, int limit);
+
+    /**
+     * 사용자 색인에서 모든 n-gram을 포함하는 메시지를 최신순으로 최대 limit개 찾기
+     *
+     * @param grams 드문 순서로 정렬된 n-gram (첫 n-gram이 인덱스 탐색 범위가 됨)
+     */
+    List<SearchCandidate> findCandidates(Long userId, List<String> grams, int limit);
+}
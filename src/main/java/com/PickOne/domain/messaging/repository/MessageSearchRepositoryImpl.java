@@ -0,0 +1,59 @@
+package com.PickOne.domain.messaging.repository;
+
+import com.PickOne.domain.messaging.model.domain.Message;
+import com.PickOne.domain.messaging.model.domain.SearchCandidate;
+import com.PickOne.domain.messaging.model.entity.MessageSearchPostingDocument;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * MongoDB를 사용하는 MessageSearchRepository 구현
+ * (userId, grams, sentAt) 멀티키 인덱스 하나로 사용자 범위 제한, n-gram 교집합, 최신순 정렬을 처리한다
+ */
+@Component
+@RequiredArgsConstructor
+public class MessageSearchRepositoryImpl implements MessageSearchRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void index(Message message, Set<String> grams) {
+        Set<Long> owners = new LinkedHashSet<>(List.of(message.getSenderIdValue(), message.getRecipientIdValue()));
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, MessageSearchPostingDocument.class);
+        for (Long userId : owners) {
+            MessageSearchPostingDocument posting = MessageSearchPostingDocument.of(userId, message, grams);
+            bulk.replaceOne(new Query(Criteria.where("_id").is(posting.getId())), posting,
+                    FindAndReplaceOptions.options().upsert());
+        }
+        bulk.execute();
+    }
+
+    @Override
+    public long countPostings(Long userId, String gram, int limit) {
+        Query query = new Query(Criteria.where("userId").is(userId).and("grams").is(gram)).limit(limit);
+        return mongoTemplate.count(query, MessageSearchPostingDocument.class);
+    }
+
+    @Override
+    public List<SearchCandidate> findCandidates(Long userId, List<String> grams, int limit) {
+        Query query = new Query(Criteria.where("userId").is(userId).and("grams").all(grams))
+                .with(Sort.by(Sort.Direction.DESC, "sentAt"))
+                .limit(limit);
+        query.fields().include("messageId", "sentAt", "gramCount");
+
+        return mongoTemplate.find(query, MessageSearchPostingDocument.class).stream()
+                .map(MessageSearchPostingDocument::toCandidate)
+                .toList();
+    }
+}
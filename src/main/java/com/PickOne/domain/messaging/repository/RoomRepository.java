@@ -0,0 +1,67 @@
+package com.PickOne.domain.messaging.repository;
+
+import com.PickOne.domain.messaging.model.domain.Room;
+import com.PickOne.domain.messaging.model.domain.RoomMessage;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 채팅방, 방 메시지, 멤버별 읽음 커서를 위한 리포지토리 인터페이스
+ */
+public interface RoomRepository {
+
+    /**
+     * 새 방과 멤버별 읽음 커서 저장
+     */
+    Room insert(Room room);
+
+    Optional<Room> findById(String roomId);
+
+    /**
+     * 방에 멤버 추가 (이미 멤버인 사용자는 무시)
+     * 새 멤버의 읽음 커서는 현재 방 순번에서 시작한다
+     *
+     * @return 멤버가 추가된 방 (방이 없으면 비어 있음)
+     */
+    Optional<Room> addMembers(String roomId, Collection<Long> memberIds);
+
+    /**
+     * 방의 멤버 여부 확인
+     */
+    boolean isMember(String roomId, Long userId);
+
+    /**
+     * 순번이 부여된 방 메시지를 저장하고 방의 마지막 메시지 정보를 갱신
+     */
+    RoomMessage insertMessage(RoomMessage message);
+
+    /**
+     * beforeSequence 이전의 방 메시지를 최신순으로 조회 (null이면 가장 최근부터)
+     */
+    List<RoomMessage> findMessagesBefore(String roomId, Long beforeSequence, int limit);
+
+    /**
+     * afterSequence 이후의 방 메시지를 오래된 순으로 조회
+     */
+    List<RoomMessage> findMessagesAfter(String roomId, long afterSequence, int limit);
+
+    /**
+     * 사용자가 속한 방을 최근 메시지 순으로 조회
+     */
+    List<Room> findRecentForMember(Long userId, int limit);
+
+    /**
+     * 사용자의 방별 읽음 커서 조회
+     */
+    Map<String, Long> findReadSequences(Long userId, Collection<String> roomIds);
+
+    /**
+     * 읽음 커서를 sequence까지 앞으로 이동 (이미 더 앞에 있으면 변경하지 않음)
+     *
+     * @return 커서가 이동했는지 여부
+     */
+    boolean advanceReadSequence(String roomId, Long userId, long sequence);
+}
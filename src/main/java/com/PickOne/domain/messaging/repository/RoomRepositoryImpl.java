@@ -0,0 +1,166 @@
+package com.PickOne.domain.messaging.repository;
+
+import com.PickOne.domain.messaging.model.domain.Conversation;
+import com.PickOne.domain.messaging.model.domain.Room;
+import com.PickOne.domain.messaging.model.domain.RoomMessage;
+import com.PickOne.domain.messaging.model.entity.RoomDocument;
+import com.PickOne.domain.messaging.model.entity.RoomMemberDocument;
+import com.PickOne.domain.messaging.model.entity.RoomMessageDocument;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * MongoDB를 사용하는 RoomRepository 구현
+ * 방 메시지는 방마다 한 번만 저장하고, 멤버별로는 읽음 커서 문서 하나만 유지한다
+ */
+@Component
+@RequiredArgsConstructor
+public class RoomRepositoryImpl implements RoomRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Room insert(Room room) {
+        mongoTemplate.insert(RoomDocument.fromDomain(room));
+        upsertMembers(room.getId(), room.getMemberIds(), 0L);
+        return room;
+    }
+
+    @Override
+    public Optional<Room> findById(String roomId) {
+        return Optional.ofNullable(mongoTemplate.findById(roomId, RoomDocument.class))
+                .map(RoomDocument::toDomain);
+    }
+
+    @Override
+    public Optional<Room> addMembers(String roomId, Collection<Long> memberIds) {
+        RoomDocument updated = mongoTemplate.findAndModify(
+                new Query(Criteria.where("_id").is(roomId)),
+                new Update().addToSet("memberIds").each(memberIds.toArray()),
+                FindAndModifyOptions.options().returnNew(true),
+                RoomDocument.class
+        );
+        if (updated == null) {
+            return Optional.empty();
+        }
+
+        // 가입 이전 메시지는 읽지 않은 수에 포함하지 않음
+        upsertMembers(roomId, memberIds, updated.getLastSequence());
+        return Optional.of(updated.toDomain());
+    }
+
+    @Override
+    public boolean isMember(String roomId, Long userId) {
+        return mongoTemplate.exists(
+                new Query(Criteria.where("_id").is(roomId).and("memberIds").is(userId)),
+                RoomDocument.class
+        );
+    }
+
+    @Override
+    public RoomMessage insertMessage(RoomMessage message) {
+        mongoTemplate.insert(RoomMessageDocument.fromDomain(message));
+
+        // 동시 전송에서 순번이 역전되어 도착해도 더 큰 순번의 메시지만 미리보기에 반영
+        mongoTemplate.updateFirst(
+                new Query(Criteria.where("_id").is(message.getRoomId())
+                        .and("lastSequence").lt(message.getSequence())),
+                new Update()
+                        .set("lastSequence", message.getSequence())
+                        .set("lastMessagePreview", Conversation.previewOf(message.getContentValue()))
+                        .set("lastSenderId", message.getSenderId())
+                        .set("lastMessageAt", message.getSentAt()),
+                RoomDocument.class
+        );
+        return message;
+    }
+
+    @Override
+    public List<RoomMessage> findMessagesBefore(String roomId, Long beforeSequence, int limit) {
+        Criteria criteria = Criteria.where("roomId").is(roomId);
+        if (beforeSequence != null) {
+            criteria = criteria.and("sequence").lt(beforeSequence);
+        }
+        Query query = new Query(criteria)
+                .with(Sort.by(Sort.Direction.DESC, "sequence"))
+                .limit(limit);
+        return findMessages(query);
+    }
+
+    @Override
+    public List<RoomMessage> findMessagesAfter(String roomId, long afterSequence, int limit) {
+        Query query = new Query(Criteria.where("roomId").is(roomId).and("sequence").gt(afterSequence))
+                .with(Sort.by(Sort.Direction.ASC, "sequence"))
+                .limit(limit);
+        return findMessages(query);
+    }
+
+    @Override
+    public List<Room> findRecentForMember(Long userId, int limit) {
+        Query query = new Query(Criteria.where("memberIds").is(userId))
+                .with(Sort.by(Sort.Direction.DESC, "lastMessageAt"))
+                .limit(limit);
+        return mongoTemplate.find(query, RoomDocument.class).stream()
+                .map(RoomDocument::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Map<String, Long> findReadSequences(Long userId, Collection<String> roomIds) {
+        if (roomIds.isEmpty()) {
+            return Map.of();
+        }
+        List<String> ids = roomIds.stream()
+                .map(roomId -> RoomMemberDocument.idOf(roomId, userId))
+                .toList();
+        return mongoTemplate.find(new Query(Criteria.where("_id").in(ids)), RoomMemberDocument.class).stream()
+                .collect(Collectors.toMap(RoomMemberDocument::getRoomId, RoomMemberDocument::getLastReadSequence));
+    }
+
+    @Override
+    public boolean advanceReadSequence(String roomId, Long userId, long sequence) {
+        return mongoTemplate.updateFirst(
+                new Query(Criteria.where("_id").is(RoomMemberDocument.idOf(roomId, userId))
+                        .and("lastReadSequence").lt(sequence)),
+                Update.update("lastReadSequence", sequence),
+                RoomMemberDocument.class
+        ).getModifiedCount() > 0;
+    }
+
+    private List<RoomMessage> findMessages(Query query) {
+        return mongoTemplate.find(query, RoomMessageDocument.class).stream()
+                .map(RoomMessageDocument::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    private void upsertMembers(String roomId, Collection<Long> memberIds, long lastReadSequence) {
+        // 이미 멤버인 사용자의 읽음 커서는 건드리지 않도록 삽입 시에만 값을 채움
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, RoomMemberDocument.class);
+        LocalDateTime joinedAt = LocalDateTime.now();
+        for (Long memberId : memberIds) {
+            bulk.upsert(
+                    new Query(Criteria.where("_id").is(RoomMemberDocument.idOf(roomId, memberId))),
+                    new Update()
+                            .setOnInsert("roomId", roomId)
+                            .setOnInsert("userId", memberId)
+                            .setOnInsert("lastReadSequence", lastReadSequence)
+                            .setOnInsert("joinedAt", joinedAt)
+            );
+        }
+        bulk.execute();
+    }
+}
@@ -0,0 +1,86 @@
+package com.PickOne.domain.messaging.service;
+
+import com.PickOne.domain.messaging.dto.ActivityEventDto;
+import com.PickOne.domain.messaging.model.domain.ActivityType;
+import com.PickOne.domain.messaging.model.domain.Message;
+import com.PickOne.global.exception.BusinessException;
+import com.PickOne.global.exception.ErrorCode;
+import com.PickOne.global.messaging.delivery.DeliveryChannel;
+import com.PickOne.global.messaging.delivery.UserDestinationRouter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 입력 중, 대화 보는 중 같은 일시적 활동 전달
+ * 저장소와 MessagingService를 거치지 않으며, 대화·사용자·활동 종류별로 간격 안의 반복 이벤트를 하나로 합친다
+ * 상태가 바뀐 이벤트(시작 ↔ 종료)는 간격과 관계없이 바로 보낸다
+ */
+@Service
+@Slf4j
+public class ActivityService {
+
+    private final UserDestinationRouter destinationRouter;
+    private final long intervalNanos;
+    private final Counter sent;
+    private final Counter coalesced;
+
+    private final Map<ActivityKey, LastActivity> lastSent = new ConcurrentHashMap<>();
+
+    public ActivityService(UserDestinationRouter destinationRouter,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.messaging.activity.coalesce-interval-ms:3000}") long intervalMs) {
+        this.destinationRouter = destinationRouter;
+        this.intervalNanos = Duration.ofMillis(intervalMs).toNanos();
+        this.sent = meterRegistry.counter("messaging.activity", "result", "sent");
+        this.coalesced = meterRegistry.counter("messaging.activity", "result", "coalesced");
+    }
+
+    /**
+     * 대화 상대에게 활동 알림
+     *
+     * @return 상대에게 보냈으면 true, 간격 안의 반복이라 합쳐졌으면 false
+     */
+    public boolean publish(Long userId, Long peerId, ActivityType type, boolean active) {
+        if (peerId == null || type == null || peerId.equals(userId)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        ActivityKey key = new ActivityKey(Message.conversationIdOf(userId, peerId), userId, type);
+        long now = System.nanoTime();
+        LastActivity previous = lastSent.get(key);
+        if (previous != null && previous.active() == active && now - previous.sentAt() < intervalNanos) {
+            coalesced.increment();
+            return false;
+        }
+        lastSent.put(key, new LastActivity(active, now));
+
+        destinationRouter.sendEphemeral(DeliveryChannel.ACTIVITY, peerId,
+                new ActivityEventDto(peerId, userId, type, active, LocalDateTime.now()));
+        sent.increment();
+        return true;
+    }
+
+    /**
+     * 오래된 합치기 기록 정리
+     */
+    @Scheduled(fixedDelayString = "${app.messaging.activity.cleanup-ms:60000}")
+    public void evictStale() {
+        long threshold = System.nanoTime() - intervalNanos;
+        lastSent.values().removeIf(last -> last.sentAt() < threshold);
+    }
+
+    private record ActivityKey(String conversationId, Long userId, ActivityType type) {
+    }
+
+    private record LastActivity(boolean active, long sentAt) {
+    }
+}
@@ -0,0 +1,134 @@
+package com.PickOne.domain.messaging.service;
+
+import com.PickOne.domain.messaging.model.domain.MessageAck;
+import com.PickOne.domain.messaging.model.domain.MessageStatus;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 짧은 시간 동안 들어온 수신·읽음 확인을 모아 한 번에 반영하는 배처
+ * WebSocket 확인 프레임은 대기열에 넣고 바로 돌아가며, 모인 확인은 MessagingService.acknowledge 한 번으로 처리된다
+ * 대기열이 가득 차면 호출 스레드에서 바로 반영하여 부하를 되돌려 보낸다
+ */
+@Component
+@Slf4j
+public class MessageAckBatcher implements AutoCloseable {
+
+    private final MessagingService messagingService;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final BlockingQueue<MessageAck> queue;
+    private final DistributionSummary batchSizes;
+    private final Thread flusher;
+
+    private volatile boolean running = true;
+
+    public MessageAckBatcher(MessagingService messagingService,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.messaging.ack-batch.window-ms:20}") long windowMs,
+                             @Value("${app.messaging.ack-batch.max-size:500}") int maxBatchSize,
+                             @Value("${app.messaging.ack-batch.queue-capacity:10000}") int queueCapacity) {
+        this.messagingService = messagingService;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMs);
+        this.maxBatchSize = maxBatchSize;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.batchSizes = DistributionSummary.builder("messaging.ack.batch.size")
+                .description("한 번에 반영된 수신·읽음 확인 수")
+                .register(meterRegistry);
+
+        this.flusher = new Thread(this::flushLoop, "message-ack-batch");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * 사용자의 확인을 다음 배치에 추가
+     */
+    public void submit(Long userId, MessageStatus status, Collection<String> messageIds) {
+        List<MessageAck> overflow = new ArrayList<>();
+        for (String messageId : messageIds) {
+            MessageAck ack = new MessageAck(messageId, userId, status);
+            if (!running || !queue.offer(ack)) {
+                overflow.add(ack);
+            }
+        }
+        if (!overflow.isEmpty()) {
+            flush(overflow);
+        }
+    }
+
+    private void flushLoop() {
+        List<MessageAck> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                MessageAck first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // 첫 확인이 도착한 시점부터 창이 닫히거나 최대 크기에 이를 때까지 모음
+                long deadline = System.nanoTime() + windowNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        queue.drainTo(batch, maxBatchSize - batch.size());
+                        break;
+                    }
+                    MessageAck next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+                // 창을 채우던 배치와 대기 중인 확인을 반영하고 종료 (인터럽트 상태에서는 poll이 바로 실패하므로 루프를 벗어남)
+                queue.drainTo(batch);
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                }
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<MessageAck> batch) {
+        try {
+            messagingService.acknowledge(batch);
+        } catch (RuntimeException e) {
+            // 확인은 클라이언트가 다시 보내거나 대화 단위 읽음 표시로 복구되므로 기록만 함
+            log.error("수신·읽음 확인 {}건 반영에 실패했습니다", batch.size(), e);
+        } finally {
+            batchSizes.record(batch.size());
+        }
+    }
+
+    /**
+     * 새 확인을 받지 않고, 이미 대기 중인 확인을 반영한 뒤 종료
+     */
+    @Override
+    public void close() {
+        running = false;
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.PickOne.domain.messaging.service;
+
+import com.PickOne.domain.messaging.model.domain.Message;
+import com.PickOne.domain.messaging.model.domain.MessageSearchResult;
+import com.PickOne.domain.messaging.model.domain.NgramTokenizer;
+import com.PickOne.domain.messaging.model.domain.SearchCandidate;
+import com.PickOne.domain.messaging.model.domain.SearchCursor;
+import com.PickOne.domain.messaging.repository.MessageRepository;
+import com.PickOne.domain.messaging.repository.MessageSearchRepository;
+import com.PickOne.global.exception.BusinessException;
+import com.PickOne.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 사용자 대화 검색
+ * 메시지가 저장될 때마다 n-gram 색인을 갱신하고, 검색은 사용자 색인에서 검색어의 모든 n-gram을 포함하는 메시지를 찾는다
+ * 최근 후보 window개 안에서 (검색어 n-gram 수 / 본문 n-gram 수) 점수로 순위를 매기므로 짧고 밀접한 메시지가 앞선다
+ */
+@Service
+@Slf4j
+public class MessageSearchService {
+
+    /**
+     * 가장 드문 n-gram을 고를 때 n-gram별로 세는 최대 건수
+     */
+    private static final int RARITY_PROBE_LIMIT = 10_000;
+
+    /**
+     * 검색어에서 사용하는 최대 n-gram 수
+     */
+    private static final int MAX_QUERY_GRAMS = 16;
+
+    private static final int SCORE_SCALE = 1000;
+
+    private final MessageSearchRepository searchRepository;
+    private final MessageRepository messageRepository;
+    private final int candidateWindow;
+
+    public MessageSearchService(MessageSearchRepository searchRepository,
+                                MessageRepository messageRepository,
+                                @Value("${app.messaging.search.candidate-window:1000}") int candidateWindow) {
+        this.searchRepository = searchRepository;
+        this.messageRepository = messageRepository;
+        this.candidateWindow = candidateWindow;
+    }
+
+    /**
+     * 저장된 메시지를 발신자와 수신자의 색인에 추가
+     */
+    public void index(Message message) {
+        Set<String> grams = NgramTokenizer.tokenize(message.getContentValue());
+        if (!grams.isEmpty()) {
+            searchRepository.index(message, grams);
+        }
+    }
+
+    /**
+     * 사용자가 주고받은 메시지 검색
+     *
+     * @param cursor 이전 페이지의 다음 커서 (첫 페이지면 null)
+     */
+    public MessageSearchResult search(Long userId, String query, String cursor, int size) {
+        Set<String> queryGrams = NgramTokenizer.tokenize(query);
+        if (queryGrams.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        SearchCursor after = decodeCursor(cursor);
+
+        // 가장 드문 n-gram이 인덱스 탐색 범위가 되도록 앞에 둠
+        List<RankedGram> ranked = queryGrams.stream()
+                .map(gram -> new RankedGram(gram, searchRepository.countPostings(userId, gram, RARITY_PROBE_LIMIT)))
+                .sorted(Comparator.comparingLong(RankedGram::postings))
+                .limit(MAX_QUERY_GRAMS)
+                .toList();
+        if (ranked.get(0).postings() == 0) {
+            return new MessageSearchResult(List.of(), null);
+        }
+
+        List<String> grams = ranked.stream().map(RankedGram::gram).toList();
+        List<SearchCursor> page = searchRepository.findCandidates(userId, grams, candidateWindow).stream()
+                .map(candidate -> rank(candidate, queryGrams.size()))
+                .filter(position -> after == null || position.compareTo(after) > 0)
+                .sorted()
+                .limit(size + 1L)
+                .toList();
+
+        boolean hasNext = page.size() > size;
+        List<SearchCursor> content = hasNext ? page.subList(0, size) : page;
+        List<Message> messages = content.stream()
+                .map(position -> messageRepository.findById(position.messageId()))
+                .flatMap(Optional::stream)
+                .toList();
+
+        return new MessageSearchResult(messages, hasNext ? content.get(content.size() - 1) : null);
+    }
+
+    private static SearchCursor rank(SearchCandidate candidate, int queryGramCount) {
+        int score = (int) ((long) queryGramCount * SCORE_SCALE / Math.max(candidate.gramCount(), 1));
+        return new SearchCursor(Math.min(score, SCORE_SCALE), candidate.sentAt(), candidate.messageId());
+    }
+
+    private static SearchCursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return SearchCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    private record RankedGram(String gram, long postings) {
+    }
+}
@@ -0,0 +1,185 @@
+package com.PickOne.domain.messaging.service;
+
+import com.PickOne.domain.messaging.dto.MessageDto;
+import com.PickOne.domain.messaging.model.domain.Message;
+import com.PickOne.domain.messaging.model.domain.MessageStatus;
+import com.PickOne.global.exception.BusinessException;
+import com.PickOne.global.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.MongoSocketReadTimeoutException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 클라이언트 메시지 ID로 재시도된 전송을 걸러냄
+ * 최근 결과는 노드별 LRU에, 노드 간 공유는 Redis SET NX 키(TTL)로 처리한다
+ * 선점은 짧은 임대 시간만 유지하고, 전송 결과를 기록할 때 전체 TTL을 준다
+ * 중복 요청에는 저장소와 전달 파이프라인을 거치지 않고 처음 전송된 메시지를 그대로 돌려준다
+ */
+@Component
+@Slf4j
+public class MessageSendDeduplicator {
+
+    static final String KEY_PREFIX = "message:client-id:";
+
+    /**
+     * 전송이 끝나기 전의 선점 값
+     */
+    private static final String PENDING = "";
+
+    private static final int MAX_CLIENT_MESSAGE_ID_LENGTH = 64;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Duration claimLease;
+    private final Map<String, CachedSend> recent;
+    private final Counter localHits;
+    private final Counter redisHits;
+
+    public MessageSendDeduplicator(StringRedisTemplate stringRedisTemplate,
+                                   ObjectMapper objectMapper,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${app.messaging.idempotency.ttl-seconds:86400}") long ttlSeconds,
+                                   @Value("${app.messaging.idempotency.claim-lease-ms:30000}") long claimLeaseMs,
+                                   @Value("${app.messaging.idempotency.local-capacity:10000}") int localCapacity) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.claimLease = Duration.ofMillis(claimLeaseMs);
+        this.recent = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedSend> eldest) {
+                return size() > localCapacity;
+            }
+        });
+        this.localHits = meterRegistry.counter("messaging.send.deduplicated", "source", "local");
+        this.redisHits = meterRegistry.counter("messaging.send.deduplicated", "source", "redis");
+    }
+
+    /**
+     * 처음 보는 클라이언트 메시지 ID면 전송을 실행하고, 이미 전송된 ID면 그 결과를 반환
+     *
+     * @throws BusinessException 같은 ID의 전송이 아직 진행 중인 경우
+     */
+    public Message sendOnce(Long senderId, String clientMessageId, Supplier<Message> send) {
+        if (clientMessageId.isBlank() || clientMessageId.length() > MAX_CLIENT_MESSAGE_ID_LENGTH) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        // 클라이언트가 만든 ID이므로 발신자별로 범위를 나눔
+        String key = KEY_PREFIX + senderId + ":" + clientMessageId;
+        CachedSend cached = recent.get(key);
+        if (cached != null && cached.expiresAtNanos() - System.nanoTime() > 0) {
+            localHits.increment();
+            return cached.message();
+        }
+
+        if (!claim(key)) {
+            Message original = findSent(key);
+            redisHits.increment();
+            remember(key, original);
+            return original;
+        }
+
+        Message message;
+        try {
+            message = send.get();
+        } catch (RuntimeException e) {
+            // 시간 초과는 저장이 이미 반영되었을 수 있으므로 선점을 남겨 임대가 끝날 때까지 재전송을 막음
+            if (!isTimeout(e)) {
+                // 저장되지 않았으므로 선점을 풀어 재시도가 다시 전송할 수 있게 함
+                release(key);
+            }
+            throw e;
+        }
+
+        record(key, message);
+        remember(key, message);
+        return message;
+    }
+
+    private boolean claim(String key) {
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(key, PENDING, claimLease));
+        } catch (DataAccessException e) {
+            // Redis 장애 시에는 노드 내 LRU로만 중복을 거르고 전송은 계속함
+            log.warn("메시지 중복 확인 키 {}를 선점하지 못해 로컬 확인만 사용합니다: {}", key, e.getMessage());
+            return true;
+        }
+    }
+
+    private Message findSent(String key) {
+        String stored = stringRedisTemplate.opsForValue().get(key);
+        if (stored == null || PENDING.equals(stored)) {
+            throw new BusinessException(ErrorCode.MESSAGE_SEND_IN_PROGRESS);
+        }
+        try {
+            return toDomain(objectMapper.readValue(stored, MessageDto.class));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 전송 결과를 해석할 수 없습니다: " + key, e);
+        }
+    }
+
+    private void record(String key, Message message) {
+        try {
+            stringRedisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(MessageDto.fromDomain(message)), ttl);
+        } catch (JsonProcessingException | DataAccessException e) {
+            // 메시지는 이미 저장·전달되었으므로 결과 기록 실패는 응답에 영향을 주지 않음
+            log.warn("메시지 {}의 전송 결과를 기록하지 못했습니다: {}", message.getId(), e.getMessage());
+        }
+    }
+
+    private void release(String key) {
+        try {
+            stringRedisTemplate.delete(key);
+        } catch (DataAccessException e) {
+            log.warn("메시지 중복 확인 키 {}를 해제하지 못했습니다: {}", key, e.getMessage());
+        }
+    }
+
+    private static boolean isTimeout(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TimeoutException || cause instanceof QueryTimeoutException
+                    || cause instanceof MongoSocketReadTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void remember(String key, Message message) {
+        recent.put(key, new CachedSend(message, System.nanoTime() + ttl.toNanos()));
+    }
+
+    private static Message toDomain(MessageDto dto) {
+        return Message.from(
+                dto.id(),
+                dto.senderId(),
+                dto.recipientId(),
+                dto.content(),
+                MessageStatus.valueOf(dto.status()),
+                dto.sentAt(),
+                dto.deliveredAt(),
+                dto.readAt(),
+                dto.sequence()
+        );
+    }
+
+    private record CachedSend(Message message, long expiresAtNanos) {
+    }
+}
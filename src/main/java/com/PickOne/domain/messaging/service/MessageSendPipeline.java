@@ -0,0 +1,107 @@
+package com.PickOne.domain.messaging.service;
+
+import com.PickOne.domain.messaging.dto.MessageDto;
+import com.PickOne.domain.messaging.dto.ReceiptEventDto;
+import com.PickOne.domain.messaging.model.domain.Message;
+import com.PickOne.domain.notification.model.domain.NotificationType;
+import com.PickOne.domain.notification.service.NotificationService;
+import com.PickOne.global.messaging.config.MessagingExecutorConfig;
+import com.PickOne.global.messaging.delivery.DeliveryChannel;
+import com.PickOne.global.messaging.delivery.UserDestinationRouter;
+import com.PickOne.global.messaging.dispatch.StripedDispatchExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executor;
+
+/**
+ * 저장이 끝난 메시지의 후속 단계를 비동기로 실행
+ * 알림 생성, 실시간 전달, 검색 색인은 서로 독립된 실행기에서 처리되어 한 단계의 지연이 다른 단계를 막지 않는다
+ * 실시간 전달은 받는 사용자를 키로 스트라이프 실행기에 넣어, 같은 사용자에게는 예약한 순서대로 전달된다
+ * 수신·읽음 확인 이벤트도 실시간 전달 실행기에서 발신자에게 보낸다
+ */
+@Component
+@Slf4j
+public class MessageSendPipeline {
+
+    private final NotificationService notificationService;
+    private final UserDestinationRouter destinationRouter;
+    private final MessageSearchService searchService;
+    private final Executor notificationStageExecutor;
+    private final StripedDispatchExecutor deliveryStageExecutor;
+    private final Executor searchIndexStageExecutor;
+    private final MeterRegistry meterRegistry;
+
+    public MessageSendPipeline(NotificationService notificationService,
+                               UserDestinationRouter destinationRouter,
+                               MessageSearchService searchService,
+                               @Qualifier(MessagingExecutorConfig.NOTIFICATION_STAGE_EXECUTOR) Executor notificationStageExecutor,
+                               @Qualifier(MessagingExecutorConfig.DELIVERY_STAGE_EXECUTOR) StripedDispatchExecutor deliveryStageExecutor,
+                               @Qualifier(MessagingExecutorConfig.SEARCH_INDEX_STAGE_EXECUTOR) Executor searchIndexStageExecutor,
+                               MeterRegistry meterRegistry) {
+        this.notificationService = notificationService;
+        this.destinationRouter = destinationRouter;
+        this.searchService = searchService;
+        this.notificationStageExecutor = notificationStageExecutor;
+        this.deliveryStageExecutor = deliveryStageExecutor;
+        this.searchIndexStageExecutor = searchIndexStageExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 저장된 메시지의 알림 생성, 실시간 전달, 검색 색인 단계를 예약
+     *
+     * @param message     저장이 완료된 메시지
+     * @param senderLabel 알림 문구에 사용할 발신자 표시 이름
+     */
+    public void dispatch(Message message, String senderLabel) {
+        String subject = "메시지 " + message.getId();
+        deliver("delivery", message.getRecipientIdValue(), () -> runStage("delivery", subject, () -> publish(message)));
+        notificationStageExecutor.execute(() -> runStage("notification", subject, () -> createNotification(message, senderLabel)));
+        searchIndexStageExecutor.execute(() -> runStage("search-index", subject, () -> searchService.index(message)));
+    }
+
+    /**
+     * 수신·읽음 확인을 발신자에게 전달하도록 예약
+     */
+    public void dispatchReceipt(Long senderId, ReceiptEventDto receipt) {
+        deliver("receipt", senderId, () -> runStage("receipt", "사용자 " + senderId + "에게 보낼 확인",
+                () -> destinationRouter.sendToUser(DeliveryChannel.RECEIPTS, senderId, receipt)));
+    }
+
+    private void deliver(String stage, Long userId, Runnable task) {
+        if (!deliveryStageExecutor.execute(userId, task)) {
+            // 대기열이 가득 차 버려진 이벤트는 클라이언트가 동기화로 받아감
+            meterRegistry.counter("messaging.pipeline.failures", "stage", stage).increment();
+        }
+    }
+
+    private void publish(Message message) {
+        // 수신자가 연결된 노드로만 실시간 전달
+        destinationRouter.sendToUser(DeliveryChannel.MESSAGES, message.getRecipientIdValue(),
+                MessageDto.fromDomain(message));
+    }
+
+    private void createNotification(Message message, String senderLabel) {
+        // 수신자 존재는 전송 시점에 확인했으므로 다시 조회하지 않음
+        notificationService.createNotificationForVerifiedRecipient(
+                message.getRecipientIdValue(),
+                NotificationType.NEW_MESSAGE,
+                String.format("%s님이 새 메시지를 보냈습니다", senderLabel),
+                "message",
+                message.getSenderIdValue()
+        );
+    }
+
+    private void runStage(String stage, String subject, Runnable task) {
+        try {
+            task.run();
+        } catch (Exception e) {
+            // 메시지는 이미 저장되었으므로 후속 단계 실패는 기록만 하고 전송을 되돌리지 않음
+            meterRegistry.counter("messaging.pipeline.failures", "stage", stage).increment();
+            log.error("{}의 {} 단계 처리에 실패했습니다", subject, stage, e);
+        }
+    }
+}
@@ -1,13 +1,14 @@
 package com.PickOne.domain.messaging.service;
 
+import com.PickOne.domain.messaging.model.domain.Conversation;
 import com.PickOne.domain.messaging.model.domain.Message;
+import com.PickOne.domain.messaging.model.domain.MessageAck;
 import com.PickOne.domain.notification.model.domain.Notification;
 import com.PickOne.domain.notification.model.domain.NotificationType;
 import com.PickOne.domain.notification.service.NotificationService;
 import com.PickOne.domain.user.model.domain.User;
 import com.PickOne.domain.user.service.UserService;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.Optional;
@@ -22,6 +23,14 @@ public interface MessagingService {
      */
     Message sendMessage(Long fromUserId, Long toUserId, String content);
 
+    /**
+     * 클라이언트 메시지 ID를 붙여 메시지 전송
+     * 같은 발신자가 같은 ID로 다시 보내면 새로 저장하지 않고 처음 전송된 메시지를 반환
+     *
+     * @param clientMessageId 클라이언트가 만든 메시지 ID (null이면 중복 확인 없이 전송)
+     */
+    Message sendMessage(Long fromUserId, Long toUserId, String content, String clientMessageId);
+
     /**
      * 메시지를 전송됨으로 표시
      */
@@ -32,15 +41,36 @@ public interface MessagingService {
      */
     Message markMessageRead(String messageId);
 
+    /**
+     * 대화에서 upToMessageId까지 사용자가 받은 메시지를 모두 읽음으로 표시
+     *
+     * @return 읽음으로 전이된 메시지 수
+     */
+    long markConversationRead(Long userId, Long peerId, String upToMessageId);
+
+    /**
+     * 여러 수신·읽음 확인을 한 번의 조회와 한 번의 bulkWrite로 반영
+     * 수신자가 아닌 사용자의 확인과 이미 더 앞선 상태인 메시지는 무시하며, 발신자에게는 상대방·상태별로 묶은 확인 이벤트를 보낸다
+     *
+     * @return 전이된 메시지 수
+     */
+    long acknowledge(List<MessageAck> acks);
+
     /**
      * ID로 메시지 가져오기
      */
     Optional<Message> getMessage(String messageId);
 
     /**
-     * 두 사용자 간의 대화 가져오기
+     * 두 사용자 간의 대화를 커서 이전부터 최신순으로 가져오기
+     * 커서가 없으면 가장 최근 메시지부터 조회
+     */
+    Slice<Message> getConversation(Long userId1, Long userId2, String cursor, int size);
+
+    /**
+     * 재연결한 클라이언트가 놓친 메시지를 순번 afterSequence 이후부터 오름차순으로 가져오기
      */
-    Page<Message> getConversation(Long userId1, Long userId2, Pageable pageable);
+    Slice<Message> getMessagesSince(Long userId, Long peerId, long afterSequence, int size);
 
     /**
      * 사용자의 읽지 않은 메시지 모두 가져오기
@@ -53,7 +83,7 @@ public interface MessagingService {
     long countUnreadMessages(Long userId);
 
     /**
-     * 사용자의 최근 대화 가져오기
+     * 사용자의 최근 대화 목록을 최대 limit개 가져오기
      */
-    List<Message> getRecentConversations(Long userId);
+    List<Conversation> getRecentConversations(Long userId, int limit);
 }
\ No newline at end of file
@@ -1,23 +1,36 @@
 package com.PickOne.domain.messaging.service;
 
-import com.PickOne.domain.messaging.dto.MessageDto;
+import com.PickOne.domain.messaging.dto.ReceiptEventDto;
+import com.PickOne.domain.messaging.model.domain.Conversation;
 import com.PickOne.domain.messaging.model.domain.Message;
+import com.PickOne.domain.messaging.model.domain.MessageAck;
+import com.PickOne.domain.messaging.model.domain.MessageCursor;
+import com.PickOne.domain.messaging.model.domain.MessageStatus;
+import com.PickOne.domain.messaging.model.domain.MessageTransition;
+import com.PickOne.domain.messaging.repository.ConversationRepository;
+import com.PickOne.domain.messaging.repository.ConversationSequenceRepository;
 import com.PickOne.domain.messaging.repository.MessageRepository;
-import com.PickOne.domain.notification.model.domain.NotificationType;
-import com.PickOne.domain.notification.service.NotificationService;
+import com.PickOne.domain.user.model.domain.User;
 import com.PickOne.domain.user.service.UserService;
 import com.PickOne.global.exception.BusinessException;
 import com.PickOne.global.exception.ErrorCode;
+import com.PickOne.global.messaging.counter.UnreadCounter;
+import com.PickOne.global.messaging.counter.UnreadCounterType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * MessagingService의 구현
@@ -28,33 +41,40 @@ import java.util.Optional;
 public class MessagingServiceImpl implements MessagingService {
 
     private final MessageRepository messageRepository;
+    private final ConversationRepository conversationRepository;
+    private final ConversationSequenceRepository sequenceRepository;
     private final UserService userService;
-    private final NotificationService notificationService;
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final ChannelTopic messageTopic;
+    private final UnreadCounter unreadCounter;
+    private final MessageSendPipeline sendPipeline;
+    private final MessageSendDeduplicator sendDeduplicator;
+
+    @Override
+    public Message sendMessage(Long fromUserId, Long toUserId, String content, String clientMessageId) {
+        if (clientMessageId == null) {
+            return sendMessage(fromUserId, toUserId, content);
+        }
+        // 재시도된 요청은 사용자 조회부터 전달까지 아무 단계도 다시 실행하지 않음
+        return sendDeduplicator.sendOnce(fromUserId, clientMessageId,
+                () -> sendMessage(fromUserId, toUserId, content));
+    }
 
     @Override
     public Message sendMessage(Long fromUserId, Long toUserId, String content) {
-        // 두 사용자가 모두 존재하는지 확인
-        userService.findById(fromUserId);
+        // 두 사용자가 모두 존재하는지 확인 (발신자 정보는 알림 문구에 재사용)
+        User sender = userService.findById(fromUserId);
         userService.findById(toUserId);
 
-        // 메시지 생성 및 저장
+        // 대화 내 순번을 발급한 뒤 그룹 커밋으로 저장, 저장이 확인될 때까지 대기
         Message message = Message.create(fromUserId, toUserId, content);
-        Message savedMessage = messageRepository.save(message);
+        message = message.withSequence(sequenceRepository.next(message.getConversationId()));
+        Message savedMessage = messageRepository.insert(message).join();
 
-        // 수신자를 위한 알림 생성
-        notificationService.createNotification(
-                toUserId,
-                NotificationType.NEW_MESSAGE,
-                String.format("%s님이 새 메시지를 보냈습니다", userService.findById(fromUserId).getEmailValue()),
-                "message",
-                fromUserId
-        );
+        // 읽음 전이와 순서가 어긋나지 않도록 대화 목록과 읽지 않은 메시지 수는 요청 스레드에서 갱신
+        conversationRepository.recordMessage(savedMessage);
+        unreadCounter.increment(UnreadCounterType.MESSAGE, toUserId);
 
-        // 실시간 전달을 위해 Redis에 메시지 게시
-        MessageDto messageDto = MessageDto.fromDomain(savedMessage);
-        redisTemplate.convertAndSend(messageTopic.getTopic(), messageDto);
+        // 저장이 끝났으므로 알림 생성과 실시간 전달은 비동기 단계로 넘기고 바로 응답
+        sendPipeline.dispatch(savedMessage, sender.getEmailValue());
 
         log.info("사용자 {}가 사용자 {}에게 메시지를 전송했습니다", fromUserId, toUserId);
         return savedMessage;
@@ -62,20 +82,142 @@ public class MessagingServiceImpl implements MessagingService {
 
     @Override
     public Message markMessageDelivered(String messageId) {
-        Message message = getMessage(messageId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND));
+        // SENT 상태일 때만 조건부로 전이하므로 동시 수신 확인이 서로를 덮어쓰지 않음
+        Optional<MessageTransition> transition = messageRepository.markDelivered(messageId, LocalDateTime.now());
+        if (transition.isEmpty()) {
+            return getExistingMessage(messageId);
+        }
 
-        Message deliveredMessage = message.markDelivered();
-        return messageRepository.save(deliveredMessage);
+        Message deliveredMessage = transition.get().message();
+        conversationRepository.updateLastMessageStatus(deliveredMessage);
+        unreadCounter.decrement(UnreadCounterType.MESSAGE, deliveredMessage.getRecipientIdValue());
+        return deliveredMessage;
     }
 
     @Override
     public Message markMessageRead(String messageId) {
-        Message message = getMessage(messageId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND));
+        Optional<MessageTransition> transition = messageRepository.markRead(messageId, LocalDateTime.now());
+        if (transition.isEmpty()) {
+            return getExistingMessage(messageId);
+        }
 
-        Message readMessage = message.markRead();
-        return messageRepository.save(readMessage);
+        Message readMessage = transition.get().message();
+        conversationRepository.decreaseUnreadCount(
+                readMessage.getRecipientIdValue(), readMessage.getSenderIdValue(), 1);
+        conversationRepository.updateLastMessageStatus(readMessage);
+        if (transition.get().wasUnread()) {
+            unreadCounter.decrement(UnreadCounterType.MESSAGE, readMessage.getRecipientIdValue());
+        }
+        return readMessage;
+    }
+
+    @Override
+    public long markConversationRead(Long userId, Long peerId, String upToMessageId) {
+        Message watermark = getExistingMessage(upToMessageId);
+
+        String conversationId = Message.conversationIdOf(userId, peerId);
+        if (!conversationId.equals(watermark.getConversationId())) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        // 원래 상태별로 한 번씩만 갱신하여, SENT에서 전이된 수만큼 배지 카운터를 정확히 줄임
+        LocalDateTime readAt = LocalDateTime.now();
+        long readFromSent = messageRepository.markReadUpTo(
+                conversationId, userId, watermark.getSentAt(), MessageStatus.SENT, readAt);
+        long readFromDelivered = messageRepository.markReadUpTo(
+                conversationId, userId, watermark.getSentAt(), MessageStatus.DELIVERED, readAt);
+
+        long readCount = readFromSent + readFromDelivered;
+        if (readCount > 0) {
+            conversationRepository.decreaseUnreadCount(userId, peerId, readCount);
+            unreadCounter.decrement(UnreadCounterType.MESSAGE, userId, readFromSent);
+            if (userId.equals(watermark.getRecipientIdValue())) {
+                conversationRepository.updateLastMessageStatus(watermark.markRead(readAt));
+            }
+            // 개별 ID 대신 기준 메시지 하나로 상대방에게 알림
+            sendPipeline.dispatchReceipt(peerId, new ReceiptEventDto(
+                    userId, MessageStatus.READ.name(), List.of(), upToMessageId, readAt));
+        }
+
+        log.debug("사용자 {}가 대화 {}의 메시지 {}개를 읽음으로 표시했습니다", userId, conversationId, readCount);
+        return readCount;
+    }
+
+    @Override
+    public long acknowledge(List<MessageAck> acks) {
+        // 같은 메시지의 확인이 여러 번 오면 가장 앞선 상태 하나만 남김
+        Map<String, MessageAck> latest = new LinkedHashMap<>();
+        for (MessageAck ack : acks) {
+            latest.merge(ack.messageId(), ack,
+                    (current, next) -> next.status().ordinal() > current.status().ordinal() ? next : current);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<MessageTransition> transitions = new ArrayList<>();
+        for (Message message : messageRepository.findAllById(latest.keySet())) {
+            MessageAck ack = latest.get(message.getId());
+            // 수신자 본인의 확인만 반영하고, 상태는 앞으로만 전이
+            if (!message.getRecipientIdValue().equals(ack.userId())
+                    || message.getStatus().ordinal() >= ack.status().ordinal()) {
+                continue;
+            }
+            Message next = ack.status() == MessageStatus.READ ? message.markRead(now) : message.markDelivered(now);
+            transitions.add(new MessageTransition(message.getStatus(), next));
+        }
+        if (transitions.isEmpty()) {
+            return 0;
+        }
+
+        // 다른 노드의 확인이 먼저 반영된 전이는 그쪽에서 후속 처리하므로, 실제로 적용된 전이만 반영
+        List<MessageTransition> applied = messageRepository.applyTransitions(transitions);
+        if (applied.size() < transitions.size()) {
+            log.debug("확인 {}건 중 {}건만 전이되었습니다", transitions.size(), applied.size());
+        }
+        if (!applied.isEmpty()) {
+            applyAcknowledged(applied, now);
+        }
+        return applied.size();
+    }
+
+    /**
+     * 전이된 메시지에 맞춰 배지 카운터와 대화 목록을 수신자·대화 단위로 한 번씩 갱신하고 발신자에게 확인을 보냄
+     */
+    private void applyAcknowledged(List<MessageTransition> transitions, LocalDateTime at) {
+        transitions.stream()
+                .filter(MessageTransition::wasUnread)
+                .collect(Collectors.groupingBy(transition -> transition.message().getRecipientIdValue(),
+                        Collectors.counting()))
+                .forEach((recipientId, count) -> unreadCounter.decrement(UnreadCounterType.MESSAGE, recipientId, count));
+
+        transitions.stream()
+                .map(MessageTransition::message)
+                .filter(message -> message.getStatus() == MessageStatus.READ)
+                .collect(Collectors.groupingBy(
+                        message -> Conversation.idOf(message.getRecipientIdValue(), message.getSenderIdValue())))
+                .values()
+                .forEach(read -> conversationRepository.decreaseUnreadCount(
+                        read.get(0).getRecipientIdValue(), read.get(0).getSenderIdValue(), read.size()));
+
+        // 대화의 마지막 메시지일 수 있는 것은 배치에서 가장 최근 메시지뿐
+        transitions.stream()
+                .map(MessageTransition::message)
+                .collect(Collectors.groupingBy(Message::getConversationId,
+                        Collectors.maxBy(Comparator.comparing(Message::getSentAt))))
+                .values()
+                .forEach(last -> last.ifPresent(conversationRepository::updateLastMessageStatus));
+
+        transitions.stream()
+                .map(MessageTransition::message)
+                .collect(Collectors.groupingBy(message -> new ReceiptKey(
+                        message.getSenderIdValue(), message.getRecipientIdValue(), message.getStatus()),
+                        LinkedHashMap::new, Collectors.mapping(Message::getId, Collectors.toList())))
+                .forEach((key, messageIds) -> sendPipeline.dispatchReceipt(key.senderId(), new ReceiptEventDto(
+                        key.recipientId(), key.status().name(), messageIds, null, at)));
+    }
+
+    private Message getExistingMessage(String messageId) {
+        return getMessage(messageId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND));
     }
 
     @Override
@@ -84,12 +226,47 @@ public class MessagingServiceImpl implements MessagingService {
     }
 
     @Override
-    public Page<Message> getConversation(Long userId1, Long userId2, Pageable pageable) {
+    public Slice<Message> getConversation(Long userId1, Long userId2, String cursor, int size) {
         // 두 사용자가 모두 존재하는지 확인
         userService.findById(userId1);
         userService.findById(userId2);
 
-        return messageRepository.findConversation(userId1, userId2, pageable);
+        MessageCursor before = decodeCursor(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<Message> messages = messageRepository.findConversation(
+                Message.conversationIdOf(userId1, userId2), before, size + 1);
+
+        boolean hasNext = messages.size() > size;
+        List<Message> content = hasNext ? messages.subList(0, size) : messages;
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+    }
+
+    @Override
+    public Slice<Message> getMessagesSince(Long userId, Long peerId, long afterSequence, int size) {
+        if (afterSequence < 0) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        // 재연결 직후 요청이 몰리므로 사용자 조회 없이 (conversationId, sequence) 인덱스만 사용
+        List<Message> messages = messageRepository.findConversationAfterSequence(
+                Message.conversationIdOf(userId, peerId), afterSequence, size + 1);
+
+        boolean hasNext = messages.size() > size;
+        List<Message> content = hasNext ? messages.subList(0, size) : messages;
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+    }
+
+    private MessageCursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            return MessageCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
     }
 
     @Override
@@ -102,17 +279,19 @@ public class MessagingServiceImpl implements MessagingService {
 
     @Override
     public long countUnreadMessages(Long userId) {
-        // 사용자가 존재하는지 확인
-        userService.findById(userId);
-
-        return messageRepository.countUnreadMessages(userId);
+        // 배지 조회는 Redis 카운터만 사용하며, 카운터가 없을 때만 MongoDB에서 적재
+        return unreadCounter.get(UnreadCounterType.MESSAGE, userId,
+                () -> messageRepository.countUnreadMessages(userId));
     }
 
     @Override
-    public List<Message> getRecentConversations(Long userId) {
+    public List<Conversation> getRecentConversations(Long userId, int limit) {
         // 사용자가 존재하는지 확인
         userService.findById(userId);
 
-        return messageRepository.findRecentConversations(userId);
+        return conversationRepository.findRecentForUser(userId, limit);
+    }
+
+    private record ReceiptKey(Long senderId, Long recipientId, MessageStatus status) {
     }
 }
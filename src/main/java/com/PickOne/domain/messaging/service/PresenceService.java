@@ -0,0 +1,114 @@
+package com.PickOne.domain.messaging.service;
+
+import com.PickOne.domain.messaging.dto.PresenceEventDto;
+import com.PickOne.domain.messaging.model.domain.Conversation;
+import com.PickOne.domain.messaging.repository.ConversationRepository;
+import com.PickOne.global.messaging.delivery.DeliveryChannel;
+import com.PickOne.global.messaging.delivery.UserDestinationRouter;
+import com.PickOne.global.messaging.presence.PresenceChangedEvent;
+import com.PickOne.global.messaging.presence.PresenceRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자 접속 상태 조회와 대화 상대에게의 상태 변경 전파
+ * 변경된 사용자를 모아 두었다가 주기적으로 실제 상태를 다시 확인하므로,
+ * 짧은 시간 안에 끊겼다 다시 붙는 연결은 상대에게 아무 이벤트도 만들지 않는다
+ * 마지막으로 알린 상태는 Redis에 두어, 사용자가 다른 노드에서 붙거나 끊겨도 모든 노드가 같은 기준으로 판단한다
+ */
+@Service
+@Slf4j
+public class PresenceService {
+
+    private final PresenceRegistry presenceRegistry;
+    private final ConversationRepository conversationRepository;
+    private final UserDestinationRouter destinationRouter;
+    private final int peerLimit;
+
+    private final Set<Long> changedUsers = ConcurrentHashMap.newKeySet();
+
+    public PresenceService(PresenceRegistry presenceRegistry,
+                           ConversationRepository conversationRepository,
+                           UserDestinationRouter destinationRouter,
+                           @Value("${app.messaging.presence.fanout-peers:50}") int peerLimit) {
+        this.presenceRegistry = presenceRegistry;
+        this.conversationRepository = conversationRepository;
+        this.destinationRouter = destinationRouter;
+        this.peerLimit = peerLimit;
+    }
+
+    /**
+     * 여러 사용자의 접속 여부를 한 번에 조회
+     */
+    public Map<Long, Boolean> getOnlineStatus(Collection<Long> userIds) {
+        return presenceRegistry.onlineStatus(userIds);
+    }
+
+    @EventListener
+    public void onPresenceChanged(PresenceChangedEvent event) {
+        changedUsers.add(event.userId());
+    }
+
+    /**
+     * 모아 둔 변경을 한 번에 확인하고, 마지막으로 알린 상태와 달라진 사용자만 전파
+     */
+    @Scheduled(fixedDelayString = "${app.messaging.presence.fanout-interval-ms:2000}")
+    public void flush() {
+        List<Long> users = drainChangedUsers();
+        if (users.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Boolean> status = presenceRegistry.onlineStatus(users);
+        Map<Long, Boolean> current = new HashMap<>(users.size());
+        users.forEach(userId -> current.put(userId, status.getOrDefault(userId, false)));
+
+        LocalDateTime changedAt = LocalDateTime.now();
+        for (Long userId : presenceRegistry.recordAnnounced(current)) {
+            try {
+                announce(userId, current.get(userId), changedAt);
+            } catch (Exception e) {
+                log.error("사용자 {}의 접속 상태 전파에 실패했습니다", userId, e);
+            }
+        }
+    }
+
+    private void announce(Long userId, boolean online, LocalDateTime changedAt) {
+        List<Long> peers = conversationRepository.findRecentForUser(userId, peerLimit).stream()
+                .map(Conversation::getPeerId)
+                .toList();
+        if (peers.isEmpty()) {
+            return;
+        }
+
+        // 접속 중인 상대에게만 라우팅하도록 상태를 한 번에 조회
+        Map<Long, Boolean> peerStatus = presenceRegistry.onlineStatus(peers);
+        peers.stream()
+                .filter(peerId -> peerStatus.getOrDefault(peerId, false))
+                .forEach(peerId -> destinationRouter.sendToUser(DeliveryChannel.PRESENCE, peerId,
+                        new PresenceEventDto(peerId, userId, online, changedAt)));
+    }
+
+    private List<Long> drainChangedUsers() {
+        List<Long> users = new ArrayList<>();
+        Iterator<Long> iterator = changedUsers.iterator();
+        while (iterator.hasNext()) {
+            users.add(iterator.next());
+            iterator.remove();
+        }
+        return users;
+    }
+}
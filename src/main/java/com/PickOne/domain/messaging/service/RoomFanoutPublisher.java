@@ -0,0 +1,73 @@
+package com.PickOne.domain.messaging.service;
+
+import com.PickOne.domain.messaging.dto.RoomMessageDto;
+import com.PickOne.domain.messaging.model.domain.Room;
+import com.PickOne.domain.messaging.model.domain.RoomFanout;
+import com.PickOne.domain.messaging.model.domain.RoomMessage;
+import com.PickOne.global.messaging.config.MessagingExecutorConfig;
+import com.PickOne.global.messaging.delivery.DeliveryChannel;
+import com.PickOne.global.messaging.delivery.RoomBroadcaster;
+import com.PickOne.global.messaging.delivery.UserDestinationRouter;
+import com.PickOne.global.messaging.dispatch.StripedDispatchExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 저장된 방 메시지를 전달 단계 실행기에서 실시간으로 전달
+ * 방을 키로 실행기에 넣어 같은 방의 메시지는 저장된 순서대로 전달된다
+ * 작은 방은 접속 중인 멤버의 사용자 큐로 각각 보내고, 큰 방은 방 토픽으로 한 번만 게시한다
+ */
+@Component
+@Slf4j
+public class RoomFanoutPublisher {
+
+    private final UserDestinationRouter destinationRouter;
+    private final RoomBroadcaster roomBroadcaster;
+    private final StripedDispatchExecutor deliveryStageExecutor;
+    private final MeterRegistry meterRegistry;
+
+    public RoomFanoutPublisher(UserDestinationRouter destinationRouter,
+                               RoomBroadcaster roomBroadcaster,
+                               @Qualifier(MessagingExecutorConfig.DELIVERY_STAGE_EXECUTOR) StripedDispatchExecutor deliveryStageExecutor,
+                               MeterRegistry meterRegistry) {
+        this.destinationRouter = destinationRouter;
+        this.roomBroadcaster = roomBroadcaster;
+        this.deliveryStageExecutor = deliveryStageExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 방 메시지의 실시간 전달을 예약
+     */
+    public void dispatch(Room room, RoomMessage message, RoomFanout fanout) {
+        boolean accepted = deliveryStageExecutor.execute(room.getId(), () -> {
+            try {
+                publish(room, message, fanout);
+            } catch (Exception e) {
+                // 메시지는 이미 저장되었으므로 멤버는 순번 동기화로 받아감
+                meterRegistry.counter("messaging.pipeline.failures", "stage", "room-delivery").increment();
+                log.error("방 {} 메시지 {}의 실시간 전달에 실패했습니다", room.getId(), message.getId(), e);
+            }
+        });
+        if (!accepted) {
+            meterRegistry.counter("messaging.pipeline.failures", "stage", "room-delivery").increment();
+        }
+    }
+
+    private void publish(Room room, RoomMessage message, RoomFanout fanout) {
+        RoomMessageDto payload = RoomMessageDto.fromDomain(message);
+        meterRegistry.counter("messaging.room.fanout", "strategy", fanout.name()).increment();
+
+        if (fanout == RoomFanout.READ) {
+            roomBroadcaster.broadcast(room.getId(), payload);
+            return;
+        }
+        for (Long memberId : room.getMemberIds()) {
+            if (!memberId.equals(message.getSenderId())) {
+                destinationRouter.sendToUser(DeliveryChannel.ROOMS, memberId, payload);
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.PickOne.domain.messaging.service;
+
+import com.PickOne.domain.messaging.model.domain.RoomMessage;
+import com.PickOne.domain.messaging.model.domain.RoomSummary;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * 밴드 채팅방 기능을 위한 서비스 인터페이스
+ */
+public interface RoomService {
+
+    /**
+     * 방 생성 (요청자가 방장이 됨)
+     */
+    RoomSummary createRoom(Long ownerId, String name, List<Long> memberIds);
+
+    /**
+     * 방에 멤버 추가 (요청자는 방 멤버여야 함)
+     */
+    RoomSummary addMembers(Long requesterId, String roomId, List<Long> memberIds);
+
+    /**
+     * 방에 메시지 전송
+     * 방 크기에 따라 멤버별 큐 또는 방 토픽으로 실시간 전달된다
+     */
+    RoomMessage sendMessage(Long senderId, String roomId, String content);
+
+    /**
+     * beforeSequence 이전의 방 메시지를 최신순으로 조회 (null이면 가장 최근부터)
+     */
+    Slice<RoomMessage> getMessages(Long userId, String roomId, Long beforeSequence, int size);
+
+    /**
+     * afterSequence 이후의 방 메시지를 오래된 순으로 조회
+     */
+    Slice<RoomMessage> getMessagesSince(Long userId, String roomId, long afterSequence, int size);
+
+    /**
+     * 방의 읽음 커서를 upToSequence까지 이동
+     *
+     * @return 남은 읽지 않은 메시지 수
+     */
+    long markRead(Long userId, String roomId, long upToSequence);
+
+    /**
+     * 사용자가 속한 방 목록을 최근 메시지 순으로 조회
+     */
+    List<RoomSummary> getRooms(Long userId, int limit);
+}
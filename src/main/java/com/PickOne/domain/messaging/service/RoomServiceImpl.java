@@ -0,0 +1,165 @@
+package com.PickOne.domain.messaging.service;
+
+import com.PickOne.domain.messaging.model.domain.Room;
+import com.PickOne.domain.messaging.model.domain.RoomMessage;
+import com.PickOne.domain.messaging.model.domain.RoomSummary;
+import com.PickOne.domain.messaging.repository.ConversationSequenceRepository;
+import com.PickOne.domain.messaging.repository.RoomRepository;
+import com.PickOne.domain.user.service.UserService;
+import com.PickOne.global.exception.BusinessException;
+import com.PickOne.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * RoomService의 구현
+ * 메시지는 방마다 한 번만 저장하고, 읽지 않은 수는 방 순번과 멤버 읽음 커서로 조회 시 계산한다
+ */
+@Service
+@Slf4j
+public class RoomServiceImpl implements RoomService {
+
+    private final RoomRepository roomRepository;
+    private final ConversationSequenceRepository sequenceRepository;
+    private final UserService userService;
+    private final RoomFanoutPublisher fanoutPublisher;
+    private final int maxMembers;
+    private final int writeFanoutMaxMembers;
+
+    public RoomServiceImpl(RoomRepository roomRepository,
+                           ConversationSequenceRepository sequenceRepository,
+                           UserService userService,
+                           RoomFanoutPublisher fanoutPublisher,
+                           @Value("${app.messaging.room.max-members:1000}") int maxMembers,
+                           @Value("${app.messaging.room.fanout-write-max-members:50}") int writeFanoutMaxMembers) {
+        this.roomRepository = roomRepository;
+        this.sequenceRepository = sequenceRepository;
+        this.userService = userService;
+        this.fanoutPublisher = fanoutPublisher;
+        this.maxMembers = maxMembers;
+        this.writeFanoutMaxMembers = writeFanoutMaxMembers;
+    }
+
+    @Override
+    public RoomSummary createRoom(Long ownerId, String name, List<Long> memberIds) {
+        Set<Long> invited = distinct(memberIds);
+        invited.remove(ownerId);
+        if (invited.size() + 1 > maxMembers) {
+            throw new BusinessException(ErrorCode.ROOM_MEMBER_LIMIT_EXCEEDED);
+        }
+        invited.forEach(userService::findById);
+
+        Room room = roomRepository.insert(Room.create(ownerId, name, invited));
+        log.info("사용자 {}가 멤버 {}명의 채팅방 {}를 만들었습니다", ownerId, room.getMemberCount(), room.getId());
+        return summarize(room, 0L);
+    }
+
+    @Override
+    public RoomSummary addMembers(Long requesterId, String roomId, List<Long> memberIds) {
+        Room room = getRoomForMember(roomId, requesterId);
+
+        Set<Long> added = distinct(memberIds);
+        added.removeAll(room.getMemberIds());
+        if (added.isEmpty()) {
+            return summarize(room, readSequenceOf(requesterId, room));
+        }
+        if (room.getMemberCount() + added.size() > maxMembers) {
+            throw new BusinessException(ErrorCode.ROOM_MEMBER_LIMIT_EXCEEDED);
+        }
+        added.forEach(userService::findById);
+
+        Room updated = roomRepository.addMembers(roomId, added)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ROOM_NOT_FOUND));
+        return summarize(updated, readSequenceOf(requesterId, updated));
+    }
+
+    @Override
+    public RoomMessage sendMessage(Long senderId, String roomId, String content) {
+        Room room = getRoomForMember(roomId, senderId);
+
+        RoomMessage message = RoomMessage.create(roomId, senderId, content);
+        message = message.withSequence(sequenceRepository.next(Room.sequenceKeyOf(roomId)));
+        RoomMessage saved = roomRepository.insertMessage(message);
+
+        // 보낸 메시지까지는 읽은 것으로 처리
+        roomRepository.advanceReadSequence(roomId, senderId, saved.getSequence());
+
+        fanoutPublisher.dispatch(room, saved, room.fanout(writeFanoutMaxMembers));
+        return saved;
+    }
+
+    @Override
+    public Slice<RoomMessage> getMessages(Long userId, String roomId, Long beforeSequence, int size) {
+        requireMember(roomId, userId);
+        return toSlice(roomRepository.findMessagesBefore(roomId, beforeSequence, size + 1), size);
+    }
+
+    @Override
+    public Slice<RoomMessage> getMessagesSince(Long userId, String roomId, long afterSequence, int size) {
+        requireMember(roomId, userId);
+        return toSlice(roomRepository.findMessagesAfter(roomId, afterSequence, size + 1), size);
+    }
+
+    @Override
+    public long markRead(Long userId, String roomId, long upToSequence) {
+        Room room = getRoomForMember(roomId, userId);
+
+        // 아직 발급되지 않은 순번까지 읽음으로 표시하지 않도록 방 순번으로 제한
+        long target = Math.min(upToSequence, room.getLastSequence());
+        roomRepository.advanceReadSequence(roomId, userId, target);
+        return summarize(room, readSequenceOf(userId, room)).unreadCount();
+    }
+
+    @Override
+    public List<RoomSummary> getRooms(Long userId, int limit) {
+        List<Room> rooms = roomRepository.findRecentForMember(userId, limit);
+        Map<String, Long> readSequences = roomRepository.findReadSequences(userId,
+                rooms.stream().map(Room::getId).toList());
+
+        return rooms.stream()
+                .map(room -> summarize(room, readSequences.getOrDefault(room.getId(), 0L)))
+                .toList();
+    }
+
+    private Room getRoomForMember(String roomId, Long userId) {
+        Room room = roomRepository.findById(roomId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ROOM_NOT_FOUND));
+        if (!room.isMember(userId)) {
+            throw new BusinessException(ErrorCode.NOT_ROOM_MEMBER);
+        }
+        return room;
+    }
+
+    private void requireMember(String roomId, Long userId) {
+        if (!roomRepository.isMember(roomId, userId)) {
+            throw new BusinessException(ErrorCode.NOT_ROOM_MEMBER);
+        }
+    }
+
+    private long readSequenceOf(Long userId, Room room) {
+        return roomRepository.findReadSequences(userId, List.of(room.getId())).getOrDefault(room.getId(), 0L);
+    }
+
+    private RoomSummary summarize(Room room, long lastReadSequence) {
+        return new RoomSummary(room, lastReadSequence, room.fanout(writeFanoutMaxMembers));
+    }
+
+    private static Set<Long> distinct(List<Long> memberIds) {
+        return memberIds != null ? new LinkedHashSet<>(memberIds) : new LinkedHashSet<>();
+    }
+
+    private static Slice<RoomMessage> toSlice(List<RoomMessage> messages, int size) {
+        boolean hasNext = messages.size() > size;
+        List<RoomMessage> content = hasNext ? messages.subList(0, size) : messages;
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+    }
+}
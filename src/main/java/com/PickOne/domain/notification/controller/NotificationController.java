@@ -1,6 +1,7 @@
 package com.PickOne.domain.notification.controller;
 
 import com.PickOne.domain.notification.dto.NotificationDto;
+import com.PickOne.domain.notification.dto.NotificationSliceDto;
 import com.PickOne.domain.notification.model.domain.Notification;
 import com.PickOne.domain.notification.model.domain.NotificationType;
 import com.PickOne.domain.notification.service.NotificationService;
@@ -10,8 +11,10 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
@@ -20,8 +23,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import java.security.Principal;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.time.LocalDateTime;
 
 @RestController
 @RequestMapping("/api/notifications")
@@ -29,6 +31,11 @@ import java.util.stream.Collectors;
 @Tag(name = "알림 API", description = "실시간 알림 관련 API")
 public class NotificationController {
 
+    /**
+     * 커서 조회 한 번에 반환하는 최대 알림 수
+     */
+    private static final int MAX_FEED_PAGE_SIZE = 100;
+
     private final NotificationService notificationService;
 
     /**
@@ -47,19 +54,37 @@ public class NotificationController {
     }
 
     /**
-     * 현재 사용자의 읽지 않은 알림을 조회하는 REST 엔드포인트
+     * 현재 사용자의 알림 피드를 커서 기반으로 조회하는 REST 엔드포인트
+     * before 커서 이전의 알림을 최신순으로 반환
      */
-    @Operation(summary = "읽지 않은 알림 목록 조회", description = "읽지 않은 알림 목록을 조회합니다.")
-    @GetMapping("/unread")
-    public ResponseEntity<BaseResponse<List<NotificationDto>>> getUnreadNotifications() {
+    @Operation(summary = "알림 피드 조회", description = "알림을 커서 이전부터 최신순으로 조회합니다.")
+    @GetMapping("/feed")
+    public ResponseEntity<BaseResponse<NotificationSliceDto>> getNotificationFeed(
+            @RequestParam(required = false) String before,
+            @RequestParam(defaultValue = "20") int size) {
+
         Long currentUserId = getCurrentUserId();
-        List<Notification> unreadNotifications = notificationService.getUnreadNotificationsForUser(currentUserId);
+        int pageSize = Math.max(1, Math.min(size, MAX_FEED_PAGE_SIZE));
+        Slice<Notification> feed = notificationService.getNotificationFeed(currentUserId, before, pageSize);
 
-        List<NotificationDto> notificationDtos = unreadNotifications.stream()
-                .map(NotificationDto::fromDomain)
-                .collect(Collectors.toList());
+        return BaseResponse.success(NotificationSliceDto.fromDomain(feed));
+    }
 
-        return BaseResponse.success(notificationDtos);
+    /**
+     * 현재 사용자의 읽지 않은 알림을 커서 기반으로 조회하는 REST 엔드포인트
+     */
+    @Operation(summary = "읽지 않은 알림 목록 조회", description = "읽지 않은 알림을 커서 이전부터 최신순으로 조회합니다.")
+    @GetMapping("/unread")
+    public ResponseEntity<BaseResponse<NotificationSliceDto>> getUnreadNotifications(
+            @RequestParam(required = false) String before,
+            @RequestParam(defaultValue = "20") int size) {
+
+        Long currentUserId = getCurrentUserId();
+        int pageSize = Math.max(1, Math.min(size, MAX_FEED_PAGE_SIZE));
+        Slice<Notification> unreadNotifications =
+                notificationService.getUnreadNotificationsForUser(currentUserId, before, pageSize);
+
+        return BaseResponse.success(NotificationSliceDto.fromDomain(unreadNotifications));
     }
 
     /**
@@ -88,14 +113,18 @@ public class NotificationController {
 
     /**
      * 모든 알림을 읽음 상태로 표시하는 REST 엔드포인트
+     * upTo를 주면 그 시각까지 받은 알림만 읽음으로 표시하고, 응답으로 표시된 알림 수를 돌려줌
      */
-    @Operation(summary = "모든 알림 읽음 표시", description = "모든 알림을 읽음 상태로 표시합니다.")
+    @Operation(summary = "모든 알림 읽음 표시", description = "모든 알림(또는 upTo 시각까지의 알림)을 읽음 상태로 표시합니다.")
     @PostMapping("/read-all")
-    public ResponseEntity<BaseResponse<Void>> markAllNotificationsRead() {
+    public ResponseEntity<BaseResponse<Long>> markAllNotificationsRead(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime upTo) {
         Long currentUserId = getCurrentUserId();
-        notificationService.markAllNotificationsReadForUser(currentUserId);
+        long readCount = upTo == null
+                ? notificationService.markAllNotificationsReadForUser(currentUserId)
+                : notificationService.markNotificationsReadUpTo(currentUserId, upTo);
 
-        return BaseResponse.success();
+        return BaseResponse.success(readCount);
     }
 
     /**
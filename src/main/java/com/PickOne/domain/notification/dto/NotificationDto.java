@@ -16,7 +16,8 @@ public record NotificationDto(
         String refEntityType,
         Long refEntityId,
         LocalDateTime createdAt,
-        LocalDateTime readAt
+        LocalDateTime readAt,
+        int count
 ) {
     /**
      * 도메인 객체로부터 DTO 생성
@@ -31,7 +32,8 @@ public record NotificationDto(
                 notification.getRefEntityType(),
                 notification.getRefEntityIdValue(),
                 notification.getCreatedAt(),
-                notification.getReadAt()
+                notification.getReadAt(),
+                notification.getCount()
         );
     }
 }
\ No newline at end of file
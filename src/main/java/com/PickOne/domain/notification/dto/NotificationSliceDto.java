@@ -0,0 +1,33 @@
+package com.PickOne.domain.notification.dto;
+
+import com.PickOne.domain.notification.model.domain.Notification;
+import com.PickOne.domain.notification.model.domain.NotificationCursor;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * 커서 기반 알림 조회 결과 DTO
+ * nextCursor를 다음 요청의 before 파라미터로 전달하면 이전 알림을 이어서 조회할 수 있음
+ */
+public record NotificationSliceDto(
+        List<NotificationDto> notifications,
+        String nextCursor,
+        boolean hasNext
+) {
+    /**
+     * 도메인 슬라이스로부터 DTO 생성
+     */
+    public static NotificationSliceDto fromDomain(Slice<Notification> slice) {
+        List<Notification> content = slice.getContent();
+        String nextCursor = slice.hasNext() && !content.isEmpty()
+                ? NotificationCursor.of(content.get(content.size() - 1)).encode()
+                : null;
+
+        return new NotificationSliceDto(
+                content.stream().map(NotificationDto::fromDomain).toList(),
+                nextCursor,
+                slice.hasNext()
+        );
+    }
+}
@@ -6,6 +6,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -25,9 +26,25 @@ public class Notification {
     private LocalDateTime createdAt;
     private LocalDateTime readAt;
 
+    /**
+     * 합치기 키 (유형 + 참조 대상), 합치지 않는 유형이면 null
+     */
+    private String collapseKey;
+
+    /**
+     * 이 알림에 합쳐진 이벤트 수
+     */
+    private int count;
+
+    /**
+     * 보존 기간이 끝나 삭제될 시각 (읽기 전이거나 기한 없이 보존하면 null)
+     */
+    private LocalDateTime expireAt;
+
     private Notification(String id, RecipientId recipientId, NotificationType type,
                          NotificationContent content, NotificationStatus status,
-                         RefEntityId refEntityId, LocalDateTime createdAt, LocalDateTime readAt) {
+                         RefEntityId refEntityId, LocalDateTime createdAt, LocalDateTime readAt,
+                         String collapseKey, int count, LocalDateTime expireAt) {
         this.id = id;
         this.recipientId = recipientId;
         this.type = type;
@@ -36,10 +53,14 @@ public class Notification {
         this.refEntityId = refEntityId;
         this.createdAt = createdAt;
         this.readAt = readAt;
+        this.collapseKey = collapseKey;
+        this.count = count;
+        this.expireAt = expireAt;
     }
 
     /**
      * 새 알림 생성
+     * 합치는 유형이면 참조 대상으로 합치기 키를 정함
      */
     public static Notification create(Long recipientId, NotificationType type,
                                       String content, String refEntityType, Long refEntityId) {
@@ -51,6 +72,9 @@ public class Notification {
                 NotificationStatus.UNREAD,
                 new RefEntityId(refEntityType, refEntityId),
                 LocalDateTime.now(),
+                null,
+                collapseKeyOf(type, refEntityType, refEntityId),
+                1,
                 null
         );
     }
@@ -62,6 +86,18 @@ public class Notification {
                                     String content, NotificationStatus status,
                                     String refEntityType, Long refEntityId,
                                     LocalDateTime createdAt, LocalDateTime readAt) {
+        return from(id, recipientId, type, content, status, refEntityType, refEntityId, createdAt, readAt,
+                null, 1, null);
+    }
+
+    /**
+     * 합치기·보존 정보를 포함해 지속성에서 알림을 재생성
+     */
+    public static Notification from(String id, Long recipientId, NotificationType type,
+                                    String content, NotificationStatus status,
+                                    String refEntityType, Long refEntityId,
+                                    LocalDateTime createdAt, LocalDateTime readAt,
+                                    String collapseKey, int count, LocalDateTime expireAt) {
         return new Notification(
                 id,
                 new RecipientId(recipientId),
@@ -70,15 +106,38 @@ public class Notification {
                 status,
                 new RefEntityId(refEntityType, refEntityId),
                 createdAt,
-                readAt
+                readAt,
+                collapseKey,
+                count,
+                expireAt
         );
     }
 
+    /**
+     * 유형과 참조 대상으로 합치기 키 생성 (합치지 않는 유형이면 null)
+     */
+    public static String collapseKeyOf(NotificationType type, String refEntityType, Long refEntityId) {
+        if (!type.isCollapsible()) {
+            return null;
+        }
+        return type.name() + ":" + refEntityType + ":" + refEntityId;
+    }
+
     /**
      * 알림을 읽음으로 표시
      */
     public Notification markRead() {
+        return markRead(null);
+    }
+
+    /**
+     * 알림을 읽음으로 표시하고, 읽은 시각부터 보존 기간이 지나면 삭제되도록 함
+     *
+     * @param readRetention 읽은 뒤 보존 기간 (null이면 기한 없이 보존)
+     */
+    public Notification markRead(Duration readRetention) {
         if (this.status == NotificationStatus.UNREAD) {
+            LocalDateTime readAt = LocalDateTime.now();
             return new Notification(
                     this.id,
                     this.recipientId,
@@ -87,7 +146,10 @@ public class Notification {
                     NotificationStatus.READ,
                     this.refEntityId,
                     this.createdAt,
-                    LocalDateTime.now()
+                    readAt,
+                    this.collapseKey,
+                    this.count,
+                    readRetention == null ? null : readAt.plus(readRetention)
             );
         }
         return this;
@@ -0,0 +1,55 @@
+package com.PickOne.domain.notification.model.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 알림 피드 조회를 위한 키셋 커서 (createdAt, id)
+ * 클라이언트에는 불투명한 문자열로 전달된다
+ */
+public record NotificationCursor(LocalDateTime createdAt, String id) {
+
+    private static final String DELIMITER = "|";
+
+    public NotificationCursor {
+        if (createdAt == null || id == null || id.isBlank()) {
+            throw new IllegalArgumentException("커서에는 생성 시각과 알림 ID가 필요합니다");
+        }
+    }
+
+    /**
+     * 알림 위치로부터 커서 생성
+     */
+    public static NotificationCursor of(Notification notification) {
+        return new NotificationCursor(notification.getCreatedAt(), notification.getId());
+    }
+
+    /**
+     * 인코딩된 커서 문자열을 해석
+     */
+    public static NotificationCursor decode(String encoded) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.indexOf(DELIMITER);
+            if (delimiterIndex < 0) {
+                throw new IllegalArgumentException("잘못된 커서 형식입니다");
+            }
+            return new NotificationCursor(
+                    LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+                    raw.substring(delimiterIndex + 1)
+            );
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서 형식입니다", e);
+        }
+    }
+
+    /**
+     * 커서를 URL에 안전한 문자열로 인코딩
+     */
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,15 @@
+package com.PickOne.domain.notification.model.domain;
+
+/**
+ * 사용자별 상한을 넘어 삭제한 알림 수
+ *
+ * @param evicted       삭제한 알림 수
+ * @param unreadEvicted 그중 읽지 않은 알림 수
+ * @param remaining     삭제 후에도 상한을 넘는 알림 수
+ */
+public record NotificationEviction(long evicted, long unreadEvicted, long remaining) {
+
+    public static NotificationEviction none() {
+        return new NotificationEviction(0, 0, 0);
+    }
+}
@@ -4,19 +4,29 @@ package com.PickOne.domain.notification.model.domain;
  * Enum for Notification Type
  */
 public enum NotificationType {
-    NEW_MESSAGE("새 메시지가 도착했습니다"),
-    RECRUITMENT_APPLICATION("새 모집 신청이 있습니다"),
-    RECRUITMENT_ACCEPTED("모집 신청이 수락되었습니다"),
-    RECRUITMENT_REJECTED("모집 신청이 거절되었습니다"),
-    SYSTEM_ANNOUNCEMENT("시스템 공지사항");
+    NEW_MESSAGE("새 메시지가 도착했습니다", true),
+    RECRUITMENT_APPLICATION("새 모집 신청이 있습니다", false),
+    RECRUITMENT_ACCEPTED("모집 신청이 수락되었습니다", false),
+    RECRUITMENT_REJECTED("모집 신청이 거절되었습니다", false),
+    SYSTEM_ANNOUNCEMENT("시스템 공지사항", false);
 
     private final String defaultMessage;
 
-    NotificationType(String defaultMessage) {
+    /**
+     * 같은 대상에 대한 읽지 않은 알림을 하나로 합치는지 여부
+     */
+    private final boolean collapsible;
+
+    NotificationType(String defaultMessage, boolean collapsible) {
         this.defaultMessage = defaultMessage;
+        this.collapsible = collapsible;
     }
 
     public String getDefaultMessage() {
         return defaultMessage;
     }
+
+    public boolean isCollapsible() {
+        return collapsible;
+    }
 }
\ No newline at end of file
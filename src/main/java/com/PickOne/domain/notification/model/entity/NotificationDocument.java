@@ -3,11 +3,13 @@ package com.PickOne.domain.notification.model.entity;
 import com.PickOne.domain.notification.model.domain.Notification;
 import com.PickOne.domain.notification.model.domain.NotificationStatus;
 import com.PickOne.domain.notification.model.domain.NotificationType;
+import com.PickOne.global.common.mongo.ContentCompression;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.index.Indexed;
 
@@ -16,23 +18,42 @@ import java.time.LocalDateTime;
 /**
  * 알림 저장을 위한 MongoDB 문서
  */
-@Document(collection = "notifications")
+@Document(collection = NotificationDocument.COLLECTION)
+@CompoundIndex(name = "recipient_created_at_idx", def = "{'recipientId': 1, 'createdAt': -1, '_id': -1}")
+@CompoundIndex(name = "recipient_status_created_at_idx", def = "{'recipientId': 1, 'status': 1, 'createdAt': -1, '_id': -1}")
+@CompoundIndex(name = "recipient_type_created_at_idx", def = "{'recipientId': 1, 'type': 1, 'createdAt': -1}")
+@CompoundIndex(name = "recipient_collapse_key_unread_idx", def = "{'recipientId': 1, 'collapseKey': 1}",
+        unique = true, partialFilter = "{ 'status': 'UNREAD', 'collapseKey': { $exists: true } }")
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class NotificationDocument {
 
+    public static final String COLLECTION = "notifications";
+
     @Id
     private String id;
 
-    @Indexed
     private Long recipientId;
 
     private String type;
 
+    /**
+     * 평문 본문 (압축해 저장한 경우 null)
+     */
     private String content;
 
+    /**
+     * Deflate로 압축한 본문
+     */
+    private byte[] compressedContent;
+
+    /**
+     * 본문 인코딩 표시 (null이면 압축 도입 이전 또는 임계값 미만의 평문)
+     */
+    private String contentEncoding;
+
     private String status;
 
     private String refEntityType;
@@ -43,20 +64,43 @@ public class NotificationDocument {
 
     private LocalDateTime readAt;
 
+    /**
+     * 합치기 키 (합치지 않는 알림이면 저장하지 않음)
+     * 수신자별로 읽지 않은 알림은 키마다 하나만 존재한다
+     */
+    private String collapseKey;
+
+    /**
+     * 합쳐진 이벤트 수 (null이면 합치기 도입 이전 문서로 1건)
+     */
+    private Integer count;
+
+    /**
+     * 삭제 시각, 읽을 때 유형별 보존 기간으로 정해지며 TTL 인덱스가 이 시각이 지난 문서를 삭제함
+     */
+    @Indexed(name = "expire_at_ttl_idx", expireAfter = "0s")
+    private LocalDateTime expireAt;
+
     /**
      * 도메인 모델을 문서로 변환
      */
     public static NotificationDocument fromDomain(Notification notification) {
+        ContentCompression.EncodedContent encoded = ContentCompression.encode(notification.getContentValue(), COLLECTION);
         return NotificationDocument.builder()
                 .id(notification.getId())
                 .recipientId(notification.getRecipientIdValue())
                 .type(notification.getType().name())
-                .content(notification.getContentValue())
+                .content(encoded.content())
+                .compressedContent(encoded.compressedContent())
+                .contentEncoding(encoded.encoding())
                 .status(notification.getStatus().name())
                 .refEntityType(notification.getRefEntityType())
                 .refEntityId(notification.getRefEntityIdValue())
                 .createdAt(notification.getCreatedAt())
                 .readAt(notification.getReadAt())
+                .collapseKey(notification.getCollapseKey())
+                .count(notification.getCount())
+                .expireAt(notification.getExpireAt())
                 .build();
     }
 
@@ -68,12 +112,15 @@ public class NotificationDocument {
                 id,
                 recipientId,
                 NotificationType.valueOf(type),
-                content,
+                ContentCompression.decode(content, compressedContent, contentEncoding),
                 NotificationStatus.valueOf(status),
                 refEntityType,
                 refEntityId,
                 createdAt,
-                readAt
+                readAt,
+                collapseKey,
+                count == null ? 1 : count,
+                expireAt
         );
     }
 }
\ No newline at end of file
@@ -4,8 +4,10 @@ import com.PickOne.domain.notification.model.entity.NotificationDocument;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -17,9 +19,29 @@ public interface NotificationMongoRepository extends MongoRepository<Notificatio
     Page<NotificationDocument> findByRecipientIdOrderByCreatedAtDesc(Long recipientId, Pageable pageable);
 
     /**
-     * 사용자의 읽지 않은 알림 찾기
+     * 사용자의 가장 최근 알림 찾기 (피드 첫 페이지)
      */
-    List<NotificationDocument> findByRecipientIdAndStatusOrderByCreatedAtDesc(Long recipientId, String status);
+    List<NotificationDocument> findByRecipientId(Long recipientId, Pageable pageable);
+
+    /**
+     * 커서(createdAt, id) 이전의 사용자 알림 찾기
+     * (recipientId, createdAt, _id) 복합 인덱스를 따라가므로 페이지 깊이와 무관하게 비용이 일정함
+     */
+    @Query("{ 'recipientId': ?0, $or: [ { 'createdAt': { $lt: ?1 } }, { 'createdAt': ?1, '_id': { $lt: ?2 } } ] }")
+    List<NotificationDocument> findFeedBefore(Long recipientId, LocalDateTime createdAt, String id, Pageable pageable);
+
+    /**
+     * 사용자의 상태별 가장 최근 알림 찾기 (첫 페이지)
+     */
+    List<NotificationDocument> findByRecipientIdAndStatus(Long recipientId, String status, Pageable pageable);
+
+    /**
+     * 커서(createdAt, id) 이전의 사용자 상태별 알림 찾기
+     * (recipientId, status, createdAt, _id) 복합 인덱스를 따라감
+     */
+    @Query("{ 'recipientId': ?0, 'status': ?1, $or: [ { 'createdAt': { $lt: ?2 } }, { 'createdAt': ?2, '_id': { $lt: ?3 } } ] }")
+    List<NotificationDocument> findByStatusBefore(Long recipientId, String status, LocalDateTime createdAt, String id,
+                                                  Pageable pageable);
 
     /**
      * 사용자의 읽지 않은 알림 수 세기
@@ -30,4 +52,4 @@ public interface NotificationMongoRepository extends MongoRepository<Notificatio
      * 사용자의 유형별 알림 찾기
      */
     Page<NotificationDocument> findByRecipientIdAndTypeOrderByCreatedAtDesc(Long recipientId, String type, Pageable pageable);
-}
\ No newline at end of file
+}
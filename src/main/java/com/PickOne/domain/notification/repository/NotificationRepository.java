@@ -1,14 +1,18 @@
 package com.PickOne.domain.notification.repository;
 
 import com.PickOne.domain.notification.model.domain.Notification;
+import com.PickOne.domain.notification.model.domain.NotificationCursor;
+import com.PickOne.domain.notification.model.domain.NotificationEviction;
 import com.PickOne.domain.notification.model.domain.NotificationType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Notification 도메인 객체를 위한 리포지토리 인터페이스
@@ -21,6 +25,20 @@ public interface NotificationRepository {
      */
     Notification save(Notification notification);
 
+    /**
+     * 새 알림을 다음 그룹 커밋 배치에 추가
+     * 반환된 future는 알림이 포함된 배치가 저장되면 완료된다
+     */
+    CompletableFuture<Notification> insert(Notification notification);
+
+    /**
+     * 같은 합치기 키의 읽지 않은 알림이 있으면 그 알림에 합치고, 없으면 새로 저장
+     * 합칠 때는 이벤트 수를 늘리고 본문과 생성 시각을 최신 이벤트로 바꾼다
+     *
+     * @return 합쳐진(또는 새로 저장된) 알림, 새로 저장되었으면 count가 1
+     */
+    Notification upsertCollapsed(Notification notification);
+
     /**
      * ID로 알림 찾기
      */
@@ -32,15 +50,47 @@ public interface NotificationRepository {
     Page<Notification> findAllForUser(Long userId, Pageable pageable);
 
     /**
-     * 사용자의 읽지 않은 알림 찾기
+     * 커서 이전의 사용자 알림을 최신순으로 찾기
+     *
+     * @param before 이전 페이지의 마지막 위치 (첫 페이지면 null)
+     */
+    List<Notification> findFeedForUser(Long userId, NotificationCursor before, int limit);
+
+    /**
+     * 커서 이전의 사용자 읽지 않은 알림을 최신순으로 찾기
+     *
+     * @param before 이전 페이지의 마지막 위치 (첫 페이지면 null)
      */
-    List<Notification> findUnreadForUser(Long userId);
+    List<Notification> findUnreadForUser(Long userId, NotificationCursor before, int limit);
 
     /**
      * 사용자의 읽지 않은 알림 수 세기
      */
     long countUnreadForUser(Long userId);
 
+    /**
+     * 읽지 않은 알림일 때만 READ로 전이하고 상태, 읽은 시각, 삭제 시각만 갱신
+     * 그 사이 합쳐진 내용과 건수는 덮어쓰지 않는다
+     *
+     * @return 전이된 알림, 이미 읽었거나 없으면 빈 값
+     */
+    Optional<Notification> markRead(String id, LocalDateTime readAt, LocalDateTime expireAt);
+
+    /**
+     * 사용자의 읽지 않은 알림을 한 번의 bulkWrite(유형별 updateMulti)로 READ로 전이
+     *
+     * @param upTo            이 시각 이전에 생성된 알림만 전이 (null이면 전체)
+     * @param expireAtByType  유형별 삭제 시각
+     * @return 전이된 알림 수
+     */
+    long markAllReadForUser(Long userId, LocalDateTime upTo, LocalDateTime readAt,
+                            Map<NotificationType, LocalDateTime> expireAtByType);
+
+    /**
+     * 사용자의 알림이 keep개를 넘으면 가장 오래된 것부터 최대 limit개 삭제
+     */
+    NotificationEviction evictOldestForUser(Long userId, int keep, int limit);
+
     /**
      * 사용자의 유형별 알림 찾기
      */
@@ -1,16 +1,31 @@
 package com.PickOne.domain.notification.repository;
 
 import com.PickOne.domain.notification.model.domain.Notification;
+import com.PickOne.domain.notification.model.domain.NotificationCursor;
+import com.PickOne.domain.notification.model.domain.NotificationEviction;
 import com.PickOne.domain.notification.model.domain.NotificationStatus;
 import com.PickOne.domain.notification.model.domain.NotificationType;
 import com.PickOne.domain.notification.model.entity.NotificationDocument;
+import com.PickOne.global.common.mongo.MongoInsertBatcher;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -20,7 +35,11 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class NotificationRepositoryImpl implements NotificationRepository {
 
+    private static final Sort FEED_SORT = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
     private final NotificationMongoRepository notificationMongoRepository;
+    private final MongoInsertBatcher<NotificationDocument> notificationInsertBatcher;
+    private final MongoTemplate mongoTemplate;
 
     @Override
     public Notification save(Notification notification) {
@@ -29,6 +48,44 @@ public class NotificationRepositoryImpl implements NotificationRepository {
         return savedDocument.toDomain();
     }
 
+    @Override
+    public CompletableFuture<Notification> insert(Notification notification) {
+        return notificationInsertBatcher.insert(NotificationDocument.fromDomain(notification))
+                .thenApply(NotificationDocument::toDomain);
+    }
+
+    @Override
+    public Notification upsertCollapsed(Notification notification) {
+        try {
+            return collapse(notification);
+        } catch (DuplicateKeyException e) {
+            // 동시에 같은 키로 삽입한 요청이 먼저 저장되었으므로, 다시 시도하면 그 알림에 합쳐짐
+            return collapse(notification);
+        }
+    }
+
+    private Notification collapse(Notification notification) {
+        NotificationDocument document = NotificationDocument.fromDomain(notification);
+        Query query = new Query(Criteria.where("recipientId").is(document.getRecipientId())
+                .and("collapseKey").is(document.getCollapseKey())
+                .and("status").is(NotificationStatus.UNREAD.name()));
+
+        Update update = new Update()
+                .inc("count", 1)
+                .set("content", document.getContent())
+                .set("compressedContent", document.getCompressedContent())
+                .set("contentEncoding", document.getContentEncoding())
+                .set("createdAt", document.getCreatedAt())
+                .setOnInsert("_id", document.getId())
+                .setOnInsert("type", document.getType())
+                .setOnInsert("refEntityType", document.getRefEntityType())
+                .setOnInsert("refEntityId", document.getRefEntityId());
+
+        NotificationDocument collapsed = mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().upsert(true).returnNew(true), NotificationDocument.class);
+        return collapsed.toDomain();
+    }
+
     @Override
     public Optional<Notification> findById(String id) {
         return notificationMongoRepository.findById(id)
@@ -42,12 +99,29 @@ public class NotificationRepositoryImpl implements NotificationRepository {
     }
 
     @Override
-    public List<Notification> findUnreadForUser(Long userId) {
-        return notificationMongoRepository.findByRecipientIdAndStatusOrderByCreatedAtDesc(
-                        userId,
-                        NotificationStatus.UNREAD.name()
-                )
-                .stream()
+    public List<Notification> findFeedForUser(Long userId, NotificationCursor before, int limit) {
+        // 건수 조회 없이 limit만 적용하기 위해 첫 페이지 요청으로 고정
+        Pageable pageable = PageRequest.of(0, limit, FEED_SORT);
+
+        List<NotificationDocument> documents = before == null
+                ? notificationMongoRepository.findByRecipientId(userId, pageable)
+                : notificationMongoRepository.findFeedBefore(userId, before.createdAt(), before.id(), pageable);
+
+        return documents.stream()
+                .map(NotificationDocument::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Notification> findUnreadForUser(Long userId, NotificationCursor before, int limit) {
+        Pageable pageable = PageRequest.of(0, limit, FEED_SORT);
+        String status = NotificationStatus.UNREAD.name();
+
+        List<NotificationDocument> documents = before == null
+                ? notificationMongoRepository.findByRecipientIdAndStatus(userId, status, pageable)
+                : notificationMongoRepository.findByStatusBefore(userId, status, before.createdAt(), before.id(), pageable);
+
+        return documents.stream()
                 .map(NotificationDocument::toDomain)
                 .collect(Collectors.toList());
     }
@@ -60,6 +134,67 @@ public class NotificationRepositoryImpl implements NotificationRepository {
         );
     }
 
+    @Override
+    public Optional<Notification> markRead(String id, LocalDateTime readAt, LocalDateTime expireAt) {
+        Query query = new Query(Criteria.where("_id").is(id)
+                .and("status").is(NotificationStatus.UNREAD.name()));
+        Update update = new Update()
+                .set("status", NotificationStatus.READ.name())
+                .set("readAt", readAt)
+                .set("expireAt", expireAt);
+
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, update,
+                        FindAndModifyOptions.options().returnNew(true), NotificationDocument.class))
+                .map(NotificationDocument::toDomain);
+    }
+
+    @Override
+    public long markAllReadForUser(Long userId, LocalDateTime upTo, LocalDateTime readAt,
+                                   Map<NotificationType, LocalDateTime> expireAtByType) {
+        // 삭제 시각이 유형마다 다르므로 유형별 updateMulti를 한 번의 bulkWrite로 보냄
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, NotificationDocument.class);
+        expireAtByType.forEach((type, expireAt) -> {
+            Criteria criteria = Criteria.where("recipientId").is(userId)
+                    .and("status").is(NotificationStatus.UNREAD.name())
+                    .and("type").is(type.name());
+            if (upTo != null) {
+                criteria = criteria.and("createdAt").lte(upTo);
+            }
+
+            Update update = new Update()
+                    .set("status", NotificationStatus.READ.name())
+                    .set("readAt", readAt)
+                    .set("expireAt", expireAt);
+            bulk.updateMulti(new Query(criteria), update);
+        });
+
+        return bulk.execute().getModifiedCount();
+    }
+
+    @Override
+    public NotificationEviction evictOldestForUser(Long userId, int keep, int limit) {
+        long excess = mongoTemplate.count(new Query(Criteria.where("recipientId").is(userId)), NotificationDocument.class)
+                - keep;
+        if (excess <= 0) {
+            return NotificationEviction.none();
+        }
+
+        Query oldest = new Query(Criteria.where("recipientId").is(userId))
+                .with(Sort.by(Sort.Direction.ASC, "createdAt"))
+                .limit((int) Math.min(excess, limit));
+        oldest.fields().include("_id").include("status");
+        List<NotificationDocument> victims = mongoTemplate.find(oldest, NotificationDocument.class);
+
+        List<String> ids = victims.stream().map(NotificationDocument::getId).toList();
+        long evicted = mongoTemplate.remove(new Query(Criteria.where("_id").in(ids)), NotificationDocument.class)
+                .getDeletedCount();
+        long unreadEvicted = victims.stream()
+                .filter(victim -> NotificationStatus.UNREAD.name().equals(victim.getStatus()))
+                .count();
+
+        return new NotificationEviction(evicted, unreadEvicted, excess - evicted);
+    }
+
     @Override
     public Page<Notification> findByTypeForUser(Long userId, NotificationType type, Pageable pageable) {
         return notificationMongoRepository.findByRecipientIdAndTypeOrderByCreatedAtDesc(
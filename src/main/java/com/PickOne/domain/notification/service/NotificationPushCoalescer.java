@@ -0,0 +1,120 @@
+package com.PickOne.domain.notification.service;
+
+import com.PickOne.domain.notification.dto.NotificationDto;
+import com.PickOne.domain.notification.model.domain.Notification;
+import com.PickOne.global.messaging.delivery.DeliveryChannel;
+import com.PickOne.global.messaging.delivery.UserDestinationRouter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 합쳐진 알림의 실시간 전달을 간격 단위로 묶음
+ * 합치기 키의 첫 갱신은 바로 보내고, 간격 안의 이후 갱신은 가장 최신 상태 하나만 남겨 간격이 끝날 때 보낸다
+ * 합치지 않는 알림은 그대로 바로 보낸다
+ */
+@Component
+public class NotificationPushCoalescer {
+
+    private final UserDestinationRouter destinationRouter;
+    private final LongSupplier clock;
+    private final long windowNanos;
+    private final Counter sent;
+    private final Counter coalesced;
+
+    private final Map<PushKey, PushSlot> slots = new ConcurrentHashMap<>();
+
+    @Autowired
+    public NotificationPushCoalescer(UserDestinationRouter destinationRouter,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${app.notification.push.coalesce-window-ms:500}") long windowMs) {
+        this(destinationRouter, meterRegistry, System::nanoTime, windowMs);
+    }
+
+    NotificationPushCoalescer(UserDestinationRouter destinationRouter,
+                              MeterRegistry meterRegistry,
+                              LongSupplier clock,
+                              long windowMs) {
+        this.destinationRouter = destinationRouter;
+        this.clock = clock;
+        this.windowNanos = Duration.ofMillis(windowMs).toNanos();
+        this.sent = meterRegistry.counter("notification.push", "result", "sent");
+        this.coalesced = meterRegistry.counter("notification.push", "result", "coalesced");
+    }
+
+    /**
+     * 저장된 알림을 수신자에게 전달하거나, 간격 안이면 다음 전달로 미룸
+     */
+    public void push(Notification notification) {
+        NotificationDto dto = NotificationDto.fromDomain(notification);
+        if (notification.getCollapseKey() == null) {
+            send(dto);
+            return;
+        }
+
+        PushKey key = new PushKey(notification.getRecipientIdValue(), notification.getCollapseKey());
+        long now = clock.getAsLong();
+        boolean[] sendNow = {false};
+        slots.compute(key, (k, slot) -> {
+            if (slot == null || (slot.pending() == null && now - slot.sentAt() >= windowNanos)) {
+                sendNow[0] = true;
+                return new PushSlot(now, null);
+            }
+            // 합치기 단계가 실행기에서 순서 없이 끝날 수 있으므로 이벤트 수가 큰 쪽을 최신으로 봄
+            if (slot.pending() != null && slot.pending().count() > dto.count()) {
+                return slot;
+            }
+            return new PushSlot(slot.sentAt(), dto);
+        });
+
+        if (sendNow[0]) {
+            send(dto);
+        } else {
+            coalesced.increment();
+        }
+    }
+
+    /**
+     * 간격이 지난 키의 미뤄둔 최신 상태를 보내고, 더 갱신이 없는 키는 정리
+     */
+    @Scheduled(fixedDelayString = "${app.notification.push.coalesce-window-ms:500}")
+    public void flush() {
+        long now = clock.getAsLong();
+        for (PushKey key : slots.keySet()) {
+            NotificationDto[] due = {null};
+            slots.computeIfPresent(key, (k, slot) -> {
+                if (now - slot.sentAt() < windowNanos) {
+                    return slot;
+                }
+                if (slot.pending() == null) {
+                    return null;
+                }
+                due[0] = slot.pending();
+                return new PushSlot(now, null);
+            });
+            if (due[0] != null) {
+                send(due[0]);
+            }
+        }
+    }
+
+    private void send(NotificationDto dto) {
+        // 수신자가 연결된 노드로만 실시간 전달
+        destinationRouter.sendToUser(DeliveryChannel.NOTIFICATIONS, dto.recipientId(), dto);
+        sent.increment();
+    }
+
+    private record PushKey(Long recipientId, String collapseKey) {
+    }
+
+    private record PushSlot(long sentAt, NotificationDto pending) {
+    }
+}
@@ -0,0 +1,93 @@
+package com.PickOne.domain.notification.service;
+
+import com.PickOne.domain.notification.model.domain.NotificationEviction;
+import com.PickOne.domain.notification.repository.NotificationRepository;
+import com.PickOne.global.common.config.SchedulingConfig;
+import com.PickOne.global.messaging.counter.UnreadCounter;
+import com.PickOne.global.messaging.counter.UnreadCounterType;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 알림 상한을 넘은 오래된 알림을 조금씩 정리
+ * 컬렉션 전체를 훑지 않도록 이 노드에서 새 알림을 받은 사용자만 후보로 두고,
+ * 한 번 실행할 때 최대 max-batches-per-run명, 사용자당 trim-batch-size개까지만 삭제한다
+ * 다 지우지 못한 사용자는 다음 실행으로 넘긴다
+ */
+@Component
+@Slf4j
+public class NotificationRetentionJob {
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationRetentionPolicy retentionPolicy;
+    private final UnreadCounter unreadCounter;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    private final Set<Long> candidates = ConcurrentHashMap.newKeySet();
+
+    public NotificationRetentionJob(NotificationRepository notificationRepository,
+                                    NotificationRetentionPolicy retentionPolicy,
+                                    UnreadCounter unreadCounter,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${app.notification.retention.trim-batch-size:200}") int batchSize,
+                                    @Value("${app.notification.retention.max-batches-per-run:20}") int maxBatchesPerRun) {
+        this.notificationRepository = notificationRepository;
+        this.retentionPolicy = retentionPolicy;
+        this.unreadCounter = unreadCounter;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    /**
+     * 새 알림이 저장된 사용자를 다음 정리 후보로 등록
+     */
+    public void markForTrim(Long userId) {
+        candidates.add(userId);
+    }
+
+    @Scheduled(scheduler = SchedulingConfig.BATCH_JOB_SCHEDULER,
+            fixedDelayString = "${app.notification.retention.trim-interval-ms:60000}",
+            initialDelayString = "${app.notification.retention.trim-interval-ms:60000}")
+    public void trim() {
+        long evicted = 0;
+        Iterator<Long> iterator = candidates.iterator();
+        for (int i = 0; i < maxBatchesPerRun && iterator.hasNext(); i++) {
+            Long userId = iterator.next();
+            iterator.remove();
+            try {
+                evicted += trim(userId);
+            } catch (RuntimeException e) {
+                candidates.add(userId);
+                log.warn("사용자 {}의 알림 정리에 실패했습니다: {}", userId, e.getMessage());
+            }
+        }
+
+        if (evicted > 0) {
+            log.info("상한을 넘은 알림 {}개를 정리했습니다", evicted);
+        }
+    }
+
+    private long trim(Long userId) {
+        NotificationEviction eviction =
+                notificationRepository.evictOldestForUser(userId, retentionPolicy.getMaxPerUser(), batchSize);
+        if (eviction.unreadEvicted() > 0) {
+            unreadCounter.decrement(UnreadCounterType.NOTIFICATION, userId, eviction.unreadEvicted());
+        }
+        if (eviction.remaining() > 0) {
+            candidates.add(userId);
+        }
+
+        meterRegistry.counter("notification.retention.evicted").increment(eviction.evicted());
+        return eviction.evicted();
+    }
+}
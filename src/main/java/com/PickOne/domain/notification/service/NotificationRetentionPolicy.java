@@ -0,0 +1,66 @@
+package com.PickOne.domain.notification.service;
+
+import com.PickOne.domain.notification.model.domain.NotificationType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 알림 보존 정책
+ * 읽은 알림은 유형별 보존 기간이 지나면 TTL 인덱스로 삭제되고, 사용자별 알림 수는 max-per-user를 넘지 않도록 오래된 것부터 정리된다
+ * 유형별 기간은 "RECRUITMENT_ACCEPTED=180,..." 형식(일 단위)으로 기본값을 덮어쓴다
+ */
+@Component
+public class NotificationRetentionPolicy {
+
+    private final Map<NotificationType, Duration> readRetention = new EnumMap<>(NotificationType.class);
+    private final int maxPerUser;
+
+    public NotificationRetentionPolicy(@Value("${app.notification.retention.read-ttl-days:30}") long readTtlDays,
+                                       @Value("${app.notification.retention.read-ttl-days-by-type:"
+                                               + "RECRUITMENT_APPLICATION=90,"
+                                               + "RECRUITMENT_ACCEPTED=180}") String readTtlDaysByType,
+                                       @Value("${app.notification.retention.max-per-user:500}") int maxPerUser) {
+        for (NotificationType type : NotificationType.values()) {
+            readRetention.put(type, Duration.ofDays(readTtlDays));
+        }
+        for (String entry : readTtlDaysByType.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] parts = entry.split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("유형별 보존 기간 형식이 올바르지 않습니다: " + entry);
+            }
+            readRetention.put(NotificationType.valueOf(parts[0].trim()), Duration.ofDays(Long.parseLong(parts[1].trim())));
+        }
+        this.maxPerUser = maxPerUser;
+    }
+
+    /**
+     * 읽은 뒤 보존 기간
+     */
+    public Duration readRetentionOf(NotificationType type) {
+        return readRetention.get(type);
+    }
+
+    /**
+     * readAt에 읽은 알림의 유형별 삭제 시각
+     */
+    public Map<NotificationType, LocalDateTime> expireAtByType(LocalDateTime readAt) {
+        Map<NotificationType, LocalDateTime> expireAt = new EnumMap<>(NotificationType.class);
+        readRetention.forEach((type, retention) -> expireAt.put(type, readAt.plus(retention)));
+        return expireAt;
+    }
+
+    /**
+     * 사용자별 최대 알림 수
+     */
+    public int getMaxPerUser() {
+        return maxPerUser;
+    }
+}
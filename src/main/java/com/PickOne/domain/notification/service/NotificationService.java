@@ -4,8 +4,9 @@ import com.PickOne.domain.notification.model.domain.Notification;
 import com.PickOne.domain.notification.model.domain.NotificationType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
-import java.util.List;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 /**
@@ -19,6 +20,12 @@ public interface NotificationService {
     Notification createNotification(Long recipientId, NotificationType type, String content,
                                     String refEntityType, Long refEntityId);
 
+    /**
+     * 수신자 존재가 이미 확인된 경우 사용자 조회 없이 알림 생성
+     */
+    Notification createNotificationForVerifiedRecipient(Long recipientId, NotificationType type, String content,
+                                                        String refEntityType, Long refEntityId);
+
     /**
      * 알림을 읽음으로 표시
      */
@@ -26,8 +33,17 @@ public interface NotificationService {
 
     /**
      * 사용자의 모든 알림을 읽음으로 표시
+     *
+     * @return 읽음으로 표시된 알림 수
      */
-    void markAllNotificationsReadForUser(Long userId);
+    long markAllNotificationsReadForUser(Long userId);
+
+    /**
+     * 사용자가 upTo 시각까지 받은 알림을 읽음으로 표시
+     *
+     * @return 읽음으로 표시된 알림 수
+     */
+    long markNotificationsReadUpTo(Long userId, LocalDateTime upTo);
 
     /**
      * ID로 알림 가져오기
@@ -40,9 +56,18 @@ public interface NotificationService {
     Page<Notification> getAllNotificationsForUser(Long userId, Pageable pageable);
 
     /**
-     * 사용자의 읽지 않은 알림 가져오기
+     * 사용자의 알림 피드를 커서 이전부터 최신순으로 가져오기
+     *
+     * @param cursor 이전 페이지의 다음 커서 (첫 페이지면 null)
+     */
+    Slice<Notification> getNotificationFeed(Long userId, String cursor, int size);
+
+    /**
+     * 사용자의 읽지 않은 알림을 커서 이전부터 최신순으로 가져오기
+     *
+     * @param cursor 이전 페이지의 다음 커서 (첫 페이지면 null)
      */
-    List<Notification> getUnreadNotificationsForUser(Long userId);
+    Slice<Notification> getUnreadNotificationsForUser(Long userId, String cursor, int size);
 
     /**
      * 사용자의 읽지 않은 알림 수 세기
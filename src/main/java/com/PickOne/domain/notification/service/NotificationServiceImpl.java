@@ -1,21 +1,25 @@
 package com.PickOne.domain.notification.service;
 
-import com.PickOne.domain.notification.dto.NotificationDto;
 import com.PickOne.domain.notification.model.domain.Notification;
+import com.PickOne.domain.notification.model.domain.NotificationCursor;
 import com.PickOne.domain.notification.model.domain.NotificationStatus;
 import com.PickOne.domain.notification.model.domain.NotificationType;
 import com.PickOne.domain.notification.repository.NotificationRepository;
 import com.PickOne.domain.user.service.UserService;
 import com.PickOne.global.exception.BusinessException;
 import com.PickOne.global.exception.ErrorCode;
+import com.PickOne.global.messaging.counter.UnreadCounter;
+import com.PickOne.global.messaging.counter.UnreadCounterType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,8 +33,10 @@ public class NotificationServiceImpl implements NotificationService {
 
     private final NotificationRepository notificationRepository;
     private final UserService userService;
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final ChannelTopic notificationTopic;
+    private final UnreadCounter unreadCounter;
+    private final NotificationPushCoalescer pushCoalescer;
+    private final NotificationRetentionPolicy retentionPolicy;
+    private final NotificationRetentionJob retentionJob;
 
     @Override
     public Notification createNotification(Long recipientId, NotificationType type, String content,
@@ -38,13 +44,25 @@ public class NotificationServiceImpl implements NotificationService {
         // 수신자가 존재하는지 확인
         userService.findById(recipientId);
 
-        // 알림 생성 및 저장
+        return createNotificationForVerifiedRecipient(recipientId, type, content, refEntityType, refEntityId);
+    }
+
+    @Override
+    public Notification createNotificationForVerifiedRecipient(Long recipientId, NotificationType type, String content,
+                                                               String refEntityType, Long refEntityId) {
+        // 알림 생성 및 저장, 합치는 유형은 같은 키의 읽지 않은 알림에 합침
         Notification notification = Notification.create(recipientId, type, content, refEntityType, refEntityId);
-        Notification savedNotification = notificationRepository.save(notification);
+        Notification savedNotification = notification.getCollapseKey() == null
+                ? notificationRepository.insert(notification).join()
+                : notificationRepository.upsertCollapsed(notification);
+
+        // 기존 알림에 합쳐졌으면 읽지 않은 알림 수는 그대로임
+        if (savedNotification.getCount() == 1) {
+            unreadCounter.increment(UnreadCounterType.NOTIFICATION, recipientId);
+            retentionJob.markForTrim(recipientId);
+        }
 
-        // 실시간 전달을 위해 Redis에 알림 게시
-        NotificationDto notificationDto = NotificationDto.fromDomain(savedNotification);
-        redisTemplate.convertAndSend(notificationTopic.getTopic(), notificationDto);
+        pushCoalescer.push(savedNotification);
 
         log.info("사용자 {}를 위한 알림이 생성되었습니다: {}", recipientId, content);
         return savedNotification;
@@ -59,25 +77,53 @@ public class NotificationServiceImpl implements NotificationService {
             return notification;
         }
 
-        Notification readNotification = notification.markRead();
-        return notificationRepository.save(readNotification);
+        // 문서 전체를 저장하면 그 사이 합쳐진 갱신을 덮어쓰므로 읽음 관련 필드만 조건부로 갱신
+        // 동시에 읽음 처리한 다른 요청이 먼저 전이했으면 카운터는 그쪽에서 줄임
+        LocalDateTime readAt = LocalDateTime.now();
+        LocalDateTime expireAt = readAt.plus(retentionPolicy.readRetentionOf(notification.getType()));
+        Optional<Notification> readNotification = notificationRepository.markRead(notificationId, readAt, expireAt);
+        if (readNotification.isEmpty()) {
+            return getNotification(notificationId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND));
+        }
+
+        unreadCounter.decrement(UnreadCounterType.NOTIFICATION, readNotification.get().getRecipientIdValue());
+        return readNotification.get();
     }
 
     @Override
-    public void markAllNotificationsReadForUser(Long userId) {
+    public long markAllNotificationsReadForUser(Long userId) {
         // 사용자가 존재하는지 확인
         userService.findById(userId);
 
-        // 모든 읽지 않은 알림 가져오기
-        List<Notification> unreadNotifications = notificationRepository.findUnreadForUser(userId);
+        // 알림 수와 관계없이 한 번의 updateMulti로 전이
+        LocalDateTime readAt = LocalDateTime.now();
+        long readCount = notificationRepository.markAllReadForUser(
+                userId, null, readAt, retentionPolicy.expireAtByType(readAt));
+        // 전이 직후 도착한 알림이 카운터에서 지워지지 않도록 초기화하지 않고 전이된 수만큼 줄임
+        if (readCount > 0) {
+            unreadCounter.decrement(UnreadCounterType.NOTIFICATION, userId, readCount);
+        }
+
+        log.info("사용자 {}의 {}개 알림이 읽음으로 표시되었습니다", userId, readCount);
+        return readCount;
+    }
+
+    @Override
+    public long markNotificationsReadUpTo(Long userId, LocalDateTime upTo) {
+        // 사용자가 존재하는지 확인
+        userService.findById(userId);
 
-        // 각각을 읽음으로 표시하고 저장
-        unreadNotifications.forEach(notification -> {
-            Notification readNotification = notification.markRead();
-            notificationRepository.save(readNotification);
-        });
+        LocalDateTime readAt = LocalDateTime.now();
+        long readCount = notificationRepository.markAllReadForUser(
+                userId, upTo, readAt, retentionPolicy.expireAtByType(readAt));
+        // upTo 이후에 도착한 알림은 읽지 않은 채로 남으므로 초기화하지 않고 전이된 수만큼 줄임
+        if (readCount > 0) {
+            unreadCounter.decrement(UnreadCounterType.NOTIFICATION, userId, readCount);
+        }
 
-        log.info("사용자 {}의 {}개 알림이 읽음으로 표시되었습니다", userId, unreadNotifications.size());
+        log.info("사용자 {}의 {} 이전 알림 {}개가 읽음으로 표시되었습니다", userId, upTo, readCount);
+        return readCount;
     }
 
     @Override
@@ -94,19 +140,29 @@ public class NotificationServiceImpl implements NotificationService {
     }
 
     @Override
-    public List<Notification> getUnreadNotificationsForUser(Long userId) {
+    public Slice<Notification> getNotificationFeed(Long userId, String cursor, int size) {
         // 사용자가 존재하는지 확인
         userService.findById(userId);
 
-        return notificationRepository.findUnreadForUser(userId);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<Notification> notifications = notificationRepository.findFeedForUser(userId, decodeCursor(cursor), size + 1);
+        return toSlice(notifications, size);
     }
 
     @Override
-    public long countUnreadNotificationsForUser(Long userId) {
+    public Slice<Notification> getUnreadNotificationsForUser(Long userId, String cursor, int size) {
         // 사용자가 존재하는지 확인
         userService.findById(userId);
 
-        return notificationRepository.countUnreadForUser(userId);
+        List<Notification> notifications = notificationRepository.findUnreadForUser(userId, decodeCursor(cursor), size + 1);
+        return toSlice(notifications, size);
+    }
+
+    @Override
+    public long countUnreadNotificationsForUser(Long userId) {
+        // 배지 조회는 Redis 카운터만 사용하며, 카운터가 없을 때만 MongoDB에서 적재
+        return unreadCounter.get(UnreadCounterType.NOTIFICATION, userId,
+                () -> notificationRepository.countUnreadForUser(userId));
     }
 
     @Override
@@ -116,4 +172,22 @@ public class NotificationServiceImpl implements NotificationService {
 
         return notificationRepository.findByTypeForUser(userId, type, pageable);
     }
-}
\ No newline at end of file
+
+    private static Slice<Notification> toSlice(List<Notification> notifications, int size) {
+        boolean hasNext = notifications.size() > size;
+        List<Notification> content = hasNext ? notifications.subList(0, size) : notifications;
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+    }
+
+    private static NotificationCursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            return NotificationCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.PickOne.global.common.config;
+
+import com.PickOne.domain.messaging.model.entity.MessageDocument;
+import com.PickOne.domain.notification.model.entity.NotificationDocument;
+import com.PickOne.global.common.mongo.MongoInsertBatcher;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.Duration;
+
+/**
+ * 메시지와 알림 삽입을 묶어 저장하는 그룹 커밋 배처 설정
+ * 메시지 배처는 메시지를 문서 단위로 저장할 때만 만들어, 버킷 저장 방식에서는 플러셔 스레드를 띄우지 않는다
+ */
+@Configuration
+public class MongoBatchConfig {
+
+    @Value("${app.mongo.insert-batch.window-ms:5}")
+    private long windowMs;
+
+    @Value("${app.mongo.insert-batch.max-size:256}")
+    private int maxBatchSize;
+
+    @Value("${app.mongo.insert-batch.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "app.messaging.storage-layout", havingValue = "document", matchIfMissing = true)
+    public MongoInsertBatcher<MessageDocument> messageInsertBatcher(MongoTemplate mongoTemplate,
+                                                                    MeterRegistry meterRegistry) {
+        return new MongoInsertBatcher<>(mongoTemplate, MessageDocument.class,
+                Duration.ofMillis(windowMs), maxBatchSize, queueCapacity, meterRegistry);
+    }
+
+    @Bean(destroyMethod = "close")
+    public MongoInsertBatcher<NotificationDocument> notificationInsertBatcher(MongoTemplate mongoTemplate,
+                                                                              MeterRegistry meterRegistry) {
+        return new MongoInsertBatcher<>(mongoTemplate, NotificationDocument.class,
+                Duration.ofMillis(windowMs), maxBatchSize, queueCapacity, meterRegistry);
+    }
+}
@@ -0,0 +1,56 @@
+package com.PickOne.global.common.config;
+
+import com.PickOne.domain.messaging.model.entity.ConversationDocument;
+import com.PickOne.domain.messaging.model.entity.MessageDocument;
+import com.PickOne.domain.messaging.model.entity.MessageSearchPostingDocument;
+import com.PickOne.domain.messaging.model.entity.RoomDocument;
+import com.PickOne.domain.messaging.model.entity.RoomMessageDocument;
+import com.PickOne.domain.notification.model.entity.NotificationDocument;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+
+import java.util.List;
+
+/**
+ * 애플리케이션 시작 시 문서에 선언된 MongoDB 인덱스를 생성
+ * 자동 인덱스 생성이 꺼져 있으므로 @Indexed, @CompoundIndex 선언은 여기서 반영된다
+ */
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class MongoIndexConfig {
+
+    private static final List<Class<?>> INDEXED_DOCUMENTS = List.of(
+            MessageDocument.class,
+            ConversationDocument.class,
+            MessageSearchPostingDocument.class,
+            RoomDocument.class,
+            RoomMessageDocument.class,
+            NotificationDocument.class
+    );
+
+    private final MongoTemplate mongoTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initIndexes() {
+        MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext =
+                mongoTemplate.getConverter().getMappingContext();
+        IndexResolver resolver = new MongoPersistentEntityIndexResolver(mappingContext);
+
+        for (Class<?> documentType : INDEXED_DOCUMENTS) {
+            IndexOperations indexOps = mongoTemplate.indexOps(documentType);
+            resolver.resolveIndexFor(documentType).forEach(indexOps::ensureIndex);
+            log.info("{} 인덱스를 확인했습니다", documentType.getSimpleName());
+        }
+    }
+}
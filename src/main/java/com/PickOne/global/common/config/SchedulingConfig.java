@@ -0,0 +1,46 @@
+package com.PickOne.global.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * @Scheduled 작업 활성화와 스케줄러 설정
+ * 기본 스케줄러는 스레드가 하나뿐이어서 오래 걸리는 작업이 다른 작업을 밀어내므로 용도별로 나눈다
+ * - taskScheduler: 짧은 주기의 가벼운 작업 (기본)
+ * - presenceScheduler: 접속 상태 heartbeat 전용, 다른 작업이 밀려도 TTL 안에 갱신되도록 분리
+ * - batchJobScheduler: 컬렉션이나 키 전체를 훑는 무거운 배치 작업
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    public static final String PRESENCE_SCHEDULER = "presenceScheduler";
+    public static final String BATCH_JOB_SCHEDULER = "batchJobScheduler";
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${app.scheduling.pool-size:4}") int poolSize) {
+        return scheduler("scheduling-", poolSize);
+    }
+
+    @Bean(name = PRESENCE_SCHEDULER)
+    public ThreadPoolTaskScheduler presenceScheduler() {
+        return scheduler("presence-heartbeat-", 1);
+    }
+
+    @Bean(name = BATCH_JOB_SCHEDULER)
+    public ThreadPoolTaskScheduler batchJobScheduler(@Value("${app.scheduling.batch-pool-size:2}") int poolSize) {
+        return scheduler("batch-job-", poolSize);
+    }
+
+    private ThreadPoolTaskScheduler scheduler(String threadNamePrefix, int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix(threadNamePrefix);
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        return scheduler;
+    }
+}
@@ -1,12 +1,18 @@
 package com.PickOne.global.common.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
+import com.PickOne.global.websocket.handler.OutboundSessionRegistry;
+import com.PickOne.global.websocket.interceptor.InboundRateLimitInterceptor;
+import com.PickOne.global.websocket.interceptor.RoomSubscriptionInterceptor;
+import com.PickOne.global.websocket.interceptor.SlowConsumerInterceptor;
 import com.PickOne.global.websocket.interceptor.WebSocketAuthInterceptor;
 
 import lombok.RequiredArgsConstructor;
@@ -17,6 +23,34 @@ import lombok.RequiredArgsConstructor;
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final WebSocketAuthInterceptor webSocketAuthInterceptor;
+    private final InboundRateLimitInterceptor inboundRateLimitInterceptor;
+    private final RoomSubscriptionInterceptor roomSubscriptionInterceptor;
+    private final SlowConsumerInterceptor slowConsumerInterceptor;
+    private final OutboundSessionRegistry outboundSessionRegistry;
+
+    @Value("${app.websocket.inbound.core-pool-size:8}")
+    private int inboundCorePoolSize;
+
+    @Value("${app.websocket.inbound.max-pool-size:16}")
+    private int inboundMaxPoolSize;
+
+    @Value("${app.websocket.inbound.queue-capacity:1000}")
+    private int inboundQueueCapacity;
+
+    @Value("${app.websocket.outbound.core-pool-size:8}")
+    private int outboundCorePoolSize;
+
+    @Value("${app.websocket.outbound.max-pool-size:16}")
+    private int outboundMaxPoolSize;
+
+    @Value("${app.websocket.outbound.queue-capacity:2000}")
+    private int outboundQueueCapacity;
+
+    @Value("${app.websocket.transport.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    @Value("${app.websocket.transport.send-time-limit-ms:10000}")
+    private int sendTimeLimitMs;
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
@@ -41,6 +75,34 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
         // 인증 및 권한 부여를 위한 인터셉터 추가
-        registration.interceptors(webSocketAuthInterceptor);
+        // 속도 제한은 풀에 넘기기 전에 판단하므로, 한도를 넘은 프레임은 컨트롤러까지 가지 않음
+        registration.interceptors(webSocketAuthInterceptor, inboundRateLimitInterceptor, roomSubscriptionInterceptor);
+
+        // 기본값(코어 수 * 2, 무제한 큐) 대신 크기가 제한된 풀 사용
+        registration.taskExecutor()
+                .corePoolSize(inboundCorePoolSize)
+                .maxPoolSize(inboundMaxPoolSize)
+                .queueCapacity(inboundQueueCapacity);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        // 느린 세션에는 일시적 이벤트부터 버리고, 계속 밀리면 연결을 끊음
+        registration.interceptors(slowConsumerInterceptor);
+
+        registration.taskExecutor()
+                .corePoolSize(outboundCorePoolSize)
+                .maxPoolSize(outboundMaxPoolSize)
+                .queueCapacity(outboundQueueCapacity);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // 세션별 전송 버퍼와 전송 시간 상한, 초과하면 Spring이 세션을 종료함
+        registration.setSendBufferSizeLimit(sendBufferSizeLimit);
+        registration.setSendTimeLimit(sendTimeLimitMs);
+
+        // 세션별 대기 프레임 수 추적
+        registration.addDecoratorFactory(outboundSessionRegistry);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,128 @@
+package com.PickOne.global.common.mongo;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 문서 본문의 임계값 기반 Deflate 압축
+ * 문서 매핑(fromDomain/toDomain)에서 호출되며, 인코딩 표시가 없는 기존 문서는 평문으로 읽는다
+ * 매핑 코드는 빈이 아니므로 압축률 메트릭은 전역 레지스트리에 기록한다
+ */
+public final class ContentCompression {
+
+    /**
+     * 이 크기(UTF-8 바이트) 이상인 본문만 압축
+     * 알림 본문은 최대 255자이므로 한글 알림도 대상이 되도록 512바이트로 둔다
+     */
+    public static final int THRESHOLD_BYTES = 512;
+
+    /**
+     * 압축 결과가 원본의 이 비율을 넘으면 압축하지 않고 평문으로 저장
+     */
+    private static final double MAX_USEFUL_RATIO = 0.9;
+
+    private ContentCompression() {
+    }
+
+    /**
+     * 본문을 저장 형태로 변환
+     *
+     * @param collection 압축률 메트릭에 붙일 컬렉션 이름
+     */
+    public static EncodedContent encode(String content, String collection) {
+        if (content == null) {
+            return new EncodedContent(null, null, null);
+        }
+
+        byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+        if (raw.length < THRESHOLD_BYTES) {
+            return new EncodedContent(content, null, null);
+        }
+
+        byte[] compressed = deflate(raw);
+        double ratio = (double) compressed.length / raw.length;
+        ratioSummary(collection).record(ratio);
+
+        // 압축 효과가 없는 본문은 표시만 남겨 재압축 작업이 다시 고르지 않도록 함
+        if (ratio > MAX_USEFUL_RATIO) {
+            return new EncodedContent(content, null, ContentEncoding.IDENTITY.name());
+        }
+        return new EncodedContent(null, compressed, ContentEncoding.DEFLATE.name());
+    }
+
+    /**
+     * 저장 형태에서 본문 복원
+     */
+    public static String decode(String content, byte[] compressedContent, String encoding) {
+        if (!ContentEncoding.DEFLATE.name().equals(encoding)) {
+            return content;
+        }
+        return new String(inflate(compressedContent), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] compressed) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(compressed.length * 3);
+            byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("압축된 본문이 손상되었습니다");
+                }
+                out.write(buffer, 0, length);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("압축된 본문을 해제할 수 없습니다", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static DistributionSummary ratioSummary(String collection) {
+        return DistributionSummary.builder("mongo.content.compression.ratio")
+                .tag("collection", collection)
+                .description("압축 후 크기 / 원본 크기")
+                .register(Metrics.globalRegistry);
+    }
+
+    /**
+     * 문서에 저장되는 인코딩 표시
+     */
+    public enum ContentEncoding {
+        /** 임계값 이상이지만 압축 효과가 없어 평문으로 저장 */
+        IDENTITY,
+        /** compressedContent에 Deflate로 압축해 저장 */
+        DEFLATE
+    }
+
+    /**
+     * 저장 형태의 본문 (content, compressedContent 중 하나만 값이 있음)
+     */
+    public record EncodedContent(String content, byte[] compressedContent, String encoding) {
+    }
+}
@@ -0,0 +1,153 @@
+package com.PickOne.global.common.mongo;
+
+import com.PickOne.domain.messaging.model.entity.MessageDocument;
+import com.PickOne.domain.notification.model.entity.NotificationDocument;
+import com.PickOne.global.common.config.SchedulingConfig;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.Binary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 압축 도입 이전에 평문으로 저장된 큰 본문을 배치 단위로 다시 압축
+ * 인코딩 표시가 없는 문서만 고르며, 본문이 그 사이 바뀌지 않았을 때만 교체한다
+ * 작은 본문은 표시 없이 남으므로, 컬렉션별로 마지막으로 확인한 _id를 저장해 두고 다음 배치는 그 뒤부터 읽는다
+ */
+@Component
+@ConditionalOnProperty(name = "app.mongo.recompression.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class ContentRecompressionJob {
+
+    private static final List<String> COLLECTIONS = List.of(
+            MessageDocument.COLLECTION,
+            NotificationDocument.COLLECTION
+    );
+    private static final String WATERMARK_COLLECTION = "migrations";
+    private static final String WATERMARK_ID_PREFIX = "content-recompression:";
+
+    private final MongoTemplate mongoTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    public ContentRecompressionJob(MongoTemplate mongoTemplate,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${app.mongo.recompression.batch-size:500}") int batchSize,
+                                   @Value("${app.mongo.recompression.max-batches-per-run:20}") int maxBatchesPerRun) {
+        this.mongoTemplate = mongoTemplate;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    @Scheduled(scheduler = SchedulingConfig.BATCH_JOB_SCHEDULER,
+            fixedDelayString = "${app.mongo.recompression.interval-ms:3600000}",
+            initialDelayString = "${app.mongo.recompression.interval-ms:3600000}")
+    public void recompress() {
+        for (String collection : COLLECTIONS) {
+            long processed = 0;
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                int batch = recompressBatch(collection);
+                processed += batch;
+                if (batch < batchSize) {
+                    break;
+                }
+            }
+
+            if (processed > 0) {
+                log.info("{} 컬렉션에서 본문 {}개를 다시 압축했습니다", collection, processed);
+            }
+        }
+    }
+
+    /**
+     * 한 배치를 읽어 bulkWrite 한 번으로 교체
+     *
+     * @return 이번 배치에서 읽은 문서 수
+     */
+    int recompressBatch(String collection) {
+        Object watermark = watermarkOf(collection);
+        Bson candidates = Filters.and(
+                watermark == null ? Filters.empty() : Filters.gt("_id", watermark),
+                Filters.exists("contentEncoding", false)
+        );
+
+        List<Document> batch = mongoTemplate.getCollection(collection)
+                .find(candidates)
+                .projection(Projections.include("content"))
+                .sort(Sorts.ascending("_id"))
+                .limit(batchSize)
+                .into(new ArrayList<>());
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        long savedBytes = 0;
+        List<WriteModel<Document>> writes = new ArrayList<>(batch.size());
+        for (Document document : batch) {
+            // 압축 기준보다 작은 본문은 건너뛰고 위치만 넘김
+            if (!(document.get("content") instanceof String content)
+                    || content.getBytes(StandardCharsets.UTF_8).length < ContentCompression.THRESHOLD_BYTES) {
+                continue;
+            }
+            ContentCompression.EncodedContent encoded = ContentCompression.encode(content, collection);
+
+            Bson unchanged = Filters.and(Filters.eq("_id", document.get("_id")), Filters.eq("content", content));
+            Bson update = encoded.compressedContent() == null
+                    ? Updates.set("contentEncoding", encoded.encoding())
+                    : Updates.combine(
+                            Updates.set("compressedContent", new Binary(encoded.compressedContent())),
+                            Updates.set("contentEncoding", encoded.encoding()),
+                            Updates.unset("content"));
+            writes.add(new UpdateOneModel<>(unchanged, update));
+
+            if (encoded.compressedContent() != null) {
+                savedBytes += content.getBytes(StandardCharsets.UTF_8).length
+                        - encoded.compressedContent().length;
+            }
+        }
+
+        if (!writes.isEmpty()) {
+            mongoTemplate.getCollection(collection).bulkWrite(writes, new BulkWriteOptions().ordered(false));
+        }
+        // 교체가 끝난 뒤에만 위치를 넘겨, 실패한 배치는 다음 실행에서 다시 읽음
+        saveWatermark(collection, batch.get(batch.size() - 1).get("_id"));
+
+        meterRegistry.counter("mongo.content.recompressed", "collection", collection).increment(writes.size());
+        meterRegistry.counter("mongo.content.compression.saved.bytes", "collection", collection).increment(savedBytes);
+        return batch.size();
+    }
+
+    private Object watermarkOf(String collection) {
+        Document watermark = mongoTemplate.getCollection(WATERMARK_COLLECTION)
+                .find(Filters.eq("_id", WATERMARK_ID_PREFIX + collection))
+                .first();
+        return watermark == null ? null : watermark.get("lastId");
+    }
+
+    private void saveWatermark(String collection, Object lastId) {
+        mongoTemplate.getCollection(WATERMARK_COLLECTION).updateOne(
+                Filters.eq("_id", WATERMARK_ID_PREFIX + collection),
+                Updates.set("lastId", lastId),
+                new UpdateOptions().upsert(true)
+        );
+    }
+}
@@ -0,0 +1,218 @@
+package com.PickOne.global.common.mongo;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 짧은 시간 동안 모은 삽입을 한 번의 bulkWrite로 저장하는 그룹 커밋 배처
+ * 호출자는 자신의 문서가 포함된 배치가 확인되면 완료되는 future를 받는다
+ * 저장 확인 경로에는 별도 제한 시간을 두지 않고 드라이버의 타임아웃에 맡겨, 결과가 반영된 삽입을 실패로 알리지 않는다
+ *
+ * @param <T> 저장할 문서 타입
+ */
+@Slf4j
+public class MongoInsertBatcher<T> implements AutoCloseable {
+
+    private final MongoTemplate mongoTemplate;
+    private final Class<T> documentType;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final BlockingQueue<PendingInsert<T>> queue;
+    private final DistributionSummary batchSizes;
+    private final Thread flusher;
+
+    private volatile boolean running = true;
+
+    public MongoInsertBatcher(MongoTemplate mongoTemplate, Class<T> documentType, Duration window,
+                              int maxBatchSize, int queueCapacity, MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.documentType = documentType;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+
+        String collection = mongoTemplate.getCollectionName(documentType);
+        this.batchSizes = DistributionSummary.builder("mongo.insert.batch.size")
+                .tag("collection", collection)
+                .description("그룹 커밋 한 번에 저장된 문서 수")
+                .register(meterRegistry);
+
+        this.flusher = new Thread(this::flushLoop, "mongo-batch-" + collection);
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * 문서를 다음 배치에 추가
+     * 대기열이 가득 차면 여유가 생길 때까지 호출 스레드를 막아 부하를 되돌려 보낸다
+     */
+    public CompletableFuture<T> insert(T document) {
+        if (!running) {
+            return CompletableFuture.failedFuture(closedException());
+        }
+
+        PendingInsert<T> pending = new PendingInsert<>(document, new CompletableFuture<>());
+        try {
+            queue.put(pending);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        }
+
+        // 대기 중에 종료되어 플러셔가 이미 마지막으로 비운 뒤라면 직접 꺼내 실패 처리
+        if (!running && queue.remove(pending)) {
+            return CompletableFuture.failedFuture(closedException());
+        }
+        return pending.future();
+    }
+
+    private void flushLoop() {
+        List<PendingInsert<T>> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingInsert<T> first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // 첫 문서가 도착한 시점부터 창이 닫히거나 최대 크기에 이를 때까지 모음
+                long deadline = System.nanoTime() + windowNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        queue.drainTo(batch, maxBatchSize - batch.size());
+                        break;
+                    }
+                    PendingInsert<T> next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+                // 창을 채우던 중 중단되어도 이미 꺼낸 삽입은 저장해 호출자가 끝없이 기다리지 않게 함
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                }
+                // 인터럽트 상태에서는 poll이 바로 실패하므로 루프를 벗어나고, 남은 삽입은 failRemaining에서 실패 처리
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+
+        failRemaining();
+    }
+
+    /**
+     * 종료 직전에 들어와 저장되지 못한 삽입은 실패로 알림
+     */
+    private void failRemaining() {
+        List<PendingInsert<T>> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(pending -> pending.future().completeExceptionally(closedException()));
+    }
+
+    private static IllegalStateException closedException() {
+        return new IllegalStateException("배처가 종료되었습니다");
+    }
+
+    private void flush(List<PendingInsert<T>> batch) {
+        List<T> documents = batch.stream().map(PendingInsert::document).toList();
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, documentType)
+                    .insert(documents)
+                    .execute();
+            batch.forEach(PendingInsert::complete);
+        } catch (RuntimeException e) {
+            completeWithErrors(batch, e);
+        } finally {
+            batchSizes.record(batch.size());
+        }
+    }
+
+    /**
+     * 순서 없는 bulkWrite는 실패한 문서만 건너뛰므로, 오류 인덱스에 해당하는 호출자만 실패 처리
+     */
+    private void completeWithErrors(List<PendingInsert<T>> batch, RuntimeException e) {
+        Map<Integer, String> failed = failedIndexes(e);
+        if (failed == null) {
+            log.error("{}건 일괄 삽입에 실패했습니다", batch.size(), e);
+            batch.forEach(pending -> pending.future().completeExceptionally(e));
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            PendingInsert<T> pending = batch.get(i);
+            String error = failed.get(i);
+            if (error == null) {
+                pending.complete();
+            } else {
+                pending.future().completeExceptionally(new DataIntegrityViolationException(error, e));
+            }
+        }
+        log.warn("{}건 중 {}건의 일괄 삽입이 실패했습니다", batch.size(), failed.size());
+    }
+
+    private static Map<Integer, String> failedIndexes(Throwable e) {
+        List<BulkWriteError> errors = null;
+        for (Throwable cause = e; cause != null && errors == null; cause = cause.getCause()) {
+            if (cause instanceof BulkOperationException bulkException) {
+                errors = bulkException.getErrors();
+            } else if (cause instanceof MongoBulkWriteException bulkWriteException) {
+                errors = bulkWriteException.getWriteErrors();
+            }
+        }
+        if (errors == null) {
+            return null;
+        }
+
+        Map<Integer, String> failed = new HashMap<>();
+        errors.forEach(error -> failed.put(error.getIndex(), error.getMessage()));
+        return failed;
+    }
+
+    /**
+     * 새 삽입을 받지 않고, 이미 대기 중인 문서를 저장한 뒤 종료
+     * 제한 시간 안에 저장하지 못했거나 플러셔가 끝난 뒤 들어온 문서는 실패로 알림
+     */
+    @Override
+    public void close() {
+        running = false;
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        failRemaining();
+    }
+
+    private record PendingInsert<T>(T document, CompletableFuture<T> future) {
+
+        void complete() {
+            future.complete(document);
+        }
+    }
+}
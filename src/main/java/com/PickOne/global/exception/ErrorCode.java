@@ -77,6 +77,11 @@ public enum ErrorCode {
     BLACKLISTED_TOKEN(HttpStatus.UNAUTHORIZED, 8001, "해당 토큰은 블랙리스트에 등록되어 사용할 수 없습니다."),
     TOKEN_ALREADY_BLACKLISTED(HttpStatus.BAD_REQUEST, 8002, "해당 토큰은 이미 블랙리스트에 등록되어 있습니다."),
 
+    // 메시징 관련 (9100번대)
+    MESSAGE_SEND_IN_PROGRESS(HttpStatus.CONFLICT, 9101, "같은 메시지를 전송하는 중입니다. 잠시 후 다시 시도해주세요."),
+    ROOM_NOT_FOUND(HttpStatus.NOT_FOUND, 9102, "존재하지 않는 채팅방입니다."),
+    NOT_ROOM_MEMBER(HttpStatus.FORBIDDEN, 9103, "채팅방 멤버가 아닙니다."),
+    ROOM_MEMBER_LIMIT_EXCEEDED(HttpStatus.BAD_REQUEST, 9104, "채팅방 최대 인원을 초과했습니다."),
 
     INVALID_RECRUITMENT_ID(HttpStatus.UNAUTHORIZED,9001,"존재하지 않는 모집글입니다."),
 
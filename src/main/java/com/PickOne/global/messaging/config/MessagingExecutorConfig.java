@@ -0,0 +1,90 @@
+package com.PickOne.global.messaging.config;
+
+import com.PickOne.global.messaging.dispatch.OverflowPolicy;
+import com.PickOne.global.messaging.dispatch.StripedDispatchExecutor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 메시지 전송 파이프라인의 비동기 단계별 실행기 설정
+ * 단계마다 크기가 제한된 풀과 큐를 두고, 큐가 가득 차면 호출 스레드에서 실행하여 부하를 되돌려 보낸다
+ * 실시간 전달 단계는 같은 수신자에게 가는 이벤트의 순서를 지키도록 스트라이프 실행기를 쓴다
+ * 다른 노드에서 받은 이벤트는 수신자별 순서를 지키는 스트라이프 실행기로 WebSocket 세션에 전달한다
+ */
+@Configuration
+@RequiredArgsConstructor
+public class MessagingExecutorConfig {
+
+    public static final String NOTIFICATION_STAGE_EXECUTOR = "notificationStageExecutor";
+    public static final String DELIVERY_STAGE_EXECUTOR = "deliveryStageExecutor";
+    public static final String SEARCH_INDEX_STAGE_EXECUTOR = "searchIndexStageExecutor";
+    public static final String INBOUND_DISPATCH_EXECUTOR = "inboundDispatchExecutor";
+
+    private final MeterRegistry meterRegistry;
+
+    @Bean(name = NOTIFICATION_STAGE_EXECUTOR)
+    public ThreadPoolTaskExecutor notificationStageExecutor(
+            @Value("${app.messaging.pipeline.notification.pool-size:4}") int poolSize,
+            @Value("${app.messaging.pipeline.notification.queue-capacity:1000}") int queueCapacity) {
+        return stageExecutor("notification", poolSize, queueCapacity);
+    }
+
+    @Bean(name = DELIVERY_STAGE_EXECUTOR, destroyMethod = "close")
+    public StripedDispatchExecutor deliveryStageExecutor(
+            @Value("${app.messaging.pipeline.delivery.stripes:4}") int stripes,
+            @Value("${app.messaging.pipeline.delivery.queue-capacity:1000}") int queueCapacity,
+            @Value("${app.messaging.pipeline.delivery.block-timeout-ms:200}") long blockTimeoutMs) {
+        // 전송 요청 스레드를 잠시 막아 부하를 되돌려 보내고, 그래도 넘치면 버려진 이벤트는 동기화로 받아감
+        return new StripedDispatchExecutor("delivery", stripes, queueCapacity, OverflowPolicy.BLOCK,
+                Duration.ofMillis(blockTimeoutMs), meterRegistry);
+    }
+
+    @Bean(name = SEARCH_INDEX_STAGE_EXECUTOR)
+    public ThreadPoolTaskExecutor searchIndexStageExecutor(
+            @Value("${app.messaging.pipeline.search-index.pool-size:2}") int poolSize,
+            @Value("${app.messaging.pipeline.search-index.queue-capacity:1000}") int queueCapacity) {
+        return stageExecutor("search-index", poolSize, queueCapacity);
+    }
+
+    @Bean(name = INBOUND_DISPATCH_EXECUTOR, destroyMethod = "close")
+    public StripedDispatchExecutor inboundDispatchExecutor(
+            @Value("${app.messaging.dispatch.stripes:8}") int stripes,
+            @Value("${app.messaging.dispatch.queue-capacity:1000}") int queueCapacity,
+            @Value("${app.messaging.dispatch.overflow-policy:DROP_OLDEST}") OverflowPolicy overflowPolicy,
+            @Value("${app.messaging.dispatch.block-timeout-ms:200}") long blockTimeoutMs) {
+        // Redis 수신 스레드가 넣는 실행기이므로 기본은 막지 않고 오래된 이벤트를 버림, 버려진 이벤트는 동기화로 받아감
+        return new StripedDispatchExecutor("inbound", stripes, queueCapacity, overflowPolicy,
+                Duration.ofMillis(blockTimeoutMs), meterRegistry);
+    }
+
+    private ThreadPoolTaskExecutor stageExecutor(String stage, int poolSize, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("msg-" + stage + "-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        // 종료 시 이미 저장된 메시지의 후속 단계가 유실되지 않도록 대기
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+
+        Gauge.builder("messaging.pipeline.queue.depth", executor,
+                        e -> e.getThreadPoolExecutor().getQueue().size())
+                .tag("stage", stage)
+                .description("전송 파이프라인 단계별 대기 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("messaging.pipeline.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .tag("stage", stage)
+                .register(meterRegistry);
+        return executor;
+    }
+}
@@ -1,21 +1,38 @@
 package com.PickOne.global.messaging.config;
 
+import com.PickOne.global.messaging.delivery.DeliveryChannel;
+import com.PickOne.global.messaging.delivery.RoomBroadcaster;
+import com.PickOne.global.messaging.node.NodeIdentity;
 import com.PickOne.global.websocket.handler.RedisMessageSubscriber;
+import com.PickOne.global.websocket.handler.RoomBroadcastSubscriber;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
 
+/**
+ * Redis Pub/Sub 구독 설정
+ * Pub/Sub 전달 모드에서는 노드 전용 채널을 구독하고, Redis Streams 모드에서는 RedisStreamDeliveryConsumer가 대신 구독한다
+ * 채팅방 게시 채널은 전달 모드와 관계없이 항상 구독한다
+ * 애플리케이션의 유일한 리스너 컨테이너이며, 수신 스레드에서는 해석만 하고 전송은 스트라이프 실행기에 맡긴다
+ */
 @Configuration
 @RequiredArgsConstructor
 public class RedisListenerConfig {
 
+    private static final String PUBSUB_DELIVERY_MODE = "pubsub";
+
     private final RedisMessageSubscriber redisMessageSubscriber;
-    private final ChannelTopic messageTopic;
-    private final ChannelTopic notificationTopic;
+    private final RoomBroadcastSubscriber roomBroadcastSubscriber;
+    private final NodeIdentity nodeIdentity;
+
+    @Value("${app.messaging.delivery-mode:pubsub}")
+    private String deliveryMode;
 
     @Bean
     public MessageListenerAdapter messageListenerAdapter() {
@@ -28,11 +45,21 @@ public class RedisListenerConfig {
         // Redis 메시지 리스너 컨테이너 설정
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
+        // 기본 SimpleAsyncTaskExecutor는 메시지마다 스레드를 만들므로, 수신 스레드에서 바로 리스너를 호출
+        // 리스너는 막지 않는 넘침 정책의 스트라이프 실행기에 넘기기만 하므로 수신 스레드가 멈추지 않음
+        container.setTaskExecutor(new SyncTaskExecutor());
+
+        // 현재 노드에 연결된 사용자 대상 이벤트만 받도록 노드 전용 채널 구독
+        if (PUBSUB_DELIVERY_MODE.equals(deliveryMode)) {
+            for (DeliveryChannel channel : DeliveryChannel.values()) {
+                container.addMessageListener(messageListenerAdapter(),
+                        new ChannelTopic(channel.nodeChannel(nodeIdentity.getNodeId())));
+            }
+        }
 
-        // 두 토픽에 대한 리스너 등록
-        container.addMessageListener(messageListenerAdapter(), messageTopic);
-        container.addMessageListener(messageListenerAdapter(), notificationTopic);
+        // 큰 방의 메시지는 모든 노드가 받아 각자의 방 토픽 구독자에게 전달
+        container.addMessageListener(roomBroadcastSubscriber, new ChannelTopic(RoomBroadcaster.CHANNEL));
 
         return container;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,120 @@
+package com.PickOne.global.messaging.counter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * 사용자별 읽지 않은 메시지/알림 수를 Redis에 원자적으로 유지하는 카운터
+ * 배지 조회는 GET 한 번으로 끝나며, 키가 없을 때만 원본 저장소에서 한 번 적재한다
+ * 증감한 사용자는 같은 스크립트에서 종류별 집합에 남겨 UnreadCounterReconciler가 그 키만 보정하게 한다
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UnreadCounter {
+
+    private static final Duration COUNTER_TTL = Duration.ofDays(30);
+
+    /**
+     * 키가 있을 때만 증가 (없으면 다음 조회 시 원본에서 적재되므로 건드리지 않음)
+     */
+    private static final RedisScript<Long> INCREMENT_IF_PRESENT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then "
+                    + "redis.call('SADD', KEYS[2], ARGV[2]) "
+                    + "return redis.call('INCRBY', KEYS[1], ARGV[1]) end "
+                    + "return -1",
+            Long.class);
+
+    /**
+     * 키가 있을 때만 감소시키되 0 미만으로 내려가지 않음
+     */
+    private static final RedisScript<Long> DECREMENT_IF_PRESENT = new DefaultRedisScript<>(
+            "local current = redis.call('GET', KEYS[1]) "
+                    + "if not current then return -1 end "
+                    + "local next = tonumber(current) - tonumber(ARGV[1]) "
+                    + "if next < 0 then next = 0 end "
+                    + "redis.call('SET', KEYS[1], next, 'KEEPTTL') "
+                    + "redis.call('SADD', KEYS[2], ARGV[2]) "
+                    + "return next",
+            Long.class);
+
+    /**
+     * 값이 기대한 값 그대로일 때만 교체 (보정 중 발생한 증감을 덮어쓰지 않기 위함)
+     */
+    private static final RedisScript<Long> COMPARE_AND_SET = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then "
+                    + "redis.call('SET', KEYS[1], ARGV[2], 'KEEPTTL') return 1 end "
+                    + "return 0",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 카운터 값 조회, 키가 없으면 loader로 원본 값을 적재
+     */
+    public long get(UnreadCounterType type, Long userId, LongSupplier loader) {
+        String key = type.keyOf(userId);
+        String cached = stringRedisTemplate.opsForValue().get(key);
+        if (cached != null) {
+            return Long.parseLong(cached);
+        }
+
+        long loaded = loader.getAsLong();
+        Boolean stored = stringRedisTemplate.opsForValue().setIfAbsent(key, String.valueOf(loaded), COUNTER_TTL);
+        if (Boolean.FALSE.equals(stored)) {
+            // 동시에 다른 요청이 적재한 경우 그 값을 따름
+            String current = stringRedisTemplate.opsForValue().get(key);
+            return current != null ? Long.parseLong(current) : loaded;
+        }
+        return loaded;
+    }
+
+    public void increment(UnreadCounterType type, Long userId) {
+        increment(type, userId, 1);
+    }
+
+    public void increment(UnreadCounterType type, Long userId, long delta) {
+        if (delta <= 0) {
+            return;
+        }
+        stringRedisTemplate.execute(INCREMENT_IF_PRESENT, List.of(type.keyOf(userId), type.getDirtyKey()),
+                String.valueOf(delta), String.valueOf(userId));
+    }
+
+    public void decrement(UnreadCounterType type, Long userId) {
+        decrement(type, userId, 1);
+    }
+
+    public void decrement(UnreadCounterType type, Long userId, long delta) {
+        if (delta <= 0) {
+            return;
+        }
+        stringRedisTemplate.execute(DECREMENT_IF_PRESENT, List.of(type.keyOf(userId), type.getDirtyKey()),
+                String.valueOf(delta), String.valueOf(userId));
+    }
+
+    /**
+     * 카운터를 0으로 초기화 (모두 읽음 처리 등)
+     */
+    public void reset(UnreadCounterType type, Long userId) {
+        stringRedisTemplate.opsForValue().set(type.keyOf(userId), "0", COUNTER_TTL);
+    }
+
+    /**
+     * 현재 값이 expected일 때만 actual로 교체
+     *
+     * @return 교체 여부
+     */
+    public boolean repair(String key, String expected, long actual) {
+        Long replaced = stringRedisTemplate.execute(COMPARE_AND_SET, List.of(key), expected, String.valueOf(actual));
+        return replaced != null && replaced == 1L;
+    }
+}
@@ -0,0 +1,105 @@
+package com.PickOne.global.messaging.counter;
+
+import com.PickOne.domain.messaging.repository.MessageRepository;
+import com.PickOne.domain.notification.repository.NotificationRepository;
+import com.PickOne.global.common.config.SchedulingConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Redis 읽지 않은 카운터와 MongoDB의 실제 값 사이의 오차를 주기적으로 보정
+ * 보정 중 발생한 증감은 덮어쓰지 않도록 비교 후 교체한다
+ * 주기마다 Redis 잠금을 잡은 노드 하나만, 마지막 보정 이후 증감된 키를 정해진 수만큼 꺼내 보정한다
+ */
+@Component
+@Slf4j
+public class UnreadCounterReconciler {
+
+    static final String LOCK_KEY = "unread:reconcile:lock";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final UnreadCounter unreadCounter;
+    private final MessageRepository messageRepository;
+    private final NotificationRepository notificationRepository;
+    private final Duration lockLease;
+    private final int maxKeysPerRun;
+
+    public UnreadCounterReconciler(StringRedisTemplate stringRedisTemplate,
+                                   UnreadCounter unreadCounter,
+                                   MessageRepository messageRepository,
+                                   NotificationRepository notificationRepository,
+                                   @Value("${app.unread-counter.reconcile-interval-ms:600000}") long intervalMs,
+                                   @Value("${app.unread-counter.reconcile-max-keys:1000}") int maxKeysPerRun) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.unreadCounter = unreadCounter;
+        this.messageRepository = messageRepository;
+        this.notificationRepository = notificationRepository;
+        // 잠금을 풀지 않고 주기만큼 유지하여 다른 노드가 같은 주기에 다시 실행하지 않게 함
+        this.lockLease = Duration.ofMillis(intervalMs);
+        this.maxKeysPerRun = maxKeysPerRun;
+    }
+
+    @Scheduled(scheduler = SchedulingConfig.BATCH_JOB_SCHEDULER,
+            fixedDelayString = "${app.unread-counter.reconcile-interval-ms:600000}",
+            initialDelayString = "${app.unread-counter.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, "1", lockLease))) {
+            return;
+        }
+
+        int repaired = 0;
+        for (UnreadCounterType type : UnreadCounterType.values()) {
+            repaired += reconcile(type);
+        }
+
+        if (repaired > 0) {
+            log.info("읽지 않은 카운터 {}개를 보정했습니다", repaired);
+        }
+    }
+
+    private int reconcile(UnreadCounterType type) {
+        // 꺼내지 못한 나머지는 다음 주기에 보정
+        List<String> userIds = stringRedisTemplate.opsForSet().pop(type.getDirtyKey(), maxKeysPerRun);
+        if (userIds == null) {
+            return 0;
+        }
+
+        int repaired = 0;
+        for (String userId : userIds) {
+            try {
+                if (reconcileKey(type, Long.valueOf(userId))) {
+                    repaired++;
+                }
+            } catch (RuntimeException e) {
+                // 다음 주기에 다시 보정하도록 집합에 되돌림
+                stringRedisTemplate.opsForSet().add(type.getDirtyKey(), userId);
+                log.warn("읽지 않은 카운터 {}{} 보정에 실패했습니다: {}", type.getKeyPrefix(), userId, e.getMessage());
+            }
+        }
+        return repaired;
+    }
+
+    private boolean reconcileKey(UnreadCounterType type, Long userId) {
+        String key = type.keyOf(userId);
+        String cached = stringRedisTemplate.opsForValue().get(key);
+        if (cached == null) {
+            return false;
+        }
+
+        long actual = switch (type) {
+            case MESSAGE -> messageRepository.countUnreadMessages(userId);
+            case NOTIFICATION -> notificationRepository.countUnreadForUser(userId);
+        };
+
+        if (Long.parseLong(cached) == actual) {
+            return false;
+        }
+        return unreadCounter.repair(key, cached, actual);
+    }
+}
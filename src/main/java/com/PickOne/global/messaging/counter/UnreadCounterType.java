@@ -0,0 +1,33 @@
+package com.PickOne.global.messaging.counter;
+
+/**
+ * Redis에 유지하는 읽지 않은 항목 카운터의 종류
+ */
+public enum UnreadCounterType {
+    MESSAGE("unread:message:", "unread:dirty:message"),
+    NOTIFICATION("unread:notification:", "unread:dirty:notification");
+
+    private final String keyPrefix;
+
+    /**
+     * 마지막 보정 이후 증감된 사용자 ID 집합의 키
+     */
+    private final String dirtyKey;
+
+    UnreadCounterType(String keyPrefix, String dirtyKey) {
+        this.keyPrefix = keyPrefix;
+        this.dirtyKey = dirtyKey;
+    }
+
+    public String keyOf(Long userId) {
+        return keyPrefix + userId;
+    }
+
+    public String getKeyPrefix() {
+        return keyPrefix;
+    }
+
+    public String getDirtyKey() {
+        return dirtyKey;
+    }
+}
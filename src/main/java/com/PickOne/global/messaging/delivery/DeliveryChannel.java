@@ -0,0 +1,54 @@
+package com.PickOne.global.messaging.delivery;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * 실시간 전달 채널
+ * 이벤트는 수신자가 연결된 노드의 채널({name}:{nodeId})로만 게시된다
+ * 일시적(ephemeral) 채널의 이벤트는 유실되어도 다음 이벤트나 조회로 복구되므로, 느린 세션에서 가장 먼저 버려진다
+ */
+@Getter
+@RequiredArgsConstructor
+public enum DeliveryChannel {
+    MESSAGES("messaging", "/queue/messages", false),
+    NOTIFICATIONS("notifications", "/queue/notifications", false),
+    ROOMS("rooms", "/queue/rooms", false),
+    RECEIPTS("receipts", "/queue/receipts", false),
+    PRESENCE("presence", "/queue/presence", true),
+    ACTIVITY("activity", "/queue/activity", true);
+
+    private static final String NODE_DELIMITER = ":";
+
+    private final String name;
+    private final String userDestination;
+    private final boolean ephemeral;
+
+    /**
+     * 노드 전용 Pub/Sub 채널 이름
+     */
+    public String nodeChannel(String nodeId) {
+        return name + NODE_DELIMITER + nodeId;
+    }
+
+    /**
+     * 노드 전용 Redis Streams 키
+     */
+    public String streamKey(String nodeId) {
+        return "stream:" + nodeChannel(nodeId);
+    }
+
+    /**
+     * 노드 전용 채널 이름으로 전달 채널 찾기
+     */
+    public static Optional<DeliveryChannel> fromChannelName(String channelName) {
+        int delimiterIndex = channelName.indexOf(NODE_DELIMITER);
+        String name = delimiterIndex < 0 ? channelName : channelName.substring(0, delimiterIndex);
+        return Arrays.stream(values())
+                .filter(channel -> channel.name.equals(name))
+                .findFirst();
+    }
+}
@@ -0,0 +1,61 @@
+package com.PickOne.global.messaging.delivery;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 노드 간 전달 이벤트의 봉투
+ * 형식은 "{recipientId}\n{클라이언트용 JSON}"이며, 받는 노드는 헤더만 읽고 JSON 바이트를 그대로 STOMP 프레임에 싣는다
+ * 헤더가 ASCII이고 본문이 UTF-8 JSON이므로 문자열로 다뤄도 손실이 없다 (Redis Streams 필드 값)
+ *
+ * @param recipientId 수신자 ID
+ * @param payload     클라이언트에 보낼 JSON 바이트
+ */
+public record DeliveryEnvelope(Long recipientId, byte[] payload) {
+
+    private static final byte HEADER_DELIMITER = '\n';
+    private static final int MAX_HEADER_LENGTH = 20;
+
+    /**
+     * 봉투 바이트 생성
+     */
+    public byte[] encode() {
+        byte[] header = String.valueOf(recipientId).getBytes(StandardCharsets.US_ASCII);
+        byte[] encoded = new byte[header.length + 1 + payload.length];
+        System.arraycopy(header, 0, encoded, 0, header.length);
+        encoded[header.length] = HEADER_DELIMITER;
+        System.arraycopy(payload, 0, encoded, header.length + 1, payload.length);
+        return encoded;
+    }
+
+    /**
+     * 봉투 바이트에서 수신자와 본문 분리
+     *
+     * @throws IllegalArgumentException 헤더가 없거나 수신자 ID가 숫자가 아닌 경우
+     */
+    public static DeliveryEnvelope decode(byte[] encoded) {
+        int limit = Math.min(encoded.length, MAX_HEADER_LENGTH + 1);
+        for (int i = 0; i < limit; i++) {
+            if (encoded[i] == HEADER_DELIMITER) {
+                long recipientId = parseRecipientId(encoded, i);
+                return new DeliveryEnvelope(recipientId, Arrays.copyOfRange(encoded, i + 1, encoded.length));
+            }
+        }
+        throw new IllegalArgumentException("전달 봉투에 수신자 헤더가 없습니다");
+    }
+
+    private static long parseRecipientId(byte[] encoded, int end) {
+        if (end == 0) {
+            throw new IllegalArgumentException("전달 봉투의 수신자 헤더가 비어 있습니다");
+        }
+        long value = 0;
+        for (int i = 0; i < end; i++) {
+            int digit = encoded[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new IllegalArgumentException("전달 봉투의 수신자 헤더가 숫자가 아닙니다");
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+}
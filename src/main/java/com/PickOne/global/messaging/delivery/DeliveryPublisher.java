@@ -0,0 +1,15 @@
+package com.PickOne.global.messaging.delivery;
+
+/**
+ * 실시간 전달 이벤트를 특정 노드에 게시
+ * app.messaging.delivery-mode 설정에 따라 Pub/Sub 또는 Redis Streams 구현이 사용된다
+ */
+public interface DeliveryPublisher {
+
+    /**
+     * 노드 전용 채널에 인코딩된 전달 봉투 게시
+     *
+     * @param envelope DeliveryEnvelope.encode() 결과
+     */
+    void publish(DeliveryChannel channel, String nodeId, byte[] envelope);
+}
@@ -0,0 +1,28 @@
+package com.PickOne.global.messaging.delivery;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Redis Pub/Sub 기반 전달 (기본값)
+ * 구독 중이 아닌 노드에는 전달되지 않는다
+ */
+@Component
+@ConditionalOnProperty(name = "app.messaging.delivery-mode", havingValue = "pubsub", matchIfMissing = true)
+@RequiredArgsConstructor
+public class PubSubDeliveryPublisher implements DeliveryPublisher {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public void publish(DeliveryChannel channel, String nodeId, byte[] envelope) {
+        // 값 직렬화기를 거치지 않도록 봉투 바이트를 그대로 게시
+        byte[] rawChannel = channel.nodeChannel(nodeId).getBytes(StandardCharsets.UTF_8);
+        stringRedisTemplate.execute((RedisCallback<Long>) connection -> connection.publish(rawChannel, envelope));
+    }
+}
@@ -0,0 +1,218 @@
+package com.PickOne.global.messaging.delivery;
+
+import com.PickOne.global.messaging.node.NodeIdentity;
+import com.PickOne.global.websocket.handler.RedisMessageSubscriber;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 현재 노드 전용 Redis Streams에서 전달 이벤트를 읽어 RedisMessageSubscriber로 넘김
+ * 노드마다 별도의 소비자 그룹을 사용하며, 처리 후에만 XACK 하여 재시작 중 게시된 이벤트도 다시 읽는다 (최소 한 번 전달)
+ * 소비자 이름은 프로세스마다 달라서, 같은 노드 ID로 다시 뜬 프로세스가 이전 프로세스의 오래된 미확인 항목을 넘겨받는다
+ * 스트림 키의 만료 시간은 살아 있는 노드만 갱신하므로, 다시 뜨지 않는 노드의 스트림과 미확인 항목은 만료되어 정리된다
+ */
+@Component
+@ConditionalOnProperty(name = "app.messaging.delivery-mode", havingValue = "streams")
+@Slf4j
+public class RedisStreamDeliveryConsumer implements SmartLifecycle {
+
+    private static final String REPLAY_FROM_START = "0";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageSubscriber subscriber;
+    private final String nodeId;
+    private final String group;
+    private final String consumerName;
+    private final int batchSize;
+    private final Duration blockTimeout;
+    private final Duration claimIdle;
+    private final Duration keyTtl;
+
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    public RedisStreamDeliveryConsumer(StringRedisTemplate stringRedisTemplate,
+                                       RedisMessageSubscriber subscriber,
+                                       NodeIdentity nodeIdentity,
+                                       @Value("${app.messaging.streams.batch-size:100}") int batchSize,
+                                       @Value("${app.messaging.streams.block-ms:2000}") long blockMs,
+                                       @Value("${app.messaging.streams.claim-idle-ms:30000}") long claimIdleMs,
+                                       @Value("${app.messaging.streams.key-ttl-ms:3600000}") long keyTtlMs) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.subscriber = subscriber;
+        this.nodeId = nodeIdentity.getNodeId();
+        this.group = "node:" + nodeId;
+        this.consumerName = nodeId + ":" + UUID.randomUUID();
+        this.batchSize = batchSize;
+        this.blockTimeout = Duration.ofMillis(blockMs);
+        this.claimIdle = Duration.ofMillis(claimIdleMs);
+        // 복구 주기(claimIdle)마다 갱신하므로 그보다 충분히 길어야 살아 있는 노드의 스트림이 만료되지 않음
+        this.keyTtl = Duration.ofMillis(Math.max(keyTtlMs, claimIdleMs * 2));
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        for (DeliveryChannel channel : DeliveryChannel.values()) {
+            Thread worker = new Thread(() -> consume(channel), "stream-consumer-" + channel.getName());
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+        workers.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void consume(DeliveryChannel channel) {
+        String key = channel.streamKey(nodeId);
+        StreamOperations<String, Object, Object> ops = stringRedisTemplate.opsForStream();
+        Consumer consumer = Consumer.from(group, consumerName);
+
+        // 이전 프로세스가 받았지만 확인하지 못한 항목을 넘겨받아 먼저 처리
+        String replayFrom = REPLAY_FROM_START;
+        long lastRecoveryAt = 0;
+        while (running) {
+            try {
+                // 주기적으로 오래된 미확인 항목을 넘겨받고 자신의 미확인 목록을 다시 읽음
+                if (replayFrom == null && System.currentTimeMillis() - lastRecoveryAt >= claimIdle.toMillis()) {
+                    replayFrom = REPLAY_FROM_START;
+                }
+                if (REPLAY_FROM_START.equals(replayFrom)) {
+                    recover(ops, key);
+                    lastRecoveryAt = System.currentTimeMillis();
+                }
+
+                List<MapRecord<String, Object, Object>> records = replayFrom != null
+                        ? ops.read(consumer, StreamReadOptions.empty().count(batchSize),
+                                StreamOffset.create(key, ReadOffset.from(replayFrom)))
+                        : ops.read(consumer, StreamReadOptions.empty().count(batchSize).block(blockTimeout),
+                                StreamOffset.create(key, ReadOffset.lastConsumed()));
+
+                if (records == null || records.isEmpty()) {
+                    replayFrom = null;
+                    continue;
+                }
+
+                handle(ops, key, channel, records);
+                if (replayFrom != null) {
+                    replayFrom = records.get(records.size() - 1).getId().getValue();
+                }
+            } catch (Exception e) {
+                if (!running) {
+                    break;
+                }
+                log.error("{} 스트림 소비 중 오류가 발생했습니다: {}", key, e.getMessage(), e);
+                // 그룹이 사라졌을 수 있으므로 다시 확인하고 미확인 항목부터 재처리
+                replayFrom = REPLAY_FROM_START;
+                sleepQuietly(Duration.ofSeconds(1));
+            }
+        }
+    }
+
+    private void handle(StreamOperations<String, Object, Object> ops, String key, DeliveryChannel channel,
+                        List<MapRecord<String, Object, Object>> records) {
+        List<RecordId> processed = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            Object body = record.getValue().get(StreamDeliveryPublisher.PAYLOAD_FIELD);
+            if (body != null) {
+                subscriber.dispatch(channel, body.toString().getBytes(StandardCharsets.UTF_8));
+            }
+            // 처리할 수 없는 항목도 확인하여 같은 항목이 계속 재전달되지 않게 함
+            processed.add(record.getId());
+        }
+        ops.acknowledge(key, group, processed.toArray(RecordId[]::new));
+    }
+
+    /**
+     * 그룹을 확인하고 스트림 만료 시간을 늘린 뒤 오래된 미확인 항목을 넘겨받음
+     */
+    void recover(StreamOperations<String, Object, Object> ops, String key) {
+        ensureGroup(key);
+        stringRedisTemplate.expire(key, keyTtl);
+        claimIdleEntries(ops, key);
+    }
+
+    private void ensureGroup(String key) {
+        try {
+            // 스트림이 없으면 만들고, 그룹은 새 항목부터 읽도록 생성
+            stringRedisTemplate.execute((RedisCallback<String>) connection -> connection.streamCommands()
+                    .xGroupCreate(key.getBytes(StandardCharsets.UTF_8), group, ReadOffset.latest(), true));
+        } catch (RedisSystemException e) {
+            if (!isBusyGroup(e)) {
+                throw e;
+            }
+        }
+    }
+
+    private static boolean isBusyGroup(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains("BUSYGROUP")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 같은 그룹의 다른 소비자(중단된 이전 프로세스)가 오래 확인하지 않은 항목을 현재 소비자로 가져옴
+     * XAUTOCLAIM 대신 XPENDING으로 조회한 뒤 XCLAIM 하여 대기 시간이 긴 항목만 넘겨받는다
+     */
+    int claimIdleEntries(StreamOperations<String, Object, Object> ops, String key) {
+        PendingMessages pending = ops.pending(key, group, Range.unbounded(), batchSize);
+        RecordId[] stale = pending.stream()
+                .filter(message -> !consumerName.equals(message.getConsumerName()))
+                .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(claimIdle) >= 0)
+                .map(PendingMessage::getId)
+                .toArray(RecordId[]::new);
+
+        if (stale.length > 0) {
+            ops.claim(key, group, consumerName, claimIdle, stale);
+            log.info("{} 스트림에서 {}개의 미확인 항목을 넘겨받았습니다", key, stale.length);
+        }
+        return stale.length;
+    }
+
+    String getConsumerName() {
+        return consumerName;
+    }
+
+    private static void sleepQuietly(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
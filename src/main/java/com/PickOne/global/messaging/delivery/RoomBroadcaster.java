@@ -0,0 +1,86 @@
+package com.PickOne.global.messaging.delivery;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 큰 채팅방의 메시지를 Redis Pub/Sub 한 번으로 모든 노드에 게시
+ * 각 노드(게시한 노드 포함)는 받은 JSON을 방 토픽(/topic/rooms/{roomId})으로 보내고, 브로커가 구독 중인 세션에 전달한다
+ * 멤버 수와 관계없이 게시는 한 번이며, 접속하지 않은 멤버는 재접속 후 순번 동기화로 받아간다
+ * 전달 모드와 관계없이 Pub/Sub을 사용하므로 노드 재시작 중의 게시는 유실될 수 있다
+ */
+@Component
+@RequiredArgsConstructor
+public class RoomBroadcaster {
+
+    public static final String CHANNEL = "rooms:broadcast";
+    public static final String TOPIC_PREFIX = "/topic/rooms/";
+
+    private static final byte HEADER_DELIMITER = '\n';
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 방 토픽으로 이벤트 게시
+     */
+    public void broadcast(String roomId, Object payload) {
+        byte[] envelope = new RoomBroadcast(roomId, serialize(payload)).encode();
+        byte[] rawChannel = CHANNEL.getBytes(StandardCharsets.UTF_8);
+        stringRedisTemplate.execute((RedisCallback<Long>) connection -> connection.publish(rawChannel, envelope));
+        meterRegistry.counter("messaging.room.broadcast").increment();
+    }
+
+    public static String topicOf(String roomId) {
+        return TOPIC_PREFIX + roomId;
+    }
+
+    private byte[] serialize(Object payload) {
+        try {
+            return objectMapper.writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("방 이벤트를 직렬화할 수 없습니다", e);
+        }
+    }
+
+    /**
+     * 방 게시 봉투
+     * 형식은 "{roomId}\n{클라이언트용 JSON}"이며, 받는 노드는 헤더만 읽고 JSON 바이트를 그대로 STOMP 프레임에 싣는다
+     */
+    public record RoomBroadcast(String roomId, byte[] payload) {
+
+        public byte[] encode() {
+            byte[] header = roomId.getBytes(StandardCharsets.US_ASCII);
+            byte[] encoded = new byte[header.length + 1 + payload.length];
+            System.arraycopy(header, 0, encoded, 0, header.length);
+            encoded[header.length] = HEADER_DELIMITER;
+            System.arraycopy(payload, 0, encoded, header.length + 1, payload.length);
+            return encoded;
+        }
+
+        /**
+         * @throws IllegalArgumentException 방 헤더가 없거나 비어 있는 경우
+         */
+        public static RoomBroadcast decode(byte[] encoded) {
+            for (int i = 0; i < encoded.length; i++) {
+                if (encoded[i] == HEADER_DELIMITER) {
+                    if (i == 0) {
+                        break;
+                    }
+                    return new RoomBroadcast(new String(encoded, 0, i, StandardCharsets.US_ASCII),
+                            Arrays.copyOfRange(encoded, i + 1, encoded.length));
+                }
+            }
+            throw new IllegalArgumentException("방 게시 봉투에 방 헤더가 없습니다");
+        }
+    }
+}
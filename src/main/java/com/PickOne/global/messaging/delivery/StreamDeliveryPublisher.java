@@ -0,0 +1,43 @@
+package com.PickOne.global.messaging.delivery;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Redis Streams 기반 전달
+ * 스트림 길이는 maxlen 근처로 잘라 메모리 사용을 제한한다
+ */
+@Component
+@ConditionalOnProperty(name = "app.messaging.delivery-mode", havingValue = "streams")
+public class StreamDeliveryPublisher implements DeliveryPublisher {
+
+    static final String PAYLOAD_FIELD = "payload";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final XAddOptions addOptions;
+
+    public StreamDeliveryPublisher(StringRedisTemplate stringRedisTemplate,
+                                   @Value("${app.messaging.streams.max-length:100000}") long maxLength) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        // 정확한 길이 대신 근사 trimming(~)으로 노드 단위 삭제만 수행
+        this.addOptions = XAddOptions.maxlen(maxLength).approximateTrimming(true);
+    }
+
+    @Override
+    public void publish(DeliveryChannel channel, String nodeId, byte[] envelope) {
+        // 봉투는 ASCII 헤더와 UTF-8 JSON으로만 이루어져 문자열 필드로 저장해도 손실이 없음
+        stringRedisTemplate.opsForStream().add(
+                StreamRecords.newRecord()
+                        .in(channel.streamKey(nodeId))
+                        .ofMap(Map.of(PAYLOAD_FIELD, new String(envelope, StandardCharsets.UTF_8))),
+                addOptions
+        );
+    }
+}
@@ -0,0 +1,87 @@
+package com.PickOne.global.messaging.delivery;
+
+import com.PickOne.global.messaging.presence.PresenceRegistry;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 수신자가 연결된 노드로만 실시간 이벤트를 보냄
+ * 현재 노드에 연결된 수신자에게는 Redis를 거치지 않고 먼저 전송한 뒤, 다른 노드의 기기에는 따로 게시한다
+ * 이벤트는 한 번만 JSON으로 직렬화하여 로컬 전송과 모든 원격 노드 게시에 재사용한다
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserDestinationRouter {
+
+    private final PresenceRegistry presenceRegistry;
+    private final DeliveryPublisher deliveryPublisher;
+    private final UserFrameSender frameSender;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 사용자에게 전달 이벤트 전송
+     * 접속 중인 노드가 없으면 전송하지 않으며, 사용자는 재접속 후 조회 API로 받아간다
+     */
+    public void sendToUser(DeliveryChannel channel, Long userId, Object payload) {
+        byte[] json = null;
+        if (presenceRegistry.isLocal(userId)) {
+            json = serialize(payload);
+            frameSender.send(userId, channel, json);
+            count(channel, "local");
+        }
+
+        // 다른 기기로 다른 노드에도 연결되어 있을 수 있으므로 원격 노드를 확인
+        // 로컬 사용자는 짧게 캐시된 목록을 쓰므로 이어지는 이벤트마다 Redis를 조회하지 않음
+        List<String> remoteNodes = presenceRegistry.remoteNodesOf(userId);
+        if (remoteNodes.isEmpty()) {
+            if (json == null) {
+                count(channel, "offline");
+                log.debug("사용자 {}가 접속 중이 아니어서 실시간 전송을 생략합니다", userId);
+            }
+            return;
+        }
+
+        if (json == null) {
+            json = serialize(payload);
+        }
+        byte[] envelope = new DeliveryEnvelope(userId, json).encode();
+        for (String node : remoteNodes) {
+            deliveryPublisher.publish(channel, node, envelope);
+            count(channel, "remote");
+        }
+    }
+
+    /**
+     * 유실되어도 되는 일시적 이벤트 전송
+     * 수신자가 현재 노드에 연결되어 있으면 Redis 조회와 게시 없이 로컬 세션에만 보낸다
+     * 같은 사용자의 다른 노드 기기는 이 이벤트를 받지 못할 수 있다
+     */
+    public void sendEphemeral(DeliveryChannel channel, Long userId, Object payload) {
+        if (presenceRegistry.isLocal(userId)) {
+            frameSender.send(userId, channel, serialize(payload));
+            count(channel, "local");
+            return;
+        }
+        sendToUser(channel, userId, payload);
+    }
+
+    private byte[] serialize(Object payload) {
+        try {
+            return objectMapper.writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("전달 이벤트를 직렬화할 수 없습니다", e);
+        }
+    }
+
+    private void count(DeliveryChannel channel, String route) {
+        meterRegistry.counter("messaging.delivery.routed", "channel", channel.getName(), "route", route).increment();
+    }
+}
@@ -0,0 +1,46 @@
+package com.PickOne.global.messaging.delivery;
+
+import com.PickOne.global.websocket.interceptor.SlowConsumerInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * 이미 JSON으로 인코딩된 본문을 사용자 목적지나 토픽으로 보냄
+ * 메시지 변환기를 거치지 않으므로 객체로 다시 해석하거나 직렬화하지 않는다
+ */
+@Component
+@RequiredArgsConstructor
+public class UserFrameSender {
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    public void send(Long userId, DeliveryChannel channel, byte[] json) {
+        // convertAndSendToUser와 같은 /user/{userId}{destination} 형식으로 UserDestinationMessageHandler가 세션 목적지로 변환
+        String destination = messagingTemplate.getUserDestinationPrefix() + userId + channel.getUserDestination();
+        messagingTemplate.send(destination, MessageBuilder.createMessage(json, headers(channel.isEphemeral())));
+    }
+
+    /**
+     * 브로커 토픽을 구독한 현재 노드의 모든 세션으로 전송
+     */
+    public void sendToTopic(String destination, byte[] json) {
+        messagingTemplate.send(destination, MessageBuilder.createMessage(json, headers(false)));
+    }
+
+    private static MessageHeaders headers(boolean ephemeral) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        if (ephemeral) {
+            // 브로커가 헤더를 그대로 복사하므로 아웃바운드 채널에서 느린 세션일 때 먼저 버릴 수 있음
+            accessor.setHeader(SlowConsumerInterceptor.EPHEMERAL_HEADER, true);
+        }
+        return accessor.getMessageHeaders();
+    }
+}
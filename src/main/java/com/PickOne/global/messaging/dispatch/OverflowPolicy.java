@@ -0,0 +1,24 @@
+package com.PickOne.global.messaging.dispatch;
+
+/**
+ * 스트라이프 대기열이 가득 찼을 때의 처리 방식
+ * 어떤 방식이든 같은 키의 작업 순서는 바뀌지 않는다
+ */
+public enum OverflowPolicy {
+
+    /**
+     * 여유가 생길 때까지 제한 시간 동안 호출 스레드를 막고, 시간이 지나면 새 작업을 버림
+     * Redis 수신 스레드처럼 막히면 다른 구독까지 멈추는 호출자에는 쓰지 않는다
+     */
+    BLOCK,
+
+    /**
+     * 새 작업을 버림
+     */
+    DROP_NEWEST,
+
+    /**
+     * 가장 오래 기다린 작업을 버리고 새 작업을 넣음
+     */
+    DROP_OLDEST
+}
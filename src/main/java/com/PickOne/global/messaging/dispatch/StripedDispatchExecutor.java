@@ -0,0 +1,165 @@
+package com.PickOne.global.messaging.dispatch;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 키마다 고정된 스트라이프에서 작업을 실행하는 실행기
+ * 스트라이프마다 단일 스레드와 크기가 제한된 대기열을 두어, 같은 키(수신자)의 작업은 도착 순서대로 실행되고
+ * 전체 스레드 수는 스트라이프 수로 고정된다
+ */
+@Slf4j
+public class StripedDispatchExecutor implements AutoCloseable {
+
+    private final List<Stripe> stripes;
+    private final OverflowPolicy overflowPolicy;
+    private final long blockTimeoutNanos;
+    private final Timer dispatchLag;
+    private final Counter dropped;
+
+    private volatile boolean running = true;
+
+    public StripedDispatchExecutor(String name, int stripeCount, int queueCapacity, OverflowPolicy overflowPolicy,
+                                   Duration blockTimeout, MeterRegistry meterRegistry) {
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutNanos = blockTimeout.toNanos();
+        this.dispatchLag = Timer.builder("messaging.dispatch.lag")
+                .tag("executor", name)
+                .description("작업이 대기열에 들어간 뒤 실행되기까지 걸린 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.dropped = Counter.builder("messaging.dispatch.dropped")
+                .tag("executor", name)
+                .tag("policy", overflowPolicy.name())
+                .register(meterRegistry);
+
+        this.stripes = new ArrayList<>(stripeCount);
+        for (int i = 0; i < stripeCount; i++) {
+            Stripe stripe = new Stripe(new ArrayBlockingQueue<>(queueCapacity), name + "-dispatch-" + i);
+            stripe.worker.start();
+            stripes.add(stripe);
+        }
+
+        Gauge.builder("messaging.dispatch.queue.depth", this, StripedDispatchExecutor::queueDepth)
+                .tag("executor", name)
+                .description("모든 스트라이프에서 실행을 기다리는 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 키에 해당하는 스트라이프에 작업 추가
+     *
+     * @return 대기열에 들어갔으면 true, 넘침 정책에 따라 버려졌으면 false
+     */
+    public boolean execute(Object key, Runnable task) {
+        if (!running) {
+            dropped.increment();
+            return false;
+        }
+
+        BlockingQueue<QueuedTask> queue = stripeOf(key).queue;
+        QueuedTask queued = new QueuedTask(task, System.nanoTime());
+        boolean accepted = switch (overflowPolicy) {
+            case BLOCK -> offerWithTimeout(queue, queued);
+            case DROP_NEWEST -> queue.offer(queued);
+            case DROP_OLDEST -> offerDroppingOldest(queue, queued);
+        };
+
+        if (!accepted) {
+            dropped.increment();
+        }
+        return accepted;
+    }
+
+    private boolean offerWithTimeout(BlockingQueue<QueuedTask> queue, QueuedTask queued) {
+        try {
+            return queue.offer(queued, blockTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private boolean offerDroppingOldest(BlockingQueue<QueuedTask> queue, QueuedTask queued) {
+        while (!queue.offer(queued)) {
+            if (queue.poll() != null) {
+                dropped.increment();
+            }
+        }
+        return true;
+    }
+
+    private Stripe stripeOf(Object key) {
+        return stripes.get(Math.floorMod(key.hashCode(), stripes.size()));
+    }
+
+    private double queueDepth() {
+        return stripes.stream().mapToInt(stripe -> stripe.queue.size()).sum();
+    }
+
+    /**
+     * 새 작업을 받지 않고, 이미 대기 중인 작업을 실행한 뒤 종료
+     */
+    @Override
+    public void close() {
+        running = false;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        for (Stripe stripe : stripes) {
+            try {
+                stripe.worker.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        stripes.forEach(stripe -> stripe.worker.interrupt());
+    }
+
+    private final class Stripe {
+
+        private final BlockingQueue<QueuedTask> queue;
+        private final Thread worker;
+
+        private Stripe(BlockingQueue<QueuedTask> queue, String threadName) {
+            this.queue = queue;
+            this.worker = new Thread(this::runLoop, threadName);
+            this.worker.setDaemon(true);
+        }
+
+        private void runLoop() {
+            while (running || !queue.isEmpty()) {
+                QueuedTask queued;
+                try {
+                    queued = queue.poll(100, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (queued == null) {
+                    continue;
+                }
+
+                dispatchLag.record(System.nanoTime() - queued.enqueuedAt(), TimeUnit.NANOSECONDS);
+                try {
+                    queued.task().run();
+                } catch (Exception e) {
+                    // 한 작업의 실패로 스트라이프 스레드가 멈추지 않도록 기록만 함
+                    log.error("{}에서 작업 실행에 실패했습니다", worker.getName(), e);
+                }
+            }
+        }
+    }
+
+    private record QueuedTask(Runnable task, long enqueuedAt) {
+    }
+}
@@ -0,0 +1,22 @@
+package com.PickOne.global.messaging.node;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 현재 애플리케이션 노드의 식별자
+ * 재시작 후에도 같은 값이어야 노드 단위 상태(구독 그룹, 접속 정보)를 이어받을 수 있다
+ * 호스트 이름이 재시작마다 바뀌는 환경에서는 app.messaging.node-id를 고정값으로 지정해야 하며,
+ * 그렇지 않으면 이전 이름의 스트림은 이어받지 못하고 만료될 때까지 남는다
+ */
+@Component
+@Getter
+public class NodeIdentity {
+
+    private final String nodeId;
+
+    public NodeIdentity(@Value("${app.messaging.node-id:${HOSTNAME:local}}") String nodeId) {
+        this.nodeId = nodeId;
+    }
+}
@@ -0,0 +1,92 @@
+package com.PickOne.global.messaging.presence;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 현재 노드의 STOMP 세션을 락 없이 관리하는 레지스트리
+ * 세션 ID → 사용자 ID, 사용자 ID → 세션 수를 CAS로 갱신하여 연결이 많아도 경합이 사용자 단위로만 생긴다
+ */
+class LocalSessionRegistry {
+
+    private final ConcurrentHashMap<String, Long> sessionOwners = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, AtomicInteger> sessionCounts = new ConcurrentHashMap<>();
+
+    /**
+     * 세션 추가
+     *
+     * @return 사용자의 첫 로컬 세션이면 true
+     */
+    boolean add(Long userId, String sessionId) {
+        if (sessionOwners.putIfAbsent(sessionId, userId) != null) {
+            return false;
+        }
+
+        while (true) {
+            AtomicInteger count = sessionCounts.get(userId);
+            if (count == null) {
+                if (sessionCounts.putIfAbsent(userId, new AtomicInteger(1)) == null) {
+                    return true;
+                }
+                continue;
+            }
+
+            int current = count.get();
+            if (current == 0) {
+                // 마지막 세션 제거가 진행 중인 카운터는 정리 후 다시 시도
+                sessionCounts.remove(userId, count);
+                continue;
+            }
+            if (count.compareAndSet(current, current + 1)) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * 세션 제거 (같은 세션의 중복 종료 이벤트는 무시)
+     *
+     * @return 사용자의 마지막 로컬 세션이 제거되었으면 해당 사용자 ID
+     */
+    Optional<Long> remove(String sessionId) {
+        Long userId = sessionOwners.remove(sessionId);
+        if (userId == null) {
+            return Optional.empty();
+        }
+
+        while (true) {
+            AtomicInteger count = sessionCounts.get(userId);
+            if (count == null) {
+                return Optional.empty();
+            }
+
+            int current = count.get();
+            if (current == 0) {
+                sessionCounts.remove(userId, count);
+                continue;
+            }
+            if (count.compareAndSet(current, current - 1)) {
+                if (current == 1) {
+                    sessionCounts.remove(userId, count);
+                    return Optional.of(userId);
+                }
+                return Optional.empty();
+            }
+        }
+    }
+
+    boolean contains(Long userId) {
+        AtomicInteger count = sessionCounts.get(userId);
+        return count != null && count.get() > 0;
+    }
+
+    Set<Long> users() {
+        return sessionCounts.keySet();
+    }
+
+    int sessionCount() {
+        return sessionOwners.size();
+    }
+}
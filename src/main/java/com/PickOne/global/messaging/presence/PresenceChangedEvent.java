@@ -0,0 +1,8 @@
+package com.PickOne.global.messaging.presence;
+
+/**
+ * 현재 노드에서 사용자의 첫 세션이 열리거나 마지막 세션이 닫혔을 때 발행되는 이벤트
+ * 다른 기기가 다른 노드에 남아 있을 수 있으므로 실제 접속 여부는 수신 측에서 다시 확인한다
+ */
+public record PresenceChangedEvent(Long userId) {
+}
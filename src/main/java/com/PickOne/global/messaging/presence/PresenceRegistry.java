@@ -0,0 +1,279 @@
+package com.PickOne.global.messaging.presence;
+
+import com.PickOne.global.common.config.SchedulingConfig;
+import com.PickOne.global.messaging.node.NodeIdentity;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자가 STOMP 세션을 가진 노드를 기록하는 레지스트리
+ * 로컬 세션은 메모리에, 사용자별 노드 목록은 Redis 해시(presence:{userId}, nodeId → 마지막 갱신 시각)에 보관한다
+ * 여러 기기가 서로 다른 노드에 연결되면 노드마다 필드가 생기며, 하나라도 최근에 갱신되었으면 접속 중으로 본다
+ * 같은 사용자의 첫 세션 등록과 마지막 세션 제거가 겹쳐 Redis 쓰기 순서가 뒤바뀌어도,
+ * 쓰기 후 로컬 세션 상태를 다시 확인하여 Redis 항목을 로컬 상태에 맞춘다
+ */
+@Component
+@Slf4j
+public class PresenceRegistry {
+
+    private static final String KEY_PREFIX = "presence:";
+    private static final String ANNOUNCED_KEY_PREFIX = "presence:announced:";
+    private static final byte[] ANNOUNCED_VALUE = "1".getBytes(StandardCharsets.UTF_8);
+    private static final int PIPELINE_CHUNK_SIZE = 500;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String nodeId;
+    private final Duration entryTtl;
+    private final long remoteNodesCacheNanos;
+    private final Duration announcedTtl;
+
+    private final LocalSessionRegistry localSessions = new LocalSessionRegistry();
+    private final Map<Long, CachedNodes> remoteNodesCache = new ConcurrentHashMap<>();
+
+    public PresenceRegistry(StringRedisTemplate stringRedisTemplate,
+                            ApplicationEventPublisher eventPublisher,
+                            NodeIdentity nodeIdentity,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.messaging.presence.ttl-ms:90000}") long entryTtlMs,
+                            @Value("${app.messaging.presence.remote-nodes-cache-ms:1000}") long remoteNodesCacheMs,
+                            @Value("${app.messaging.presence.announced-ttl-ms:86400000}") long announcedTtlMs) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.eventPublisher = eventPublisher;
+        this.nodeId = nodeIdentity.getNodeId();
+        this.entryTtl = Duration.ofMillis(entryTtlMs);
+        this.remoteNodesCacheNanos = Duration.ofMillis(remoteNodesCacheMs).toNanos();
+        this.announcedTtl = Duration.ofMillis(announcedTtlMs);
+
+        Gauge.builder("messaging.presence.local.sessions", localSessions, LocalSessionRegistry::sessionCount)
+                .register(meterRegistry);
+        Gauge.builder("messaging.presence.local.users", localSessions, registry -> registry.users().size())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 현재 노드에 사용자 세션 등록
+     * 사용자의 첫 로컬 세션일 때만 Redis에 노드를 기록한다
+     */
+    public void register(Long userId, String sessionId) {
+        if (localSessions.add(userId, sessionId)) {
+            touch(userId);
+            // 기록하는 사이 마지막 세션이 끊겨 삭제가 먼저 실행되었으면 남은 항목을 지움
+            if (!localSessions.contains(userId)) {
+                removeNode(userId);
+            }
+            eventPublisher.publishEvent(new PresenceChangedEvent(userId));
+        }
+    }
+
+    /**
+     * 현재 노드에서 세션 제거
+     * 마지막 로컬 세션이 끊기면 Redis에서 현재 노드를 지운다
+     */
+    public void unregister(String sessionId) {
+        localSessions.remove(sessionId).ifPresent(userId -> {
+            remoteNodesCache.remove(userId);
+            removeNode(userId);
+            // 지우는 사이 새 세션이 등록되어 그 기록이 먼저 실행되었으면 다시 기록
+            if (localSessions.contains(userId)) {
+                touch(userId);
+            }
+            eventPublisher.publishEvent(new PresenceChangedEvent(userId));
+        });
+    }
+
+    /**
+     * 사용자가 현재 노드에 연결되어 있는지 확인
+     */
+    public boolean isLocal(Long userId) {
+        return localSessions.contains(userId);
+    }
+
+    /**
+     * 사용자가 연결된 노드 목록 (현재 노드 포함)
+     * 갱신이 멈춘 노드(비정상 종료 등)는 제외한다
+     */
+    public List<String> nodesOf(Long userId) {
+        long threshold = freshnessThreshold();
+        return stringRedisTemplate.<String, String>opsForHash().entries(keyOf(userId)).entrySet().stream()
+                .filter(entry -> parseLong(entry.getValue()) >= threshold)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    /**
+     * 현재 노드를 제외한, 사용자가 연결된 노드 목록
+     * 현재 노드에 연결된 사용자는 다른 기기 확인용 조회 결과를 remote-nodes-cache-ms 동안 재사용한다
+     */
+    public List<String> remoteNodesOf(Long userId) {
+        if (!isLocal(userId)) {
+            return withoutLocalNode(nodesOf(userId));
+        }
+
+        long now = System.nanoTime();
+        CachedNodes cached = remoteNodesCache.get(userId);
+        if (cached != null && now - cached.fetchedAt() < remoteNodesCacheNanos) {
+            return cached.nodes();
+        }
+        List<String> nodes = withoutLocalNode(nodesOf(userId));
+        remoteNodesCache.put(userId, new CachedNodes(nodes, now));
+        return nodes;
+    }
+
+    /**
+     * 여러 사용자의 접속 여부를 한 번에 조회
+     * 사용자별 HVALS를 파이프라인으로 묶어 왕복 한 번으로 처리한다
+     */
+    public Map<Long, Boolean> onlineStatus(Collection<Long> userIds) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(userIds));
+        Map<Long, Boolean> result = new HashMap<>(ids.size());
+        long threshold = freshnessThreshold();
+
+        for (int from = 0; from < ids.size(); from += PIPELINE_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + PIPELINE_CHUNK_SIZE, ids.size()));
+            List<Object> lastSeenLists = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                chunk.forEach(userId -> connection.hashCommands().hVals(rawKeyOf(userId)));
+                return null;
+            });
+
+            for (int i = 0; i < chunk.size(); i++) {
+                Long userId = chunk.get(i);
+                boolean online = isLocal(userId) || isFresh(lastSeenLists.get(i), threshold);
+                result.put(userId, online);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 사용자별로 마지막으로 전파한 접속 상태를 Redis에 기록하고, 기록이 바뀐 사용자만 반환
+     * 모든 노드가 같은 기록을 보므로 다른 노드에서 붙거나 끊긴 변화도 한 번씩만 전파된다
+     * 접속은 SET NX, 끊김은 DEL의 결과로 변화를 판단하며 사용자별 명령을 파이프라인으로 묶어 보낸다
+     */
+    public List<Long> recordAnnounced(Map<Long, Boolean> status) {
+        List<Long> ids = new ArrayList<>(status.keySet());
+        List<Long> changed = new ArrayList<>();
+
+        for (int from = 0; from < ids.size(); from += PIPELINE_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + PIPELINE_CHUNK_SIZE, ids.size()));
+            List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Long userId : chunk) {
+                    byte[] key = rawAnnouncedKeyOf(userId);
+                    if (status.get(userId)) {
+                        connection.stringCommands().set(key, ANNOUNCED_VALUE,
+                                Expiration.from(announcedTtl), RedisStringCommands.SetOption.SET_IF_ABSENT);
+                    } else {
+                        connection.keyCommands().del(key);
+                    }
+                }
+                return null;
+            });
+
+            for (int i = 0; i < chunk.size(); i++) {
+                Object result = results.get(i);
+                if (Boolean.TRUE.equals(result) || (result instanceof Long deleted && deleted > 0)) {
+                    changed.add(chunk.get(i));
+                }
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * 현재 노드에 연결된 사용자들의 Redis 항목을 주기적으로 갱신
+     * 파이프라인 단위로 나누어 전송하며, 갱신이 멈춘 노드의 항목은 TTL과 조회 시 필터로 정리된다
+     */
+    @Scheduled(scheduler = SchedulingConfig.PRESENCE_SCHEDULER,
+            fixedDelayString = "${app.messaging.presence.heartbeat-ms:30000}")
+    public void heartbeat() {
+        List<Long> users = new ArrayList<>(localSessions.users());
+        if (users.isEmpty()) {
+            return;
+        }
+
+        byte[] node = nodeId.getBytes(StandardCharsets.UTF_8);
+        byte[] now = String.valueOf(System.currentTimeMillis()).getBytes(StandardCharsets.UTF_8);
+        for (int from = 0; from < users.size(); from += PIPELINE_CHUNK_SIZE) {
+            List<Long> chunk = users.subList(from, Math.min(from + PIPELINE_CHUNK_SIZE, users.size()));
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Long userId : chunk) {
+                    byte[] key = rawKeyOf(userId);
+                    connection.hashCommands().hSet(key, node, now);
+                    connection.keyCommands().pExpire(key, entryTtl.toMillis());
+                }
+                return null;
+            });
+        }
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    private void touch(Long userId) {
+        String key = keyOf(userId);
+        stringRedisTemplate.opsForHash().put(key, nodeId, String.valueOf(System.currentTimeMillis()));
+        stringRedisTemplate.expire(key, entryTtl);
+    }
+
+    private void removeNode(Long userId) {
+        stringRedisTemplate.opsForHash().delete(keyOf(userId), nodeId);
+    }
+
+    private List<String> withoutLocalNode(List<String> nodes) {
+        return nodes.stream().filter(node -> !node.equals(nodeId)).toList();
+    }
+
+    private long freshnessThreshold() {
+        return System.currentTimeMillis() - entryTtl.toMillis();
+    }
+
+    private static boolean isFresh(Object lastSeenValues, long threshold) {
+        if (!(lastSeenValues instanceof Collection<?> values)) {
+            return false;
+        }
+        return values.stream().anyMatch(value -> parseLong(String.valueOf(value)) >= threshold);
+    }
+
+    private static long parseLong(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static byte[] rawKeyOf(Long userId) {
+        return keyOf(userId).getBytes(StandardCharsets.UTF_8);
+    }
+
+    static String keyOf(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private static byte[] rawAnnouncedKeyOf(Long userId) {
+        return (ANNOUNCED_KEY_PREFIX + userId).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private record CachedNodes(List<String> nodes, long fetchedAt) {
+    }
+}
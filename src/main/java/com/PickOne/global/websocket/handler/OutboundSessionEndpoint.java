@@ -0,0 +1,27 @@
+package com.PickOne.global.websocket.handler;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 아웃바운드 프레임이 가장 많이 밀린 세션을 보여주는 actuator 엔드포인트
+ * 세션 ID를 메트릭 태그로 쓰면 카디널리티가 커지므로 상위 세션만 조회용으로 노출한다
+ */
+@Component
+@Endpoint(id = "websocketsessions")
+@RequiredArgsConstructor
+public class OutboundSessionEndpoint {
+
+    private static final int TOP_SESSIONS = 20;
+
+    private final OutboundSessionRegistry sessionRegistry;
+
+    @ReadOperation
+    public List<OutboundSessionRegistry.SessionDepth> slowestSessions() {
+        return sessionRegistry.slowest(TOP_SESSIONS);
+    }
+}
@@ -0,0 +1,182 @@
+package com.PickOne.global.websocket.handler;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * WebSocket 세션별로 아웃바운드 채널에 들어갔지만 아직 소켓에 쓰이지 않은 프레임 수를 추적
+ * 아웃바운드 채널에 들어갈 때 늘리고, 실제로 소켓에 쓸 때 줄인다
+ */
+@Component
+@Slf4j
+public class OutboundSessionRegistry implements WebSocketHandlerDecoratorFactory {
+
+    private final Map<String, TrackedSession> sessions = new ConcurrentHashMap<>();
+    private final DistributionSummary depthSummary;
+
+    // 전송이 막힌 세션을 닫다가 호출 스레드(브로커)가 함께 막히지 않도록 별도 스레드에서 닫음
+    private final ExecutorService closer = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "ws-slow-consumer-closer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public OutboundSessionRegistry(MeterRegistry meterRegistry) {
+        this.depthSummary = DistributionSummary.builder("websocket.session.outbound.depth")
+                .description("프레임이 아웃바운드 채널에 들어갈 때 해당 세션에 쌓여 있던 프레임 수")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("websocket.session.outbound.depth.max", this, OutboundSessionRegistry::maxDepth)
+                .description("가장 많이 밀려 있는 세션의 대기 프레임 수")
+                .register(meterRegistry);
+        Gauge.builder("websocket.sessions", sessions, Map::size)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                TrackedSession tracked = new TrackedSession(session);
+                sessions.put(session.getId(), tracked);
+                super.afterConnectionEstablished(tracked);
+            }
+
+            @Override
+            public void handleMessage(WebSocketSession session, WebSocketMessage<?> message) throws Exception {
+                super.handleMessage(tracked(session), message);
+            }
+
+            @Override
+            public void handleTransportError(WebSocketSession session, Throwable exception) throws Exception {
+                super.handleTransportError(tracked(session), exception);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                try {
+                    super.afterConnectionClosed(tracked(session), closeStatus);
+                } finally {
+                    sessions.remove(session.getId());
+                }
+            }
+        };
+    }
+
+    /**
+     * 세션에 쓰이기를 기다리는 프레임 수 (알 수 없는 세션은 0)
+     */
+    public int depthOf(String sessionId) {
+        TrackedSession tracked = sessions.get(sessionId);
+        return tracked != null ? tracked.pending.get() : 0;
+    }
+
+    /**
+     * 프레임 하나가 아웃바운드 채널에 들어갔음을 기록
+     */
+    public void enqueued(String sessionId) {
+        TrackedSession tracked = sessions.get(sessionId);
+        if (tracked != null) {
+            depthSummary.record(tracked.pending.incrementAndGet());
+        }
+    }
+
+    /**
+     * 세션을 비동기로 닫음
+     *
+     * @return 이번 호출로 닫기를 시작했으면 true, 이미 닫는 중이거나 없는 세션이면 false
+     */
+    public boolean close(String sessionId, CloseStatus status) {
+        TrackedSession tracked = sessions.get(sessionId);
+        if (tracked == null || !tracked.closing.compareAndSet(false, true)) {
+            return false;
+        }
+
+        closer.execute(() -> {
+            try {
+                tracked.close(status);
+            } catch (IOException e) {
+                log.warn("세션 {}를 닫지 못했습니다: {}", sessionId, e.getMessage());
+            }
+        });
+        return true;
+    }
+
+    /**
+     * 대기 프레임이 가장 많은 세션 목록
+     */
+    public List<SessionDepth> slowest(int limit) {
+        return sessions.values().stream()
+                .map(TrackedSession::snapshot)
+                .filter(depth -> depth.pending() > 0)
+                .sorted(Comparator.comparingInt(SessionDepth::pending).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    private int maxDepth() {
+        return sessions.values().stream()
+                .mapToInt(tracked -> tracked.pending.get())
+                .max()
+                .orElse(0);
+    }
+
+    private WebSocketSession tracked(WebSocketSession session) {
+        TrackedSession tracked = sessions.get(session.getId());
+        return tracked != null ? tracked : session;
+    }
+
+    /**
+     * 세션별 대기 프레임 수
+     */
+    public record SessionDepth(String sessionId, String user, int pending) {
+    }
+
+    private static final class TrackedSession extends WebSocketSessionDecorator {
+
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicBoolean closing = new AtomicBoolean();
+
+        private TrackedSession(WebSocketSession session) {
+            super(session);
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            try {
+                super.sendMessage(message);
+            } finally {
+                // 채널을 거치지 않고 바로 쓰는 ERROR 프레임도 있으므로 0 아래로 내려가지 않게 함
+                pending.updateAndGet(value -> value > 0 ? value - 1 : 0);
+            }
+        }
+
+        private SessionDepth snapshot() {
+            Principal principal = getPrincipal();
+            return new SessionDepth(getId(), principal != null ? principal.getName() : null, pending.get());
+        }
+    }
+}
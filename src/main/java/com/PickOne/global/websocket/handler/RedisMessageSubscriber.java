@@ -1,62 +1,67 @@
 package com.PickOne.global.websocket.handler;
 
-import com.PickOne.domain.messaging.dto.MessageDto;
-import com.PickOne.domain.notification.dto.NotificationDto;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import com.PickOne.global.messaging.config.MessagingExecutorConfig;
+import com.PickOne.global.messaging.delivery.DeliveryChannel;
+import com.PickOne.global.messaging.delivery.DeliveryEnvelope;
+import com.PickOne.global.messaging.delivery.UserFrameSender;
+import com.PickOne.global.messaging.dispatch.StripedDispatchExecutor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+
 /**
  * 채팅 메시지를 위한 Redis 메시지 리스너
+ * 수신 스레드에서 봉투 헤더만 읽고, 수신자별 순서를 지키는 스트라이프 실행기에서 JSON 본문을 그대로 WebSocket 세션으로 전송한다
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class RedisMessageSubscriber implements MessageListener {
 
-    private final ObjectMapper objectMapper;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final UserFrameSender frameSender;
+    private final StripedDispatchExecutor dispatchExecutor;
+
+    public RedisMessageSubscriber(UserFrameSender frameSender,
+                                  @Qualifier(MessagingExecutorConfig.INBOUND_DISPATCH_EXECUTOR)
+                                  StripedDispatchExecutor dispatchExecutor) {
+        this.frameSender = frameSender;
+        this.dispatchExecutor = dispatchExecutor;
+    }
 
     @Override
     public void onMessage(Message message, byte[] pattern) {
+        // Pub/Sub 전달 모드: 노드 전용 채널 이름으로 전달 채널을 구분
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        DeliveryChannel.fromChannelName(channel).ifPresentOrElse(
+                deliveryChannel -> dispatch(deliveryChannel, message.getBody()),
+                () -> log.warn("알 수 없는 Redis 채널의 메시지를 무시합니다: {}", channel)
+        );
+    }
+
+    /**
+     * 다른 노드에서 받은 전달 봉투를 해당 사용자의 WebSocket 세션으로 전송
+     * Pub/Sub 리스너와 Redis Streams 소비자가 함께 사용한다
+     */
+    public void dispatch(DeliveryChannel channel, byte[] encodedEnvelope) {
+        DeliveryEnvelope envelope;
         try {
-            // Redis에서 메시지 역직렬화
-            String channel = new String(pattern);
-            String messageBody = new String(message.getBody());
-
-            if (channel.endsWith("messaging")) {
-                // 채팅 메시지 처리
-                MessageDto messageDto = objectMapper.readValue(messageBody, MessageDto.class);
-
-                // 특정 사용자에게 전송
-                String destination = "/queue/messages";
-                messagingTemplate.convertAndSendToUser(
-                        String.valueOf(messageDto.recipientId()),
-                        destination,
-                        messageDto
-                );
-
-                log.debug("사용자 {}에게 메시지 전송: {}", messageDto.recipientId(), messageDto.id());
-            } else if (channel.endsWith("notifications")) {
-                // 알림 처리
-                NotificationDto notificationDto = objectMapper.readValue(messageBody, NotificationDto.class);
-
-                // 특정 사용자에게 전송
-                String destination = "/queue/notifications";
-                messagingTemplate.convertAndSendToUser(
-                        String.valueOf(notificationDto.recipientId()),
-                        destination,
-                        notificationDto
-                );
-
-                log.debug("사용자 {}에게 알림 전송: {}", notificationDto.recipientId(), notificationDto.id());
-            }
-        } catch (Exception e) {
-            log.error("Redis 메시지 처리 중 오류 발생: {}", e.getMessage(), e);
+            envelope = DeliveryEnvelope.decode(encodedEnvelope);
+        } catch (IllegalArgumentException e) {
+            log.error("Redis 메시지 처리 중 오류 발생: {}", e.getMessage());
+            return;
+        }
+
+        // 같은 수신자의 이벤트는 같은 스트라이프에서 도착 순서대로 전송
+        boolean accepted = dispatchExecutor.execute(envelope.recipientId(), () -> {
+            frameSender.send(envelope.recipientId(), channel, envelope.payload());
+            log.debug("사용자 {}에게 {} 이벤트 전송", envelope.recipientId(), channel.getName());
+        });
+
+        if (!accepted) {
+            log.debug("전달 대기열이 가득 차 사용자 {}의 {} 이벤트를 버렸습니다", envelope.recipientId(), channel.getName());
         }
     }
-}
\ No newline at end of file
+}
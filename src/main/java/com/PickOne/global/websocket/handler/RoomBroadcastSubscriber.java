@@ -0,0 +1,48 @@
+package com.PickOne.global.websocket.handler;
+
+import com.PickOne.global.messaging.config.MessagingExecutorConfig;
+import com.PickOne.global.messaging.delivery.RoomBroadcaster;
+import com.PickOne.global.messaging.delivery.UserFrameSender;
+import com.PickOne.global.messaging.dispatch.StripedDispatchExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방 게시를 위한 Redis 메시지 리스너
+ * 방별 순서를 지키도록 방 ID로 스트라이프를 골라 현재 노드의 방 토픽 구독자에게 전송한다
+ */
+@Component
+@Slf4j
+public class RoomBroadcastSubscriber implements MessageListener {
+
+    private final UserFrameSender frameSender;
+    private final StripedDispatchExecutor dispatchExecutor;
+
+    public RoomBroadcastSubscriber(UserFrameSender frameSender,
+                                   @Qualifier(MessagingExecutorConfig.INBOUND_DISPATCH_EXECUTOR)
+                                   StripedDispatchExecutor dispatchExecutor) {
+        this.frameSender = frameSender;
+        this.dispatchExecutor = dispatchExecutor;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        RoomBroadcaster.RoomBroadcast broadcast;
+        try {
+            broadcast = RoomBroadcaster.RoomBroadcast.decode(message.getBody());
+        } catch (IllegalArgumentException e) {
+            log.error("방 게시 처리 중 오류 발생: {}", e.getMessage());
+            return;
+        }
+
+        boolean accepted = dispatchExecutor.execute(broadcast.roomId(), () ->
+                frameSender.sendToTopic(RoomBroadcaster.topicOf(broadcast.roomId()), broadcast.payload()));
+
+        if (!accepted) {
+            log.debug("전달 대기열이 가득 차 방 {}의 이벤트를 버렸습니다", broadcast.roomId());
+        }
+    }
+}
@@ -1,9 +1,9 @@
 package com.PickOne.global.websocket.handler;
 
+import com.PickOne.global.messaging.presence.PresenceRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.messaging.SessionConnectedEvent;
@@ -19,7 +19,7 @@ import java.security.Principal;
 @Slf4j
 public class WebSocketEventListener {
 
-    private final SimpMessageSendingOperations messagingTemplate;
+    private final PresenceRegistry presenceRegistry;
 
     @EventListener
     public void handleWebSocketConnectListener(SessionConnectedEvent event) {
@@ -29,8 +29,8 @@ public class WebSocketEventListener {
         if (user != null) {
             log.info("사용자가 연결되었습니다: {}", user.getName());
 
-            // 친구나 팀 멤버에게 사용자가 온라인 상태임을 알리거나
-            // Redis/DB에서 온라인 상태를 업데이트할 수 있습니다
+            // 이 노드로 실시간 이벤트가 라우팅되도록 등록
+            presenceRegistry.register(Long.valueOf(user.getName()), headerAccessor.getSessionId());
         }
     }
 
@@ -42,7 +42,7 @@ public class WebSocketEventListener {
         if (user != null) {
             log.info("사용자가 연결을 해제했습니다: {}", user.getName());
 
-            // 오프라인 상태로 업데이트하거나 다른 사용자들에게 알림
+            presenceRegistry.unregister(event.getSessionId());
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,210 @@
+package com.PickOne.global.websocket.interceptor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 세션별로 애플리케이션 목적지(/app/**)로 보내는 SEND 프레임의 속도를 제한하는 인터셉터
+ * 세션·목적지마다 토큰 버킷을 두고, 한도를 넘은 프레임은 인바운드 풀에 넘기기 전(전송 스레드)에 버린다
+ * 한도를 계속 넘기는 세션에는 ERROR 프레임을 보내며, Spring은 ERROR 프레임을 보낸 뒤 연결을 닫는다
+ */
+@Component
+@Slf4j
+public class InboundRateLimitInterceptor implements ChannelInterceptor {
+
+    static final String APP_PREFIX = "/app/";
+
+    /**
+     * 개별 한도가 없는 목적지들이 세션마다 함께 쓰는 버킷 키
+     * 임의의 목적지로 버킷을 늘리지 못하게 하나로 묶는다
+     */
+    static final String OTHER_DESTINATIONS = "other";
+
+    private final MessageChannel clientOutboundChannel;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier clock;
+    private final boolean enabled;
+    private final Limit defaultLimit;
+    private final Map<String, Limit> destinationLimits;
+    private final int disconnectAfterRejections;
+    private final Map<String, SessionLimits> sessions = new ConcurrentHashMap<>();
+
+    // 아웃바운드 채널은 브로커 설정이 만드는 빈이므로, 순환 의존을 피하도록 지연 주입
+    @Autowired
+    public InboundRateLimitInterceptor(@Lazy @Qualifier("clientOutboundChannel") MessageChannel clientOutboundChannel,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${app.websocket.rate-limit.enabled:true}") boolean enabled,
+                                       @Value("${app.websocket.rate-limit.default:20/10}") String defaultLimit,
+                                       @Value("${app.websocket.rate-limit.destinations:"
+                                               + "/app/message.send=10/2,"
+                                               + "/app/room.send=10/2,"
+                                               + "/app/message.activity=10/5,"
+                                               + "/app/message.sync=5/1}") String destinationLimits,
+                                       @Value("${app.websocket.rate-limit.disconnect-after-rejections:20}") int disconnectAfterRejections) {
+        this(clientOutboundChannel, meterRegistry, System::nanoTime, enabled,
+                Limit.parse(defaultLimit), parseDestinations(destinationLimits), disconnectAfterRejections);
+    }
+
+    InboundRateLimitInterceptor(MessageChannel clientOutboundChannel,
+                                MeterRegistry meterRegistry,
+                                LongSupplier clock,
+                                boolean enabled,
+                                Limit defaultLimit,
+                                Map<String, Limit> destinationLimits,
+                                int disconnectAfterRejections) {
+        this.clientOutboundChannel = clientOutboundChannel;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.defaultLimit = defaultLimit;
+        this.destinationLimits = Map.copyOf(destinationLimits);
+        this.disconnectAfterRejections = disconnectAfterRejections;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (!enabled) {
+            return message;
+        }
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getSessionId() == null) {
+            return message;
+        }
+
+        String sessionId = accessor.getSessionId();
+        if (StompCommand.DISCONNECT.equals(accessor.getCommand())) {
+            // 비정상 종료 시에도 Spring이 DISCONNECT 메시지를 인바운드 채널로 보내므로 여기서 정리
+            sessions.remove(sessionId);
+            return message;
+        }
+
+        String destination = accessor.getDestination();
+        if (!StompCommand.SEND.equals(accessor.getCommand()) || destination == null
+                || !destination.startsWith(APP_PREFIX)) {
+            return message;
+        }
+
+        String key = destinationLimits.containsKey(destination) ? destination : OTHER_DESTINATIONS;
+        SessionLimits session = sessions.computeIfAbsent(sessionId, id -> new SessionLimits());
+        TokenBucket bucket = session.buckets.computeIfAbsent(key, k ->
+                new TokenBucket(destinationLimits.getOrDefault(k, defaultLimit), clock.getAsLong()));
+
+        if (bucket.tryAcquire(clock.getAsLong())) {
+            session.consecutiveRejections.set(0);
+            return message;
+        }
+
+        meterRegistry.counter("websocket.inbound.rate_limited", "destination", key).increment();
+        if (session.consecutiveRejections.incrementAndGet() == disconnectAfterRejections) {
+            sendError(sessionId, accessor, destination);
+        }
+        return null; // 메시지 거부
+    }
+
+    private void sendError(String sessionId, StompHeaderAccessor request, String destination) {
+        StompHeaderAccessor error = StompHeaderAccessor.create(StompCommand.ERROR);
+        error.setSessionId(sessionId);
+        error.setUser(request.getUser());
+        error.setMessage("rate limit exceeded: " + destination);
+        error.setLeaveMutable(true);
+        try {
+            clientOutboundChannel.send(MessageBuilder.createMessage(new byte[0], error.getMessageHeaders()));
+            meterRegistry.counter("websocket.inbound.rate_limited.disconnected").increment();
+            log.warn("한도를 {}번 연속 넘긴 세션 {}에 ERROR 프레임을 보냅니다: {}",
+                    disconnectAfterRejections, sessionId, destination);
+        } catch (RuntimeException e) {
+            log.warn("세션 {}에 ERROR 프레임을 보내지 못했습니다: {}", sessionId, e.getMessage());
+        }
+    }
+
+    private static Map<String, Limit> parseDestinations(String spec) {
+        Map<String, Limit> limits = new HashMap<>();
+        for (String entry : spec.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int separator = entry.lastIndexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("목적지 한도 형식이 올바르지 않습니다: " + entry);
+            }
+            limits.put(entry.substring(0, separator).trim(), Limit.parse(entry.substring(separator + 1)));
+        }
+        return limits;
+    }
+
+    /**
+     * 목적지 한도: 최대 capacity개까지 몰아서 보낼 수 있고, 초당 perSecond개씩 다시 채워짐
+     * 설정 값은 "capacity/perSecond" 형식
+     */
+    record Limit(int capacity, double perSecond) {
+
+        Limit {
+            if (capacity < 1 || perSecond <= 0) {
+                throw new IllegalArgumentException("한도는 1 이상이어야 합니다: " + capacity + "/" + perSecond);
+            }
+        }
+
+        static Limit parse(String spec) {
+            String[] parts = spec.trim().split("/");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("한도 형식이 올바르지 않습니다: " + spec);
+            }
+            return new Limit(Integer.parseInt(parts[0].trim()), Double.parseDouble(parts[1].trim()));
+        }
+    }
+
+    /**
+     * 잠금 없는 토큰 버킷 (GCRA)
+     * 다음 토큰이 채워지는 이론적 도착 시각 하나만 CAS로 갱신하므로 세션의 프레임이 여러 스레드에서 와도 안전하다
+     */
+    static final class TokenBucket {
+
+        private final long intervalNanos;
+        private final long burstToleranceNanos;
+        private final AtomicLong theoreticalArrival;
+
+        TokenBucket(Limit limit, long nowNanos) {
+            this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / limit.perSecond());
+            this.burstToleranceNanos = intervalNanos * (limit.capacity() - 1);
+            this.theoreticalArrival = new AtomicLong(nowNanos);
+        }
+
+        boolean tryAcquire(long nowNanos) {
+            while (true) {
+                long arrival = theoreticalArrival.get();
+                long base = arrival - nowNanos > 0 ? arrival : nowNanos;
+                if (base - nowNanos > burstToleranceNanos) {
+                    return false;
+                }
+                if (theoreticalArrival.compareAndSet(arrival, base + intervalNanos)) {
+                    return true;
+                }
+            }
+        }
+    }
+
+    private static final class SessionLimits {
+        private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+        private final AtomicInteger consecutiveRejections = new AtomicInteger();
+    }
+}
@@ -0,0 +1,53 @@
+package com.PickOne.global.websocket.interceptor;
+
+import com.PickOne.domain.messaging.repository.RoomRepository;
+import com.PickOne.global.messaging.delivery.RoomBroadcaster;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+
+/**
+ * 채팅방 토픽(/topic/rooms/{roomId})의 구독과 게시를 제한하는 인터셉터
+ * 방 멤버만 구독할 수 있으며, 클라이언트가 토픽으로 직접 보내는 프레임은 브로커에 닿기 전에 버린다
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RoomSubscriptionInterceptor implements ChannelInterceptor {
+
+    // 서비스는 전달 경로를 거쳐 브로커 설정에 의존하므로, 순환 의존을 피하도록 리포지토리로 직접 확인
+    private final RoomRepository roomRepository;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getDestination() == null
+                || !accessor.getDestination().startsWith(RoomBroadcaster.TOPIC_PREFIX)) {
+            return message;
+        }
+
+        if (StompCommand.SEND.equals(accessor.getCommand())) {
+            log.warn("채팅방 토픽으로 직접 보낸 프레임을 거부합니다: {}", accessor.getDestination());
+            return null; // 메시지 거부
+        }
+
+        if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+            String roomId = accessor.getDestination().substring(RoomBroadcaster.TOPIC_PREFIX.length());
+            Principal user = accessor.getUser();
+            if (user == null || roomId.isEmpty() || !roomRepository.isMember(roomId, Long.valueOf(user.getName()))) {
+                log.warn("채팅방 {} 멤버가 아닌 구독 요청을 거부합니다", roomId);
+                return null; // 메시지 거부
+            }
+        }
+
+        return message;
+    }
+}
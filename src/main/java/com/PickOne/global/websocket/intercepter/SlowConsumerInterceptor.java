@@ -0,0 +1,85 @@
+package com.PickOne.global.websocket.interceptor;
+
+import com.PickOne.global.websocket.handler.OutboundSessionRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+
+/**
+ * 아웃바운드 채널에서 느린 세션을 단계적으로 제한하는 인터셉터
+ * 대기 프레임이 ephemeral-drop-depth 이상이면 일시적 이벤트(접속 상태, 하트비트)부터 버리고,
+ * disconnect-depth 이상이면 재동기화 안내와 함께 연결을 끊는다
+ */
+@Component
+@Slf4j
+public class SlowConsumerInterceptor implements ChannelInterceptor {
+
+    /**
+     * 유실되어도 되는 이벤트임을 나타내는 메시지 헤더
+     */
+    public static final String EPHEMERAL_HEADER = "pickone.ephemeral";
+
+    /**
+     * 느린 세션을 끊을 때의 종료 상태 (애플리케이션 정의 코드)
+     * 클라이언트는 다시 연결한 뒤 /app/message.sync로 마지막 순번 이후의 메시지를 받아야 한다
+     */
+    public static final CloseStatus SLOW_CONSUMER_STATUS =
+            new CloseStatus(4008, "slow-consumer; reconnect and resume with /app/message.sync");
+
+    private final OutboundSessionRegistry sessionRegistry;
+    private final MeterRegistry meterRegistry;
+    private final int ephemeralDropDepth;
+    private final int disconnectDepth;
+
+    public SlowConsumerInterceptor(OutboundSessionRegistry sessionRegistry,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${app.websocket.outbound.ephemeral-drop-depth:64}") int ephemeralDropDepth,
+                                   @Value("${app.websocket.outbound.disconnect-depth:512}") int disconnectDepth) {
+        this.sessionRegistry = sessionRegistry;
+        this.meterRegistry = meterRegistry;
+        this.ephemeralDropDepth = ephemeralDropDepth;
+        this.disconnectDepth = disconnectDepth;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (sessionId == null) {
+            return message;
+        }
+
+        int depth = sessionRegistry.depthOf(sessionId);
+        if (depth >= disconnectDepth) {
+            if (sessionRegistry.close(sessionId, SLOW_CONSUMER_STATUS)) {
+                meterRegistry.counter("websocket.slow.consumer.disconnected").increment();
+                log.warn("대기 프레임이 {}개 쌓인 세션 {}의 연결을 끊습니다", depth, sessionId);
+            }
+            return drop("disconnect");
+        }
+
+        if (depth >= ephemeralDropDepth && isEphemeral(message.getHeaders())) {
+            return drop("ephemeral");
+        }
+
+        sessionRegistry.enqueued(sessionId);
+        return message;
+    }
+
+    private static boolean isEphemeral(MessageHeaders headers) {
+        return Boolean.TRUE.equals(headers.get(EPHEMERAL_HEADER))
+                || SimpMessageType.HEARTBEAT.equals(SimpMessageHeaderAccessor.getMessageType(headers));
+    }
+
+    private Message<?> drop(String reason) {
+        meterRegistry.counter("websocket.outbound.dropped", "reason", reason).increment();
+        return null;
+    }
+}
@@ -1,9 +1,16 @@
 package com.PickOne.domain.messaging.controller;
 
 import com.PickOne.domain.messaging.dto.MessageDto;
+import com.PickOne.domain.messaging.model.domain.Conversation;
 import com.PickOne.domain.messaging.model.domain.Message;
+import com.PickOne.domain.messaging.model.domain.MessageSearchResult;
 import com.PickOne.domain.messaging.model.domain.MessageStatus;
+import com.PickOne.domain.messaging.model.domain.SearchCursor;
+import com.PickOne.domain.messaging.service.ActivityService;
+import com.PickOne.domain.messaging.service.MessageAckBatcher;
+import com.PickOne.domain.messaging.service.MessageSearchService;
 import com.PickOne.domain.messaging.service.MessagingService;
+import com.PickOne.domain.messaging.service.PresenceService;
 import com.PickOne.global.exception.BaseResponse;
 import com.PickOne.global.security.service.JwtService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -13,10 +20,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -27,6 +33,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -48,6 +55,18 @@ class MessageControllerTest {
     @MockBean
     private MessagingService messagingService;
 
+    @MockBean
+    private PresenceService presenceService;
+
+    @MockBean
+    private ActivityService activityService;
+
+    @MockBean
+    private MessageSearchService messageSearchService;
+
+    @MockBean
+    private MessageAckBatcher messageAckBatcher;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     @Test
@@ -60,7 +79,7 @@ class MessageControllerTest {
 
         Message message = Message.create(1L, recipientId, content);
 
-        when(messagingService.sendMessage(eq(1L), eq(recipientId), eq(content)))
+        when(messagingService.sendMessage(eq(1L), eq(recipientId), eq(content), isNull()))
                 .thenReturn(message);
 
         // When
@@ -76,7 +95,31 @@ class MessageControllerTest {
                 .andExpect(jsonPath("$.result.recipientId").value(recipientId))
                 .andExpect(jsonPath("$.result.content").value(content));
 
-        verify(messagingService).sendMessage(eq(1L), eq(recipientId), eq(content));
+        verify(messagingService).sendMessage(eq(1L), eq(recipientId), eq(content), isNull());
+    }
+
+    @Test
+    @WithMockUser(username = "1")
+    @DisplayName("클라이언트 메시지 ID 헤더를 전송 서비스에 전달한다")
+    void sendMessageWithClientMessageId() throws Exception {
+        // Given
+        Long recipientId = 2L;
+        String content = "재시도된 메시지";
+        Message message = Message.create(1L, recipientId, content);
+
+        when(messagingService.sendMessage(1L, recipientId, content, "client-123")).thenReturn(message);
+
+        // When
+        ResultActions result = mockMvc.perform(post("/api/messages/send/{recipientId}", recipientId)
+                .with(csrf())
+                .header("X-Client-Message-Id", "client-123")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(content));
+
+        // Then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.content").value(content));
+        verify(messagingService).sendMessage(1L, recipientId, content, "client-123");
     }
 
     @Test
@@ -90,26 +133,103 @@ class MessageControllerTest {
         Message message1 = mockMessage("1", currentUserId, userId, "안녕하세요", MessageStatus.READ);
         Message message2 = mockMessage("2", userId, currentUserId, "반갑습니다", MessageStatus.READ);
 
-        Page<Message> messagePage = new PageImpl<>(Arrays.asList(message1, message2),
-                PageRequest.of(0, 20), 2);
+        Slice<Message> messageSlice = new SliceImpl<>(Arrays.asList(message1, message2),
+                PageRequest.of(0, 20), true);
 
-        when(messagingService.getConversation(eq(currentUserId), eq(userId), any(Pageable.class)))
-                .thenReturn(messagePage);
+        when(messagingService.getConversation(eq(currentUserId), eq(userId), isNull(), eq(20)))
+                .thenReturn(messageSlice);
 
         // When
         ResultActions result = mockMvc.perform(get("/api/messages/conversation/{userId}", userId)
-                .param("page", "0")
-                .param("size", "20")
-                .param("sort", "sentAt,desc"));
+                .param("size", "20"));
 
         // Then
         result.andExpect(status().isOk())
                 .andExpect(jsonPath("$.isSuccess").value(true))
-                .andExpect(jsonPath("$.result.content", hasSize(2)))
-                .andExpect(jsonPath("$.result.content[0].senderId").value(currentUserId))
-                .andExpect(jsonPath("$.result.content[1].senderId").value(userId));
+                .andExpect(jsonPath("$.result.messages", hasSize(2)))
+                .andExpect(jsonPath("$.result.messages[0].senderId").value(currentUserId))
+                .andExpect(jsonPath("$.result.messages[1].senderId").value(userId))
+                .andExpect(jsonPath("$.result.hasNext").value(true))
+                .andExpect(jsonPath("$.result.nextCursor").isNotEmpty());
+
+        verify(messagingService).getConversation(eq(currentUserId), eq(userId), isNull(), eq(20));
+    }
+
+    @Test
+    @WithMockUser(username = "1")
+    @DisplayName("커서 이전의 대화를 조회할 수 있다")
+    void getConversationBeforeCursor() throws Exception {
+        // Given
+        Long userId = 2L;
+        Long currentUserId = 1L;
+        String cursor = "cursor-value";
+
+        when(messagingService.getConversation(eq(currentUserId), eq(userId), eq(cursor), eq(100)))
+                .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 100), false));
+
+        // When
+        ResultActions result = mockMvc.perform(get("/api/messages/conversation/{userId}", userId)
+                .param("before", cursor)
+                .param("size", "500"));
+
+        // Then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.messages", hasSize(0)))
+                .andExpect(jsonPath("$.result.hasNext").value(false));
+
+        verify(messagingService).getConversation(eq(currentUserId), eq(userId), eq(cursor), eq(100));
+    }
+
+    @Test
+    @WithMockUser(username = "1")
+    @DisplayName("순번 이후의 대화를 동기화할 수 있다")
+    void getConversationSince() throws Exception {
+        // Given
+        Long userId = 2L;
+        Long currentUserId = 1L;
+
+        Message message1 = Message.create(userId, currentUserId, "놓친 메시지").withSequence(6L);
+        Message message2 = Message.create(currentUserId, userId, "다른 기기에서 보낸 메시지").withSequence(7L);
+
+        when(messagingService.getMessagesSince(currentUserId, userId, 5L, 2))
+                .thenReturn(new SliceImpl<>(List.of(message1, message2), PageRequest.of(0, 2), true));
+
+        // When
+        ResultActions result = mockMvc.perform(get("/api/messages/conversation/{userId}/since", userId)
+                .param("after", "5")
+                .param("size", "2"));
+
+        // Then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.messages", hasSize(2)))
+                .andExpect(jsonPath("$.result.messages[1].sequence").value(7))
+                .andExpect(jsonPath("$.result.lastSequence").value(7))
+                .andExpect(jsonPath("$.result.hasMore").value(true));
+    }
+
+    @Test
+    @WithMockUser(username = "1")
+    @DisplayName("주고받은 메시지를 검색하고 다음 페이지 커서를 받을 수 있다")
+    void searchMessages() throws Exception {
+        // Given
+        Long currentUserId = 1L;
+        Message message = Message.create(2L, currentUserId, "이번 주 합주 셋리스트입니다").withSequence(3L);
+        SearchCursor next = new SearchCursor(500, message.getSentAt(), "1:2-3");
+
+        when(messageSearchService.search(currentUserId, "셋리스트", null, 1))
+                .thenReturn(new MessageSearchResult(List.of(message), next));
+
+        // When
+        ResultActions result = mockMvc.perform(get("/api/messages/search")
+                .param("q", "셋리스트")
+                .param("size", "1"));
 
-        verify(messagingService).getConversation(eq(currentUserId), eq(userId), any(Pageable.class));
+        // Then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.messages", hasSize(1)))
+                .andExpect(jsonPath("$.result.messages[0].content").value("이번 주 합주 셋리스트입니다"))
+                .andExpect(jsonPath("$.result.nextCursor").value(next.encode()))
+                .andExpect(jsonPath("$.result.hasNext").value(true));
     }
 
     @Test
@@ -189,12 +309,15 @@ class MessageControllerTest {
     void getRecentConversations() throws Exception {
         // Given
         Long currentUserId = 1L;
+        LocalDateTime now = LocalDateTime.now();
 
-        Message message1 = mockMessage("1", currentUserId, 2L, "안녕하세요", MessageStatus.READ);
-        Message message2 = mockMessage("2", 3L, currentUserId, "질문이 있습니다", MessageStatus.SENT);
+        Conversation conversation1 = Conversation.from(
+                currentUserId, 2L, "1", "안녕하세요", currentUserId, MessageStatus.READ, now, 0);
+        Conversation conversation2 = Conversation.from(
+                currentUserId, 3L, "2", "질문이 있습니다", 3L, MessageStatus.SENT, now.minusMinutes(1), 3);
 
-        List<Message> recentConversations = Arrays.asList(message1, message2);
-        when(messagingService.getRecentConversations(currentUserId)).thenReturn(recentConversations);
+        List<Conversation> recentConversations = Arrays.asList(conversation1, conversation2);
+        when(messagingService.getRecentConversations(currentUserId, 20)).thenReturn(recentConversations);
 
         // When
         ResultActions result = mockMvc.perform(get("/api/messages/recent"));
@@ -203,10 +326,12 @@ class MessageControllerTest {
         result.andExpect(status().isOk())
                 .andExpect(jsonPath("$.isSuccess").value(true))
                 .andExpect(jsonPath("$.result", hasSize(2)))
-                .andExpect(jsonPath("$.result[0].senderId").value(currentUserId))
-                .andExpect(jsonPath("$.result[1].senderId").value(3));
+                .andExpect(jsonPath("$.result[0].peerId").value(2))
+                .andExpect(jsonPath("$.result[0].conversationId").value("1:2"))
+                .andExpect(jsonPath("$.result[1].lastSenderId").value(3))
+                .andExpect(jsonPath("$.result[1].unreadCount").value(3));
 
-        verify(messagingService).getRecentConversations(currentUserId);
+        verify(messagingService).getRecentConversations(currentUserId, 20);
     }
 
     // WebSocket 테스트는 별도의 통합 테스트로 작성하는 것이 좋습니다.
@@ -234,4 +359,21 @@ class MessageControllerTest {
 
         return message;
     }
-}
\ No newline at end of file
+
+    @Test
+    @WithMockUser(username = "1")
+    @DisplayName("여러 사용자의 접속 상태를 한 번에 조회할 수 있다")
+    void getOnlineStatus() throws Exception {
+        // Given
+        when(presenceService.getOnlineStatus(List.of(2L, 3L))).thenReturn(Map.of(2L, true, 3L, false));
+
+        // When
+        ResultActions result = mockMvc.perform(get("/api/messages/presence")
+                .param("userIds", "2", "3"));
+
+        // Then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.result['2']", is(true)))
+                .andExpect(jsonPath("$.result['3']", is(false)));
+    }
+}
@@ -0,0 +1,46 @@
+package com.PickOne.domain.messaging.model.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MessageCursorTest {
+
+    @Test
+    @DisplayName("커서를 인코딩한 뒤 다시 해석할 수 있다")
+    void encodeAndDecode() {
+        // Given
+        MessageCursor cursor = new MessageCursor(LocalDateTime.of(2025, 5, 1, 12, 30, 15, 123_000_000), "message-id");
+
+        // When
+        MessageCursor decoded = MessageCursor.decode(cursor.encode());
+
+        // Then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("메시지로부터 커서를 생성할 수 있다")
+    void createFromMessage() {
+        // Given
+        Message message = Message.create(1L, 2L, "테스트 메시지입니다");
+
+        // When
+        MessageCursor cursor = MessageCursor.of(message);
+
+        // Then
+        assertThat(cursor.sentAt()).isEqualTo(message.getSentAt());
+        assertThat(cursor.id()).isEqualTo(message.getId());
+    }
+
+    @Test
+    @DisplayName("잘못된 형식의 커서는 해석할 수 없다")
+    void decodeInvalidCursor() {
+        assertThatThrownBy(() -> MessageCursor.decode("not a cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
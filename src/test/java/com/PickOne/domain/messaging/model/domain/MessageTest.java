@@ -98,4 +98,16 @@ class MessageTest {
         assertThat(readAgainMessage).isEqualTo(readMessage);
         assertThat(readAgainMessage.getReadAt()).isEqualTo(readAt);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("발신자와 수신자 순서와 관계없이 같은 대화 ID를 가진다")
+    void conversationIdIsSymmetric() {
+        // Given
+        Message sent = Message.create(7L, 3L, "안녕하세요");
+        Message replied = Message.create(3L, 7L, "반갑습니다");
+
+        // When, Then
+        assertThat(sent.getConversationId()).isEqualTo("3:7");
+        assertThat(replied.getConversationId()).isEqualTo(sent.getConversationId());
+    }
+}
@@ -0,0 +1,49 @@
+package com.PickOne.domain.messaging.model.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NgramTokenizerTest {
+
+    @Test
+    @DisplayName("단어마다 2-gram을 만들고 단어 경계를 넘지 않는다")
+    void bigramsPerWord() {
+        // When
+        Set<String> grams = NgramTokenizer.tokenize("합주 일정");
+
+        // Then
+        assertThat(grams).containsExactly("합주", "일정");
+    }
+
+    @Test
+    @DisplayName("조사가 붙은 한글 단어도 검색어의 n-gram을 모두 포함한다")
+    void hangulWithParticle() {
+        // When
+        Set<String> document = NgramTokenizer.tokenize("셋리스트를 보내드립니다");
+        Set<String> query = NgramTokenizer.tokenize("셋리스트");
+
+        // Then
+        assertThat(document).containsAll(query);
+    }
+
+    @Test
+    @DisplayName("대소문자와 전각 문자를 정규화하고 한 글자 단어는 그대로 사용한다")
+    void normalizesAndKeepsSingleCharacterWords() {
+        // When
+        Set<String> grams = NgramTokenizer.tokenize("ＢＡＮＤ 곡 A");
+
+        // Then
+        assertThat(grams).containsExactly("ba", "an", "nd", "곡", "a");
+    }
+
+    @Test
+    @DisplayName("빈 본문이나 구두점만 있는 본문은 토큰이 없다")
+    void emptyContent() {
+        assertThat(NgramTokenizer.tokenize(null)).isEmpty();
+        assertThat(NgramTokenizer.tokenize("!!! ...")).isEmpty();
+    }
+}
@@ -0,0 +1,193 @@
+package com.PickOne.domain.messaging.repository;
+
+import com.PickOne.domain.messaging.model.domain.Message;
+import com.PickOne.domain.messaging.model.domain.MessageStatus;
+import com.PickOne.domain.messaging.model.entity.MessageBucketDocument;
+import com.PickOne.domain.messaging.model.entity.MessageBucketDocument.Entry;
+import com.PickOne.domain.messaging.model.entity.MessageDocument;
+import com.PickOne.global.exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BucketedMessageRepositoryTest {
+
+    private static final String PRIMARY = "message_buckets";
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    private BucketedMessageRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        when(mongoTemplate.getCollectionName(MessageBucketDocument.class)).thenReturn(PRIMARY);
+        repository = new BucketedMessageRepository(mongoTemplate, 100, false);
+    }
+
+    @Test
+    @DisplayName("새 메시지는 순번에 해당하는 버킷에 $push로 덧붙이고 버킷 기반 ID를 받는다")
+    void insertAppendsToBucket() {
+        // Given
+        Message message = Message.create(2L, 1L, "테스트 메시지").withSequence(101L);
+
+        // When
+        Message saved = repository.insert(message).join();
+
+        // Then
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).upsert(queryCaptor.capture(), updateCaptor.capture(),
+                eq(MessageBucketDocument.class), eq(PRIMARY));
+
+        assertThat(queryCaptor.getValue().getQueryObject().get("_id")).isEqualTo("1:2@1");
+        assertThat(updateCaptor.getValue().getUpdateObject().toJson()).contains("$push", "$inc", "$setOnInsert");
+        assertThat(saved.getId()).isEqualTo("1:2-101");
+        assertThat(saved.getSequence()).isEqualTo(101L);
+    }
+
+    @Test
+    @DisplayName("문서 단위로 저장된 메시지가 남아 있으면 버킷 저장 방식으로 기동하지 않는다")
+    void rejectsLegacyMessages() {
+        // Given
+        when(mongoTemplate.exists(any(Query.class), eq(MessageDocument.class))).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> new BucketedMessageRepository(mongoTemplate, 100, false))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("순번이 없는 메시지는 버킷에 저장할 수 없다")
+    void insertRequiresSequence() {
+        // Given
+        Message message = Message.create(1L, 2L, "테스트 메시지");
+
+        // When & Then
+        assertThatThrownBy(() -> repository.insert(message))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("버킷 형식이 아닌 메시지 ID는 조회하지 않는다")
+    void findByIdIgnoresLegacyId() {
+        // When
+        Optional<Message> result = repository.findById("65f0c0ffee0000000000abcd");
+
+        // Then
+        assertThat(result).isEmpty();
+        verify(mongoTemplate).getCollectionName(MessageBucketDocument.class);
+        verify(mongoTemplate).exists(any(Query.class), eq(MessageDocument.class));
+        verifyNoMoreInteractions(mongoTemplate);
+    }
+
+    @Test
+    @DisplayName("현재 컬렉션에 없는 메시지는 보관 컬렉션에서 찾는다")
+    void findByIdFallsBackToArchive() {
+        // Given
+        MessageBucketDocument archived = bucket(0, entry(7L, MessageStatus.READ));
+        when(mongoTemplate.findOne(any(Query.class), eq(MessageBucketDocument.class), eq(PRIMARY))).thenReturn(null);
+        when(mongoTemplate.findOne(any(Query.class), eq(MessageBucketDocument.class),
+                eq(BucketedMessageRepository.ARCHIVE_COLLECTION))).thenReturn(archived);
+
+        // When
+        Optional<Message> result = repository.findById("1:2-7");
+
+        // Then
+        assertThat(result).isPresent();
+        assertThat(result.get().getId()).isEqualTo("1:2-7");
+        assertThat(result.get().getStatus()).isEqualTo(MessageStatus.READ);
+    }
+
+    @Test
+    @DisplayName("순번 이후 동기화는 해당 버킷부터 읽어 순번보다 큰 메시지만 오름차순으로 반환한다")
+    void findConversationAfterSequence() {
+        // Given
+        MessageBucketDocument bucket = bucket(1, entry(103L, MessageStatus.SENT),
+                entry(101L, MessageStatus.READ), entry(102L, MessageStatus.SENT));
+        when(mongoTemplate.find(any(Query.class), eq(MessageBucketDocument.class),
+                eq(BucketedMessageRepository.ARCHIVE_COLLECTION))).thenReturn(List.of());
+        when(mongoTemplate.find(any(Query.class), eq(MessageBucketDocument.class), eq(PRIMARY)))
+                .thenReturn(List.of(bucket));
+
+        // When
+        List<Message> result = repository.findConversationAfterSequence("1:2", 101L, 10);
+
+        // Then
+        assertThat(result).extracting(Message::getSequence).containsExactly(102L, 103L);
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(queryCaptor.capture(), eq(MessageBucketDocument.class), eq(PRIMARY));
+        assertThat(queryCaptor.getValue().getQueryObject().toJson()).contains("\"$gte\": 1");
+    }
+
+    @Test
+    @DisplayName("일괄 읽음 처리는 변경 전 버킷에서 조건에 맞던 메시지 수를 반환한다")
+    void markReadUpToCountsMatchedEntries() {
+        // Given
+        LocalDateTime upTo = LocalDateTime.now();
+        MessageBucketDocument candidate = new MessageBucketDocument();
+        candidate.setId("1:2@0");
+        MessageBucketDocument previous = bucket(0, entry(1L, MessageStatus.SENT),
+                entry(2L, MessageStatus.SENT), entry(3L, MessageStatus.READ));
+
+        when(mongoTemplate.find(any(Query.class), eq(MessageBucketDocument.class), eq(PRIMARY)))
+                .thenReturn(List.of(candidate));
+        when(mongoTemplate.find(any(Query.class), eq(MessageBucketDocument.class),
+                eq(BucketedMessageRepository.ARCHIVE_COLLECTION))).thenReturn(List.of());
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(MessageBucketDocument.class), eq(PRIMARY))).thenReturn(previous);
+
+        // When
+        long count = repository.markReadUpTo("1:2", 2L, upTo, MessageStatus.SENT, upTo);
+
+        // Then
+        assertThat(count).isEqualTo(2);
+
+        ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).findAndModify(any(Query.class), updateCaptor.capture(),
+                any(FindAndModifyOptions.class), eq(MessageBucketDocument.class), eq(PRIMARY));
+        assertThat(updateCaptor.getValue().hasArrayFilters()).isTrue();
+    }
+
+    private static MessageBucketDocument bucket(long number, Entry... entries) {
+        MessageBucketDocument bucket = new MessageBucketDocument();
+        bucket.setId(MessageBucketDocument.bucketIdOf("1:2", number));
+        bucket.setConversationId("1:2");
+        bucket.setBucket(number);
+        bucket.setMessages(List.of(entries));
+        return bucket;
+    }
+
+    private static Entry entry(long sequence, MessageStatus status) {
+        return Entry.builder()
+                .sequence(sequence)
+                .senderId(1L)
+                .recipientId(2L)
+                .content("메시지 " + sequence)
+                .status(status.name())
+                .sentAt(LocalDateTime.now().minusMinutes(10))
+                .build();
+    }
+}
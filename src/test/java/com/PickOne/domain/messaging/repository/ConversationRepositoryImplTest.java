@@ -0,0 +1,91 @@
+package com.PickOne.domain.messaging.repository;
+
+import com.PickOne.domain.messaging.model.domain.Conversation;
+import com.PickOne.domain.messaging.model.entity.ConversationDocument;
+import com.mongodb.client.result.UpdateResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConversationRepositoryImplTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @InjectMocks
+    private ConversationRepositoryImpl conversationRepository;
+
+    @Test
+    @DisplayName("읽지 않은 메시지 수를 조건부로 한 번에 감소시킨다")
+    void decreaseUnreadCount() {
+        // Given
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(ConversationDocument.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        // When
+        conversationRepository.decreaseUnreadCount(1L, 2L, 3);
+
+        // Then
+        verify(mongoTemplate, times(1))
+                .updateFirst(any(Query.class), any(Update.class), eq(ConversationDocument.class));
+    }
+
+    @Test
+    @DisplayName("남은 수보다 많이 감소시키면 0으로 맞춘다")
+    void decreaseUnreadCountBelowZero() {
+        // Given
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(ConversationDocument.class)))
+                .thenReturn(UpdateResult.acknowledged(0, 0L, null))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        // When
+        conversationRepository.decreaseUnreadCount(1L, 2L, 5);
+
+        // Then
+        verify(mongoTemplate, times(2))
+                .updateFirst(any(Query.class), any(Update.class), eq(ConversationDocument.class));
+    }
+
+    @Test
+    @DisplayName("사용자의 최근 대화 목록을 조회할 수 있다")
+    void findRecentForUser() {
+        // Given
+        ConversationDocument document = ConversationDocument.builder()
+                .id(Conversation.idOf(1L, 2L))
+                .ownerId(1L)
+                .peerId(2L)
+                .lastMessageId("msg1")
+                .lastMessagePreview("안녕하세요")
+                .lastSenderId(2L)
+                .lastMessageStatus("SENT")
+                .lastMessageAt(LocalDateTime.now())
+                .unreadCount(4)
+                .build();
+
+        when(mongoTemplate.find(any(Query.class), eq(ConversationDocument.class))).thenReturn(List.of(document));
+
+        // When
+        List<Conversation> conversations = conversationRepository.findRecentForUser(1L, 20);
+
+        // Then
+        assertThat(conversations).hasSize(1);
+        assertThat(conversations.get(0).getPeerId()).isEqualTo(2L);
+        assertThat(conversations.get(0).getUnreadCount()).isEqualTo(4);
+        assertThat(conversations.get(0).getConversationId()).isEqualTo("1:2");
+    }
+}
@@ -0,0 +1,53 @@
+package com.PickOne.domain.messaging.repository;
+
+import com.PickOne.domain.messaging.model.entity.ConversationSequenceDocument;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConversationSequenceRepositoryImplTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @InjectMocks
+    private ConversationSequenceRepositoryImpl sequenceRepository;
+
+    @Test
+    @DisplayName("대화 카운터를 원자적으로 증가시켜 다음 순번을 발급한다")
+    void next() {
+        // Given
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(ConversationSequenceDocument.class)))
+                .thenReturn(new ConversationSequenceDocument("1:2", 42L));
+
+        // When
+        long sequence = sequenceRepository.next("1:2");
+
+        // Then
+        assertThat(sequence).isEqualTo(42L);
+
+        ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+        ArgumentCaptor<FindAndModifyOptions> optionsCaptor = ArgumentCaptor.forClass(FindAndModifyOptions.class);
+        verify(mongoTemplate).findAndModify(any(Query.class), updateCaptor.capture(), optionsCaptor.capture(),
+                eq(ConversationSequenceDocument.class));
+        assertThat(updateCaptor.getValue().getUpdateObject().toJson()).contains("$inc");
+        assertThat(optionsCaptor.getValue().isUpsert()).isTrue();
+        assertThat(optionsCaptor.getValue().isReturnNew()).isTrue();
+    }
+}
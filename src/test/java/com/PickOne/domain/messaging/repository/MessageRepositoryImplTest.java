@@ -1,18 +1,24 @@
 package com.PickOne.domain.messaging.repository;
 
 import com.PickOne.domain.messaging.model.domain.Message;
+import com.PickOne.domain.messaging.model.domain.MessageCursor;
 import com.PickOne.domain.messaging.model.domain.MessageStatus;
+import com.PickOne.domain.messaging.model.domain.MessageTransition;
 import com.PickOne.domain.messaging.model.entity.MessageDocument;
+import com.mongodb.client.result.UpdateResult;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -31,6 +37,9 @@ class MessageRepositoryImplTest {
     @Mock
     private MessageMongoRepository messageMongoRepository;
 
+    @Mock
+    private MongoTemplate mongoTemplate;
+
     @InjectMocks
     private MessageRepositoryImpl messageRepository;
 
@@ -77,43 +86,110 @@ class MessageRepositoryImplTest {
     }
 
     @Test
-    @DisplayName("두 사용자 간의 대화를 조회할 수 있다")
+    @DisplayName("두 사용자 간의 최근 대화를 조회할 수 있다")
     void findConversation() {
         // Given
-        Long userId1 = 1L;
-        Long userId2 = 2L;
-        Pageable pageable = PageRequest.of(0, 10);
+        String conversationId = "1:2";
 
         MessageDocument document1 = new MessageDocument();
-        document1.setId("msg1");
-        document1.setSenderId(userId1);
-        document1.setRecipientId(userId2);
-        document1.setContent("안녕하세요");
+        document1.setId("msg2");
+        document1.setConversationId(conversationId);
+        document1.setSenderId(2L);
+        document1.setRecipientId(1L);
+        document1.setContent("반갑습니다");
         document1.setStatus(MessageStatus.READ.name());
-        document1.setSentAt(LocalDateTime.now().minusMinutes(10));
-        document1.setReadAt(LocalDateTime.now().minusMinutes(8));
+        document1.setSentAt(LocalDateTime.now().minusMinutes(5));
+        document1.setReadAt(LocalDateTime.now().minusMinutes(3));
 
         MessageDocument document2 = new MessageDocument();
-        document2.setId("msg2");
-        document2.setSenderId(userId2);
-        document2.setRecipientId(userId1);
-        document2.setContent("반갑습니다");
+        document2.setId("msg1");
+        document2.setConversationId(conversationId);
+        document2.setSenderId(1L);
+        document2.setRecipientId(2L);
+        document2.setContent("안녕하세요");
         document2.setStatus(MessageStatus.READ.name());
-        document2.setSentAt(LocalDateTime.now().minusMinutes(5));
-        document2.setReadAt(LocalDateTime.now().minusMinutes(3));
+        document2.setSentAt(LocalDateTime.now().minusMinutes(10));
+        document2.setReadAt(LocalDateTime.now().minusMinutes(8));
+
+        when(messageMongoRepository.findByConversationId(eq(conversationId), any(Pageable.class)))
+                .thenReturn(Arrays.asList(document1, document2));
+
+        // When
+        List<Message> conversation = messageRepository.findConversation(conversationId, null, 10);
 
-        Page<MessageDocument> documentPage = new PageImpl<>(Arrays.asList(document1, document2));
-        when(messageMongoRepository.findConversation(userId1, userId2, pageable)).thenReturn(documentPage);
+        // Then
+        assertThat(conversation).hasSize(2);
+        assertThat(conversation.get(0).getSenderIdValue()).isEqualTo(2L);
+        assertThat(conversation.get(1).getSenderIdValue()).isEqualTo(1L);
+
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        verify(messageMongoRepository).findByConversationId(eq(conversationId), pageableCaptor.capture());
+        assertThat(pageableCaptor.getValue().getOffset()).isZero();
+        assertThat(pageableCaptor.getValue().getPageSize()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("커서 이전의 대화를 조회할 수 있다")
+    void findConversationBeforeCursor() {
+        // Given
+        String conversationId = "1:2";
+        MessageCursor cursor = new MessageCursor(LocalDateTime.now().minusMinutes(5), "msg2");
+
+        MessageDocument document = new MessageDocument();
+        document.setId("msg1");
+        document.setConversationId(conversationId);
+        document.setSenderId(1L);
+        document.setRecipientId(2L);
+        document.setContent("안녕하세요");
+        document.setStatus(MessageStatus.READ.name());
+        document.setSentAt(LocalDateTime.now().minusMinutes(10));
+
+        when(messageMongoRepository.findConversationBefore(
+                eq(conversationId), eq(cursor.sentAt()), eq(cursor.id()), any(Pageable.class)))
+                .thenReturn(List.of(document));
 
         // When
-        Page<Message> conversation = messageRepository.findConversation(userId1, userId2, pageable);
+        List<Message> conversation = messageRepository.findConversation(conversationId, cursor, 10);
 
         // Then
-        assertThat(conversation).isNotNull();
-        assertThat(conversation.getContent()).hasSize(2);
-        assertThat(conversation.getContent().get(0).getSenderIdValue()).isEqualTo(userId1);
-        assertThat(conversation.getContent().get(1).getSenderIdValue()).isEqualTo(userId2);
-        verify(messageMongoRepository).findConversation(userId1, userId2, pageable);
+        assertThat(conversation).hasSize(1);
+        assertThat(conversation.get(0).getId()).isEqualTo("msg1");
+        verify(messageMongoRepository).findConversationBefore(
+                eq(conversationId), eq(cursor.sentAt()), eq(cursor.id()), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("순번 이후의 대화를 오름차순으로 조회할 수 있다")
+    void findConversationAfterSequence() {
+        // Given
+        String conversationId = "1:2";
+
+        MessageDocument document = new MessageDocument();
+        document.setId("msg3");
+        document.setConversationId(conversationId);
+        document.setSenderId(1L);
+        document.setRecipientId(2L);
+        document.setContent("놓친 메시지");
+        document.setStatus(MessageStatus.SENT.name());
+        document.setSentAt(LocalDateTime.now());
+        document.setSequence(3L);
+
+        when(messageMongoRepository.findByConversationIdAndSequenceGreaterThan(
+                eq(conversationId), eq(2L), any(Pageable.class)))
+                .thenReturn(List.of(document));
+
+        // When
+        List<Message> messages = messageRepository.findConversationAfterSequence(conversationId, 2L, 50);
+
+        // Then
+        assertThat(messages).hasSize(1);
+        assertThat(messages.get(0).getSequence()).isEqualTo(3L);
+
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        verify(messageMongoRepository).findByConversationIdAndSequenceGreaterThan(
+                eq(conversationId), eq(2L), pageableCaptor.capture());
+        assertThat(pageableCaptor.getValue().getPageSize()).isEqualTo(50);
+        assertThat(pageableCaptor.getValue().getSort().getOrderFor("sequence").isAscending()).isTrue();
     }
 
     @Test
@@ -152,52 +228,101 @@ class MessageRepositoryImplTest {
     }
 
     @Test
-    @DisplayName("사용자의 최근 대화 목록을 조회할 수 있다")
-    void findRecentConversations() {
+    @DisplayName("사용자의 읽지 않은 메시지 수를 조회할 수 있다")
+    void countUnreadMessages() {
         // Given
         Long userId = 1L;
+        long expectedCount = 5L;
 
-        MessageDocument document1 = new MessageDocument();
-        document1.setId("msg1");
-        document1.setSenderId(userId);
-        document1.setRecipientId(2L);
-        document1.setContent("안녕하세요");
-        document1.setStatus(MessageStatus.READ.name());
-        document1.setSentAt(LocalDateTime.now().minusMinutes(30));
+        when(messageMongoRepository.countByRecipientIdAndStatus(userId, MessageStatus.SENT.name())).thenReturn(expectedCount);
 
-        MessageDocument document2 = new MessageDocument();
-        document2.setId("msg2");
-        document2.setSenderId(3L);
-        document2.setRecipientId(userId);
-        document2.setContent("질문이 있습니다");
-        document2.setStatus(MessageStatus.SENT.name());
-        document2.setSentAt(LocalDateTime.now().minusMinutes(5));
+        // When
+        long count = messageRepository.countUnreadMessages(userId);
 
-        List<MessageDocument> documents = Arrays.asList(document1, document2);
-        when(messageMongoRepository.findRecentConversations(userId)).thenReturn(documents);
+        // Then
+        assertThat(count).isEqualTo(expectedCount);
+        verify(messageMongoRepository).countByRecipientIdAndStatus(userId, MessageStatus.SENT.name());
+    }
+
+    @Test
+    @DisplayName("전송됨 상태의 메시지만 배달됨으로 전이한다")
+    void markDelivered() {
+        // Given
+        Message delivered = Message.create(1L, 2L, "테스트 메시지").markDelivered();
+        MessageDocument document = MessageDocument.fromDomain(delivered);
+
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class),
+                any(FindAndModifyOptions.class), eq(MessageDocument.class))).thenReturn(document);
 
         // When
-        List<Message> recentConversations = messageRepository.findRecentConversations(userId);
+        Optional<MessageTransition> transition = messageRepository.markDelivered(delivered.getId(), LocalDateTime.now());
 
         // Then
-        assertThat(recentConversations).hasSize(2);
-        verify(messageMongoRepository).findRecentConversations(userId);
+        assertThat(transition).isPresent();
+        assertThat(transition.get().wasUnread()).isTrue();
+        assertThat(transition.get().message().getStatus()).isEqualTo(MessageStatus.DELIVERED);
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).findAndModify(queryCaptor.capture(), any(Update.class),
+                any(FindAndModifyOptions.class), eq(MessageDocument.class));
+        assertThat(queryCaptor.getValue().getQueryObject().get("status")).isEqualTo(MessageStatus.SENT.name());
     }
 
     @Test
-    @DisplayName("사용자의 읽지 않은 메시지 수를 조회할 수 있다")
-    void countUnreadMessages() {
+    @DisplayName("이미 전이된 메시지는 배달됨 전이 결과가 없다")
+    void markDeliveredWithoutTransition() {
         // Given
-        Long userId = 1L;
-        long expectedCount = 5L;
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class),
+                any(FindAndModifyOptions.class), eq(MessageDocument.class))).thenReturn(null);
 
-        when(messageMongoRepository.countByRecipientIdAndStatus(userId, MessageStatus.SENT.name())).thenReturn(expectedCount);
+        // When
+        Optional<MessageTransition> transition = messageRepository.markDelivered("test-id", LocalDateTime.now());
+
+        // Then
+        assertThat(transition).isEmpty();
+    }
+
+    @Test
+    @DisplayName("읽음 전이는 변경 전 상태를 함께 반환한다")
+    void markRead() {
+        // Given
+        Message delivered = Message.create(1L, 2L, "테스트 메시지").markDelivered();
+        MessageDocument previous = MessageDocument.fromDomain(delivered);
+        LocalDateTime readAt = LocalDateTime.now();
+
+        when(mongoTemplate.findAndModify(any(Query.class), any(UpdateDefinition.class),
+                any(FindAndModifyOptions.class), eq(MessageDocument.class))).thenReturn(previous);
 
         // When
-        long count = messageRepository.countUnreadMessages(userId);
+        Optional<MessageTransition> transition = messageRepository.markRead(delivered.getId(), readAt);
 
         // Then
-        assertThat(count).isEqualTo(expectedCount);
-        verify(messageMongoRepository).countByRecipientIdAndStatus(userId, MessageStatus.SENT.name());
+        assertThat(transition).isPresent();
+        assertThat(transition.get().previousStatus()).isEqualTo(MessageStatus.DELIVERED);
+        assertThat(transition.get().wasUnread()).isFalse();
+        assertThat(transition.get().message().getStatus()).isEqualTo(MessageStatus.READ);
+        assertThat(transition.get().message().getReadAt()).isEqualTo(readAt);
+    }
+
+    @Test
+    @DisplayName("기준 시각까지의 받은 메시지를 한 번에 읽음으로 표시한다")
+    void markReadUpTo() {
+        // Given
+        LocalDateTime upTo = LocalDateTime.now();
+        when(mongoTemplate.updateMulti(any(Query.class), any(Update.class), eq(MessageDocument.class)))
+                .thenReturn(UpdateResult.acknowledged(3L, 3L, null));
+
+        // When
+        long count = messageRepository.markReadUpTo("1:2", 2L, upTo, MessageStatus.SENT, LocalDateTime.now());
+
+        // Then
+        assertThat(count).isEqualTo(3L);
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).updateMulti(queryCaptor.capture(), any(Update.class), eq(MessageDocument.class));
+        assertThat(queryCaptor.getValue().getQueryObject())
+                .containsEntry("conversationId", "1:2")
+                .containsEntry("recipientId", 2L)
+                .containsEntry("status", MessageStatus.SENT.name());
     }
 }
@@ -0,0 +1,88 @@
+package com.PickOne.domain.messaging.service;
+
+import com.PickOne.domain.messaging.dto.ActivityEventDto;
+import com.PickOne.domain.messaging.model.domain.ActivityType;
+import com.PickOne.global.exception.BusinessException;
+import com.PickOne.global.messaging.delivery.DeliveryChannel;
+import com.PickOne.global.messaging.delivery.UserDestinationRouter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class ActivityServiceTest {
+
+    @Mock
+    private UserDestinationRouter destinationRouter;
+
+    private ActivityService activityService;
+
+    @BeforeEach
+    void setUp() {
+        activityService = new ActivityService(destinationRouter, new SimpleMeterRegistry(), 60_000);
+    }
+
+    @Test
+    @DisplayName("간격 안에 반복된 같은 활동은 한 번만 상대에게 보낸다")
+    void coalescesRepeatedActivity() {
+        // When
+        boolean first = activityService.publish(1L, 2L, ActivityType.TYPING, true);
+        boolean second = activityService.publish(1L, 2L, ActivityType.TYPING, true);
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+
+        ArgumentCaptor<Object> eventCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(destinationRouter).sendEphemeral(eq(DeliveryChannel.ACTIVITY), eq(2L), eventCaptor.capture());
+        ActivityEventDto event = (ActivityEventDto) eventCaptor.getValue();
+        assertThat(event.recipientId()).isEqualTo(2L);
+        assertThat(event.userId()).isEqualTo(1L);
+        assertThat(event.type()).isEqualTo(ActivityType.TYPING);
+        assertThat(event.active()).isTrue();
+    }
+
+    @Test
+    @DisplayName("상태가 바뀐 활동은 간격과 관계없이 바로 보낸다")
+    void sendsStateChangeImmediately() {
+        // When
+        activityService.publish(1L, 2L, ActivityType.TYPING, true);
+        boolean stopped = activityService.publish(1L, 2L, ActivityType.TYPING, false);
+
+        // Then
+        assertThat(stopped).isTrue();
+        verify(destinationRouter, times(2)).sendEphemeral(eq(DeliveryChannel.ACTIVITY), eq(2L), any());
+    }
+
+    @Test
+    @DisplayName("활동 종류가 다르면 따로 합친다")
+    void coalescesPerType() {
+        // When
+        activityService.publish(1L, 2L, ActivityType.TYPING, true);
+        boolean viewing = activityService.publish(1L, 2L, ActivityType.VIEWING, true);
+
+        // Then
+        assertThat(viewing).isTrue();
+    }
+
+    @Test
+    @DisplayName("자신에게 보내는 활동은 거부한다")
+    void rejectsSelf() {
+        assertThatThrownBy(() -> activityService.publish(1L, 1L, ActivityType.TYPING, true))
+                .isInstanceOf(BusinessException.class);
+        verifyNoInteractions(destinationRouter);
+    }
+}
@@ -0,0 +1,47 @@
+package com.PickOne.domain.messaging.service;
+
+import com.PickOne.domain.messaging.model.domain.MessageAck;
+import com.PickOne.domain.messaging.model.domain.MessageStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MessageAckBatcherTest {
+
+    @Mock
+    private MessagingService messagingService;
+
+    private MessageAckBatcher batcher;
+
+    @AfterEach
+    void tearDown() {
+        batcher.close();
+    }
+
+    @Test
+    @DisplayName("창 안에 들어온 여러 프레임의 확인을 한 번에 반영한다")
+    void coalescesAcksWithinWindow() {
+        // Given
+        batcher = new MessageAckBatcher(messagingService, new SimpleMeterRegistry(), 200, 500, 100);
+
+        // When
+        batcher.submit(2L, MessageStatus.DELIVERED, List.of("m1", "m2"));
+        batcher.submit(2L, MessageStatus.READ, List.of("m1"));
+        batcher.submit(3L, MessageStatus.READ, List.of("m3"));
+
+        // Then
+        verify(messagingService, timeout(2000).times(1)).acknowledge(argThat(acks -> acks.size() == 4
+                && acks.contains(new MessageAck("m3", 3L, MessageStatus.READ))));
+    }
+}
@@ -0,0 +1,118 @@
+package com.PickOne.domain.messaging.service;
+
+import com.PickOne.domain.messaging.model.domain.Message;
+import com.PickOne.domain.messaging.model.domain.MessageSearchResult;
+import com.PickOne.domain.messaging.model.domain.SearchCandidate;
+import com.PickOne.domain.messaging.repository.MessageRepository;
+import com.PickOne.domain.messaging.repository.MessageSearchRepository;
+import com.PickOne.global.exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MessageSearchServiceTest {
+
+    @Mock
+    private MessageSearchRepository searchRepository;
+
+    @Mock
+    private MessageRepository messageRepository;
+
+    private MessageSearchService searchService;
+
+    @BeforeEach
+    void setUp() {
+        searchService = new MessageSearchService(searchRepository, messageRepository, 1000);
+    }
+
+    @Test
+    @DisplayName("저장된 메시지의 n-gram을 색인한다")
+    void indexMessage() {
+        // Given
+        Message message = Message.create(1L, 2L, "합주 일정");
+
+        // When
+        searchService.index(message);
+
+        // Then
+        verify(searchRepository).index(eq(message), eq(Set.of("합주", "일정")));
+    }
+
+    @Test
+    @DisplayName("가장 드문 n-gram을 먼저 두고, 짧고 밀접한 메시지를 앞에 두며 커서로 이어서 조회한다")
+    void searchRanksAndPages() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        when(searchRepository.countPostings(eq(1L), eq("합주"), anyInt())).thenReturn(50L);
+        when(searchRepository.countPostings(eq(1L), eq("일정"), anyInt())).thenReturn(3L);
+        when(searchRepository.findCandidates(1L, List.of("일정", "합주"), 1000)).thenReturn(List.of(
+                new SearchCandidate("long", now, 20),
+                new SearchCandidate("short", now.minusDays(1), 2),
+                new SearchCandidate("middle", now.minusHours(1), 4)
+        ));
+        Message shortMessage = Message.create(2L, 1L, "합주 일정");
+        Message middleMessage = Message.create(2L, 1L, "합주 일정 공유");
+        when(messageRepository.findById("short")).thenReturn(Optional.of(shortMessage));
+        when(messageRepository.findById("middle")).thenReturn(Optional.of(middleMessage));
+
+        // When
+        MessageSearchResult first = searchService.search(1L, "합주 일정", null, 2);
+
+        // Then
+        assertThat(first.messages()).containsExactly(shortMessage, middleMessage);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(first.next().messageId()).isEqualTo("middle");
+
+        // When
+        Message longMessage = Message.create(2L, 1L, "긴 메시지");
+        when(messageRepository.findById("long")).thenReturn(Optional.of(longMessage));
+        MessageSearchResult second = searchService.search(1L, "합주 일정", first.next().encode(), 2);
+
+        // Then
+        assertThat(second.messages()).containsExactly(longMessage);
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("사용자 색인에 없는 n-gram이 있으면 후보를 조회하지 않는다")
+    void missingGramShortCircuits() {
+        // Given
+        when(searchRepository.countPostings(eq(1L), anyString(), anyInt())).thenReturn(0L);
+
+        // When
+        MessageSearchResult result = searchService.search(1L, "셋리스트", null, 20);
+
+        // Then
+        assertThat(result.messages()).isEmpty();
+        assertThat(result.hasNext()).isFalse();
+        verify(searchRepository, never()).findCandidates(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("토큰이 없는 검색어나 잘못된 커서는 거부한다")
+    void invalidInput() {
+        assertThatThrownBy(() -> searchService.search(1L, "!!!", null, 20))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> searchService.search(1L, "합주", "not-a-cursor", 20))
+                .isInstanceOf(BusinessException.class);
+    }
+}
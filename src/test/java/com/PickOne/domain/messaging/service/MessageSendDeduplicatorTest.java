@@ -0,0 +1,140 @@
+package com.PickOne.domain.messaging.service;
+
+import com.PickOne.domain.messaging.dto.MessageDto;
+import com.PickOne.domain.messaging.model.domain.Message;
+import com.PickOne.global.exception.BusinessException;
+import com.PickOne.global.exception.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MessageSendDeduplicatorTest {
+
+    private static final String KEY = MessageSendDeduplicator.KEY_PREFIX + "1:client-1";
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private MessageSendDeduplicator deduplicator;
+
+    @BeforeEach
+    void setUp() {
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        deduplicator = new MessageSendDeduplicator(stringRedisTemplate, objectMapper, meterRegistry, 3600, 30_000, 100);
+    }
+
+    @Test
+    @DisplayName("처음 보는 ID는 전송하고 결과를 Redis에 기록하며, 같은 노드의 재시도는 로컬 LRU에서 돌려준다")
+    void firstSendThenLocalHit() {
+        // Given
+        Message message = Message.create(1L, 2L, "테스트 메시지").withSequence(1L);
+        AtomicInteger sends = new AtomicInteger();
+        when(valueOperations.setIfAbsent(eq(KEY), eq(""), eq(Duration.ofSeconds(30)))).thenReturn(true);
+
+        // When
+        Message first = deduplicator.sendOnce(1L, "client-1", () -> {
+            sends.incrementAndGet();
+            return message;
+        });
+        Message retried = deduplicator.sendOnce(1L, "client-1", () -> {
+            sends.incrementAndGet();
+            return message;
+        });
+
+        // Then
+        assertThat(first).isSameAs(message);
+        assertThat(retried).isSameAs(message);
+        assertThat(sends.get()).isEqualTo(1);
+        verify(valueOperations, times(1)).setIfAbsent(anyString(), anyString(), eq(Duration.ofSeconds(30)));
+        verify(valueOperations).set(eq(KEY), anyString(), eq(Duration.ofSeconds(3600)));
+        assertThat(meterRegistry.counter("messaging.send.deduplicated", "source", "local").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 전송된 ID면 Redis에 기록된 결과를 돌려주고 전송하지 않는다")
+    void redisHitReturnsOriginal() throws Exception {
+        // Given
+        Message original = Message.create(1L, 2L, "원래 메시지").withSequence(4L);
+        when(valueOperations.setIfAbsent(eq(KEY), eq(""), eq(Duration.ofSeconds(30)))).thenReturn(false);
+        when(valueOperations.get(KEY)).thenReturn(objectMapper.writeValueAsString(MessageDto.fromDomain(original)));
+
+        // When
+        Message result = deduplicator.sendOnce(1L, "client-1", () -> {
+            throw new AssertionError("중복 요청은 전송하면 안 됩니다");
+        });
+
+        // Then
+        assertThat(result.getId()).isEqualTo(original.getId());
+        assertThat(result.getContentValue()).isEqualTo("원래 메시지");
+        assertThat(result.getSequence()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("같은 ID의 전송이 진행 중이면 충돌로 거부한다")
+    void pendingSendIsRejected() {
+        // Given
+        when(valueOperations.setIfAbsent(eq(KEY), eq(""), eq(Duration.ofSeconds(30)))).thenReturn(false);
+        when(valueOperations.get(KEY)).thenReturn("");
+
+        // When & Then
+        assertThatThrownBy(() -> deduplicator.sendOnce(1L, "client-1", () -> null))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.MESSAGE_SEND_IN_PROGRESS);
+    }
+
+    @Test
+    @DisplayName("전송이 실패하면 선점을 풀어 재시도가 다시 전송할 수 있다")
+    void failedSendReleasesClaim() {
+        // Given
+        when(valueOperations.setIfAbsent(eq(KEY), eq(""), eq(Duration.ofSeconds(30)))).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> deduplicator.sendOnce(1L, "client-1", () -> {
+            throw new IllegalStateException("mongo down");
+        })).isInstanceOf(IllegalStateException.class);
+        verify(stringRedisTemplate).delete(KEY);
+    }
+
+    @Test
+    @DisplayName("저장 시간 초과로 실패하면 이미 저장되었을 수 있으므로 선점을 풀지 않는다")
+    void timedOutSendKeepsClaim() {
+        // Given
+        when(valueOperations.setIfAbsent(eq(KEY), eq(""), eq(Duration.ofSeconds(30)))).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> deduplicator.sendOnce(1L, "client-1", () -> {
+            throw new CompletionException(new TimeoutException());
+        })).isInstanceOf(CompletionException.class);
+        verify(stringRedisTemplate, never()).delete(KEY);
+    }
+}
@@ -0,0 +1,133 @@
+package com.PickOne.domain.messaging.service;
+
+import com.PickOne.domain.messaging.dto.MessageDto;
+import com.PickOne.domain.messaging.dto.ReceiptEventDto;
+import com.PickOne.domain.messaging.model.domain.Message;
+import com.PickOne.domain.notification.model.domain.NotificationType;
+import com.PickOne.domain.notification.service.NotificationService;
+import com.PickOne.global.messaging.delivery.DeliveryChannel;
+import com.PickOne.global.messaging.delivery.UserDestinationRouter;
+import com.PickOne.global.messaging.dispatch.StripedDispatchExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MessageSendPipelineTest {
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private UserDestinationRouter destinationRouter;
+
+    @Mock
+    private MessageSearchService searchService;
+
+    @Mock
+    private StripedDispatchExecutor deliveryStageExecutor;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private MessageSendPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        // 단계를 호출 스레드에서 바로 실행하여 결과를 검증
+        Executor direct = Runnable::run;
+        pipeline = new MessageSendPipeline(notificationService, destinationRouter, searchService,
+                direct, deliveryStageExecutor, direct, meterRegistry);
+        lenient().when(deliveryStageExecutor.execute(any(), any(Runnable.class))).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return true;
+        });
+    }
+
+    @Test
+    @DisplayName("저장된 메시지를 게시하고 수신자에게 알림을 생성하며 검색 색인에 추가한다")
+    void dispatch() {
+        // Given
+        Message message = Message.create(1L, 2L, "테스트 메시지");
+
+        // When
+        pipeline.dispatch(message, "sender@example.com");
+
+        // Then
+        verify(deliveryStageExecutor).execute(eq(2L), any(Runnable.class));
+        verify(destinationRouter).sendToUser(eq(DeliveryChannel.MESSAGES), eq(2L), any(MessageDto.class));
+        verify(notificationService).createNotificationForVerifiedRecipient(
+                2L,
+                NotificationType.NEW_MESSAGE,
+                "sender@example.com님이 새 메시지를 보냈습니다",
+                "message",
+                1L
+        );
+        verify(searchService).index(message);
+    }
+
+    @Test
+    @DisplayName("한 단계가 실패해도 다른 단계는 실행되고 실패가 집계된다")
+    void stageFailureIsIsolated() {
+        // Given
+        Message message = Message.create(1L, 2L, "테스트 메시지");
+        doThrow(new IllegalStateException("redis down"))
+                .when(destinationRouter).sendToUser(eq(DeliveryChannel.MESSAGES), eq(2L), any());
+
+        // When
+        pipeline.dispatch(message, "sender@example.com");
+
+        // Then
+        verify(notificationService).createNotificationForVerifiedRecipient(
+                any(), any(), anyString(), anyString(), any());
+        assertThat(meterRegistry.counter("messaging.pipeline.failures", "stage", "delivery").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("수신·읽음 확인은 발신자의 확인 큐로 전달한다")
+    void dispatchReceipt() {
+        // Given
+        ReceiptEventDto receipt = new ReceiptEventDto(2L, "READ", List.of("m1", "m2"), null, LocalDateTime.now());
+
+        // When
+        pipeline.dispatchReceipt(1L, receipt);
+
+        // Then
+        verify(deliveryStageExecutor).execute(eq(1L), any(Runnable.class));
+        verify(destinationRouter).sendToUser(DeliveryChannel.RECEIPTS, 1L, receipt);
+    }
+
+    @Test
+    @DisplayName("전달 대기열이 가득 차 버려진 이벤트는 실패로 집계한다")
+    void droppedDeliveryIsCounted() {
+        // Given
+        Message message = Message.create(1L, 2L, "테스트 메시지");
+        lenient().when(deliveryStageExecutor.execute(any(), any(Runnable.class))).thenReturn(false);
+
+        // When
+        pipeline.dispatch(message, "sender@example.com");
+
+        // Then
+        assertThat(meterRegistry.counter("messaging.pipeline.failures", "stage", "delivery").count())
+                .isEqualTo(1.0);
+        verify(destinationRouter, never()).sendToUser(any(), any(), any());
+    }
+}
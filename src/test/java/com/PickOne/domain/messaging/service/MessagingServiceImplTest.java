@@ -1,33 +1,33 @@
 package com.PickOne.domain.messaging.service;
 
-import com.PickOne.domain.messaging.dto.MessageDto;
+import com.PickOne.domain.messaging.model.domain.Conversation;
 import com.PickOne.domain.messaging.model.domain.Message;
+import com.PickOne.domain.messaging.model.domain.MessageAck;
+import com.PickOne.domain.messaging.model.domain.MessageCursor;
 import com.PickOne.domain.messaging.model.domain.MessageStatus;
+import com.PickOne.domain.messaging.model.domain.MessageTransition;
+import com.PickOne.domain.messaging.repository.ConversationRepository;
+import com.PickOne.domain.messaging.repository.ConversationSequenceRepository;
 import com.PickOne.domain.messaging.repository.MessageRepository;
-import com.PickOne.domain.notification.model.domain.NotificationType;
-import com.PickOne.domain.notification.service.NotificationService;
 import com.PickOne.domain.user.model.domain.User;
 import com.PickOne.domain.user.service.UserService;
 import com.PickOne.global.exception.BusinessException;
 import com.PickOne.global.exception.ErrorCode;
+import com.PickOne.global.messaging.counter.UnreadCounter;
+import com.PickOne.global.messaging.counter.UnreadCounterType;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.domain.Slice;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -39,13 +39,17 @@ class MessagingServiceImplTest {
 
   @Mock private MessageRepository messageRepository;
 
+  @Mock private ConversationRepository conversationRepository;
+
+  @Mock private ConversationSequenceRepository sequenceRepository;
+
   @Mock private UserService userService;
 
-  @Mock private NotificationService notificationService;
+  @Mock private UnreadCounter unreadCounter;
 
-  @Mock private RedisTemplate<String, Object> redisTemplate;
+  @Mock private MessageSendPipeline sendPipeline;
 
-  @Mock private ChannelTopic messageTopic;
+  @Mock private MessageSendDeduplicator sendDeduplicator;
 
   @InjectMocks private MessagingServiceImpl messagingService;
 
@@ -56,21 +60,17 @@ class MessagingServiceImplTest {
         Long senderId = 1L;
         Long recipientId = 2L;
         String content = "테스트 메시지입니다";
-        String channelTopic = "message.topic";
 
         User sender = mock(User.class);
         when(sender.getEmailValue()).thenReturn("sender@example.com");
 
         when(userService.findById(senderId)).thenReturn(sender);
         when(userService.findById(recipientId)).thenReturn(mock(User.class));
-        when(messageTopic.getTopic()).thenReturn(channelTopic);
+        when(sequenceRepository.next("1:2")).thenReturn(7L);
 
-        // MessageRepository.save를 통해 저장된 메시지 반환
-        ArgumentCaptor<Message> messageCaptor = ArgumentCaptor.forClass(Message.class);
-        when(messageRepository.save(messageCaptor.capture())).thenAnswer(invocation -> {
-            Message message = messageCaptor.getValue();
-            return message;
-        });
+        // 그룹 커밋 배치가 확인된 메시지 반환
+        when(messageRepository.insert(any(Message.class)))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(invocation.getArgument(0)));
 
         // When
         Message result = messagingService.sendMessage(senderId, recipientId, content);
@@ -80,19 +80,45 @@ class MessagingServiceImplTest {
         assertThat(result.getSenderIdValue()).isEqualTo(senderId);
         assertThat(result.getRecipientIdValue()).isEqualTo(recipientId);
         assertThat(result.getContentValue()).isEqualTo(content);
+        assertThat(result.getSequence()).isEqualTo(7L);
 
-        // senderId가 두 번 호출되는 것을 검증
-        verify(userService, times(2)).findById(senderId);
+        // 발신자 조회 결과를 알림 문구에 재사용하므로 사용자별로 한 번씩만 조회
+        verify(userService).findById(senderId);
         verify(userService).findById(recipientId);
-        verify(messageRepository).save(any(Message.class));
-        verify(notificationService).createNotification(
-                eq(recipientId),
-                eq(NotificationType.NEW_MESSAGE),
-                contains("새 메시지를 보냈습니다"),
-                eq("message"),
-                eq(senderId)
-        );
-        verify(redisTemplate).convertAndSend(eq(channelTopic), any(MessageDto.class));
+        verify(messageRepository).insert(any(Message.class));
+        verify(conversationRepository).recordMessage(result);
+        verify(unreadCounter).increment(UnreadCounterType.MESSAGE, recipientId);
+        verify(sendPipeline).dispatch(result, "sender@example.com");
+    }
+
+    @Test
+    @DisplayName("클라이언트 메시지 ID가 이미 전송된 ID면 처음 전송된 메시지를 그대로 반환한다")
+    void sendMessageWithDuplicateClientMessageId() {
+        // Given
+        Message original = Message.create(1L, 2L, "테스트 메시지").withSequence(3L);
+        when(sendDeduplicator.sendOnce(eq(1L), eq("client-1"), any())).thenReturn(original);
+
+        // When
+        Message result = messagingService.sendMessage(1L, 2L, "테스트 메시지", "client-1");
+
+        // Then
+        assertThat(result).isSameAs(original);
+        verifyNoInteractions(userService, messageRepository, sequenceRepository, sendPipeline);
+    }
+
+    @Test
+    @DisplayName("수신자가 존재하지 않으면 메시지를 저장하지 않는다")
+    void sendMessageToUnknownUser() {
+        // Given
+        when(userService.findById(1L)).thenReturn(mock(User.class));
+        when(userService.findById(99L)).thenThrow(new BusinessException(ErrorCode.USER_INFO_NOT_FOUND));
+
+        // When, Then
+        assertThatThrownBy(() -> messagingService.sendMessage(1L, 99L, "테스트 메시지"))
+                .isInstanceOf(BusinessException.class);
+
+        verify(messageRepository, never()).insert(any(Message.class));
+        verifyNoInteractions(sequenceRepository, sendPipeline);
     }
 
   @Test
@@ -100,11 +126,10 @@ class MessagingServiceImplTest {
   void markMessageDelivered() {
     // Given
     String messageId = "test-id";
-    Message message = Message.create(1L, 2L, "테스트 메시지");
+    Message delivered = Message.create(1L, 2L, "테스트 메시지").markDelivered();
 
-    when(messageRepository.findById(messageId)).thenReturn(Optional.of(message));
-    when(messageRepository.save(any(Message.class)))
-        .thenAnswer(invocation -> invocation.getArgument(0));
+    when(messageRepository.markDelivered(eq(messageId), any(LocalDateTime.class)))
+        .thenReturn(Optional.of(new MessageTransition(MessageStatus.SENT, delivered)));
 
     // When
     Message result = messagingService.markMessageDelivered(messageId);
@@ -114,8 +139,28 @@ class MessagingServiceImplTest {
     assertThat(result.getStatus()).isEqualTo(MessageStatus.DELIVERED);
     assertThat(result.getDeliveredAt()).isNotNull();
 
-    verify(messageRepository).findById(messageId);
-    verify(messageRepository).save(any(Message.class));
+    verify(messageRepository).markDelivered(eq(messageId), any(LocalDateTime.class));
+    verify(messageRepository, never()).findById(anyString());
+    verify(messageRepository, never()).save(any(Message.class));
+    verify(unreadCounter).decrement(UnreadCounterType.MESSAGE, 2L);
+  }
+
+  @Test
+  @DisplayName("이미 배달된 메시지는 다시 전이하지 않고 현재 상태를 반환한다")
+  void markAlreadyDeliveredMessageDelivered() {
+    // Given
+    String messageId = "test-id";
+    Message read = Message.create(1L, 2L, "테스트 메시지").markRead();
+
+    when(messageRepository.markDelivered(eq(messageId), any(LocalDateTime.class))).thenReturn(Optional.empty());
+    when(messageRepository.findById(messageId)).thenReturn(Optional.of(read));
+
+    // When
+    Message result = messagingService.markMessageDelivered(messageId);
+
+    // Then
+    assertThat(result.getStatus()).isEqualTo(MessageStatus.READ);
+    verifyNoInteractions(conversationRepository, unreadCounter);
   }
 
   @Test
@@ -123,6 +168,7 @@ class MessagingServiceImplTest {
   void markNonExistentMessageDelivered() {
     // Given
     String messageId = "non-existent-id";
+    when(messageRepository.markDelivered(eq(messageId), any(LocalDateTime.class))).thenReturn(Optional.empty());
     when(messageRepository.findById(messageId)).thenReturn(Optional.empty());
 
     // When, Then
@@ -139,11 +185,10 @@ class MessagingServiceImplTest {
   void markMessageRead() {
     // Given
     String messageId = "test-id";
-    Message message = Message.create(1L, 2L, "테스트 메시지");
+    Message read = Message.create(1L, 2L, "테스트 메시지").markRead();
 
-    when(messageRepository.findById(messageId)).thenReturn(Optional.of(message));
-    when(messageRepository.save(any(Message.class)))
-        .thenAnswer(invocation -> invocation.getArgument(0));
+    when(messageRepository.markRead(eq(messageId), any(LocalDateTime.class)))
+        .thenReturn(Optional.of(new MessageTransition(MessageStatus.SENT, read)));
 
     // When
     Message result = messagingService.markMessageRead(messageId);
@@ -154,8 +199,161 @@ class MessagingServiceImplTest {
     assertThat(result.getDeliveredAt()).isNotNull();
     assertThat(result.getReadAt()).isNotNull();
 
-    verify(messageRepository).findById(messageId);
-    verify(messageRepository).save(any(Message.class));
+    verify(messageRepository).markRead(eq(messageId), any(LocalDateTime.class));
+    verify(messageRepository, never()).save(any(Message.class));
+    verify(conversationRepository).decreaseUnreadCount(2L, 1L, 1);
+    verify(conversationRepository).updateLastMessageStatus(result);
+    verify(unreadCounter).decrement(UnreadCounterType.MESSAGE, 2L);
+  }
+
+  @Test
+  @DisplayName("배달된 메시지를 읽으면 배지 카운터는 다시 줄이지 않는다")
+  void markDeliveredMessageRead() {
+    // Given
+    String messageId = "test-id";
+    Message read = Message.create(1L, 2L, "테스트 메시지").markDelivered().markRead();
+
+    when(messageRepository.markRead(eq(messageId), any(LocalDateTime.class)))
+        .thenReturn(Optional.of(new MessageTransition(MessageStatus.DELIVERED, read)));
+
+    // When
+    messagingService.markMessageRead(messageId);
+
+    // Then
+    verify(conversationRepository).decreaseUnreadCount(2L, 1L, 1);
+    verify(unreadCounter, never()).decrement(any(), anyLong());
+  }
+
+  @Test
+  @DisplayName("이미 읽은 메시지를 다시 읽음으로 표시하면 저장하지 않는다")
+  void markAlreadyReadMessageRead() {
+    // Given
+    String messageId = "test-id";
+    Message message = Message.create(1L, 2L, "테스트 메시지").markRead();
+
+    when(messageRepository.markRead(eq(messageId), any(LocalDateTime.class))).thenReturn(Optional.empty());
+    when(messageRepository.findById(messageId)).thenReturn(Optional.of(message));
+
+    // When
+    Message result = messagingService.markMessageRead(messageId);
+
+    // Then
+    assertThat(result).isEqualTo(message);
+    verify(messageRepository, never()).save(any(Message.class));
+    verify(conversationRepository, never()).decreaseUnreadCount(anyLong(), anyLong(), anyLong());
+  }
+
+  @Test
+  @DisplayName("대화의 특정 메시지까지 받은 메시지를 한 번에 읽음으로 표시할 수 있다")
+  void markConversationRead() {
+    // Given
+    Long userId = 2L;
+    Long peerId = 1L;
+    Message watermark = Message.create(peerId, userId, "마지막 메시지");
+
+    when(messageRepository.findById(watermark.getId())).thenReturn(Optional.of(watermark));
+    when(messageRepository.markReadUpTo(eq("1:2"), eq(userId), eq(watermark.getSentAt()),
+        eq(MessageStatus.SENT), any(LocalDateTime.class))).thenReturn(3L);
+    when(messageRepository.markReadUpTo(eq("1:2"), eq(userId), eq(watermark.getSentAt()),
+        eq(MessageStatus.DELIVERED), any(LocalDateTime.class))).thenReturn(2L);
+
+    // When
+    long result = messagingService.markConversationRead(userId, peerId, watermark.getId());
+
+    // Then
+    assertThat(result).isEqualTo(5L);
+    verify(conversationRepository).decreaseUnreadCount(userId, peerId, 5L);
+    verify(unreadCounter).decrement(UnreadCounterType.MESSAGE, userId, 3L);
+    verify(conversationRepository).updateLastMessageStatus(any(Message.class));
+    verify(sendPipeline).dispatchReceipt(eq(peerId), argThat(receipt ->
+        receipt.peerId().equals(userId) && watermark.getId().equals(receipt.upToMessageId())));
+  }
+
+  @Test
+  @DisplayName("모인 확인은 한 번의 조회와 bulkWrite로 반영하고, 카운터와 확인 이벤트는 묶어서 갱신한다")
+  void acknowledgeBatch() {
+    // Given
+    Message first = Message.create(1L, 2L, "첫 번째").withSequence(1L);
+    Message second = Message.create(1L, 2L, "두 번째").withSequence(2L);
+    Message delivered = Message.create(1L, 2L, "세 번째").withSequence(3L).markDelivered();
+    when(messageRepository.findAllById(any())).thenReturn(List.of(first, second, delivered));
+    when(messageRepository.applyTransitions(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+    // When
+    long result = messagingService.acknowledge(List.of(
+        new MessageAck(first.getId(), 2L, MessageStatus.DELIVERED),
+        new MessageAck(first.getId(), 2L, MessageStatus.READ),
+        new MessageAck(second.getId(), 2L, MessageStatus.READ),
+        new MessageAck(delivered.getId(), 2L, MessageStatus.READ)));
+
+    // Then
+    assertThat(result).isEqualTo(3L);
+    verify(messageRepository).applyTransitions(argThat(transitions -> transitions.size() == 3
+        && transitions.stream().allMatch(t -> t.message().getStatus() == MessageStatus.READ)));
+    verify(unreadCounter).decrement(UnreadCounterType.MESSAGE, 2L, 2L);
+    verify(conversationRepository).decreaseUnreadCount(2L, 1L, 3L);
+    verify(sendPipeline).dispatchReceipt(eq(1L), argThat(receipt ->
+        receipt.peerId().equals(2L) && receipt.messageIds().size() == 3 && "READ".equals(receipt.status())));
+  }
+
+  @Test
+  @DisplayName("다른 요청이 먼저 전이한 메시지는 카운터와 대화 목록, 확인 이벤트에 반영하지 않는다")
+  void acknowledgeAppliesSideEffectsOnlyForAppliedTransitions() {
+    // Given
+    Message first = Message.create(1L, 2L, "첫 번째").withSequence(1L);
+    Message second = Message.create(1L, 2L, "두 번째").withSequence(2L);
+    when(messageRepository.findAllById(any())).thenReturn(List.of(first, second));
+    when(messageRepository.applyTransitions(anyList())).thenAnswer(invocation -> {
+      List<MessageTransition> transitions = invocation.getArgument(0);
+      return transitions.stream().filter(t -> t.message().getId().equals(first.getId())).toList();
+    });
+
+    // When
+    long result = messagingService.acknowledge(List.of(
+        new MessageAck(first.getId(), 2L, MessageStatus.READ),
+        new MessageAck(second.getId(), 2L, MessageStatus.READ)));
+
+    // Then
+    assertThat(result).isEqualTo(1L);
+    verify(unreadCounter).decrement(UnreadCounterType.MESSAGE, 2L, 1L);
+    verify(conversationRepository).decreaseUnreadCount(2L, 1L, 1L);
+    verify(sendPipeline).dispatchReceipt(eq(1L), argThat(receipt ->
+        receipt.messageIds().equals(List.of(first.getId()))));
+  }
+
+  @Test
+  @DisplayName("수신자가 아닌 사용자의 확인과 되돌리는 확인은 무시한다")
+  void acknowledgeIgnoresForeignAndBackwardAcks() {
+    // Given
+    Message read = Message.create(1L, 2L, "읽은 메시지").withSequence(1L).markRead();
+    Message other = Message.create(1L, 2L, "다른 사람의 확인").withSequence(2L);
+    when(messageRepository.findAllById(any())).thenReturn(List.of(read, other));
+
+    // When
+    long result = messagingService.acknowledge(List.of(
+        new MessageAck(read.getId(), 2L, MessageStatus.DELIVERED),
+        new MessageAck(other.getId(), 3L, MessageStatus.READ)));
+
+    // Then
+    assertThat(result).isZero();
+    verify(messageRepository, never()).applyTransitions(anyList());
+    verifyNoInteractions(unreadCounter, sendPipeline);
+  }
+
+  @Test
+  @DisplayName("다른 대화의 메시지를 기준으로 읽음 표시하면 예외가 발생한다")
+  void markConversationReadWithForeignWatermark() {
+    // Given
+    Message watermark = Message.create(3L, 2L, "다른 대화");
+    when(messageRepository.findById(watermark.getId())).thenReturn(Optional.of(watermark));
+
+    // When, Then
+    assertThatThrownBy(() -> messagingService.markConversationRead(2L, 1L, watermark.getId()))
+        .isInstanceOf(BusinessException.class)
+        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+
+    verify(messageRepository, never())
+        .markReadUpTo(anyString(), anyLong(), any(), any(), any());
   }
 
   @Test
@@ -164,28 +362,97 @@ class MessagingServiceImplTest {
     // Given
     Long userId1 = 1L;
     Long userId2 = 2L;
-    Pageable pageable = PageRequest.of(0, 20);
 
     Message message1 = Message.create(userId1, userId2, "안녕하세요");
     Message message2 = Message.create(userId2, userId1, "반갑습니다");
-    Page<Message> messagePage = new PageImpl<>(Arrays.asList(message1, message2));
 
     when(userService.findById(userId1)).thenReturn(mock(User.class));
     when(userService.findById(userId2)).thenReturn(mock(User.class));
-    when(messageRepository.findConversation(userId1, userId2, pageable)).thenReturn(messagePage);
+    when(messageRepository.findConversation("1:2", null, 21))
+        .thenReturn(Arrays.asList(message1, message2));
 
     // When
-    Page<Message> result = messagingService.getConversation(userId1, userId2, pageable);
+    Slice<Message> result = messagingService.getConversation(userId1, userId2, null, 20);
 
     // Then
     assertThat(result).isNotNull();
     assertThat(result.getContent()).hasSize(2);
+    assertThat(result.hasNext()).isFalse();
     assertThat(result.getContent().get(0).getSenderIdValue()).isEqualTo(userId1);
     assertThat(result.getContent().get(1).getSenderIdValue()).isEqualTo(userId2);
 
     verify(userService).findById(userId1);
     verify(userService).findById(userId2);
-    verify(messageRepository).findConversation(userId1, userId2, pageable);
+    verify(messageRepository).findConversation("1:2", null, 21);
+  }
+
+  @Test
+  @DisplayName("커서 이전의 대화를 조회하면 다음 페이지 존재 여부를 알 수 있다")
+  void getConversationBeforeCursor() {
+    // Given
+    Long userId1 = 1L;
+    Long userId2 = 2L;
+    MessageCursor cursor = new MessageCursor(LocalDateTime.now(), "anchor-id");
+
+    Message message1 = Message.create(userId2, userId1, "첫 번째");
+    Message message2 = Message.create(userId1, userId2, "두 번째");
+
+    when(userService.findById(userId1)).thenReturn(mock(User.class));
+    when(userService.findById(userId2)).thenReturn(mock(User.class));
+    when(messageRepository.findConversation("1:2", cursor, 2))
+        .thenReturn(Arrays.asList(message1, message2));
+
+    // When
+    Slice<Message> result = messagingService.getConversation(userId1, userId2, cursor.encode(), 1);
+
+    // Then
+    assertThat(result.getContent()).containsExactly(message1);
+    assertThat(result.hasNext()).isTrue();
+  }
+
+  @Test
+  @DisplayName("잘못된 커서로 대화를 조회하면 예외가 발생한다")
+  void getConversationWithInvalidCursor() {
+    // Given
+    when(userService.findById(anyLong())).thenReturn(mock(User.class));
+
+    // When, Then
+    assertThatThrownBy(() -> messagingService.getConversation(1L, 2L, "invalid-cursor", 20))
+        .isInstanceOf(BusinessException.class)
+        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+
+    verify(messageRepository, never()).findConversation(anyString(), any(), anyInt());
+  }
+
+  @Test
+  @DisplayName("순번 이후의 메시지를 오름차순으로 동기화할 수 있다")
+  void getMessagesSince() {
+    // Given
+    Message message1 = Message.create(1L, 2L, "첫 번째").withSequence(11L);
+    Message message2 = Message.create(2L, 1L, "두 번째").withSequence(12L);
+    Message message3 = Message.create(1L, 2L, "세 번째").withSequence(13L);
+
+    when(messageRepository.findConversationAfterSequence("1:2", 10L, 3))
+        .thenReturn(Arrays.asList(message1, message2, message3));
+
+    // When
+    Slice<Message> result = messagingService.getMessagesSince(2L, 1L, 10L, 2);
+
+    // Then
+    assertThat(result.getContent()).containsExactly(message1, message2);
+    assertThat(result.hasNext()).isTrue();
+    verifyNoInteractions(userService);
+  }
+
+  @Test
+  @DisplayName("음수 순번으로 동기화를 요청하면 예외가 발생한다")
+  void getMessagesSinceWithNegativeSequence() {
+    // When, Then
+    assertThatThrownBy(() -> messagingService.getMessagesSince(1L, 2L, -1L, 20))
+        .isInstanceOf(BusinessException.class)
+        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+
+    verify(messageRepository, never()).findConversationAfterSequence(anyString(), anyLong(), anyInt());
   }
 
   @Test
@@ -219,8 +486,7 @@ class MessagingServiceImplTest {
     Long userId = 1L;
     long expectedCount = 5L;
 
-    when(userService.findById(userId)).thenReturn(mock(User.class));
-    when(messageRepository.countUnreadMessages(userId)).thenReturn(expectedCount);
+    when(unreadCounter.get(eq(UnreadCounterType.MESSAGE), eq(userId), any())).thenReturn(expectedCount);
 
     // When
     long result = messagingService.countUnreadMessages(userId);
@@ -228,8 +494,9 @@ class MessagingServiceImplTest {
     // Then
     assertThat(result).isEqualTo(expectedCount);
 
-    verify(userService).findById(userId);
-    verify(messageRepository).countUnreadMessages(userId);
+    verify(unreadCounter).get(eq(UnreadCounterType.MESSAGE), eq(userId), any());
+    verifyNoInteractions(userService);
+    verify(messageRepository, never()).countUnreadMessages(anyLong());
   }
 
   @Test
@@ -237,15 +504,17 @@ class MessagingServiceImplTest {
   void getRecentConversations() {
     // Given
     Long userId = 1L;
-    Message message1 = Message.create(userId, 2L, "첫 번째 대화");
-    Message message2 = Message.create(3L, userId, "두 번째 대화");
-    List<Message> recentConversations = Arrays.asList(message1, message2);
+    Conversation conversation1 = Conversation.from(
+        userId, 2L, "msg-2", "첫 번째 대화", userId, MessageStatus.SENT, LocalDateTime.now(), 0);
+    Conversation conversation2 = Conversation.from(
+        userId, 3L, "msg-3", "두 번째 대화", 3L, MessageStatus.SENT, LocalDateTime.now().minusMinutes(1), 2);
+    List<Conversation> recentConversations = Arrays.asList(conversation1, conversation2);
 
     when(userService.findById(userId)).thenReturn(mock(User.class));
-    when(messageRepository.findRecentConversations(userId)).thenReturn(recentConversations);
+    when(conversationRepository.findRecentForUser(userId, 20)).thenReturn(recentConversations);
 
     // When
-    List<Message> result = messagingService.getRecentConversations(userId);
+    List<Conversation> result = messagingService.getRecentConversations(userId, 20);
 
     // Then
     assertThat(result).isNotNull();
@@ -253,7 +522,7 @@ class MessagingServiceImplTest {
     assertThat(result).containsExactlyElementsOf(recentConversations);
 
     verify(userService).findById(userId);
-    verify(messageRepository).findRecentConversations(userId);
+    verify(conversationRepository).findRecentForUser(userId, 20);
   }
 
   @Test
@@ -0,0 +1,122 @@
+package com.PickOne.domain.messaging.service;
+
+import com.PickOne.domain.messaging.dto.PresenceEventDto;
+import com.PickOne.domain.messaging.model.domain.Conversation;
+import com.PickOne.domain.messaging.model.domain.MessageStatus;
+import com.PickOne.domain.messaging.repository.ConversationRepository;
+import com.PickOne.global.messaging.delivery.DeliveryChannel;
+import com.PickOne.global.messaging.delivery.UserDestinationRouter;
+import com.PickOne.global.messaging.presence.PresenceChangedEvent;
+import com.PickOne.global.messaging.presence.PresenceRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PresenceServiceTest {
+
+    @Mock
+    private PresenceRegistry presenceRegistry;
+
+    @Mock
+    private ConversationRepository conversationRepository;
+
+    @Mock
+    private UserDestinationRouter destinationRouter;
+
+    private PresenceService presenceService;
+
+    @BeforeEach
+    void setUp() {
+        presenceService = new PresenceService(presenceRegistry, conversationRepository, destinationRouter, 50);
+    }
+
+    @Test
+    @DisplayName("접속한 사용자의 상태를 접속 중인 대화 상대에게만 알린다")
+    void announcesToOnlinePeers() {
+        // Given
+        presenceService.onPresenceChanged(new PresenceChangedEvent(1L));
+        presenceService.onPresenceChanged(new PresenceChangedEvent(1L));
+
+        when(presenceRegistry.onlineStatus(List.of(1L))).thenReturn(Map.of(1L, true));
+        when(presenceRegistry.recordAnnounced(Map.of(1L, true))).thenReturn(List.of(1L));
+        when(conversationRepository.findRecentForUser(1L, 50)).thenReturn(List.of(conversation(1L, 2L), conversation(1L, 3L)));
+        when(presenceRegistry.onlineStatus(List.of(2L, 3L))).thenReturn(Map.of(2L, true, 3L, false));
+
+        // When
+        presenceService.flush();
+
+        // Then
+        ArgumentCaptor<PresenceEventDto> eventCaptor = ArgumentCaptor.forClass(PresenceEventDto.class);
+        verify(destinationRouter).sendToUser(eq(DeliveryChannel.PRESENCE), eq(2L), eventCaptor.capture());
+        verify(destinationRouter, never()).sendToUser(any(), eq(3L), any());
+        assertThat(eventCaptor.getValue().userId()).isEqualTo(1L);
+        assertThat(eventCaptor.getValue().online()).isTrue();
+    }
+
+    @Test
+    @DisplayName("알린 적 없는 사용자가 짧게 접속했다 끊기면 아무 것도 알리지 않는다")
+    void flappingConnectionIsCoalesced() {
+        // Given
+        presenceService.onPresenceChanged(new PresenceChangedEvent(1L));
+        when(presenceRegistry.onlineStatus(List.of(1L))).thenReturn(Map.of(1L, false));
+        when(presenceRegistry.recordAnnounced(Map.of(1L, false))).thenReturn(List.of());
+
+        // When
+        presenceService.flush();
+
+        // Then
+        verify(conversationRepository, never()).findRecentForUser(anyLong(), anyInt());
+        verifyNoInteractions(destinationRouter);
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 끊겨 공유 기록이 지워진 사용자가 다시 접속하면 접속을 알린다")
+    void announcesReconnectAfterRemoteDisconnect() {
+        // Given
+        presenceService.onPresenceChanged(new PresenceChangedEvent(1L));
+        when(presenceRegistry.onlineStatus(List.of(1L))).thenReturn(Map.of(1L, true));
+        when(presenceRegistry.recordAnnounced(Map.of(1L, true))).thenReturn(List.of(1L));
+        when(conversationRepository.findRecentForUser(1L, 50)).thenReturn(List.of(conversation(1L, 2L)));
+        when(presenceRegistry.onlineStatus(List.of(2L))).thenReturn(Map.of(2L, true));
+
+        // When
+        presenceService.flush();
+
+        // Then
+        verify(destinationRouter).sendToUser(eq(DeliveryChannel.PRESENCE), eq(2L), any(PresenceEventDto.class));
+    }
+
+    @Test
+    @DisplayName("변경이 없으면 상태를 조회하지 않는다")
+    void nothingToFlush() {
+        // When
+        presenceService.flush();
+
+        // Then
+        verifyNoInteractions(presenceRegistry, conversationRepository, destinationRouter);
+    }
+
+    private Conversation conversation(Long ownerId, Long peerId) {
+        return Conversation.from(ownerId, peerId, "message-id", "미리보기", peerId,
+                MessageStatus.SENT, LocalDateTime.now(), 0);
+    }
+}
@@ -0,0 +1,85 @@
+package com.PickOne.domain.messaging.service;
+
+import com.PickOne.domain.messaging.dto.RoomMessageDto;
+import com.PickOne.domain.messaging.model.domain.Room;
+import com.PickOne.domain.messaging.model.domain.RoomFanout;
+import com.PickOne.domain.messaging.model.domain.RoomMessage;
+import com.PickOne.global.messaging.delivery.DeliveryChannel;
+import com.PickOne.global.messaging.delivery.RoomBroadcaster;
+import com.PickOne.global.messaging.delivery.UserDestinationRouter;
+import com.PickOne.global.messaging.dispatch.StripedDispatchExecutor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class RoomFanoutPublisherTest {
+
+    @Mock
+    private UserDestinationRouter destinationRouter;
+
+    @Mock
+    private RoomBroadcaster roomBroadcaster;
+
+    @Mock
+    private StripedDispatchExecutor deliveryStageExecutor;
+
+    private RoomFanoutPublisher publisher;
+
+    private final Room room = Room.from("room-1", "합주 팀", 1L, List.of(1L, 2L, 3L), 1L, null, null,
+            LocalDateTime.now(), LocalDateTime.now());
+
+    @BeforeEach
+    void setUp() {
+        // 전달 단계를 호출 스레드에서 바로 실행하여 결과를 검증
+        publisher = new RoomFanoutPublisher(destinationRouter, roomBroadcaster, deliveryStageExecutor, new SimpleMeterRegistry());
+        lenient().when(deliveryStageExecutor.execute(any(), any(Runnable.class))).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return true;
+        });
+    }
+
+    @Test
+    @DisplayName("작은 방은 발신자를 제외한 멤버마다 사용자 큐로 전달한다")
+    void fanoutOnWrite() {
+        // Given
+        RoomMessage message = RoomMessage.create("room-1", 1L, "오늘 합주 7시").withSequence(1L);
+
+        // When
+        publisher.dispatch(room, message, RoomFanout.WRITE);
+
+        // Then
+        verify(destinationRouter).sendToUser(eq(DeliveryChannel.ROOMS), eq(2L), any(RoomMessageDto.class));
+        verify(destinationRouter).sendToUser(eq(DeliveryChannel.ROOMS), eq(3L), any(RoomMessageDto.class));
+        verify(destinationRouter, never()).sendToUser(any(), eq(1L), any());
+        verifyNoInteractions(roomBroadcaster);
+    }
+
+    @Test
+    @DisplayName("큰 방은 멤버 수와 관계없이 방 토픽으로 한 번만 게시한다")
+    void fanoutOnRead() {
+        // Given
+        RoomMessage message = RoomMessage.create("room-1", 1L, "공지 확인해주세요").withSequence(1L);
+
+        // When
+        publisher.dispatch(room, message, RoomFanout.READ);
+
+        // Then
+        verify(roomBroadcaster).broadcast(eq("room-1"), any(RoomMessageDto.class));
+        verifyNoInteractions(destinationRouter);
+    }
+}
@@ -0,0 +1,173 @@
+package com.PickOne.domain.messaging.service;
+
+import com.PickOne.domain.messaging.model.domain.Room;
+import com.PickOne.domain.messaging.model.domain.RoomFanout;
+import com.PickOne.domain.messaging.model.domain.RoomMessage;
+import com.PickOne.domain.messaging.model.domain.RoomSummary;
+import com.PickOne.domain.messaging.repository.ConversationSequenceRepository;
+import com.PickOne.domain.messaging.repository.RoomRepository;
+import com.PickOne.domain.user.service.UserService;
+import com.PickOne.global.exception.BusinessException;
+import com.PickOne.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RoomServiceImplTest {
+
+    private static final int WRITE_FANOUT_MAX_MEMBERS = 3;
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @Mock
+    private ConversationSequenceRepository sequenceRepository;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private RoomFanoutPublisher fanoutPublisher;
+
+    private RoomServiceImpl roomService;
+
+    @BeforeEach
+    void setUp() {
+        roomService = new RoomServiceImpl(roomRepository, sequenceRepository, userService, fanoutPublisher,
+                5, WRITE_FANOUT_MAX_MEMBERS);
+    }
+
+    @Test
+    @DisplayName("방장을 포함해 중복 없이 멤버를 등록하고 방을 만든다")
+    void createRoom() {
+        // Given
+        when(roomRepository.insert(any(Room.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        RoomSummary summary = roomService.createRoom(1L, "합주 팀", List.of(2L, 3L, 2L, 1L));
+
+        // Then
+        assertThat(summary.room().getMemberIds()).containsExactly(1L, 2L, 3L);
+        assertThat(summary.room().getOwnerId()).isEqualTo(1L);
+        assertThat(summary.fanout()).isEqualTo(RoomFanout.WRITE);
+        assertThat(summary.unreadCount()).isZero();
+        verify(userService).findById(2L);
+        verify(userService).findById(3L);
+    }
+
+    @Test
+    @DisplayName("최대 인원을 넘는 방은 만들 수 없다")
+    void createRoomOverLimit() {
+        // When & Then
+        assertThatThrownBy(() -> roomService.createRoom(1L, "큰 방", List.of(2L, 3L, 4L, 5L, 6L)))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.ROOM_MEMBER_LIMIT_EXCEEDED);
+        verify(roomRepository, never()).insert(any());
+    }
+
+    @Test
+    @DisplayName("메시지는 방 순번을 받아 한 번만 저장되고, 작은 방은 멤버별 전달로 넘긴다")
+    void sendMessageToSmallRoom() {
+        // Given
+        Room room = room(List.of(1L, 2L, 3L), 4L);
+        when(roomRepository.findById("room-1")).thenReturn(Optional.of(room));
+        when(sequenceRepository.next("room:room-1")).thenReturn(5L);
+        when(roomRepository.insertMessage(any(RoomMessage.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        RoomMessage message = roomService.sendMessage(1L, "room-1", "오늘 합주 7시");
+
+        // Then
+        assertThat(message.getSequence()).isEqualTo(5L);
+        verify(roomRepository).advanceReadSequence("room-1", 1L, 5L);
+        verify(fanoutPublisher).dispatch(room, message, RoomFanout.WRITE);
+    }
+
+    @Test
+    @DisplayName("멤버 수가 기준을 넘는 방은 방 토픽 게시로 넘긴다")
+    void sendMessageToLargeRoom() {
+        // Given
+        Room room = room(List.of(1L, 2L, 3L, 4L), 0L);
+        when(roomRepository.findById("room-1")).thenReturn(Optional.of(room));
+        when(sequenceRepository.next("room:room-1")).thenReturn(1L);
+        when(roomRepository.insertMessage(any(RoomMessage.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        RoomMessage message = roomService.sendMessage(4L, "room-1", "공지 확인해주세요");
+
+        // Then
+        verify(fanoutPublisher).dispatch(room, message, RoomFanout.READ);
+    }
+
+    @Test
+    @DisplayName("멤버가 아니면 메시지를 보낼 수 없다")
+    void sendMessageByNonMember() {
+        // Given
+        when(roomRepository.findById("room-1")).thenReturn(Optional.of(room(List.of(1L, 2L), 0L)));
+
+        // When & Then
+        assertThatThrownBy(() -> roomService.sendMessage(9L, "room-1", "안녕하세요"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.NOT_ROOM_MEMBER);
+        verify(sequenceRepository, never()).next(any());
+    }
+
+    @Test
+    @DisplayName("방 목록의 읽지 않은 수는 방 순번과 읽음 커서의 차이다")
+    void getRoomsWithUnreadCounts() {
+        // Given
+        Room busy = Room.from("busy", "합주 팀", 1L, List.of(1L, 2L), 12L, "다음 곡", 2L,
+                LocalDateTime.now(), LocalDateTime.now());
+        Room quiet = Room.from("quiet", "공연 팀", 1L, List.of(1L, 2L), 3L, "끝", 1L,
+                LocalDateTime.now().minusDays(1), LocalDateTime.now().minusDays(2));
+        when(roomRepository.findRecentForMember(2L, 20)).thenReturn(List.of(busy, quiet));
+        when(roomRepository.findReadSequences(eq(2L), anyList())).thenReturn(Map.of("busy", 9L, "quiet", 3L));
+
+        // When
+        List<RoomSummary> rooms = roomService.getRooms(2L, 20);
+
+        // Then
+        assertThat(rooms).extracting(RoomSummary::unreadCount).containsExactly(3L, 0L);
+    }
+
+    @Test
+    @DisplayName("읽음 표시는 방의 마지막 순번을 넘지 않는다")
+    void markReadIsCappedAtLastSequence() {
+        // Given
+        Room room = room(List.of(1L, 2L), 7L);
+        when(roomRepository.findById("room-1")).thenReturn(Optional.of(room));
+        when(roomRepository.findReadSequences(2L, List.of("room-1"))).thenReturn(Map.of("room-1", 7L));
+
+        // When
+        long unread = roomService.markRead(2L, "room-1", 100L);
+
+        // Then
+        verify(roomRepository).advanceReadSequence("room-1", 2L, 7L);
+        assertThat(unread).isZero();
+    }
+
+    private static Room room(List<Long> memberIds, long lastSequence) {
+        return Room.from("room-1", "합주 팀", memberIds.get(0), memberIds, lastSequence, null, null,
+                LocalDateTime.now(), LocalDateTime.now());
+    }
+}
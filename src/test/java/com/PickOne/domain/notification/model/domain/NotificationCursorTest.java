@@ -0,0 +1,48 @@
+package com.PickOne.domain.notification.model.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NotificationCursorTest {
+
+    @Test
+    @DisplayName("커서를 인코딩한 뒤 다시 해석할 수 있다")
+    void encodeAndDecode() {
+        // Given
+        NotificationCursor cursor =
+                new NotificationCursor(LocalDateTime.of(2025, 5, 1, 12, 30, 15, 123_000_000), "notification-id");
+
+        // When
+        NotificationCursor decoded = NotificationCursor.decode(cursor.encode());
+
+        // Then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("알림으로부터 커서를 생성할 수 있다")
+    void createFromNotification() {
+        // Given
+        Notification notification =
+                Notification.create(1L, NotificationType.SYSTEM_ANNOUNCEMENT, "점검 안내", "notice", 1L);
+
+        // When
+        NotificationCursor cursor = NotificationCursor.of(notification);
+
+        // Then
+        assertThat(cursor.createdAt()).isEqualTo(notification.getCreatedAt());
+        assertThat(cursor.id()).isEqualTo(notification.getId());
+    }
+
+    @Test
+    @DisplayName("잘못된 형식의 커서는 해석할 수 없다")
+    void decodeInvalidCursor() {
+        assertThatThrownBy(() -> NotificationCursor.decode("not a cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
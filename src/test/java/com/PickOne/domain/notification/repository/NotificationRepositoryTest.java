@@ -91,7 +91,7 @@ public class NotificationRepositoryTest {
         notificationRepository.save(notification3);
 
         // 읽지 않은 알림 조회
-        List<Notification> unreadNotifications = notificationRepository.findUnreadForUser(recipientId);
+        List<Notification> unreadNotifications = notificationRepository.findUnreadForUser(recipientId, null, 100);
         assertEquals(2, unreadNotifications.size());
 
         // 읽지 않은 알림 수 조회
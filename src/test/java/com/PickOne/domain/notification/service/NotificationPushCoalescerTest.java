@@ -0,0 +1,103 @@
+package com.PickOne.domain.notification.service;
+
+import com.PickOne.domain.notification.dto.NotificationDto;
+import com.PickOne.domain.notification.model.domain.Notification;
+import com.PickOne.domain.notification.model.domain.NotificationStatus;
+import com.PickOne.domain.notification.model.domain.NotificationType;
+import com.PickOne.global.messaging.delivery.DeliveryChannel;
+import com.PickOne.global.messaging.delivery.UserDestinationRouter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationPushCoalescerTest {
+
+    private static final String COLLAPSE_KEY = "NEW_MESSAGE:message:2";
+
+    @Mock
+    private UserDestinationRouter destinationRouter;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong now = new AtomicLong(1_000L);
+
+    private NotificationPushCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        coalescer = new NotificationPushCoalescer(destinationRouter, meterRegistry, now::get, 500);
+    }
+
+    @Test
+    @DisplayName("첫 갱신은 바로 보내고, 간격 안의 갱신은 최신 상태 하나로 합쳐 간격이 끝날 때 보낸다")
+    void coalescesWithinWindow() {
+        // When
+        coalescer.push(collapsed(1));
+        coalescer.push(collapsed(2));
+        coalescer.push(collapsed(3));
+        coalescer.flush();
+
+        // Then
+        verify(destinationRouter, times(1)).sendToUser(eq(DeliveryChannel.NOTIFICATIONS), eq(1L), any());
+
+        // When
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        coalescer.flush();
+
+        // Then
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(destinationRouter, times(2)).sendToUser(eq(DeliveryChannel.NOTIFICATIONS), eq(1L), captor.capture());
+        assertThat(((NotificationDto) captor.getValue()).count()).isEqualTo(3);
+        assertThat(meterRegistry.get("notification.push").tag("result", "coalesced").counter().count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("늦게 끝난 이전 갱신이 더 최신 상태를 덮어쓰지 않는다")
+    void keepsHighestCount() {
+        // Given
+        coalescer.push(collapsed(1));
+
+        // When
+        coalescer.push(collapsed(3));
+        coalescer.push(collapsed(2));
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        coalescer.flush();
+
+        // Then
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(destinationRouter, times(2)).sendToUser(eq(DeliveryChannel.NOTIFICATIONS), eq(1L), captor.capture());
+        assertThat(((NotificationDto) captor.getValue()).count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("합치지 않는 알림은 간격과 관계없이 바로 보낸다")
+    void sendsNonCollapsibleImmediately() {
+        // When
+        coalescer.push(Notification.create(1L, NotificationType.SYSTEM_ANNOUNCEMENT, "점검 안내", "notice", 1L));
+        coalescer.push(Notification.create(1L, NotificationType.SYSTEM_ANNOUNCEMENT, "점검 안내", "notice", 1L));
+
+        // Then
+        verify(destinationRouter, times(2)).sendToUser(eq(DeliveryChannel.NOTIFICATIONS), eq(1L), any());
+    }
+
+    private static Notification collapsed(int count) {
+        return Notification.from("n-1", 1L, NotificationType.NEW_MESSAGE, "기타리스트님이 새 메시지를 보냈습니다",
+                NotificationStatus.UNREAD, "message", 2L, LocalDateTime.now(), null, COLLAPSE_KEY, count, null);
+    }
+}
@@ -0,0 +1,96 @@
+package com.PickOne.domain.notification.service;
+
+import com.PickOne.domain.notification.model.domain.NotificationEviction;
+import com.PickOne.domain.notification.model.domain.NotificationType;
+import com.PickOne.domain.notification.repository.NotificationRepository;
+import com.PickOne.global.messaging.counter.UnreadCounter;
+import com.PickOne.global.messaging.counter.UnreadCounterType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationRetentionJobTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private UnreadCounter unreadCounter;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final NotificationRetentionPolicy retentionPolicy =
+            new NotificationRetentionPolicy(30, "RECRUITMENT_ACCEPTED=180", 100);
+
+    private NotificationRetentionJob job;
+
+    @BeforeEach
+    void setUp() {
+        job = new NotificationRetentionJob(notificationRepository, retentionPolicy, unreadCounter, meterRegistry, 50, 10);
+    }
+
+    @Test
+    @DisplayName("새 알림을 받은 사용자만 정리하고, 삭제한 읽지 않은 알림만큼 카운터를 줄인다")
+    void trimsMarkedUsers() {
+        // Given
+        job.markForTrim(1L);
+        when(notificationRepository.evictOldestForUser(1L, 100, 50)).thenReturn(new NotificationEviction(30, 4, 0));
+
+        // When
+        job.trim();
+        job.trim();
+
+        // Then
+        verify(notificationRepository, times(1)).evictOldestForUser(anyLong(), anyInt(), anyInt());
+        verify(unreadCounter).decrement(UnreadCounterType.NOTIFICATION, 1L, 4L);
+        assertThat(meterRegistry.get("notification.retention.evicted").counter().count()).isEqualTo(30.0);
+    }
+
+    @Test
+    @DisplayName("한 번에 다 지우지 못한 사용자는 다음 실행에서 이어서 정리한다")
+    void continuesRemainingOnNextRun() {
+        // Given
+        job.markForTrim(1L);
+        when(notificationRepository.evictOldestForUser(1L, 100, 50))
+                .thenReturn(new NotificationEviction(50, 0, 20))
+                .thenReturn(new NotificationEviction(20, 0, 0));
+
+        // When
+        job.trim();
+        job.trim();
+        job.trim();
+
+        // Then
+        verify(notificationRepository, times(2)).evictOldestForUser(eq(1L), anyInt(), anyInt());
+        verify(unreadCounter, never()).decrement(eq(UnreadCounterType.NOTIFICATION), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("읽은 알림의 보존 기간은 유형별 설정을 따르고, 나머지는 기본 기간을 쓴다")
+    void retentionPerType() {
+        // Given
+        LocalDateTime readAt = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+        // When & Then
+        assertThat(retentionPolicy.readRetentionOf(NotificationType.RECRUITMENT_ACCEPTED)).isEqualTo(Duration.ofDays(180));
+        assertThat(retentionPolicy.expireAtByType(readAt))
+                .containsEntry(NotificationType.RECRUITMENT_ACCEPTED, readAt.plusDays(180))
+                .containsEntry(NotificationType.NEW_MESSAGE, readAt.plusDays(30));
+    }
+}
@@ -1,5 +1,6 @@
 package com.PickOne.domain.notification.service;
 
+import com.PickOne.domain.notification.dto.NotificationSliceDto;
 import com.PickOne.domain.notification.model.domain.Notification;
 import com.PickOne.domain.notification.model.domain.NotificationStatus;
 import com.PickOne.domain.notification.model.domain.NotificationType;
@@ -13,7 +14,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -66,7 +69,7 @@ public class NotificationServiceTest {
         assertEquals(NotificationStatus.READ, readNotification.getStatus());
 
         // 알림 조회
-        List<Notification> unreadNotifications = notificationService.getUnreadNotificationsForUser(recipientId);
+        List<Notification> unreadNotifications = notificationService.getUnreadNotificationsForUser(recipientId, null, 100).getContent();
         assertFalse(unreadNotifications.stream().anyMatch(n -> n.getId().equals(notification.getId())));
 
         // 검증
@@ -85,10 +88,11 @@ public class NotificationServiceTest {
                 recipientId, NotificationType.SYSTEM_ANNOUNCEMENT, "Test 2", "TEST", 2L);
 
         // 모든 알림 읽음으로 표시
-        notificationService.markAllNotificationsReadForUser(recipientId);
+        long readCount = notificationService.markAllNotificationsReadForUser(recipientId);
+        assertEquals(2, readCount);
 
         // 읽지 않은 알림 조회
-        List<Notification> unreadNotifications = notificationService.getUnreadNotificationsForUser(recipientId);
+        List<Notification> unreadNotifications = notificationService.getUnreadNotificationsForUser(recipientId, null, 100).getContent();
         assertEquals(0, unreadNotifications.size());
 
         // 유형별 알림 조회
@@ -96,4 +100,104 @@ public class NotificationServiceTest {
                 recipientId, NotificationType.SYSTEM_ANNOUNCEMENT, PageRequest.of(0, 10)).getTotalElements();
         assertEquals(2, count);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testMarkNotificationsReadUpTo() {
+        // UserService 모킹
+        Long recipientId = 5L;
+        when(userService.findById(recipientId)).thenReturn(null);
+
+        // 기준 시각 이전과 이후에 알림 생성
+        Notification before = notificationRepository.save(Notification.from(
+                "up-to-before", recipientId, NotificationType.SYSTEM_ANNOUNCEMENT, "Before", NotificationStatus.UNREAD,
+                "TEST", 1L, LocalDateTime.now().minusMinutes(10), null));
+        Notification after = notificationRepository.save(Notification.from(
+                "up-to-after", recipientId, NotificationType.SYSTEM_ANNOUNCEMENT, "After", NotificationStatus.UNREAD,
+                "TEST", 2L, LocalDateTime.now().plusMinutes(10), null));
+
+        // 기준 시각까지의 알림만 읽음으로 표시
+        long readCount = notificationService.markNotificationsReadUpTo(recipientId, LocalDateTime.now());
+        assertEquals(1, readCount);
+
+        // 기준 시각 이후의 알림은 읽지 않은 채로 남음
+        List<Notification> unreadNotifications = notificationService.getUnreadNotificationsForUser(recipientId, null, 100).getContent();
+        assertEquals(1, unreadNotifications.size());
+        assertEquals(after.getId(), unreadNotifications.get(0).getId());
+        assertEquals(NotificationStatus.READ, notificationService.getNotification(before.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    public void testCollapseRepeatedMessageNotifications() {
+        // UserService 모킹
+        Long recipientId = 6L;
+        when(userService.findById(recipientId)).thenReturn(null);
+
+        // 같은 발신자의 메시지 알림 3개 생성
+        for (int i = 1; i <= 3; i++) {
+            notificationService.createNotificationForVerifiedRecipient(
+                    recipientId, NotificationType.NEW_MESSAGE, "Message " + i, "message", 7L);
+        }
+
+        // 읽지 않은 알림 하나에 합쳐지고 최신 본문을 가짐
+        List<Notification> unreadNotifications = notificationService.getUnreadNotificationsForUser(recipientId, null, 100).getContent();
+        assertEquals(1, unreadNotifications.size());
+        assertEquals(3, unreadNotifications.get(0).getCount());
+        assertEquals("Message 3", unreadNotifications.get(0).getContentValue());
+
+        // 읽은 뒤의 메시지 알림은 새 알림으로 저장
+        notificationService.markAllNotificationsReadForUser(recipientId);
+        Notification next = notificationService.createNotificationForVerifiedRecipient(
+                recipientId, NotificationType.NEW_MESSAGE, "Message 4", "message", 7L);
+        assertEquals(1, next.getCount());
+        assertNotEquals(unreadNotifications.get(0).getId(), next.getId());
+    }
+
+    @Test
+    public void testMarkCollapsedNotificationReadKeepsCount() {
+        // UserService 모킹
+        Long recipientId = 7L;
+        when(userService.findById(recipientId)).thenReturn(null);
+
+        // 같은 발신자의 메시지 알림 2개가 하나로 합쳐짐
+        notificationService.createNotificationForVerifiedRecipient(
+                recipientId, NotificationType.NEW_MESSAGE, "Message 1", "message", 7L);
+        Notification collapsed = notificationService.createNotificationForVerifiedRecipient(
+                recipientId, NotificationType.NEW_MESSAGE, "Message 2", "message", 7L);
+
+        // 읽음 관련 필드만 바뀌고 합쳐진 건수와 본문은 유지됨
+        Notification read = notificationService.markNotificationRead(collapsed.getId());
+        assertEquals(NotificationStatus.READ, read.getStatus());
+        assertEquals(2, read.getCount());
+        assertEquals("Message 2", read.getContentValue());
+        assertNotNull(read.getExpireAt());
+
+        // 이미 읽은 알림을 다시 읽음 처리해도 그대로 반환
+        assertEquals(NotificationStatus.READ, notificationService.markNotificationRead(collapsed.getId()).getStatus());
+    }
+
+    @Test
+    public void testNotificationFeedPaging() {
+        // UserService 모킹
+        Long recipientId = 8L;
+        when(userService.findById(recipientId)).thenReturn(null);
+
+        // 생성 시각이 다른 알림 5개 저장
+        LocalDateTime base = LocalDateTime.now().minusHours(1);
+        for (int i = 0; i < 5; i++) {
+            notificationRepository.save(Notification.from(
+                    "feed-" + i, recipientId, NotificationType.SYSTEM_ANNOUNCEMENT, "Feed " + i,
+                    NotificationStatus.UNREAD, "TEST", (long) i + 1, base.plusMinutes(i), null));
+        }
+
+        // 첫 페이지는 최신 알림 2개와 다음 커서를 반환
+        Slice<Notification> first = notificationService.getNotificationFeed(recipientId, null, 2);
+        assertEquals(List.of("feed-4", "feed-3"), first.getContent().stream().map(Notification::getId).toList());
+        assertTrue(first.hasNext());
+
+        // 커서로 이어서 조회하면 남은 알림을 순서대로 반환
+        String cursor = NotificationSliceDto.fromDomain(first).nextCursor();
+        Slice<Notification> second = notificationService.getNotificationFeed(recipientId, cursor, 10);
+        assertEquals(List.of("feed-2", "feed-1", "feed-0"), second.getContent().stream().map(Notification::getId).toList());
+        assertFalse(second.hasNext());
+    }
+}
@@ -0,0 +1,91 @@
+package com.PickOne.global.common.mongo;
+
+import com.PickOne.domain.messaging.model.domain.Message;
+import com.PickOne.domain.messaging.model.entity.MessageDocument;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentCompressionTest {
+
+    @Test
+    @DisplayName("임계값 미만의 본문은 평문 그대로 저장한다")
+    void shortContentStaysPlain() {
+        // When
+        ContentCompression.EncodedContent encoded = ContentCompression.encode("안녕하세요", "test");
+
+        // Then
+        assertThat(encoded.content()).isEqualTo("안녕하세요");
+        assertThat(encoded.compressedContent()).isNull();
+        assertThat(encoded.encoding()).isNull();
+    }
+
+    @Test
+    @DisplayName("임계값 이상의 본문은 압축하고 다시 같은 본문으로 복원한다")
+    void longContentRoundTrip() {
+        // Given
+        String setlist = "1. 오프닝 - Intro (inst.)\n2. 밤편지 - 키 -2\n3. 좋은 날 - 원키\n".repeat(60);
+
+        // When
+        ContentCompression.EncodedContent encoded = ContentCompression.encode(setlist, "test");
+
+        // Then
+        assertThat(encoded.content()).isNull();
+        assertThat(encoded.encoding()).isEqualTo(ContentCompression.ContentEncoding.DEFLATE.name());
+        assertThat(encoded.compressedContent().length).isLessThan(setlist.length());
+        assertThat(ContentCompression.decode(encoded.content(), encoded.compressedContent(), encoded.encoding()))
+                .isEqualTo(setlist);
+    }
+
+    @Test
+    @DisplayName("압축 효과가 없는 본문은 평문으로 저장하되 인코딩 표시를 남긴다")
+    void incompressibleContentMarkedIdentity() {
+        // Given
+        Random random = new Random(42);
+        StringBuilder noise = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            noise.append((char) (0xAC00 + random.nextInt(11172)));
+        }
+
+        // When
+        ContentCompression.EncodedContent encoded = ContentCompression.encode(noise.toString(), "test");
+
+        // Then
+        assertThat(encoded.content()).isEqualTo(noise.toString());
+        assertThat(encoded.compressedContent()).isNull();
+        assertThat(encoded.encoding()).isEqualTo(ContentCompression.ContentEncoding.IDENTITY.name());
+    }
+
+    @Test
+    @DisplayName("인코딩 표시가 없는 기존 문서는 평문으로 읽는다")
+    void legacyDocumentReadsPlain() {
+        // Given
+        MessageDocument document = MessageDocument.fromDomain(Message.create(1L, 2L, "기존 메시지"));
+        document.setContentEncoding(null);
+
+        // When
+        Message message = document.toDomain();
+
+        // Then
+        assertThat(message.getContentValue()).isEqualTo("기존 메시지");
+    }
+
+    @Test
+    @DisplayName("문서 변환 시 긴 메시지 본문은 압축되어 저장되고 도메인으로 복원된다")
+    void messageDocumentCompressesLongContent() {
+        // Given
+        String lyrics = "가사 한 줄, 후렴 반복\n".repeat(100);
+        Message message = Message.create(1L, 2L, lyrics);
+
+        // When
+        MessageDocument document = MessageDocument.fromDomain(message);
+
+        // Then
+        assertThat(document.getContent()).isNull();
+        assertThat(document.getCompressedContent()).isNotEmpty();
+        assertThat(document.toDomain().getContentValue()).isEqualTo(lyrics);
+    }
+}
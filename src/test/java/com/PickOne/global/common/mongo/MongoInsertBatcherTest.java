@@ -0,0 +1,125 @@
+package com.PickOne.global.common.mongo;
+
+import com.PickOne.domain.messaging.model.domain.Message;
+import com.PickOne.domain.messaging.model.entity.MessageDocument;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MongoInsertBatcherTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    private MongoInsertBatcher<MessageDocument> batcher;
+
+    @BeforeEach
+    void setUp() {
+        when(mongoTemplate.getCollectionName(MessageDocument.class)).thenReturn("messages");
+        // 최대 크기에 도달하면 창을 기다리지 않고 바로 저장되도록 창을 길게 설정
+        batcher = new MongoInsertBatcher<>(mongoTemplate, MessageDocument.class,
+                Duration.ofSeconds(5), 2, 100, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        batcher.close();
+    }
+
+    @Test
+    @DisplayName("최대 크기만큼 모인 삽입을 한 번의 bulkWrite로 저장한다")
+    void flushesFullBatchAtOnce() throws Exception {
+        // Given
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, MessageDocument.class))
+                .thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+        when(bulkOperations.execute()).thenReturn(BulkWriteResult.unacknowledged());
+
+        MessageDocument first = document();
+        MessageDocument second = document();
+
+        // When
+        CompletableFuture<MessageDocument> firstResult = batcher.insert(first);
+        CompletableFuture<MessageDocument> secondResult = batcher.insert(second);
+
+        // Then
+        assertThat(firstResult.get(1, TimeUnit.SECONDS)).isSameAs(first);
+        assertThat(secondResult.get(1, TimeUnit.SECONDS)).isSameAs(second);
+        verify(mongoTemplate, times(1)).bulkOps(BulkOperations.BulkMode.UNORDERED, MessageDocument.class);
+        verify(bulkOperations).insert(eq(List.of(first, second)));
+    }
+
+    @Test
+    @DisplayName("배치 중 실패한 문서의 호출자만 예외를 받는다")
+    void failsOnlyRejectedDocuments() throws Exception {
+        // Given
+        BulkWriteError duplicate = new BulkWriteError(11000, "duplicate key", new BsonDocument(), 1);
+        MongoBulkWriteException failure = new MongoBulkWriteException(
+                BulkWriteResult.acknowledged(1, 0, 0, 0, List.of(), List.of()),
+                List.of(duplicate), null, new ServerAddress(), Set.of());
+
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, MessageDocument.class))
+                .thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+        when(bulkOperations.execute()).thenThrow(failure);
+
+        // When
+        CompletableFuture<MessageDocument> accepted = batcher.insert(document());
+        CompletableFuture<MessageDocument> rejected = batcher.insert(document());
+
+        // Then
+        assertThat(accepted.get(1, TimeUnit.SECONDS)).isNotNull();
+        assertThatThrownBy(() -> rejected.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("종료된 배처에 넣은 삽입은 기다리지 않고 바로 실패한다")
+    void rejectsAfterClose() {
+        // Given
+        batcher.close();
+
+        // When
+        CompletableFuture<MessageDocument> result = batcher.insert(document());
+
+        // Then
+        assertThat(result).isCompletedExceptionally();
+    }
+
+    private MessageDocument document() {
+        return MessageDocument.fromDomain(Message.create(1L, 2L, "테스트 메시지"));
+    }
+}
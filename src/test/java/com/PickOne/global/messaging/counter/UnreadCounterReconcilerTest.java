@@ -0,0 +1,90 @@
+package com.PickOne.global.messaging.counter;
+
+import com.PickOne.domain.messaging.repository.MessageRepository;
+import com.PickOne.domain.notification.repository.NotificationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UnreadCounterReconcilerTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private UnreadCounter unreadCounter;
+
+    @Mock
+    private MessageRepository messageRepository;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    private UnreadCounterReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        reconciler = new UnreadCounterReconciler(stringRedisTemplate, unreadCounter,
+                messageRepository, notificationRepository, 600_000, 100);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 잠금을 가지고 있으면 보정하지 않는다")
+    void skipsWithoutLock() {
+        // given
+        when(valueOperations.setIfAbsent(UnreadCounterReconciler.LOCK_KEY, "1", Duration.ofMinutes(10)))
+                .thenReturn(false);
+
+        // when
+        reconciler.reconcile();
+
+        // then
+        verify(stringRedisTemplate, never()).opsForSet();
+        verifyNoInteractions(unreadCounter, messageRepository, notificationRepository);
+    }
+
+    @Test
+    @DisplayName("마지막 보정 이후 증감된 키만 정해진 수만큼 꺼내 보정한다")
+    void repairsOnlyDirtyKeys() {
+        // given
+        when(valueOperations.setIfAbsent(UnreadCounterReconciler.LOCK_KEY, "1", Duration.ofMinutes(10)))
+                .thenReturn(true);
+        when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.pop("unread:dirty:message", 100)).thenReturn(List.of("7"));
+        when(setOperations.pop("unread:dirty:notification", 100)).thenReturn(List.of());
+        when(valueOperations.get("unread:message:7")).thenReturn("5");
+        when(messageRepository.countUnreadMessages(7L)).thenReturn(3L);
+
+        // when
+        reconciler.reconcile();
+
+        // then
+        verify(unreadCounter).repair("unread:message:7", "5", 3L);
+        verify(notificationRepository, never()).countUnreadForUser(anyLong());
+        verify(setOperations, never()).add(anyString(), anyString());
+    }
+}
@@ -0,0 +1,87 @@
+package com.PickOne.global.messaging.counter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UnreadCounterTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @InjectMocks
+    private UnreadCounter unreadCounter;
+
+    @Test
+    @DisplayName("카운터가 있으면 원본 저장소를 조회하지 않는다")
+    void getCachedCounter() {
+        // given
+        LongSupplier loader = mock(LongSupplier.class);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("unread:message:1")).thenReturn("7");
+
+        // when
+        long count = unreadCounter.get(UnreadCounterType.MESSAGE, 1L, loader);
+
+        // then
+        assertThat(count).isEqualTo(7L);
+        verifyNoInteractions(loader);
+    }
+
+    @Test
+    @DisplayName("카운터가 없으면 원본 값을 한 번 적재한다")
+    void loadMissingCounter() {
+        // given
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("unread:notification:2")).thenReturn(null);
+        when(valueOperations.setIfAbsent(eq("unread:notification:2"), eq("3"), any(Duration.class))).thenReturn(true);
+
+        // when
+        long count = unreadCounter.get(UnreadCounterType.NOTIFICATION, 2L, () -> 3L);
+
+        // then
+        assertThat(count).isEqualTo(3L);
+        verify(valueOperations).setIfAbsent(eq("unread:notification:2"), eq("3"), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("0 이하의 변화량은 Redis를 호출하지 않는다")
+    void ignoreNonPositiveDelta() {
+        // when
+        unreadCounter.increment(UnreadCounterType.MESSAGE, 1L, 0);
+        unreadCounter.decrement(UnreadCounterType.MESSAGE, 1L, -1);
+
+        // then
+        verifyNoInteractions(stringRedisTemplate);
+    }
+
+    @Test
+    @DisplayName("증가는 키가 있을 때만 반영하고 보정 대상으로 남기는 스크립트로 실행된다")
+    @SuppressWarnings("unchecked")
+    void incrementWithScript() {
+        // when
+        unreadCounter.increment(UnreadCounterType.MESSAGE, 5L);
+
+        // then
+        verify(stringRedisTemplate).execute(any(RedisScript.class),
+                eq(List.of("unread:message:5", "unread:dirty:message")), eq("1"), eq("5"));
+    }
+}
@@ -0,0 +1,39 @@
+package com.PickOne.global.messaging.delivery;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DeliveryEnvelopeTest {
+
+    @Test
+    @DisplayName("수신자 헤더와 JSON 본문을 인코딩한 뒤 그대로 복원한다")
+    void roundTrip() {
+        // Given
+        byte[] json = "{\"content\":\"안녕하세요\\n반갑습니다\"}".getBytes(StandardCharsets.UTF_8);
+
+        // When
+        byte[] encoded = new DeliveryEnvelope(9_007_199_254_740_993L, json).encode();
+        DeliveryEnvelope decoded = DeliveryEnvelope.decode(encoded);
+
+        // Then
+        assertThat(new String(encoded, StandardCharsets.UTF_8)).startsWith("9007199254740993\n{");
+        assertThat(decoded.recipientId()).isEqualTo(9_007_199_254_740_993L);
+        assertThat(decoded.payload()).isEqualTo(json);
+    }
+
+    @Test
+    @DisplayName("수신자 헤더가 없거나 숫자가 아니면 예외가 발생한다")
+    void rejectsMalformedHeader() {
+        assertThatThrownBy(() -> DeliveryEnvelope.decode("{\"id\":1}".getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> DeliveryEnvelope.decode("12a\n{}".getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> DeliveryEnvelope.decode("\n{}".getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,109 @@
+package com.PickOne.global.messaging.delivery;
+
+import com.PickOne.global.messaging.node.NodeIdentity;
+import com.PickOne.global.websocket.handler.RedisMessageSubscriber;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RedisStreamDeliveryConsumerTest {
+
+    private static final String KEY = "stream:messaging:node-a";
+    private static final String GROUP = "node:node-a";
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisMessageSubscriber subscriber;
+
+    @Mock
+    private StreamOperations<String, Object, Object> streamOperations;
+
+    @Test
+    @DisplayName("같은 노드 ID로 다시 뜬 소비자가 이전 소비자의 오래된 미확인 항목을 넘겨받는다")
+    void claimsIdleEntriesOfPreviousConsumer() {
+        // Given
+        RedisStreamDeliveryConsumer previous = consumer();
+        RedisStreamDeliveryConsumer current = consumer();
+        RecordId idle = RecordId.of("1-0");
+        RecordId recent = RecordId.of("2-0");
+
+        when(streamOperations.pending(eq(KEY), eq(GROUP), any(Range.class), anyLong()))
+                .thenReturn(new PendingMessages(GROUP, List.of(
+                        pending(idle, previous.getConsumerName(), Duration.ofSeconds(60)),
+                        pending(recent, previous.getConsumerName(), Duration.ofSeconds(1)))));
+
+        // When
+        int claimed = current.claimIdleEntries(streamOperations, KEY);
+
+        // Then
+        assertThat(current.getConsumerName()).isNotEqualTo(previous.getConsumerName());
+        assertThat(claimed).isEqualTo(1);
+        verify(streamOperations).claim(KEY, GROUP, current.getConsumerName(), Duration.ofSeconds(30), idle);
+    }
+
+    @Test
+    @DisplayName("자신이 가진 미확인 항목은 넘겨받지 않는다")
+    void skipsOwnPendingEntries() {
+        // Given
+        RedisStreamDeliveryConsumer current = consumer();
+
+        when(streamOperations.pending(eq(KEY), eq(GROUP), any(Range.class), anyLong()))
+                .thenReturn(new PendingMessages(GROUP, List.of(
+                        pending(RecordId.of("1-0"), current.getConsumerName(), Duration.ofSeconds(60)))));
+
+        // When
+        int claimed = current.claimIdleEntries(streamOperations, KEY);
+
+        // Then
+        assertThat(claimed).isZero();
+        verify(streamOperations, never()).claim(any(), any(), any(), any(Duration.class), any(RecordId[].class));
+    }
+
+    @Test
+    @DisplayName("복구할 때마다 스트림 키의 만료 시간을 갱신한다")
+    void recoverRefreshesStreamTtl() {
+        // Given
+        RedisStreamDeliveryConsumer current = consumer();
+
+        when(streamOperations.pending(eq(KEY), eq(GROUP), any(Range.class), anyLong()))
+                .thenReturn(new PendingMessages(GROUP, List.of()));
+
+        // When
+        current.recover(streamOperations, KEY);
+
+        // Then
+        verify(stringRedisTemplate).expire(KEY, Duration.ofHours(1));
+    }
+
+    private RedisStreamDeliveryConsumer consumer() {
+        return new RedisStreamDeliveryConsumer(stringRedisTemplate, subscriber, new NodeIdentity("node-a"),
+                100, 2000, 30_000, 3_600_000);
+    }
+
+    private PendingMessage pending(RecordId id, String consumerName, Duration idle) {
+        return new PendingMessage(id, Consumer.from(GROUP, consumerName), idle, 1);
+    }
+}
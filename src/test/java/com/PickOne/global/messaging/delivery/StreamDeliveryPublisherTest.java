@@ -0,0 +1,59 @@
+package com.PickOne.global.messaging.delivery;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StreamDeliveryPublisherTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private StreamOperations<String, Object, Object> streamOperations;
+
+    @Test
+    @DisplayName("전달 봉투를 노드 전용 스트림에 길이 제한과 함께 추가한다")
+    @SuppressWarnings("unchecked")
+    void publish() {
+        // Given
+        StreamDeliveryPublisher publisher = new StreamDeliveryPublisher(stringRedisTemplate, 1000);
+        byte[] json = "{\"content\":\"테스트 메시지\"}".getBytes(StandardCharsets.UTF_8);
+        byte[] envelope = new DeliveryEnvelope(2L, json).encode();
+
+        when(stringRedisTemplate.opsForStream()).thenReturn(streamOperations);
+
+        // When
+        publisher.publish(DeliveryChannel.MESSAGES, "node-a", envelope);
+
+        // Then
+        ArgumentCaptor<MapRecord<String, ?, ?>> recordCaptor = ArgumentCaptor.forClass(MapRecord.class);
+        ArgumentCaptor<XAddOptions> optionsCaptor = ArgumentCaptor.forClass(XAddOptions.class);
+        verify(streamOperations).add(recordCaptor.capture(), optionsCaptor.capture());
+
+        MapRecord<String, ?, ?> record = recordCaptor.getValue();
+        assertThat(record.getStream()).isEqualTo("stream:messaging:node-a");
+
+        // 문자열 필드로 저장했다가 다시 바이트로 바꿔도 봉투가 그대로 복원됨
+        String stored = record.getValue().get(StreamDeliveryPublisher.PAYLOAD_FIELD).toString();
+        DeliveryEnvelope restored = DeliveryEnvelope.decode(stored.getBytes(StandardCharsets.UTF_8));
+        assertThat(restored.recipientId()).isEqualTo(2L);
+        assertThat(restored.payload()).isEqualTo(json);
+        assertThat(optionsCaptor.getValue().getMaxlen()).isEqualTo(1000L);
+        assertThat(optionsCaptor.getValue().isApproximateTrimming()).isTrue();
+    }
+}
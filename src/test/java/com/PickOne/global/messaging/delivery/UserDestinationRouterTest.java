@@ -0,0 +1,136 @@
+package com.PickOne.global.messaging.delivery;
+
+import com.PickOne.global.messaging.presence.PresenceRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserDestinationRouterTest {
+
+    private static final Map<String, String> PAYLOAD = Map.of("id", "m1");
+    private static final byte[] PAYLOAD_JSON = "{\"id\":\"m1\"}".getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private PresenceRegistry presenceRegistry;
+
+    @Mock
+    private DeliveryPublisher deliveryPublisher;
+
+    @Mock
+    private UserFrameSender frameSender;
+
+    private UserDestinationRouter router;
+
+    @BeforeEach
+    void setUp() {
+        router = new UserDestinationRouter(presenceRegistry, deliveryPublisher, frameSender,
+                new ObjectMapper(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("현재 노드에 연결된 사용자에게는 Redis를 거치지 않고 바로 전송한다")
+    void sendsLocally() {
+        // Given
+        when(presenceRegistry.isLocal(2L)).thenReturn(true);
+        when(presenceRegistry.remoteNodesOf(2L)).thenReturn(List.of());
+
+        // When
+        router.sendToUser(DeliveryChannel.MESSAGES, 2L, PAYLOAD);
+
+        // Then
+        InOrder inOrder = inOrder(frameSender, presenceRegistry);
+        inOrder.verify(frameSender).send(eq(2L), eq(DeliveryChannel.MESSAGES), aryEq(PAYLOAD_JSON));
+        inOrder.verify(presenceRegistry).remoteNodesOf(2L);
+        verifyNoInteractions(deliveryPublisher);
+    }
+
+    @Test
+    @DisplayName("현재 노드와 다른 노드에 모두 기기가 있으면 로컬 전송 뒤 다른 노드에도 게시한다")
+    void sendsLocallyAndToOtherDevices() {
+        // Given
+        when(presenceRegistry.isLocal(2L)).thenReturn(true);
+        when(presenceRegistry.remoteNodesOf(2L)).thenReturn(List.of("node-b"));
+
+        // When
+        router.sendToUser(DeliveryChannel.MESSAGES, 2L, PAYLOAD);
+
+        // Then
+        verify(frameSender).send(eq(2L), eq(DeliveryChannel.MESSAGES), aryEq(PAYLOAD_JSON));
+        verify(deliveryPublisher).publish(eq(DeliveryChannel.MESSAGES), eq("node-b"), any(byte[].class));
+    }
+
+    @Test
+    @DisplayName("다른 노드에 연결된 사용자에게는 한 번 만든 봉투를 해당 노드 채널로만 게시한다")
+    void publishesToRemoteNodes() {
+        // Given
+        when(presenceRegistry.isLocal(2L)).thenReturn(false);
+        when(presenceRegistry.remoteNodesOf(2L)).thenReturn(List.of("node-b", "node-c"));
+
+        // When
+        router.sendToUser(DeliveryChannel.NOTIFICATIONS, 2L, PAYLOAD);
+
+        // Then
+        ArgumentCaptor<byte[]> envelopeCaptor = ArgumentCaptor.forClass(byte[].class);
+        verify(deliveryPublisher).publish(eq(DeliveryChannel.NOTIFICATIONS), eq("node-b"), envelopeCaptor.capture());
+        verify(deliveryPublisher).publish(eq(DeliveryChannel.NOTIFICATIONS), eq("node-c"), envelopeCaptor.capture());
+        verify(frameSender, never()).send(any(), any(), any());
+
+        assertThat(envelopeCaptor.getAllValues().get(0)).isSameAs(envelopeCaptor.getAllValues().get(1));
+        DeliveryEnvelope envelope = DeliveryEnvelope.decode(envelopeCaptor.getValue());
+        assertThat(envelope.recipientId()).isEqualTo(2L);
+        assertThat(envelope.payload()).isEqualTo(PAYLOAD_JSON);
+    }
+
+    @Test
+    @DisplayName("접속 중이 아닌 사용자에게는 직렬화도 전송도 하지 않는다")
+    void skipsOfflineUser() {
+        // Given
+        when(presenceRegistry.isLocal(2L)).thenReturn(false);
+        when(presenceRegistry.remoteNodesOf(2L)).thenReturn(List.of());
+
+        // When
+        router.sendToUser(DeliveryChannel.MESSAGES, 2L, PAYLOAD);
+
+        // Then
+        verifyNoInteractions(deliveryPublisher, frameSender);
+        verify(presenceRegistry, times(1)).remoteNodesOf(2L);
+    }
+
+    @Test
+    @DisplayName("현재 노드에 연결된 사용자에게 일시적 이벤트를 보낼 때는 Redis를 조회하지 않는다")
+    void sendsEphemeralLocallyWithoutLookup() {
+        // Given
+        when(presenceRegistry.isLocal(2L)).thenReturn(true);
+
+        // When
+        router.sendEphemeral(DeliveryChannel.ACTIVITY, 2L, PAYLOAD);
+
+        // Then
+        verify(frameSender).send(eq(2L), eq(DeliveryChannel.ACTIVITY), aryEq(PAYLOAD_JSON));
+        verify(presenceRegistry, never()).remoteNodesOf(2L);
+        verifyNoInteractions(deliveryPublisher);
+    }
+}
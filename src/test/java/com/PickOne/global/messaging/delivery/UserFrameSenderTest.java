@@ -0,0 +1,51 @@
+package com.PickOne.global.messaging.delivery;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserFrameSenderTest {
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @InjectMocks
+    private UserFrameSender frameSender;
+
+    @Test
+    @DisplayName("인코딩된 JSON을 변환 없이 사용자 목적지로 보낸다")
+    @SuppressWarnings("unchecked")
+    void send() {
+        // Given
+        byte[] json = "{\"id\":\"m1\"}".getBytes(StandardCharsets.UTF_8);
+        when(messagingTemplate.getUserDestinationPrefix()).thenReturn("/user/");
+
+        // When
+        frameSender.send(2L, DeliveryChannel.MESSAGES, json);
+
+        // Then
+        ArgumentCaptor<Message<byte[]>> messageCaptor = ArgumentCaptor.forClass(Message.class);
+        verify(messagingTemplate).send(eq("/user/2/queue/messages"), messageCaptor.capture());
+
+        Message<byte[]> message = messageCaptor.getValue();
+        assertThat(message.getPayload()).isSameAs(json);
+        assertThat(SimpMessageHeaderAccessor.getContentType(message.getHeaders()))
+                .isEqualTo(MimeTypeUtils.APPLICATION_JSON);
+    }
+}
@@ -0,0 +1,118 @@
+package com.PickOne.global.messaging.dispatch;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StripedDispatchExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private StripedDispatchExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.close();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 키의 작업은 추가한 순서대로 실행된다")
+    void preservesOrderPerKey() throws Exception {
+        // Given
+        executor = new StripedDispatchExecutor("test", 4, 1000, OverflowPolicy.BLOCK,
+                Duration.ofSeconds(1), meterRegistry);
+        List<Integer> executed = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(500);
+
+        // When
+        for (int i = 0; i < 500; i++) {
+            int sequence = i;
+            executor.execute(42L, () -> {
+                executed.add(sequence);
+                done.countDown();
+            });
+        }
+
+        // Then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(executed).containsExactlyElementsOf(IntStream.range(0, 500).boxed().toList());
+        assertThat(meterRegistry.get("messaging.dispatch.lag").timer().count()).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("DROP_NEWEST 정책에서는 대기열이 가득 차면 새 작업을 버린다")
+    void dropsNewestWhenFull() throws Exception {
+        // Given
+        executor = new StripedDispatchExecutor("test", 1, 1, OverflowPolicy.DROP_NEWEST,
+                Duration.ZERO, meterRegistry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        executor.execute(1L, () -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        boolean queued = executor.execute(1L, () -> { });
+        boolean overflow = executor.execute(1L, () -> { });
+        release.countDown();
+
+        // Then
+        assertThat(queued).isTrue();
+        assertThat(overflow).isFalse();
+        assertThat(meterRegistry.get("messaging.dispatch.dropped").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("DROP_OLDEST 정책에서는 가장 오래 기다린 작업을 버리고 새 작업을 넣는다")
+    void dropsOldestWhenFull() throws Exception {
+        // Given
+        executor = new StripedDispatchExecutor("test", 1, 1, OverflowPolicy.DROP_OLDEST,
+                Duration.ZERO, meterRegistry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch latestRan = new CountDownLatch(1);
+        List<String> executed = new CopyOnWriteArrayList<>();
+
+        executor.execute(1L, () -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        executor.execute(1L, () -> executed.add("oldest"));
+        executor.execute(1L, () -> {
+            executed.add("latest");
+            latestRan.countDown();
+        });
+        release.countDown();
+
+        // Then
+        assertThat(latestRan.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(executed).containsExactly("latest");
+        assertThat(meterRegistry.get("messaging.dispatch.dropped").counter().count()).isEqualTo(1.0);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
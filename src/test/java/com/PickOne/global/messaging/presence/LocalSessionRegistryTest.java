@@ -0,0 +1,75 @@
+package com.PickOne.global.messaging.presence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalSessionRegistryTest {
+
+    @Test
+    @DisplayName("첫 세션과 마지막 세션만 알려주고 중복 종료는 무시한다")
+    void reportsFirstAndLastSession() {
+        LocalSessionRegistry registry = new LocalSessionRegistry();
+
+        assertThat(registry.add(1L, "a")).isTrue();
+        assertThat(registry.add(1L, "b")).isFalse();
+        assertThat(registry.add(1L, "b")).isFalse();
+
+        assertThat(registry.remove("a")).isEmpty();
+        assertThat(registry.remove("b")).contains(1L);
+        assertThat(registry.remove("b")).isEmpty();
+        assertThat(registry.contains(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("동시에 연결과 종료가 일어나도 첫 세션과 마지막 세션의 수가 맞는다")
+    void concurrentAddAndRemove() throws Exception {
+        LocalSessionRegistry registry = new LocalSessionRegistry();
+        AtomicInteger firsts = new AtomicInteger();
+        AtomicInteger lasts = new AtomicInteger();
+        int threads = 8;
+        int sessionsPerThread = 1_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < sessionsPerThread; i++) {
+                    String sessionId = thread + "-" + i;
+                    if (registry.add(1L, sessionId)) {
+                        firsts.incrementAndGet();
+                    }
+                    Optional<Long> last = registry.remove(sessionId);
+                    if (last.isPresent()) {
+                        lasts.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(registry.contains(1L)).isFalse();
+        assertThat(registry.sessionCount()).isZero();
+        assertThat(firsts.get()).isEqualTo(lasts.get());
+    }
+}
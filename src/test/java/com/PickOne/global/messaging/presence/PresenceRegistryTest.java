@@ -0,0 +1,171 @@
+package com.PickOne.global.messaging.presence;
+
+import com.PickOne.global.messaging.node.NodeIdentity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PresenceRegistryTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private PresenceRegistry presenceRegistry;
+
+    @BeforeEach
+    void setUp() {
+        presenceRegistry = new PresenceRegistry(stringRedisTemplate, eventPublisher, new NodeIdentity("node-a"),
+                new SimpleMeterRegistry(), 90_000, 60_000, 86_400_000);
+    }
+
+    @Test
+    @DisplayName("사용자의 첫 세션만 Redis에 노드를 기록하고 마지막 세션이 끊기면 지운다")
+    void registersNodeOncePerUser() {
+        // Given
+        when(stringRedisTemplate.opsForHash()).thenReturn(hashOperations);
+
+        // When
+        presenceRegistry.register(1L, "session-1");
+        presenceRegistry.register(1L, "session-2");
+        presenceRegistry.unregister("session-1");
+
+        // Then
+        assertThat(presenceRegistry.isLocal(1L)).isTrue();
+        verify(hashOperations, times(1)).put(eq("presence:1"), eq("node-a"), anyString());
+        verify(stringRedisTemplate).expire("presence:1", Duration.ofMillis(90_000));
+        verify(hashOperations, never()).delete(anyString(), eq("node-a"));
+        verify(eventPublisher, times(1)).publishEvent(new PresenceChangedEvent(1L));
+
+        // When
+        presenceRegistry.unregister("session-2");
+        presenceRegistry.unregister("session-2");
+
+        // Then
+        assertThat(presenceRegistry.isLocal(1L)).isFalse();
+        verify(hashOperations, times(1)).delete("presence:1", "node-a");
+        verify(eventPublisher, times(2)).publishEvent(new PresenceChangedEvent(1L));
+    }
+
+    @Test
+    @DisplayName("갱신이 멈춘 노드는 사용자 노드 목록에서 제외한다")
+    void ignoresStaleNodes() {
+        // Given
+        long now = System.currentTimeMillis();
+        when(stringRedisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries("presence:1")).thenReturn(Map.of(
+                "node-a", String.valueOf(now),
+                "node-b", String.valueOf(now - 120_000)
+        ));
+
+        // When, Then
+        assertThat(presenceRegistry.nodesOf(1L)).containsExactly("node-a");
+    }
+
+    @Test
+    @DisplayName("마지막 세션 삭제 중에 새 세션이 먼저 기록되면 삭제 후 노드를 다시 기록한다")
+    void rewritesNodeWhenRegisterRacesUnregister() {
+        // Given
+        when(stringRedisTemplate.opsForHash()).thenReturn(hashOperations);
+        presenceRegistry.register(1L, "session-1");
+        when(hashOperations.delete("presence:1", "node-a")).thenAnswer(invocation -> {
+            // 삭제 명령이 Redis에 닿기 전에 다른 스레드의 첫 세션 등록이 먼저 실행된 상황
+            presenceRegistry.register(1L, "session-2");
+            return 1L;
+        });
+
+        // When
+        presenceRegistry.unregister("session-1");
+
+        // Then
+        assertThat(presenceRegistry.isLocal(1L)).isTrue();
+        verify(hashOperations, times(3)).put(eq("presence:1"), eq("node-a"), anyString());
+    }
+
+    @Test
+    @DisplayName("다른 노드 목록은 현재 노드를 빼고, 현재 노드에 연결된 사용자는 조회 결과를 재사용한다")
+    void cachesRemoteNodesForLocalUsers() {
+        // Given
+        long now = System.currentTimeMillis();
+        when(stringRedisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries("presence:1")).thenReturn(Map.of(
+                "node-a", String.valueOf(now),
+                "node-b", String.valueOf(now)
+        ));
+        presenceRegistry.register(1L, "session-1");
+
+        // When
+        List<String> first = presenceRegistry.remoteNodesOf(1L);
+        List<String> second = presenceRegistry.remoteNodesOf(1L);
+
+        // Then
+        assertThat(first).containsExactly("node-b");
+        assertThat(second).containsExactly("node-b");
+        verify(hashOperations, times(1)).entries("presence:1");
+    }
+
+    @Test
+    @DisplayName("전파한 상태 기록이 실제로 바뀐 사용자만 반환한다")
+    void recordsAnnouncedStatus() {
+        // Given
+        // 1번은 새로 접속(SET NX 성공), 2번은 이미 접속으로 알림(SET NX 실패), 3번은 끊김(DEL 1건)
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of(true, false, 1L));
+        Map<Long, Boolean> status = new LinkedHashMap<>();
+        status.put(1L, true);
+        status.put(2L, true);
+        status.put(3L, false);
+
+        // When
+        List<Long> changed = presenceRegistry.recordAnnounced(status);
+
+        // Then
+        assertThat(changed).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("여러 사용자의 접속 여부를 파이프라인 한 번으로 조회한다")
+    void onlineStatusInOnePipeline() {
+        // Given
+        long now = System.currentTimeMillis();
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of(
+                List.of(String.valueOf(now)),
+                List.of(String.valueOf(now - 120_000)),
+                List.of()
+        ));
+
+        // When
+        Map<Long, Boolean> status = presenceRegistry.onlineStatus(List.of(1L, 2L, 3L));
+
+        // Then
+        assertThat(status).containsEntry(1L, true).containsEntry(2L, false).containsEntry(3L, false);
+        verify(stringRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+    }
+}
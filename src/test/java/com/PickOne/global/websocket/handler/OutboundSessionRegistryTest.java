@@ -0,0 +1,86 @@
+package com.PickOne.global.websocket.handler;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OutboundSessionRegistryTest {
+
+    @Mock
+    private WebSocketHandler delegate;
+
+    @Mock
+    private WebSocketSession session;
+
+    private OutboundSessionRegistry registry;
+    private WebSocketHandler handler;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        registry = new OutboundSessionRegistry(new SimpleMeterRegistry());
+        handler = registry.decorate(delegate);
+        when(session.getId()).thenReturn("s1");
+        handler.afterConnectionEstablished(session);
+    }
+
+    @Test
+    @DisplayName("채널에 들어간 프레임 수에서 실제로 쓴 프레임 수를 뺀 값을 대기 수로 본다")
+    void tracksPendingFrames() throws Exception {
+        // Given
+        ArgumentCaptor<WebSocketSession> sessionCaptor = ArgumentCaptor.forClass(WebSocketSession.class);
+        verify(delegate).afterConnectionEstablished(sessionCaptor.capture());
+        WebSocketSession tracked = sessionCaptor.getValue();
+
+        // When
+        registry.enqueued("s1");
+        registry.enqueued("s1");
+        registry.enqueued("s1");
+        tracked.sendMessage(new TextMessage("frame"));
+
+        // Then
+        assertThat(registry.depthOf("s1")).isEqualTo(2);
+        assertThat(registry.slowest(10)).extracting(OutboundSessionRegistry.SessionDepth::pending).containsExactly(2);
+    }
+
+    @Test
+    @DisplayName("연결이 끊기면 더 이상 추적하지 않는다")
+    void forgetsClosedSession() throws Exception {
+        // Given
+        registry.enqueued("s1");
+
+        // When
+        handler.afterConnectionClosed(session, CloseStatus.NORMAL);
+
+        // Then
+        assertThat(registry.depthOf("s1")).isZero();
+        assertThat(registry.slowest(10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 세션은 한 번만 닫는다")
+    void closesOnce() throws Exception {
+        // When
+        boolean first = registry.close("s1", CloseStatus.SESSION_NOT_RELIABLE);
+        boolean second = registry.close("s1", CloseStatus.SESSION_NOT_RELIABLE);
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        verify(session, timeout(1000)).close(CloseStatus.SESSION_NOT_RELIABLE);
+    }
+}
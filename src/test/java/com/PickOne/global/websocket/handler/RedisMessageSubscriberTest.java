@@ -0,0 +1,100 @@
+package com.PickOne.global.websocket.handler;
+
+import com.PickOne.global.messaging.delivery.DeliveryChannel;
+import com.PickOne.global.messaging.delivery.DeliveryEnvelope;
+import com.PickOne.global.messaging.delivery.UserFrameSender;
+import com.PickOne.global.messaging.dispatch.StripedDispatchExecutor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class RedisMessageSubscriberTest {
+
+    private static final byte[] JSON = "{\"id\":\"m1\",\"content\":\"테스트 메시지\"}".getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private UserFrameSender frameSender;
+
+    @Mock
+    private StripedDispatchExecutor dispatchExecutor;
+
+    private RedisMessageSubscriber subscriber;
+
+    @BeforeEach
+    void setUp() {
+        subscriber = new RedisMessageSubscriber(frameSender, dispatchExecutor);
+
+        // 스트라이프 실행기는 호출 스레드에서 바로 실행
+        lenient().when(dispatchExecutor.execute(any(), any(Runnable.class))).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return true;
+        });
+    }
+
+    @Test
+    @DisplayName("봉투의 JSON 본문을 다시 해석하지 않고 수신자의 메시지 큐로 전송한다")
+    void dispatchMessage() {
+        // Given
+        byte[] envelope = new DeliveryEnvelope(2L, JSON).encode();
+
+        // When
+        subscriber.dispatch(DeliveryChannel.MESSAGES, envelope);
+
+        // Then
+        verify(dispatchExecutor).execute(eq(2L), any(Runnable.class));
+        verify(frameSender).send(eq(2L), eq(DeliveryChannel.MESSAGES), aryEq(JSON));
+    }
+
+    @Test
+    @DisplayName("수신자 헤더가 없는 봉투는 실행기에 넘기지 않는다")
+    void ignoresMalformedEnvelope() {
+        // When
+        subscriber.dispatch(DeliveryChannel.MESSAGES, JSON);
+
+        // Then
+        verify(dispatchExecutor, never()).execute(any(), any(Runnable.class));
+        verifyNoInteractions(frameSender);
+    }
+
+    @Test
+    @DisplayName("Pub/Sub 메시지는 노드 전용 채널 이름으로 전달 채널을 구분한다")
+    void onMessageUsesChannelName() {
+        // Given
+        byte[] channel = "notifications:node-a".getBytes(StandardCharsets.UTF_8);
+        byte[] body = new DeliveryEnvelope(2L, JSON).encode();
+
+        // When
+        subscriber.onMessage(new DefaultMessage(channel, body), channel);
+
+        // Then
+        verify(frameSender).send(eq(2L), eq(DeliveryChannel.NOTIFICATIONS), aryEq(JSON));
+    }
+
+    @Test
+    @DisplayName("알 수 없는 채널의 메시지는 무시한다")
+    void ignoresUnknownChannel() {
+        // Given
+        byte[] channel = "unknown".getBytes(StandardCharsets.UTF_8);
+
+        // When
+        subscriber.onMessage(new DefaultMessage(channel, new DeliveryEnvelope(2L, JSON).encode()), channel);
+
+        // Then
+        verifyNoInteractions(frameSender);
+    }
+}
@@ -0,0 +1,71 @@
+package com.PickOne.global.websocket.handler;
+
+import com.PickOne.global.messaging.delivery.RoomBroadcaster;
+import com.PickOne.global.messaging.delivery.UserFrameSender;
+import com.PickOne.global.messaging.dispatch.StripedDispatchExecutor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class RoomBroadcastSubscriberTest {
+
+    private static final byte[] JSON = "{\"roomId\":\"room-1\",\"content\":\"합주 7시\"}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] CHANNEL = RoomBroadcaster.CHANNEL.getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private UserFrameSender frameSender;
+
+    @Mock
+    private StripedDispatchExecutor dispatchExecutor;
+
+    private RoomBroadcastSubscriber subscriber;
+
+    @BeforeEach
+    void setUp() {
+        subscriber = new RoomBroadcastSubscriber(frameSender, dispatchExecutor);
+
+        // 스트라이프 실행기는 호출 스레드에서 바로 실행
+        lenient().when(dispatchExecutor.execute(any(), any(Runnable.class))).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return true;
+        });
+    }
+
+    @Test
+    @DisplayName("방 게시의 JSON 본문을 방 ID 스트라이프에서 방 토픽으로 그대로 전송한다")
+    void forwardToRoomTopic() {
+        // Given
+        byte[] envelope = new RoomBroadcaster.RoomBroadcast("room-1", JSON).encode();
+
+        // When
+        subscriber.onMessage(new DefaultMessage(CHANNEL, envelope), null);
+
+        // Then
+        verify(dispatchExecutor).execute(eq("room-1"), any(Runnable.class));
+        verify(frameSender).sendToTopic(eq("/topic/rooms/room-1"), aryEq(JSON));
+    }
+
+    @Test
+    @DisplayName("방 헤더가 없는 게시는 무시한다")
+    void ignoreMalformedBroadcast() {
+        // When
+        subscriber.onMessage(new DefaultMessage(CHANNEL, JSON), null);
+
+        // Then
+        verifyNoInteractions(dispatchExecutor, frameSender);
+    }
+}
@@ -0,0 +1,157 @@
+package com.PickOne.global.websocket.interceptor;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class InboundRateLimitInterceptorTest {
+
+    private static final String SEND_DESTINATION = "/app/message.send";
+
+    @Mock
+    private MessageChannel clientOutboundChannel;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MessageChannel channel = mock(MessageChannel.class);
+    private final AtomicLong now = new AtomicLong(1_000L);
+
+    private InboundRateLimitInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new InboundRateLimitInterceptor(
+                clientOutboundChannel,
+                meterRegistry,
+                now::get,
+                true,
+                new InboundRateLimitInterceptor.Limit(5, 5),
+                Map.of(SEND_DESTINATION, new InboundRateLimitInterceptor.Limit(3, 1)),
+                4
+        );
+    }
+
+    @Test
+    @DisplayName("버킷 크기만큼은 한 번에 보낼 수 있고, 넘는 프레임은 버리며 목적지별로 집계한다")
+    void dropsOverCapacity() {
+        // When
+        int accepted = 0;
+        for (int i = 0; i < 5; i++) {
+            if (interceptor.preSend(send("s1", SEND_DESTINATION), channel) != null) {
+                accepted++;
+            }
+        }
+
+        // Then
+        assertThat(accepted).isEqualTo(3);
+        assertThat(meterRegistry.get("websocket.inbound.rate_limited").tag("destination", SEND_DESTINATION)
+                .counter().count()).isEqualTo(2.0);
+        verify(clientOutboundChannel, never()).send(any());
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 초당 채워지는 만큼 다시 보낼 수 있다")
+    void refillsOverTime() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            interceptor.preSend(send("s1", SEND_DESTINATION), channel);
+        }
+        assertThat(interceptor.preSend(send("s1", SEND_DESTINATION), channel)).isNull();
+
+        // When
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+        // Then
+        assertThat(interceptor.preSend(send("s1", SEND_DESTINATION), channel)).isNotNull();
+        assertThat(interceptor.preSend(send("s1", SEND_DESTINATION), channel)).isNull();
+    }
+
+    @Test
+    @DisplayName("한도는 세션과 목적지마다 따로 적용하고, 구독 등 SEND가 아닌 프레임은 제한하지 않는다")
+    void limitsPerSessionAndDestination() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            interceptor.preSend(send("s1", SEND_DESTINATION), channel);
+        }
+
+        // When & Then
+        assertThat(interceptor.preSend(send("s1", SEND_DESTINATION), channel)).isNull();
+        assertThat(interceptor.preSend(send("s2", SEND_DESTINATION), channel)).isNotNull();
+        assertThat(interceptor.preSend(send("s1", "/app/message.read"), channel)).isNotNull();
+        assertThat(interceptor.preSend(frame(StompCommand.SUBSCRIBE, "s1", "/user/queue/messages"), channel))
+                .isNotNull();
+    }
+
+    @Test
+    @DisplayName("한도를 연속으로 넘기면 ERROR 프레임을 한 번 보낸다")
+    void sendsErrorFrameAfterRepeatedRejections() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            interceptor.preSend(send("s1", SEND_DESTINATION), channel);
+        }
+
+        // When
+        for (int i = 0; i < 6; i++) {
+            interceptor.preSend(send("s1", SEND_DESTINATION), channel);
+        }
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Message<?>> captor = ArgumentCaptor.forClass(Message.class);
+        verify(clientOutboundChannel, times(1)).send(captor.capture());
+        StompHeaderAccessor error = StompHeaderAccessor.wrap(captor.getValue());
+        assertThat(error.getCommand()).isEqualTo(StompCommand.ERROR);
+        assertThat(error.getSessionId()).isEqualTo("s1");
+        assertThat(meterRegistry.get("websocket.inbound.rate_limited.disconnected").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("DISCONNECT 프레임을 받으면 세션의 버킷을 정리한다")
+    void disconnectClearsSession() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            interceptor.preSend(send("s1", SEND_DESTINATION), channel);
+        }
+
+        // When
+        interceptor.preSend(frame(StompCommand.DISCONNECT, "s1", null), channel);
+
+        // Then
+        assertThat(interceptor.preSend(send("s1", SEND_DESTINATION), channel)).isNotNull();
+    }
+
+    private static Message<byte[]> send(String sessionId, String destination) {
+        return frame(StompCommand.SEND, sessionId, destination);
+    }
+
+    private static Message<byte[]> frame(StompCommand command, String sessionId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(sessionId);
+        if (destination != null) {
+            accessor.setDestination(destination);
+        }
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
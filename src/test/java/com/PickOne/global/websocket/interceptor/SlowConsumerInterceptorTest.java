@@ -0,0 +1,113 @@
+package com.PickOne.global.websocket.interceptor;
+
+import com.PickOne.global.websocket.handler.OutboundSessionRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SlowConsumerInterceptorTest {
+
+    @Mock
+    private OutboundSessionRegistry sessionRegistry;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MessageChannel channel = mock(MessageChannel.class);
+
+    private SlowConsumerInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new SlowConsumerInterceptor(sessionRegistry, meterRegistry, 10, 100);
+    }
+
+    @Test
+    @DisplayName("밀리지 않은 세션의 프레임은 통과시키고 대기 수를 늘린다")
+    void passesHealthySession() {
+        // Given
+        Message<byte[]> message = outbound("s1", false);
+        when(sessionRegistry.depthOf("s1")).thenReturn(3);
+
+        // When
+        Message<?> result = interceptor.preSend(message, channel);
+
+        // Then
+        assertThat(result).isSameAs(message);
+        verify(sessionRegistry).enqueued("s1");
+    }
+
+    @Test
+    @DisplayName("밀린 세션에서는 일시적 이벤트만 버리고 일반 메시지는 보낸다")
+    void dropsEphemeralFirst() {
+        // Given
+        when(sessionRegistry.depthOf("s1")).thenReturn(10);
+
+        // When
+        Message<?> ephemeral = interceptor.preSend(outbound("s1", true), channel);
+        Message<?> durable = interceptor.preSend(outbound("s1", false), channel);
+
+        // Then
+        assertThat(ephemeral).isNull();
+        assertThat(durable).isNotNull();
+        assertThat(meterRegistry.get("websocket.outbound.dropped").tag("reason", "ephemeral").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("밀린 세션에서는 하트비트도 일시적 이벤트로 보고 버린다")
+    void dropsHeartbeat() {
+        // Given
+        when(sessionRegistry.depthOf("s1")).thenReturn(10);
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.HEARTBEAT);
+        accessor.setSessionId("s1");
+
+        // When
+        Message<?> result = interceptor.preSend(
+                MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()), channel);
+
+        // Then
+        assertThat(result).isNull();
+    }
+
+    @Test
+    @DisplayName("한계를 넘은 세션은 재동기화 안내와 함께 끊고 프레임을 버린다")
+    void disconnectsSlowSession() {
+        // Given
+        when(sessionRegistry.depthOf("s1")).thenReturn(100);
+        when(sessionRegistry.close("s1", SlowConsumerInterceptor.SLOW_CONSUMER_STATUS)).thenReturn(true);
+
+        // When
+        Message<?> result = interceptor.preSend(outbound("s1", false), channel);
+
+        // Then
+        assertThat(result).isNull();
+        verify(sessionRegistry).close("s1", SlowConsumerInterceptor.SLOW_CONSUMER_STATUS);
+        verify(sessionRegistry, never()).enqueued(anyString());
+        assertThat(meterRegistry.get("websocket.slow.consumer.disconnected").counter().count()).isEqualTo(1.0);
+    }
+
+    private static Message<byte[]> outbound(String sessionId, boolean ephemeral) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        if (ephemeral) {
+            accessor.setHeader(SlowConsumerInterceptor.EPHEMERAL_HEADER, true);
+        }
+        return MessageBuilder.createMessage("{}".getBytes(), accessor.getMessageHeaders());
+    }
+}